@@ -0,0 +1,82 @@
+package com.waitlist.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result with a baseline result and exits non-zero when
+ * any benchmark got worse by more than the threshold (0.15 = 15%). Time
+ * modes regress when the score grows, throughput when it shrinks.
+ * Benchmarks missing from the baseline are reported but never fail.
+ *
+ * Usage: {@code BaselineComparison <result.json> <threshold> [baseline.json]}
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args[2].isBlank()) {
+            System.out.println("No JMH baseline given (-Djmh.baseline=<file>), skipping comparison");
+            return;
+        }
+        Path resultFile = Path.of(args[0]);
+        double threshold = Double.parseDouble(args[1]);
+        Path baselineFile = Path.of(args[2]);
+        if (!Files.exists(baselineFile)) {
+            System.err.println("JMH baseline " + baselineFile + " does not exist");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = scores(baselineFile);
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : scores(resultFile).entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            double score = current.path("primaryMetric").path("score").asDouble();
+            String unit = current.path("primaryMetric").path("scoreUnit").asText();
+            if (previous == null) {
+                System.out.printf("NEW        %-70s %12.3f %s%n", entry.getKey(), score, unit);
+                continue;
+            }
+
+            double before = previous.path("primaryMetric").path("score").asDouble();
+            double change = (score - before) / before;
+            boolean throughput = "thrpt".equals(current.path("mode").asText());
+            boolean regressed = throughput ? change < -threshold : change > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.3f %s (%+.1f%%)%n", regressed ? "REGRESSED" : "ok",
+                    entry.getKey(), score, unit, change * 100);
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.0f%% against %s%n",
+                    regressions, threshold * 100, baselineFile);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> scores(Path file) throws IOException {
+        Map<String, JsonNode> scores = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(file.toFile())) {
+            String key = result.path("benchmark").asText();
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode() && !params.isEmpty()) {
+                key += params.toString();
+            }
+            scores.put(key, result);
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,91 @@
+package com.waitlist.benchmarks;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.BusinessType;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.infrastructure.security.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Detached entities and beans wired the way the application wires them,
+ * without a Spring context or database.
+ */
+final class BenchmarkFixtures {
+
+    static final String USERNAME = "owner@restaurant.com";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "your-super-secret-jwt-key-change-this-in-production");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        return jwtUtil;
+    }
+
+    /**
+     * Claims as issued by {@code AuthController} at login.
+     */
+    static Map<String, Object> loginClaims(User user) {
+        List<String> businessIds = user.getBusinesses().stream().map(b -> b.getId().toString()).toList();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("businessIds", businessIds);
+        claims.put("businessId", businessIds.get(0));
+        claims.put("role", user.getRole().name());
+        claims.put("roles", List.of(Map.of("authority", "ROLE_" + user.getRole().name())));
+        return claims;
+    }
+
+    static Business business() {
+        Business business = new Business("La Cocina de Benchmark", BusinessType.RESTAURANT, "1 Main St",
+                "+15550000000", "bench@restaurant.com", 80, 45);
+        business.setId(UUID.randomUUID());
+        business.setCreatedAt(LocalDateTime.now());
+        return business;
+    }
+
+    static Customer customer(Business business) {
+        Customer customer = new Customer("+15551234567", "María González", "maria@example.com");
+        customer.setId(UUID.randomUUID());
+        customer.setCreatedAt(LocalDateTime.now());
+        customer.addBusiness(business);
+        return customer;
+    }
+
+    static User owner(Business business) {
+        User user = new User(USERNAME, "$2a$10$benchmark", USERNAME, UserRole.BUSINESS_OWNER);
+        user.setId(UUID.randomUUID());
+        user.addBusiness(business);
+        return user;
+    }
+
+    static WaitlistEntry waitlistEntry(Business business, Customer customer) {
+        WaitlistEntry entry = new WaitlistEntry(business, customer, 4, 3);
+        entry.setId(UUID.randomUUID());
+        entry.setCreatedAt(LocalDateTime.now().minusMinutes(20));
+        entry.notifyCustomer();
+        return entry;
+    }
+
+    static Reservation reservation(Business business, Customer customer) {
+        Reservation reservation = new Reservation(business, customer, LocalDate.now().plusDays(1),
+                LocalTime.of(20, 30), 4, "Mesa junto a la ventana");
+        reservation.setId(UUID.randomUUID());
+        reservation.setCreatedAt(LocalDateTime.now());
+        return reservation;
+    }
+}
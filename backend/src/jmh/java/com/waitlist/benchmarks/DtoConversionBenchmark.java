@@ -0,0 +1,54 @@
+package com.waitlist.benchmarks;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.presentation.dto.ReservationDto;
+import com.waitlist.presentation.dto.WaitlistEntryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO conversion as done for every row of the waitlist and
+ * reservation list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    private WaitlistEntry entry;
+    private Reservation reservation;
+
+    @Setup
+    public void setUp() {
+        Business business = BenchmarkFixtures.business();
+        Customer customer = BenchmarkFixtures.customer(business);
+        entry = BenchmarkFixtures.waitlistEntry(business, customer);
+        reservation = BenchmarkFixtures.reservation(business, customer);
+    }
+
+    @Benchmark
+    public WaitlistEntryDto waitlistEntryToDto() {
+        return WaitlistEntryDto.from(entry);
+    }
+
+    @Benchmark
+    public ReservationDto reservationToDto() {
+        return ReservationDto.from(reservation);
+    }
+}
@@ -0,0 +1,55 @@
+package com.waitlist.benchmarks;
+
+import com.waitlist.domain.service.SmsMessage;
+import com.waitlist.domain.service.SmsMessages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message rendering and segment fitting shared by TwilioSmsService and
+ * MockSmsService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmsMessageBenchmark {
+
+    private final String businessName = "La Cocina de Benchmark";
+    private final String longBusinessName = "Taquería y Marisquería Los Hermanos González de Guadalajara";
+    private final String businessPhone = "+15550000000";
+    private final Integer waitMinutes = 25;
+    private final Integer position = 3;
+    private final Integer partySize = 4;
+
+    @Benchmark
+    public SmsMessage waitlistNotification() {
+        return SmsMessages.waitlistNotification(businessName, waitMinutes, position);
+    }
+
+    @Benchmark
+    public SmsMessage tableReady() {
+        return SmsMessages.tableReady(businessName, businessPhone);
+    }
+
+    @Benchmark
+    public SmsMessage reservationConfirmation() {
+        return SmsMessages.reservationConfirmation(businessName, "2026-10-18", "20:30", partySize);
+    }
+
+    @Benchmark
+    public SmsMessage tableReadyTruncated() {
+        return SmsMessages.tableReady(longBusinessName, businessPhone);
+    }
+}
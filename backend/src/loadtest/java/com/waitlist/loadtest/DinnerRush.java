@@ -0,0 +1,128 @@
+package com.waitlist.loadtest;
+
+import java.time.DayOfWeek;
+import java.util.Random;
+
+/**
+ * Distributions behind the synthetic history: a small lunch peak, a large
+ * dinner rush around 19:30, busier weekends, mostly couples, and waits that
+ * grow with the rush.
+ */
+final class DinnerRush {
+
+    static final int OPEN_MINUTE = 11 * 60;
+    static final int CLOSE_MINUTE = 23 * 60;
+
+    private static final int LUNCH_PEAK = 12 * 60 + 45;
+    private static final int DINNER_PEAK = 19 * 60 + 30;
+
+    private static final int[] PARTY_SIZES = { 1, 2, 3, 4, 5, 6, 8 };
+    private static final double[] PARTY_SIZE_WEIGHTS = { 0.10, 0.40, 0.15, 0.20, 0.05, 0.06, 0.04 };
+
+    private static final int[] RESERVATION_SLOTS;
+
+    static {
+        // 15-minute slots from 11:30 to 22:00
+        RESERVATION_SLOTS = new int[(22 * 60 - (11 * 60 + 30)) / 15 + 1];
+        for (int i = 0; i < RESERVATION_SLOTS.length; i++) {
+            RESERVATION_SLOTS[i] = 11 * 60 + 30 + i * 15;
+        }
+    }
+
+    private DinnerRush() {
+    }
+
+    /**
+     * Minute of the day a walk-in joins the waitlist.
+     */
+    static int arrivalMinute(Random random) {
+        double u = random.nextDouble();
+        double minute;
+        if (u < 0.25) {
+            minute = LUNCH_PEAK + random.nextGaussian() * 40;
+        } else if (u < 0.90) {
+            minute = DINNER_PEAK + random.nextGaussian() * 65;
+        } else {
+            minute = OPEN_MINUTE + random.nextDouble() * (CLOSE_MINUTE - OPEN_MINUTE);
+        }
+        return clamp((int) minute, OPEN_MINUTE, CLOSE_MINUTE - 1);
+    }
+
+    /**
+     * Reservation time, rounded to a 15-minute slot and weighted like walk-ins.
+     */
+    static int reservationMinute(Random random) {
+        int minute = arrivalMinute(random);
+        int slot = Math.round((minute - RESERVATION_SLOTS[0]) / 15f);
+        return RESERVATION_SLOTS[clamp(slot, 0, RESERVATION_SLOTS.length - 1)];
+    }
+
+    /**
+     * Minutes a party arriving at the given minute actually waits.
+     */
+    static int waitMinutes(Random random, int arrivalMinute) {
+        double base = 8 * Math.exp(random.nextGaussian() * 0.6);
+        return clamp((int) Math.round(base * rushFactor(arrivalMinute)), 0, 180);
+    }
+
+    static int partySize(Random random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < PARTY_SIZES.length; i++) {
+            u -= PARTY_SIZE_WEIGHTS[i];
+            if (u < 0) {
+                return PARTY_SIZES[i];
+            }
+        }
+        return PARTY_SIZES[PARTY_SIZES.length - 1];
+    }
+
+    static double dayFactor(DayOfWeek day) {
+        return switch (day) {
+            case MONDAY, TUESDAY -> 0.8;
+            case WEDNESDAY -> 0.9;
+            case THURSDAY -> 1.0;
+            case FRIDAY -> 1.4;
+            case SATURDAY -> 1.5;
+            case SUNDAY -> 1.1;
+        };
+    }
+
+    /**
+     * Heavy-tailed tenant size with mean close to 1: most businesses are
+     * small, a few are very busy.
+     */
+    static double tenantWeight(Random random) {
+        double pareto = Math.pow(1 - random.nextDouble(), -1 / 1.5);
+        return Math.min(pareto, 20) / 2.33;
+    }
+
+    static int poisson(Random random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        if (mean > 30) {
+            return Math.max(0, (int) Math.round(mean + random.nextGaussian() * Math.sqrt(mean)));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static double rushFactor(int minute) {
+        return 1 + 2 * bump(minute, DINNER_PEAK, 65) + 0.8 * bump(minute, LUNCH_PEAK, 40);
+    }
+
+    private static double bump(int minute, int peak, double width) {
+        double z = (minute - peak) / width;
+        return Math.exp(-z * z / 2);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
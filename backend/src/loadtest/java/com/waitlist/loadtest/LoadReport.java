@@ -0,0 +1,97 @@
+package com.waitlist.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput and latency percentiles per endpoint over the measured window.
+ * Any status outside 2xx, and any I/O failure, counts as an error.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p99.9" };
+
+    private final Duration window;
+    private final Map<String, Histogram> histograms = new TreeMap<>();
+    private final Map<String, Map<String, Long>> statuses = new TreeMap<>();
+
+    LoadReport(Duration window) {
+        this.window = window;
+    }
+
+    void add(Map<String, Histogram> workerHistograms, Map<String, Map<String, Long>> workerStatuses) {
+        workerHistograms.forEach((operation, histogram) -> histograms
+                .computeIfAbsent(operation, name -> new Histogram(histogram.getHighestTrackableValue(), 3))
+                .add(histogram));
+        workerStatuses.forEach((operation, counts) -> counts.forEach((status, count) -> statuses
+                .computeIfAbsent(operation, name -> new TreeMap<>())
+                .merge(status, count, Long::sum)));
+    }
+
+    void print(PrintStream out) {
+        double seconds = window.toNanos() / 1e9;
+        out.printf("%-18s %9s %8s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long errors = errors(entry.getKey());
+            totalRequests += histogram.getTotalCount();
+            totalErrors += errors;
+            out.printf("%-18s %9d %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+                    histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        out.printf("%-18s %9d %8d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+        statuses.forEach((operation, counts) -> out.printf("%-18s statuses %s%n", operation, counts));
+    }
+
+    void write(Path file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("windowSeconds", window.toNanos() / 1e9);
+        ObjectNode endpoints = root.putObject("endpoints");
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            ObjectNode endpoint = endpoints.putObject(entry.getKey());
+            endpoint.put("requests", histogram.getTotalCount());
+            endpoint.put("errors", errors(entry.getKey()));
+            endpoint.put("throughput", histogram.getTotalCount() / (window.toNanos() / 1e9));
+            ObjectNode latency = endpoint.putObject("latencyMillis");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                latency.put(PERCENTILE_NAMES[i], millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+            latency.put("max", millis(histogram.getMaxValue()));
+            ObjectNode codes = endpoint.putObject("statuses");
+            statuses.getOrDefault(entry.getKey(), Map.of()).forEach(codes::put);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+
+    private long errors(String operation) {
+        return statuses.getOrDefault(operation, Map.of()).entrySet().stream()
+                .filter(status -> !status.getKey().startsWith("2"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
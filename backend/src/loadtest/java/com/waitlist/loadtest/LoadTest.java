@@ -0,0 +1,120 @@
+package com.waitlist.loadtest;
+
+import com.waitlist.WaitlistApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: seed synthetic tenants, then replay a mixed
+ * workload and report throughput and latency percentiles per endpoint.
+ *
+ * <ul>
+ *   <li>Without {@code loadtest.jdbc-url} a throwaway PostgreSQL container is
+ *       started (Docker required).</li>
+ *   <li>Without {@code loadtest.base-url} the application is started in this
+ *       JVM against that database, with SMS going to MockSmsService. Point
+ *       it at a deployed instance instead for sizing runs, and start that
+ *       instance with SMS_MOCK_ENABLED=true.</li>
+ *   <li>{@code loadtest.seed=false} reuses the tenants file of an earlier
+ *       seed; {@code loadtest.replay=false} only seeds.</li>
+ * </ul>
+ *
+ * Run with {@code mvn -Ploadtest -DskipTests verify -Dloadtest.*=...}.
+ */
+public final class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String POSTGRES_IMAGE = "postgres:15-alpine";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        PostgreSQLContainer<?> container = null;
+        ConfigurableApplicationContext application = null;
+        try {
+            String jdbcUrl = config.jdbcUrl();
+            String jdbcUser = config.jdbcUser();
+            String jdbcPassword = config.jdbcPassword();
+            boolean needsDatabase = config.seed() || config.baseUrl().isEmpty();
+            if (needsDatabase && jdbcUrl.isEmpty()) {
+                logger.info("No loadtest.jdbc-url given, starting {}", POSTGRES_IMAGE);
+                container = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+                container.start();
+                jdbcUrl = container.getJdbcUrl();
+                jdbcUser = container.getUsername();
+                jdbcPassword = container.getPassword();
+            }
+
+            String baseUrl = config.baseUrl();
+            if (baseUrl.isEmpty()) {
+                application = startApplication(jdbcUrl, jdbcUser, jdbcPassword);
+                baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+                logger.info("Application started in-process at {}", baseUrl);
+            } else {
+                logger.info("Using the application at {}; it should run with SMS_MOCK_ENABLED=true", baseUrl);
+            }
+
+            List<Tenant> tenants = null;
+            if (config.seed()) {
+                try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword)) {
+                    tenants = new SyntheticDataGenerator(config).seed(connection);
+                }
+            }
+
+            if (config.replay()) {
+                if (tenants == null) {
+                    tenants = Tenant.read(config.tenantsFile());
+                }
+                LoadReport report = new WorkloadReplayer(config, baseUrl, tenants).run();
+                report.print(System.out);
+                report.write(config.reportFile());
+                logger.info("Report written to {}", config.reportFile());
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String jdbcUrl, String user, String password) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", user);
+        properties.put("spring.datasource.password", password);
+        properties.put("sms.mock.enabled", true);
+        // Keep per-request logging from competing with the load generator for CPU
+        properties.put("logging.level.com.waitlist", "WARN");
+        properties.put("logging.level.com.waitlist.loadtest", "INFO");
+
+        DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(jdbcUrl);
+        properties.put("spring.datasource.driver-class-name", driver.getDriverClassName());
+        if (driver == DatabaseDriver.H2) {
+            // Smoke runs only; the numbers mean nothing without PostgreSQL
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        }
+
+        // As arguments rather than default properties so they win over application.yml
+        String[] arguments = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(WaitlistApplication.class).run(arguments);
+    }
+}
@@ -0,0 +1,95 @@
+package com.waitlist.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties.
+ * Defaults size a run for a few thousand tenants; scale them up for
+ * cluster sizing runs.
+ */
+public record LoadTestConfig(
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        String baseUrl,
+        boolean seed,
+        boolean replay,
+        long randomSeed,
+        int businesses,
+        int staffPerBusiness,
+        int customers,
+        int historyDays,
+        int reservationDaysAhead,
+        double dailyVisits,
+        double dailyReservations,
+        String password,
+        Path tenantsFile,
+        int threads,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        Path reportFile) {
+
+    public static final String DEFAULT_MIX = "public.waitlist=55,waitlist.list=15,waitlist.add=10," +
+            "waitlist.notify=6,waitlist.seat=5,reservations.list=5,auth.login=4";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                property("loadtest.jdbc-url", ""),
+                property("loadtest.jdbc-user", "postgres"),
+                property("loadtest.jdbc-password", "postgres"),
+                property("loadtest.base-url", ""),
+                Boolean.parseBoolean(property("loadtest.seed", "true")),
+                Boolean.parseBoolean(property("loadtest.replay", "true")),
+                Long.parseLong(property("loadtest.random-seed", "42")),
+                Integer.parseInt(property("loadtest.businesses", "2000")),
+                Integer.parseInt(property("loadtest.staff-per-business", "3")),
+                Integer.parseInt(property("loadtest.customers", "1000000")),
+                Integer.parseInt(property("loadtest.history-days", "30")),
+                Integer.parseInt(property("loadtest.reservation-days-ahead", "14")),
+                Double.parseDouble(property("loadtest.daily-visits", "60")),
+                Double.parseDouble(property("loadtest.daily-reservations", "25")),
+                property("loadtest.password", "loadtest123"),
+                Path.of(property("loadtest.tenants-file", "target/loadtest/tenants.tsv")),
+                Integer.parseInt(property("loadtest.threads", "32")),
+                Double.parseDouble(property("loadtest.rate", "200")),
+                Duration.parse(property("loadtest.warmup", "PT30S")),
+                Duration.parse(property("loadtest.duration", "PT5M")),
+                parseMix(property("loadtest.mix", DEFAULT_MIX)),
+                Path.of(property("loadtest.report", "target/loadtest/report.json")));
+    }
+
+    /**
+     * Parses {@code name=weight,name=weight}; unknown names are rejected by
+     * the replayer.
+     */
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(pair[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights");
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
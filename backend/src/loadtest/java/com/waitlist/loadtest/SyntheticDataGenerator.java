@@ -0,0 +1,441 @@
+package com.waitlist.loadtest;
+
+import com.waitlist.domain.entity.BusinessType;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.config.WaitlistHistoryMigration;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds a database that the application has already migrated with
+ * synthetic tenants: businesses with an owner and staff, customers spread
+ * over businesses by tenant size, finished waitlist history and
+ * reservations following {@link DinnerRush}, and a live queue per business.
+ *
+ * Everything is derived from {@code loadtest.random-seed}, so the same
+ * settings produce the same data set.
+ */
+final class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String USERNAME_PREFIX = "loadtest-";
+
+    // Customers per tenant handed to the replayer; kept apart from the live queues
+    private static final int TENANT_CUSTOMER_SAMPLE = 200;
+    private static final double SECOND_BUSINESS_SHARE = 0.15;
+
+    private static final String[] FIRST_NAMES = { "Ana", "Luis", "Maria", "Carlos", "Sofia", "Diego", "Lucia",
+            "Jorge", "Elena", "Pablo", "Laura", "Miguel", "Carmen", "Andres", "Valeria", "Tomas" };
+    private static final String[] LAST_NAMES = { "Garcia", "Rodriguez", "Martinez", "Lopez", "Gonzalez", "Perez",
+            "Sanchez", "Ramirez", "Torres", "Flores", "Rivera", "Gomez", "Diaz", "Morales" };
+    private static final String[] NAME_WORDS = { "Golden", "Blue", "Rustic", "Urban", "Little", "Old", "Green",
+            "Corner", "Harbor", "Garden", "Fork", "Table", "Kitchen", "Grill", "Bistro", "Cantina" };
+    private static final String[] SPECIAL_REQUESTS = { "Window table", "Birthday", "High chair",
+            "Wheelchair access", "Quiet table", "Anniversary" };
+
+    private final LoadTestConfig config;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private UUID[] businessIds;
+    private double[] weights;
+    private double[] cumulativeWeights;
+    private long[] customerMostSigBits;
+    private long[] customerLeastSigBits;
+    private IntList[] customersByBusiness;
+
+    SyntheticDataGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.random = new Random(config.randomSeed());
+    }
+
+    List<Tenant> seed(Connection connection) throws SQLException, IOException {
+        checkSchema(connection);
+        long started = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            List<List<String>> usernames = seedBusinessesAndUsers(connection);
+            seedCustomers(connection);
+            List<List<UUID>> samples = seedWaitlist(connection);
+            seedReservations(connection);
+            connection.commit();
+            if (connection.isWrapperFor(PGConnection.class)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ANALYZE");
+                }
+            }
+
+            List<Tenant> tenants = new ArrayList<>(businessIds.length);
+            for (int b = 0; b < businessIds.length; b++) {
+                tenants.add(new Tenant(businessIds[b], weights[b], usernames.get(b), samples.get(b)));
+            }
+            Tenant.write(config.tenantsFile(), tenants);
+            logger.info("Seeded {} tenants in {} s; tenants written to {}", tenants.size(),
+                    (System.nanoTime() - started) / 1_000_000_000, config.tenantsFile());
+            return tenants;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void checkSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT 1 FROM waitlist_entries_history WHERE 1 = 0").close();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database schema is missing; start the application against " +
+                    "this database once so its migrations run, then seed", e);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM users WHERE username LIKE ?")) {
+            statement.setString(1, USERNAME_PREFIX + "%");
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                if (result.getLong(1) > 0) {
+                    throw new IllegalStateException("Database already holds load test tenants; " +
+                            "seed a fresh database or run with loadtest.seed=false");
+                }
+            }
+        }
+    }
+
+    private List<List<String>> seedBusinessesAndUsers(Connection connection) throws SQLException {
+        int count = config.businesses();
+        businessIds = new UUID[count];
+        weights = new double[count];
+        cumulativeWeights = new double[count];
+        List<List<String>> usernames = new ArrayList<>(count);
+
+        try (TableWriter businesses = TableWriter.open(connection, "businesses", "id", "name", "type", "address",
+                "phone", "email", "capacity", "average_service_time", "is_active", "created_at", "updated_at")) {
+            double total = 0;
+            for (int b = 0; b < count; b++) {
+                businessIds[b] = randomUuid();
+                weights[b] = DinnerRush.tenantWeight(random);
+                total += weights[b];
+                cumulativeWeights[b] = total;
+
+                LocalDateTime createdAt = now.minusDays(config.historyDays() + random.nextInt(720));
+                businesses.row(businessIds[b],
+                        pick(NAME_WORDS) + " " + pick(NAME_WORDS) + " " + b,
+                        businessType(),
+                        (100 + random.nextInt(9900)) + " Main Street",
+                        String.format("+1888%07d", b),
+                        "business-" + b + "@loadtest.example",
+                        20 + (int) Math.round(Math.min(weights[b], 5) * 40),
+                        45 + random.nextInt(6) * 15,
+                        true, createdAt, createdAt);
+            }
+            logger.info("Wrote {} businesses", businesses.rows());
+        }
+
+        String passwordHash = new BCryptPasswordEncoder().encode(config.password());
+        List<Object[]> links = new ArrayList<>();
+        try (TableWriter users = TableWriter.open(connection, "users", "id", "username", "password", "email",
+                "role", "is_active", "created_at", "updated_at")) {
+            for (int b = 0; b < count; b++) {
+                List<String> names = new ArrayList<>(1 + config.staffPerBusiness());
+                for (int s = 0; s <= config.staffPerBusiness(); s++) {
+                    String username = USERNAME_PREFIX + b + (s == 0 ? "-owner" : "-staff-" + s);
+                    UUID userId = randomUuid();
+                    users.row(userId, username, passwordHash, username + "@loadtest.example",
+                            s == 0 ? UserRole.BUSINESS_OWNER : UserRole.BUSINESS_STAFF, true, now, now);
+                    links.add(new Object[] { userId, businessIds[b] });
+                    names.add(username);
+                }
+                usernames.add(names);
+            }
+            logger.info("Wrote {} users", users.rows());
+        }
+        // The join rows reference users, so they go in after the last user chunk
+        try (TableWriter memberships = TableWriter.open(connection, "user_businesses", "user_id", "business_id")) {
+            for (Object[] link : links) {
+                memberships.row(link);
+            }
+        }
+        return usernames;
+    }
+
+    private void seedCustomers(Connection connection) throws SQLException {
+        int count = config.customers();
+        customerMostSigBits = new long[count];
+        customerLeastSigBits = new long[count];
+        customersByBusiness = new IntList[businessIds.length];
+        for (int b = 0; b < businessIds.length; b++) {
+            customersByBusiness[b] = new IntList();
+        }
+
+        try (TableWriter customers = TableWriter.open(connection, "customers", "id", "phone", "name", "email",
+                "created_at", "updated_at")) {
+            for (int c = 0; c < count; c++) {
+                LocalDateTime createdAt = now.minusDays(config.historyDays())
+                        .minusMinutes(random.nextInt(365 * 24 * 60));
+                UUID id = uuidV7(createdAt);
+                customerMostSigBits[c] = id.getMostSignificantBits();
+                customerLeastSigBits[c] = id.getLeastSignificantBits();
+
+                String name = pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+                String email = random.nextDouble() < 0.3 ? "customer-" + c + "@loadtest.example" : null;
+                customers.row(id, String.format("+1%010d", 9_000_000_000L + c), name, email, createdAt, createdAt);
+
+                int home = sampleBusiness();
+                customersByBusiness[home].add(c);
+                if (random.nextDouble() < SECOND_BUSINESS_SHARE && businessIds.length > 1) {
+                    int other = sampleBusiness();
+                    if (other != home) {
+                        customersByBusiness[other].add(c);
+                    }
+                }
+            }
+            logger.info("Wrote {} customers", customers.rows());
+        }
+
+        try (TableWriter links = TableWriter.open(connection, "customer_businesses", "customer_id", "business_id")) {
+            for (int b = 0; b < businessIds.length; b++) {
+                IntList pool = customersByBusiness[b];
+                for (int i = 0; i < pool.size(); i++) {
+                    links.row(customerId(pool.get(i)), businessIds[b]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finished visits for every past day go straight to the history table, as
+     * the archiver would have moved them; today's live queue goes to
+     * waitlist_entries. Returns the replayer's customer sample per business.
+     */
+    private List<List<UUID>> seedWaitlist(Connection connection) throws SQLException {
+        String[] columns = WaitlistHistoryMigration.ENTRY_COLUMNS.split(",\\s*");
+        List<List<UUID>> samples = new ArrayList<>(businessIds.length);
+
+        try (TableWriter history = TableWriter.open(connection, "waitlist_entries_history", columns)) {
+            for (int daysAgo = config.historyDays(); daysAgo >= 1; daysAgo--) {
+                LocalDate day = now.toLocalDate().minusDays(daysAgo);
+                double dayFactor = DinnerRush.dayFactor(day.getDayOfWeek());
+                for (int b = 0; b < businessIds.length; b++) {
+                    IntList pool = customersByBusiness[b];
+                    if (pool.size() == 0) {
+                        continue;
+                    }
+                    writeDay(history, b, pool, day,
+                            DinnerRush.poisson(random, config.dailyVisits() * weights[b] * dayFactor));
+                }
+            }
+            logger.info("Wrote {} waitlist history entries", history.rows());
+        }
+
+        try (TableWriter live = TableWriter.open(connection, "waitlist_entries", columns)) {
+            for (int b = 0; b < businessIds.length; b++) {
+                IntList pool = customersByBusiness[b];
+                int sampleSize = Math.min(TENANT_CUSTOMER_SAMPLE, (pool.size() + 1) / 2);
+                List<UUID> sample = new ArrayList<>(sampleSize);
+                for (int i = 0; i < sampleSize; i++) {
+                    sample.add(customerId(pool.get(i)));
+                }
+                samples.add(sample);
+
+                int waiting = Math.min(DinnerRush.poisson(random, 6 * weights[b]), pool.size() - sampleSize);
+                for (int position = 1; position <= waiting; position++) {
+                    LocalDateTime createdAt = now.minusMinutes(random.nextInt(90));
+                    boolean notified = position == 1 && random.nextDouble() < 0.3;
+                    live.row(uuidV7(createdAt), businessIds[b], customerId(pool.get(sampleSize + position - 1)),
+                            DinnerRush.partySize(random), position * 5, position,
+                            notified ? WaitlistStatus.NOTIFIED : WaitlistStatus.WAITING,
+                            notified ? now : null, null, createdAt, notified ? now : createdAt);
+                }
+            }
+            logger.info("Wrote {} live waitlist entries", live.rows());
+        }
+        return samples;
+    }
+
+    private void writeDay(TableWriter history, int business, IntList pool, LocalDate day, int visits)
+            throws SQLException {
+        int[] arrivals = new int[visits];
+        int[] waits = new int[visits];
+        for (int i = 0; i < visits; i++) {
+            arrivals[i] = DinnerRush.arrivalMinute(random);
+        }
+        Arrays.sort(arrivals);
+        for (int i = 0; i < visits; i++) {
+            waits[i] = DinnerRush.waitMinutes(random, arrivals[i]);
+        }
+
+        for (int i = 0; i < visits; i++) {
+            // Position is the number of parties still waiting when this one arrives, plus itself
+            int position = 1;
+            for (int j = 0; j < i; j++) {
+                if (arrivals[j] + waits[j] > arrivals[i]) {
+                    position++;
+                }
+            }
+            LocalDateTime createdAt = day.atStartOfDay().plusMinutes(arrivals[i])
+                    .plusSeconds(random.nextInt(60));
+            LocalDateTime ready = createdAt.plusMinutes(waits[i]);
+            int estimate = (int) Math.round(waits[i] * (0.8 + random.nextDouble() * 0.4));
+
+            double outcome = random.nextDouble();
+            WaitlistStatus status;
+            LocalDateTime notifiedAt = null;
+            LocalDateTime seatedAt = null;
+            LocalDateTime updatedAt;
+            if (outcome < 0.82) {
+                status = WaitlistStatus.SEATED;
+                notifiedAt = ready;
+                seatedAt = ready.plusMinutes(1 + random.nextInt(6));
+                updatedAt = seatedAt;
+            } else if (outcome < 0.92) {
+                // Walked away before the table was ready
+                status = WaitlistStatus.CANCELLED;
+                updatedAt = createdAt.plusMinutes(random.nextInt(waits[i] + 1));
+            } else {
+                // Notified but never showed up
+                status = WaitlistStatus.CANCELLED;
+                notifiedAt = ready;
+                updatedAt = ready.plusMinutes(15);
+            }
+
+            history.row(uuidV7(createdAt), businessIds[business], customerId(pool.get(random.nextInt(pool.size()))),
+                    DinnerRush.partySize(random), estimate, position, status, notifiedAt, seatedAt,
+                    createdAt, updatedAt);
+        }
+    }
+
+    private void seedReservations(Connection connection) throws SQLException {
+        try (TableWriter reservations = TableWriter.open(connection, "reservations", "id", "business_id",
+                "customer_id", "reservation_date", "reservation_time", "party_size", "status", "special_requests",
+                "confirmed_at", "created_at", "updated_at")) {
+            for (int offset = -config.historyDays(); offset <= config.reservationDaysAhead(); offset++) {
+                LocalDate day = now.toLocalDate().plusDays(offset);
+                double dayFactor = DinnerRush.dayFactor(day.getDayOfWeek());
+                for (int b = 0; b < businessIds.length; b++) {
+                    IntList pool = customersByBusiness[b];
+                    if (pool.size() == 0) {
+                        continue;
+                    }
+                    int count = DinnerRush.poisson(random, config.dailyReservations() * weights[b] * dayFactor);
+                    for (int i = 0; i < count; i++) {
+                        LocalTime time = LocalTime.MIDNIGHT.plusMinutes(DinnerRush.reservationMinute(random));
+                        LocalDateTime at = day.atTime(time);
+                        LocalDateTime createdAt = at.minusMinutes(60 + random.nextInt(14 * 24 * 60));
+                        if (createdAt.isAfter(now)) {
+                            createdAt = now.minusMinutes(random.nextInt(60));
+                        }
+                        ReservationStatus status = reservationStatus(at);
+                        LocalDateTime updatedAt = status == ReservationStatus.COMPLETED ? at.plusMinutes(90) : createdAt;
+                        LocalDateTime confirmedAt = status == ReservationStatus.CONFIRMED
+                                || status == ReservationStatus.COMPLETED ? createdAt : null;
+                        reservations.row(uuidV7(createdAt), businessIds[b],
+                                customerId(pool.get(random.nextInt(pool.size()))), day, time,
+                                DinnerRush.partySize(random), status,
+                                random.nextDouble() < 0.05 ? pick(SPECIAL_REQUESTS) : null, confirmedAt,
+                                createdAt, updatedAt);
+                    }
+                }
+            }
+            logger.info("Wrote {} reservations", reservations.rows());
+        }
+    }
+
+    private ReservationStatus reservationStatus(LocalDateTime at) {
+        double u = random.nextDouble();
+        if (at.isBefore(now)) {
+            return u < 0.85 ? ReservationStatus.COMPLETED
+                    : u < 0.95 ? ReservationStatus.CANCELLED : ReservationStatus.CONFIRMED;
+        }
+        return u < 0.60 ? ReservationStatus.CONFIRMED
+                : u < 0.95 ? ReservationStatus.PENDING : ReservationStatus.CANCELLED;
+    }
+
+    private BusinessType businessType() {
+        double u = random.nextDouble();
+        if (u < 0.70) {
+            return BusinessType.RESTAURANT;
+        }
+        if (u < 0.82) {
+            return BusinessType.BAR;
+        }
+        if (u < 0.92) {
+            return BusinessType.CAFE;
+        }
+        return u < 0.97 ? BusinessType.SALON : BusinessType.SPA;
+    }
+
+    private int sampleBusiness() {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        return index >= 0 ? index : Math.min(-index - 1, cumulativeWeights.length - 1);
+    }
+
+    private UUID customerId(int index) {
+        return new UUID(customerMostSigBits[index], customerLeastSigBits[index]);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private UUID randomUuid() {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * UUIDv7 stamped with the row's creation time, matching what the
+     * application would have generated when the row was written.
+     */
+    private UUID uuidV7(LocalDateTime createdAt) {
+        long millis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long mostSigBits = (millis << 16) | 0x7000L | random.nextInt(1 << 12);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.waitlist.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One seeded business as the replayer sees it: who can log in as its host
+ * and which customers it can put on the waitlist. The seeder writes these to
+ * a tab-separated file so the replay never has to touch the database.
+ */
+record Tenant(UUID businessId, double weight, List<String> usernames, List<UUID> customerIds) {
+
+    static void write(Path file, List<Tenant> tenants) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Tenant tenant : tenants) {
+                writer.write(tenant.businessId() + "\t" + tenant.weight() + "\t" +
+                        String.join(",", tenant.usernames()) + "\t" +
+                        String.join(",", tenant.customerIds().stream().map(UUID::toString).toList()));
+                writer.newLine();
+            }
+        }
+    }
+
+    static List<Tenant> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IllegalStateException("Tenants file " + file + " does not exist; run with loadtest.seed=true first");
+        }
+        List<Tenant> tenants = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            List<UUID> customers = fields[3].isEmpty() ? List.of()
+                    : Arrays.stream(fields[3].split(",")).map(UUID::fromString).toList();
+            tenants.add(new Tenant(UUID.fromString(fields[0]), Double.parseDouble(fields[1]),
+                    List.of(fields[2].split(",")), customers));
+        }
+        return tenants;
+    }
+}
@@ -0,0 +1,323 @@
+package com.waitlist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.presentation.dto.LoginRequest;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a weighted mix of host actions, public polling and logins against
+ * a running application. Tenants are picked by their seeded size, so busy
+ * businesses get proportionally more traffic.
+ *
+ * With {@code loadtest.rate > 0} each worker follows a fixed schedule and
+ * latency is measured from when a request was due rather than when it was
+ * sent, so a stalled server shows up in the percentiles instead of silently
+ * lowering the offered load. With a rate of 0 workers run closed loop.
+ */
+final class WorkloadReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadReplayer.class);
+
+    static final List<String> OPERATIONS = List.of("public.waitlist", "waitlist.list", "waitlist.add",
+            "waitlist.notify", "waitlist.seat", "reservations.list", "auth.login");
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<Tenant> tenants;
+    private final TenantState[] states;
+    private final double[] tenantCumulativeWeights;
+    private final String[] operations;
+    private final int[] operationCumulativeWeights;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    WorkloadReplayer(LoadTestConfig config, String baseUrl, List<Tenant> tenants) {
+        if (tenants.isEmpty()) {
+            throw new IllegalArgumentException("No tenants to replay against");
+        }
+        this.config = config;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.tenants = tenants;
+
+        states = new TenantState[tenants.size()];
+        tenantCumulativeWeights = new double[tenants.size()];
+        double total = 0;
+        for (int i = 0; i < tenants.size(); i++) {
+            states[i] = new TenantState();
+            total += tenants.get(i).weight();
+            tenantCumulativeWeights[i] = total;
+        }
+
+        operations = new String[config.mix().size()];
+        operationCumulativeWeights = new int[config.mix().size()];
+        int index = 0;
+        int cumulative = 0;
+        for (Map.Entry<String, Integer> entry : config.mix().entrySet()) {
+            if (!OPERATIONS.contains(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + entry.getKey() +
+                        "; expected one of " + OPERATIONS);
+            }
+            cumulative += entry.getValue();
+            operations[index] = entry.getKey();
+            operationCumulativeWeights[index++] = cumulative;
+        }
+
+        http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    LoadReport run() throws InterruptedException {
+        int threads = config.threads();
+        long intervalNanos = config.rate() > 0 ? (long) (threads * 1_000_000_000L / config.rate()) : 0;
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        logger.info("Replaying {} for {} after {} warmup with {} workers at {}", config.mix(), config.duration(),
+                config.warmup(), threads, config.rate() > 0 ? config.rate() + " req/s" : "full speed");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Samples>> futures = new ArrayList<>(threads);
+        for (int w = 0; w < threads; w++) {
+            // Stagger the schedules so workers do not fire in lockstep
+            long firstDue = start + (intervalNanos * w) / threads;
+            Random random = new Random(config.randomSeed() * 31 + w);
+            futures.add(executor.submit(() -> work(random, firstDue, intervalNanos, measureFrom, end)));
+        }
+        executor.shutdown();
+
+        LoadReport report = new LoadReport(config.duration());
+        for (Future<Samples> future : futures) {
+            try {
+                Samples samples = future.get();
+                report.add(samples.histograms, samples.statuses);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load worker failed", e.getCause());
+            }
+        }
+        return report;
+    }
+
+    private Samples work(Random random, long firstDue, long intervalNanos, long measureFrom, long end) {
+        Samples samples = new Samples();
+        long due = firstDue;
+        while (true) {
+            long intended;
+            if (intervalNanos > 0) {
+                intended = due;
+                due += intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intended = System.nanoTime();
+            }
+            if (intended >= end || Thread.currentThread().isInterrupted()) {
+                return samples;
+            }
+
+            int tenant = pickTenant(random);
+            Result result = execute(pickOperation(random), tenant, random);
+            if (intended >= measureFrom) {
+                samples.record(result, System.nanoTime() - intended);
+            }
+        }
+    }
+
+    private Result execute(String operation, int index, Random random) {
+        Tenant tenant = tenants.get(index);
+        TenantState state = states[index];
+        if (!operation.equals("public.waitlist") && state.token == null) {
+            // Hosts log in before anything else; that login is this iteration's request
+            operation = "auth.login";
+        }
+        try {
+            return switch (operation) {
+                case "public.waitlist" -> send(operation, get("/public/waitlist/" + tenant.businessId()).build());
+                case "waitlist.list" -> authorized(operation, state, get("/api/waitlist"));
+                case "reservations.list" -> authorized(operation, state, get("/api/reservations"));
+                case "auth.login" -> login(tenant, state, random);
+                case "waitlist.add" -> add(tenant, state, random);
+                case "waitlist.notify" -> notifyOrAdd(tenant, state, random);
+                case "waitlist.seat" -> seatOrNotify(tenant, state, random);
+                default -> throw new IllegalArgumentException(operation);
+            };
+        } catch (IOException e) {
+            return new Result(operation, "io");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(operation, "io");
+        }
+    }
+
+    private Result login(Tenant tenant, TenantState state, Random random) throws IOException, InterruptedException {
+        String username = tenant.usernames().get(random.nextInt(tenant.usernames().size()));
+        LoginRequest body = new LoginRequest();
+        body.setUsername(username);
+        body.setPassword(config.password());
+        HttpResponse<String> response = http.send(post("/api/auth/login", body).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            state.token = objectMapper.readTree(response.body()).path("token").asText(null);
+        }
+        return new Result("auth.login", String.valueOf(response.statusCode()));
+    }
+
+    private Result add(Tenant tenant, TenantState state, Random random) throws IOException, InterruptedException {
+        if (tenant.customerIds().isEmpty()) {
+            return authorized("waitlist.list", state, get("/api/waitlist"));
+        }
+        // Walk the sample in order so a customer only rejoins after the ones before them
+        UUID customerId = tenant.customerIds().get(
+                Math.floorMod(state.nextCustomer.getAndIncrement(), tenant.customerIds().size()));
+        HttpRequest request = post("/api/waitlist",
+                new AddCustomerToWaitlistRequest(customerId, 1 + random.nextInt(6)))
+                .header("Authorization", "Bearer " + state.token)
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        expireOnAuthFailure(state, response.statusCode());
+        if (response.statusCode() == 201) {
+            JsonNode entry = objectMapper.readTree(response.body());
+            state.waiting.add(UUID.fromString(entry.path("waitlistEntryId").asText()));
+        }
+        return new Result("waitlist.add", String.valueOf(response.statusCode()));
+    }
+
+    /**
+     * Seating and notifying only touch entries this replay created; with
+     * nothing to move yet they fall back to the step before.
+     */
+    private Result seatOrNotify(Tenant tenant, TenantState state, Random random)
+            throws IOException, InterruptedException {
+        UUID id = state.notified.poll();
+        if (id == null) {
+            return notifyOrAdd(tenant, state, random);
+        }
+        return put("waitlist.seat", state, "/api/waitlist/" + id + "/seat");
+    }
+
+    private Result notifyOrAdd(Tenant tenant, TenantState state, Random random)
+            throws IOException, InterruptedException {
+        UUID id = state.waiting.poll();
+        if (id == null) {
+            return add(tenant, state, random);
+        }
+        Result result = put("waitlist.notify", state, "/api/waitlist/" + id + "/notify");
+        if (result.status().equals("200")) {
+            state.notified.add(id);
+        }
+        return result;
+    }
+
+    private Result put(String operation, TenantState state, String path) throws IOException, InterruptedException {
+        return authorized(operation, state, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private Result authorized(String operation, TenantState state, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        Result result = send(operation, request.header("Authorization", "Bearer " + state.token).build());
+        expireOnAuthFailure(state, Integer.parseInt(result.status()));
+        return result;
+    }
+
+    private Result send(String operation, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        return new Result(operation, String.valueOf(response.statusCode()));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private static void expireOnAuthFailure(TenantState state, int status) {
+        if (status == 401 || status == 403) {
+            state.token = null;
+        }
+    }
+
+    private int pickTenant(Random random) {
+        double target = random.nextDouble() * tenantCumulativeWeights[tenantCumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(tenantCumulativeWeights, target);
+        return index >= 0 ? index : Math.min(-index - 1, tenantCumulativeWeights.length - 1);
+    }
+
+    private String pickOperation(Random random) {
+        int target = random.nextInt(operationCumulativeWeights[operationCumulativeWeights.length - 1]);
+        for (int i = 0; i < operationCumulativeWeights.length; i++) {
+            if (target < operationCumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Host session and the entries this replay has created for one tenant.
+     */
+    private static final class TenantState {
+        volatile String token;
+        final AtomicInteger nextCustomer = new AtomicInteger();
+        final Queue<UUID> waiting = new ConcurrentLinkedQueue<>();
+        final Queue<UUID> notified = new ConcurrentLinkedQueue<>();
+    }
+
+    private record Result(String operation, String status) {
+    }
+
+    /**
+     * One worker's latencies (microseconds) and status counts; merged after
+     * the run so workers never contend on shared histograms.
+     */
+    private static final class Samples {
+        final Map<String, Histogram> histograms = new HashMap<>();
+        final Map<String, Map<String, Long>> statuses = new HashMap<>();
+
+        void record(Result result, long nanos) {
+            long micros = Math.max(1, Math.min(nanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+            histograms.computeIfAbsent(result.operation(), name -> new Histogram(HIGHEST_TRACKABLE_MICROS, 3))
+                    .recordValue(micros);
+            statuses.computeIfAbsent(result.operation(), name -> new HashMap<>())
+                    .merge(result.status(), 1L, Long::sum);
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class AddCustomerToWaitlistResponse {
     private Integer estimatedWaitTime;
     private WaitlistStatus status;
     private LocalDateTime createdAt;
-    private boolean smsNotificationSent;
+    private boolean smsNotificationQueued;
 
     // Constructors
     public AddCustomerToWaitlistResponse() {
@@ -27,7 +27,7 @@ public class AddCustomerToWaitlistResponse {
     public AddCustomerToWaitlistResponse(UUID waitlistEntryId, UUID businessId, UUID customerId,
             String businessName, String customerName, String customerPhone,
             Integer partySize, Integer position, Integer estimatedWaitTime,
-            WaitlistStatus status, LocalDateTime createdAt, boolean smsNotificationSent) {
+            WaitlistStatus status, LocalDateTime createdAt, boolean smsNotificationQueued) {
         this.waitlistEntryId = waitlistEntryId;
         this.businessId = businessId;
         this.customerId = customerId;
@@ -39,7 +39,7 @@ public class AddCustomerToWaitlistResponse {
         this.estimatedWaitTime = estimatedWaitTime;
         this.status = status;
         this.createdAt = createdAt;
-        this.smsNotificationSent = smsNotificationSent;
+        this.smsNotificationQueued = smsNotificationQueued;
     }
 
     // Getters and Setters
@@ -131,12 +131,17 @@ public class AddCustomerToWaitlistResponse {
         this.createdAt = createdAt;
     }
 
-    public boolean isSmsNotificationSent() {
-        return smsNotificationSent;
+    /**
+     * Whether the waitlist SMS was accepted for sending. It goes out once the
+     * entry has been saved, so a provider failure after that shows in the
+     * SMS metrics and delivery status, not here.
+     */
+    public boolean isSmsNotificationQueued() {
+        return smsNotificationQueued;
     }
 
-    public void setSmsNotificationSent(boolean smsNotificationSent) {
-        this.smsNotificationSent = smsNotificationSent;
+    public void setSmsNotificationQueued(boolean smsNotificationQueued) {
+        this.smsNotificationQueued = smsNotificationQueued;
     }
 }
 
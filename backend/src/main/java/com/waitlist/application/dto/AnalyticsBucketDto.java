@@ -0,0 +1,172 @@
+package com.waitlist.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Activity counters of one hourly or daily rollup bucket, or the totals over
+ * a range when {@code bucketStart} is null.
+ */
+public class AnalyticsBucketDto {
+
+    private LocalDateTime bucketStart;
+    private long waitlistJoined;
+    private long waitlistNotified;
+    private long waitlistSeated;
+    private long waitlistCancelled;
+    private long waitlistNoShows;
+    private long seatedCovers;
+    private long totalWaitSeconds;
+    private long reservationsConfirmed;
+    private long reservationsCompleted;
+    private long reservationsCancelled;
+    private long reservationCovers;
+
+    // Constructors
+    public AnalyticsBucketDto() {
+    }
+
+    public AnalyticsBucketDto(LocalDateTime bucketStart, long waitlistJoined, long waitlistNotified,
+            long waitlistSeated, long waitlistCancelled, long waitlistNoShows, long seatedCovers,
+            long totalWaitSeconds, long reservationsConfirmed, long reservationsCompleted,
+            long reservationsCancelled, long reservationCovers) {
+        this.bucketStart = bucketStart;
+        this.waitlistJoined = waitlistJoined;
+        this.waitlistNotified = waitlistNotified;
+        this.waitlistSeated = waitlistSeated;
+        this.waitlistCancelled = waitlistCancelled;
+        this.waitlistNoShows = waitlistNoShows;
+        this.seatedCovers = seatedCovers;
+        this.totalWaitSeconds = totalWaitSeconds;
+        this.reservationsConfirmed = reservationsConfirmed;
+        this.reservationsCompleted = reservationsCompleted;
+        this.reservationsCancelled = reservationsCancelled;
+        this.reservationCovers = reservationCovers;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getWaitlistJoined() {
+        return waitlistJoined;
+    }
+
+    public void setWaitlistJoined(long waitlistJoined) {
+        this.waitlistJoined = waitlistJoined;
+    }
+
+    public long getWaitlistNotified() {
+        return waitlistNotified;
+    }
+
+    public void setWaitlistNotified(long waitlistNotified) {
+        this.waitlistNotified = waitlistNotified;
+    }
+
+    public long getWaitlistSeated() {
+        return waitlistSeated;
+    }
+
+    public void setWaitlistSeated(long waitlistSeated) {
+        this.waitlistSeated = waitlistSeated;
+    }
+
+    public long getWaitlistCancelled() {
+        return waitlistCancelled;
+    }
+
+    public void setWaitlistCancelled(long waitlistCancelled) {
+        this.waitlistCancelled = waitlistCancelled;
+    }
+
+    public long getWaitlistNoShows() {
+        return waitlistNoShows;
+    }
+
+    public void setWaitlistNoShows(long waitlistNoShows) {
+        this.waitlistNoShows = waitlistNoShows;
+    }
+
+    public long getSeatedCovers() {
+        return seatedCovers;
+    }
+
+    public void setSeatedCovers(long seatedCovers) {
+        this.seatedCovers = seatedCovers;
+    }
+
+    public long getTotalWaitSeconds() {
+        return totalWaitSeconds;
+    }
+
+    public void setTotalWaitSeconds(long totalWaitSeconds) {
+        this.totalWaitSeconds = totalWaitSeconds;
+    }
+
+    public long getReservationsConfirmed() {
+        return reservationsConfirmed;
+    }
+
+    public void setReservationsConfirmed(long reservationsConfirmed) {
+        this.reservationsConfirmed = reservationsConfirmed;
+    }
+
+    public long getReservationsCompleted() {
+        return reservationsCompleted;
+    }
+
+    public void setReservationsCompleted(long reservationsCompleted) {
+        this.reservationsCompleted = reservationsCompleted;
+    }
+
+    public long getReservationsCancelled() {
+        return reservationsCancelled;
+    }
+
+    public void setReservationsCancelled(long reservationsCancelled) {
+        this.reservationsCancelled = reservationsCancelled;
+    }
+
+    public long getReservationCovers() {
+        return reservationCovers;
+    }
+
+    public void setReservationCovers(long reservationCovers) {
+        this.reservationCovers = reservationCovers;
+    }
+
+    public long getCovers() {
+        return seatedCovers + reservationCovers;
+    }
+
+    /**
+     * Average time from joining the waitlist to being seated, or null when
+     * nobody was seated.
+     */
+    public Double getAverageWaitMinutes() {
+        if (waitlistSeated == 0) {
+            return null;
+        }
+        return Math.round(totalWaitSeconds / (double) waitlistSeated / 6.0) / 10.0;
+    }
+
+    public AnalyticsBucketDto plus(AnalyticsBucketDto other) {
+        return new AnalyticsBucketDto(bucketStart,
+                waitlistJoined + other.waitlistJoined,
+                waitlistNotified + other.waitlistNotified,
+                waitlistSeated + other.waitlistSeated,
+                waitlistCancelled + other.waitlistCancelled,
+                waitlistNoShows + other.waitlistNoShows,
+                seatedCovers + other.seatedCovers,
+                totalWaitSeconds + other.totalWaitSeconds,
+                reservationsConfirmed + other.reservationsConfirmed,
+                reservationsCompleted + other.reservationsCompleted,
+                reservationsCancelled + other.reservationsCancelled,
+                reservationCovers + other.reservationCovers);
+    }
+}
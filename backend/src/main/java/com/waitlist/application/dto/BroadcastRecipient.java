@@ -0,0 +1,9 @@
+package com.waitlist.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Projection of a broadcast recipient: only the fields needed to text them.
+ */
+public record BroadcastRecipient(UUID customerId, String phone) {
+}
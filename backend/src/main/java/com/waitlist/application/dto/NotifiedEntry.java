@@ -0,0 +1,11 @@
+package com.waitlist.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a notified waitlist entry: only what its timeouts are
+ * computed from.
+ */
+public record NotifiedEntry(UUID id, LocalDateTime notifiedAt) {
+}
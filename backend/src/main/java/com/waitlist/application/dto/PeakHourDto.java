@@ -0,0 +1,33 @@
+package com.waitlist.application.dto;
+
+public class PeakHourDto {
+
+    private int hour;
+    private long covers;
+
+    // Constructors
+    public PeakHourDto() {
+    }
+
+    public PeakHourDto(int hour, long covers) {
+        this.hour = hour;
+        this.covers = covers;
+    }
+
+    // Getters and Setters
+    public int getHour() {
+        return hour;
+    }
+
+    public void setHour(int hour) {
+        this.hour = hour;
+    }
+
+    public long getCovers() {
+        return covers;
+    }
+
+    public void setCovers(long covers) {
+        this.covers = covers;
+    }
+}
@@ -0,0 +1,12 @@
+package com.waitlist.application.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Projection of a confirmed reservation: only the slot its no-show deadline
+ * is computed from.
+ */
+public record ReservationSlot(UUID id, LocalDate reservationDate, LocalTime reservationTime) {
+}
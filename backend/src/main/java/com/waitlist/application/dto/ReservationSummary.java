@@ -0,0 +1,28 @@
+package com.waitlist.application.dto;
+
+import com.waitlist.domain.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Projection of a reservation for list views, with the business and
+ * customer display fields.
+ */
+public record ReservationSummary(
+        UUID id,
+        UUID businessId,
+        UUID customerId,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        Integer partySize,
+        ReservationStatus status,
+        String specialRequests,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String businessName,
+        String customerName,
+        String customerPhone) {
+}
@@ -0,0 +1,28 @@
+package com.waitlist.application.dto;
+
+import com.waitlist.domain.entity.SubscriptionPlan;
+import com.waitlist.domain.entity.SubscriptionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a subscription for list views, with the business name.
+ */
+public record SubscriptionSummary(
+        UUID id,
+        UUID businessId,
+        String businessName,
+        SubscriptionPlan plan,
+        SubscriptionStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer billingCycleDays,
+        Double monthlyPrice,
+        Boolean autoRenew,
+        LocalDate trialEndDate,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -0,0 +1,27 @@
+package com.waitlist.application.dto;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a waitlist entry for list views, with the business and
+ * customer display fields.
+ */
+public record WaitlistEntrySummary(
+        UUID id,
+        UUID businessId,
+        UUID customerId,
+        Integer partySize,
+        Integer estimatedWaitTime,
+        Integer position,
+        WaitlistStatus status,
+        LocalDateTime notifiedAt,
+        LocalDateTime seatedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String businessName,
+        String customerName,
+        String customerPhone) {
+}
@@ -0,0 +1,27 @@
+package com.waitlist.application.dto;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a waitlist entry read from waitlist_entries_all, live or
+ * archived. Read-only: changes go through the {@code WaitlistEntry} entity.
+ */
+public interface WaitlistHistoryEntry {
+
+    UUID getId();
+
+    UUID getBusinessId();
+
+    Integer getPartySize();
+
+    WaitlistStatus getStatus();
+
+    LocalDateTime getNotifiedAt();
+
+    LocalDateTime getSeatedAt();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,247 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Texts waiting customers once they are almost up, so they don't have to
+ * keep refreshing the public waitlist page.
+ *
+ * After an entry is seated or cancelled, everyone behind it moves up one
+ * place. The places removed by a transaction are collected per business,
+ * and once it commits one query reads the business's active queue and a
+ * single pass compares each waiting entry's new place with the one it had
+ * before all of those removals, so an entry that several expired parties
+ * ahead of it moved up by more than one place is still caught. Entries
+ * that have just crossed {@code max-position} or {@code max-wait-minutes}
+ * (whichever comes first) get one message, and never another while they
+ * stay in the queue. The pass and the sends run in the background, so
+ * seating a table doesn't wait for the SMS provider.
+ */
+@Service
+public class AlmostUpNotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlmostUpNotificationService.class);
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private SmsService smsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${waitlist.almost-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${waitlist.almost-up.max-position:2}")
+    private int maxPosition;
+
+    @Value("${waitlist.almost-up.max-wait-minutes:10}")
+    private int maxWaitMinutes;
+
+    @Value("${waitlist.almost-up.threads:2}")
+    private int threads;
+
+    @Value("${waitlist.almost-up.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // Entries already told, per business; pruned to the active queue on every pass
+    private final Map<UUID, Set<UUID>> notified = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private Counter sentMessages;
+    private Counter failedMessages;
+    private Counter skippedPasses;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "waitlist-almost-up-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        sentMessages = Counter.builder("waitlist.almost_up.messages")
+                .description("Almost-up messages by outcome")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        failedMessages = Counter.builder("waitlist.almost_up.messages")
+                .description("Almost-up messages by outcome")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        skippedPasses = Counter.builder("waitlist.almost_up.passes.skipped")
+                .description("Queue shifts not checked because the backlog was full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener
+    public void onWaitlistEntryStatusChanged(WaitlistEntryStatusChanged event) {
+        if (!enabled || !leftQueue(event) || event.position() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(event.businessId(), List.of(event.position()));
+            return;
+        }
+        removedPositions().computeIfAbsent(event.businessId(), id -> new ArrayList<>()).add(event.position());
+    }
+
+    /**
+     * Places removed per business in the current transaction, checked in one
+     * pass per business once it commits.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<UUID, List<Integer>> removedPositions() {
+        Map<UUID, List<Integer>> removed =
+                (Map<UUID, List<Integer>>) TransactionSynchronizationManager.getResource(this);
+        if (removed != null) {
+            return removed;
+        }
+        Map<UUID, List<Integer>> collected = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, collected);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                collected.forEach(AlmostUpNotificationService.this::submit);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AlmostUpNotificationService.this);
+            }
+        });
+        return collected;
+    }
+
+    private void submit(UUID businessId, List<Integer> removedPositions) {
+        try {
+            executor.execute(() -> notifyAlmostUp(businessId, removedPositions));
+        } catch (RejectedExecutionException e) {
+            skippedPasses.increment();
+            logger.warn("Almost-up check for business {} skipped, backlog full", businessId);
+        }
+    }
+
+    /**
+     * Sends to the entries of {@code businessId} that crossed a threshold
+     * when the entries at {@code removedPositions} left the queue.
+     */
+    void notifyAlmostUp(UUID businessId, List<Integer> removedPositions) {
+        try {
+            List<WaitlistEntry> queue = waitlistEntryRepository.findActiveWaitlistEntries(businessId);
+            for (WaitlistEntry entry : crossed(businessId, queue, removedPositions.stream().sorted().toList())) {
+                send(entry);
+            }
+        } catch (Exception e) {
+            logger.error("Error sending almost-up messages for business {}: {}", businessId, e.getMessage(), e);
+        }
+    }
+
+    private List<WaitlistEntry> crossed(UUID businessId, List<WaitlistEntry> queue, List<Integer> removedPositions) {
+        Set<UUID> told = notified.computeIfAbsent(businessId, id -> new HashSet<>());
+        List<WaitlistEntry> crossed = new ArrayList<>();
+        synchronized (told) {
+            Set<UUID> active = new HashSet<>();
+            for (WaitlistEntry entry : queue) {
+                active.add(entry.getId());
+                Integer position = entry.getPosition();
+                if (entry.getStatus() != WaitlistStatus.WAITING || position == null) {
+                    continue;
+                }
+                // Positions were already shifted by updatePositionsAfterRemoval
+                int before = positionBefore(position, removedPositions);
+                Integer averageServiceTime = entry.getBusiness().getAverageServiceTime();
+                if (isAlmostUp(position, averageServiceTime) && !isAlmostUp(before, averageServiceTime)
+                        && told.add(entry.getId())) {
+                    crossed.add(entry);
+                }
+            }
+            told.retainAll(active);
+        }
+        return crossed;
+    }
+
+    /**
+     * The place an entry now at {@code position} had before the entries at
+     * the ascending {@code removedPositions} left; each removal at or ahead
+     * of that place had moved it up by one.
+     */
+    private static int positionBefore(int position, List<Integer> removedPositions) {
+        int before = position;
+        for (int removed : removedPositions) {
+            if (removed <= before) {
+                before++;
+            }
+        }
+        return before;
+    }
+
+    private boolean isAlmostUp(int position, Integer averageServiceTime) {
+        if (position <= maxPosition) {
+            return true;
+        }
+        Integer wait = estimatedWait(position, averageServiceTime);
+        return wait != null && wait <= maxWaitMinutes;
+    }
+
+    private void send(WaitlistEntry entry) {
+        Business business = entry.getBusiness();
+        boolean sent = SmsTenant.callAs(business.getId(), () -> smsService.sendAlmostUpNotification(
+                entry.getCustomer().getPhone(),
+                business.getName(),
+                estimatedWait(entry.getPosition(), business.getAverageServiceTime()),
+                entry.getPosition()));
+        (sent ? sentMessages : failedMessages).increment();
+    }
+
+    // Same estimate as WaitlistEntry.calculateEstimatedWaitTime
+    private static Integer estimatedWait(int position, Integer averageServiceTime) {
+        return averageServiceTime == null ? null : position * averageServiceTime;
+    }
+
+    private static boolean leftQueue(WaitlistEntryStatusChanged event) {
+        return (event.previousStatus() == WaitlistStatus.WAITING || event.previousStatus() == WaitlistStatus.NOTIFIED)
+                && (event.newStatus() == WaitlistStatus.SEATED || event.newStatus() == WaitlistStatus.CANCELLED);
+    }
+}
@@ -0,0 +1,323 @@
+package com.waitlist.application.service;
+
+import com.waitlist.application.dto.BroadcastRecipient;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Texts one message to a business's waiting customers or today's
+ * reservations in the background.
+ *
+ * Recipients are selected with a single projection query when the job is
+ * started, de-duplicated by phone. The sends are then shared between
+ * {@code sms.broadcast.concurrency} workers on a fixed pool, so a large
+ * broadcast neither holds the request thread nor occupies every sender;
+ * each send goes out as BULK traffic under the business's
+ * {@link SmsTenant}, so table-ready messages still overtake it. At most
+ * {@code sms.broadcast.queue-capacity} workers wait for a thread; a
+ * broadcast that finds the backlog full is refused rather than queued
+ * without bound. Progress is kept in memory and finished jobs are dropped
+ * after {@code sms.broadcast.retention}.
+ */
+@Service
+public class BroadcastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastService.class);
+
+    private static final List<WaitlistStatus> ACTIVE_WAITLIST = List.of(WaitlistStatus.WAITING,
+            WaitlistStatus.NOTIFIED);
+    private static final List<ReservationStatus> UPCOMING_RESERVATIONS = List.of(ReservationStatus.PENDING,
+            ReservationStatus.CONFIRMED);
+
+    public enum Audience {
+        WAITLIST,
+        RESERVATIONS_TODAY
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+
+    /**
+     * Narrows the audience; {@code null} fields don't filter.
+     * {@code waitlistStatus} only applies to the waitlist and the time window
+     * only to reservations.
+     */
+    public record Filter(Integer minPartySize, Integer maxPartySize, WaitlistStatus waitlistStatus,
+            LocalTime fromTime, LocalTime toTime) {
+
+        public static final Filter NONE = new Filter(null, null, null, null, null);
+    }
+
+    public record Progress(UUID jobId, UUID businessId, Audience audience, Status status, int total, int sent,
+            int failed, Instant startedAt, Instant finishedAt) {
+    }
+
+    public static final class Job {
+
+        private final UUID id = UUID.randomUUID();
+        private final UUID businessId;
+        private final Audience audience;
+        private final String message;
+        private final List<BroadcastRecipient> recipients;
+        private final Instant startedAt = Instant.now();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger workers = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Instant finishedAt;
+
+        private Job(UUID businessId, Audience audience, String message, List<BroadcastRecipient> recipients) {
+            this.businessId = businessId;
+            this.audience = audience;
+            this.message = message;
+            this.recipients = recipients;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public UUID getBusinessId() {
+            return businessId;
+        }
+
+        public Progress progress() {
+            Instant finished = finishedAt;
+            Status status = finished == null ? Status.RUNNING : cancelled ? Status.CANCELLED : Status.COMPLETED;
+            return new Progress(id, businessId, audience, status, recipients.size(), sent.get(), failed.get(),
+                    startedAt, finished);
+        }
+
+        private boolean isRunning() {
+            return finishedAt == null;
+        }
+    }
+
+    @Autowired
+    private SmsService smsService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sms.broadcast.threads:16}")
+    private int threads;
+
+    @Value("${sms.broadcast.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${sms.broadcast.concurrency:4}")
+    private int concurrency;
+
+    @Value("${sms.broadcast.retention:PT24H}")
+    private Duration retention;
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private Counter sentMessages;
+    private Counter failedMessages;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sms-broadcast-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("sms.broadcast.jobs.running", jobs,
+                        all -> all.values().stream().filter(Job::isRunning).count())
+                .description("Broadcasts still sending")
+                .register(meterRegistry);
+        sentMessages = Counter.builder("sms.broadcast.messages")
+                .description("Broadcast messages by outcome")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        failedMessages = Counter.builder("sms.broadcast.messages")
+                .description("Broadcast messages by outcome")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Selects the recipients and starts sending to them in the background.
+     *
+     * @throws IllegalArgumentException if the filter doesn't fit the audience
+     * @throws RejectedExecutionException if too many broadcasts are already
+     *         waiting to send
+     */
+    public Job start(UUID businessId, Audience audience, Filter filter, String message) {
+        List<BroadcastRecipient> recipients = distinctPhones(selectRecipients(businessId, audience, filter));
+        Job job = new Job(businessId, audience, message, recipients);
+        jobs.put(job.id, job);
+
+        int workers = Math.min(concurrency, recipients.size());
+        if (workers == 0) {
+            job.finishedAt = Instant.now();
+            return job;
+        }
+        job.workers.set(workers);
+        for (int i = 0; i < workers; i++) {
+            try {
+                executor.execute(() -> work(job));
+            } catch (RejectedExecutionException e) {
+                if (i == 0) {
+                    jobs.remove(job.id);
+                    logger.warn("Broadcast for business {} refused, backlog full", businessId);
+                    throw e;
+                }
+                // Runs with the workers that did fit
+                if (job.workers.addAndGet(i - workers) == 0) {
+                    finish(job);
+                }
+                break;
+            }
+        }
+        logger.info("Broadcast {} for business {} started: {} recipients from {}", job.id, businessId,
+                recipients.size(), audience);
+        return job;
+    }
+
+    public Optional<Job> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Stops a running broadcast; messages already handed to the provider
+     * still go out.
+     */
+    public void cancel(Job job) {
+        if (job.isRunning()) {
+            job.cancelled = true;
+            logger.info("Broadcast {} for business {} cancelled", job.id, job.businessId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sms.broadcast.purge-interval-ms:600000}")
+    public void purgeFinished() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> !job.isRunning() && job.finishedAt.isBefore(cutoff));
+    }
+
+    private List<BroadcastRecipient> selectRecipients(UUID businessId, Audience audience, Filter filter) {
+        int minPartySize = filter.minPartySize() != null ? filter.minPartySize() : 0;
+        int maxPartySize = filter.maxPartySize() != null ? filter.maxPartySize() : Integer.MAX_VALUE;
+        return switch (audience) {
+            case WAITLIST -> {
+                if (filter.waitlistStatus() != null && !ACTIVE_WAITLIST.contains(filter.waitlistStatus())) {
+                    throw new IllegalArgumentException("Only WAITING or NOTIFIED customers can be messaged");
+                }
+                yield waitlistEntryRepository.findBroadcastRecipients(businessId,
+                        filter.waitlistStatus() != null ? List.of(filter.waitlistStatus()) : ACTIVE_WAITLIST,
+                        minPartySize, maxPartySize);
+            }
+            case RESERVATIONS_TODAY -> reservationRepository.findBroadcastRecipients(businessId, LocalDate.now(),
+                    UPCOMING_RESERVATIONS, minPartySize, maxPartySize,
+                    filter.fromTime() != null ? filter.fromTime() : LocalTime.MIN,
+                    filter.toTime() != null ? filter.toTime() : LocalTime.of(23, 59, 59));
+        };
+    }
+
+    // A customer in line twice, or booked twice, gets the message once
+    private static List<BroadcastRecipient> distinctPhones(List<BroadcastRecipient> recipients) {
+        Set<String> phones = new HashSet<>();
+        List<BroadcastRecipient> distinct = new ArrayList<>(recipients.size());
+        for (BroadcastRecipient recipient : recipients) {
+            if (phones.add(recipient.phone())) {
+                distinct.add(recipient);
+            }
+        }
+        return distinct;
+    }
+
+    private void work(Job job) {
+        try {
+            SmsTenant.callAs(job.businessId, () -> {
+                int index;
+                while (!job.cancelled && (index = job.next.getAndIncrement()) < job.recipients.size()) {
+                    send(job, job.recipients.get(index));
+                }
+                return null;
+            });
+        } finally {
+            if (job.workers.decrementAndGet() == 0) {
+                finish(job);
+            }
+        }
+    }
+
+    private void finish(Job job) {
+        job.finishedAt = Instant.now();
+        Progress progress = job.progress();
+        logger.info("Broadcast {} for business {} {}: {} sent, {} failed of {}", job.id, job.businessId,
+                progress.status(), progress.sent(), progress.failed(), progress.total());
+    }
+
+    private void send(Job job, BroadcastRecipient recipient) {
+        boolean sent;
+        try {
+            sent = smsService.sendSms(recipient.phone(), job.message);
+        } catch (Exception e) {
+            logger.error("Broadcast {} failed to send to {}: {}", job.id, recipient.phone(), e.getMessage());
+            sent = false;
+        }
+        if (sent) {
+            job.sent.incrementAndGet();
+            sentMessages.increment();
+        } else {
+            job.failed.incrementAndGet();
+            failedMessages.increment();
+        }
+    }
+}
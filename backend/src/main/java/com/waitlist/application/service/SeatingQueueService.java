@@ -0,0 +1,235 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.ReservationStatusChanged;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.service.SeatingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One seating queue per business merging walk-ins with today's confirmed
+ * reservations, so hosts can ask who is next for a table of a given size.
+ *
+ * Walk-ins rank by the time they joined the waitlist. A reservation joins the
+ * queue {@code seating.reservation-window} before its slot and ranks as if it
+ * had walked in then, so it goes ahead of walk-ins who arrive after that but
+ * not of those already waiting. A reservation nobody has seated
+ * {@code seating.reservation-grace} after its slot leaves the queue, so a
+ * no-show doesn't hold the head of it for the rest of the day. Parties
+ * larger than the table never match.
+ *
+ * Like {@link WaitlistStatsService}, a business's queue is loaded on first
+ * use, kept up to date from committed status changes and re-read on a fixed
+ * interval and when the day rolls over, which also picks up changes made by
+ * other instances.
+ */
+@Service
+public class SeatingQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatingQueueService.class);
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Value("${seating.reservation-window:PT15M}")
+    private Duration reservationWindow;
+
+    @Value("${seating.reservation-grace:PT30M}")
+    private Duration reservationGrace;
+
+    @Value("${seating.max-tracked-businesses:500}")
+    private int maxTrackedBusinesses;
+
+    private final Map<UUID, BusinessQueue> queues = new ConcurrentHashMap<>();
+
+    public enum Source {
+        WAITLIST, RESERVATION
+    }
+
+    /**
+     * A party that can be seated. {@code queuedAt} is when a walk-in joined
+     * the waitlist or when a reservation's window opened; {@code reservedFor}
+     * is the reservation's slot and null for walk-ins.
+     */
+    public record SeatingCandidate(
+            Source source,
+            UUID id,
+            int partySize,
+            LocalDateTime queuedAt,
+            LocalDateTime reservedFor) {
+    }
+
+    /**
+     * The first party of {@code minPartySize} to {@code seats} people that
+     * can be seated now.
+     */
+    public Optional<SeatingCandidate> next(UUID businessId, int seats, int minPartySize) {
+        BusinessQueue queue = queues.get(businessId);
+        if (queue == null) {
+            if (queues.size() >= maxTrackedBusinesses) {
+                queue = new BusinessQueue(reservationGrace);
+                queue.reset(load(businessId));
+                return queue.first(minPartySize, seats, LocalDateTime.now());
+            }
+            queue = queues.computeIfAbsent(businessId, id -> {
+                BusinessQueue loaded = new BusinessQueue(reservationGrace);
+                loaded.reset(load(id));
+                return loaded;
+            });
+        }
+        if (!LocalDate.now().equals(queue.day())) {
+            queue.reset(load(businessId));
+        }
+        return queue.first(minPartySize, seats, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistEntryStatusChanged(WaitlistEntryStatusChanged event) {
+        BusinessQueue queue = queues.get(event.businessId());
+        if (queue == null || event.entryId() == null) {
+            return;
+        }
+        if (event.newStatus() == WaitlistStatus.WAITING || event.newStatus() == WaitlistStatus.NOTIFIED) {
+            LocalDateTime joinedAt = event.createdAt() != null ? event.createdAt() : event.occurredAt();
+            queue.add(new SeatingCandidate(Source.WAITLIST, event.entryId(), event.partySize(), joinedAt, null));
+        } else {
+            queue.remove(event.entryId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationStatusChanged(ReservationStatusChanged event) {
+        BusinessQueue queue = queues.get(event.businessId());
+        if (queue == null) {
+            return;
+        }
+        LocalDateTime slot = LocalDateTime.of(event.reservationDate(), event.reservationTime());
+        if (event.newStatus() == ReservationStatus.CONFIRMED && event.reservationDate().equals(queue.day())
+                && !isPastGrace(slot, LocalDateTime.now())) {
+            queue.add(reservation(event.reservationId(), event.partySize(), slot));
+        } else {
+            queue.remove(event.reservationId());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${seating.resync-interval-ms:60000}",
+            fixedDelayString = "${seating.resync-interval-ms:60000}")
+    public void resync() {
+        queues.forEach((businessId, queue) -> {
+            try {
+                queue.reset(load(businessId));
+            } catch (Exception e) {
+                logger.error("Error resyncing seating queue for business {}: {}", businessId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private List<SeatingCandidate> load(UUID businessId) {
+        List<SeatingCandidate> candidates = new ArrayList<>();
+        for (WaitlistEntry entry : waitlistEntryRepository.findActiveWaitlistEntries(businessId)) {
+            candidates.add(new SeatingCandidate(Source.WAITLIST, entry.getId(), entry.getPartySize(),
+                    entry.getCreatedAt(), null));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Reservation reservation : reservationRepository.findActiveReservationsForDate(businessId,
+                now.toLocalDate())) {
+            LocalDateTime slot = LocalDateTime.of(reservation.getReservationDate(), reservation.getReservationTime());
+            if (reservation.getStatus() == ReservationStatus.CONFIRMED && !isPastGrace(slot, now)) {
+                candidates.add(reservation(reservation.getId(), reservation.getPartySize(), slot));
+            }
+        }
+        return candidates;
+    }
+
+    private SeatingCandidate reservation(UUID id, int partySize, LocalDateTime slot) {
+        return new SeatingCandidate(Source.RESERVATION, id, partySize, slot.minus(reservationWindow), slot);
+    }
+
+    private boolean isPastGrace(LocalDateTime slot, LocalDateTime now) {
+        return slot.plus(reservationGrace).isBefore(now);
+    }
+
+    /**
+     * The queue of one business and the candidates it ranks, changed together
+     * under the instance lock.
+     */
+    static final class BusinessQueue {
+
+        private final Duration reservationGrace;
+        private SeatingQueue<UUID> queue = new SeatingQueue<>();
+        private final Map<UUID, SeatingCandidate> candidates = new HashMap<>();
+        private LocalDate day;
+
+        BusinessQueue(Duration reservationGrace) {
+            this.reservationGrace = reservationGrace;
+        }
+
+        synchronized void reset(List<SeatingCandidate> loaded) {
+            queue = new SeatingQueue<>();
+            candidates.clear();
+            loaded.forEach(this::add);
+            day = LocalDate.now();
+        }
+
+        synchronized LocalDate day() {
+            return day;
+        }
+
+        synchronized void add(SeatingCandidate candidate) {
+            candidates.put(candidate.id(), candidate);
+            queue.add(candidate.id(), candidate.partySize(), rank(candidate.queuedAt()));
+        }
+
+        synchronized void remove(UUID id) {
+            candidates.remove(id);
+            queue.remove(id);
+        }
+
+        synchronized Optional<SeatingCandidate> first(int minPartySize, int seats, LocalDateTime now) {
+            while (true) {
+                SeatingQueue.Party<UUID> party = queue.first(minPartySize, seats);
+                // Reservations whose window hasn't opened rank after everyone already queued
+                if (party == null || party.rank() > rank(now)) {
+                    return Optional.empty();
+                }
+                SeatingCandidate candidate = candidates.get(party.key());
+                // Still confirmed past the grace period: a no-show, dropped until it changes status
+                if (candidate.reservedFor() != null && candidate.reservedFor().plus(reservationGrace).isBefore(now)) {
+                    remove(candidate.id());
+                    continue;
+                }
+                return Optional.of(candidate);
+            }
+        }
+
+        private static long rank(LocalDateTime at) {
+            return at.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.waitlist.application.service;
+
+import com.waitlist.application.dto.NotifiedEntry;
+import com.waitlist.application.dto.ReservationSlot;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.ReservationStatusChanged;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.service.SchedulerLease;
+import com.waitlist.infrastructure.service.TimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deadlines of notified waitlist entries and confirmed reservations, kept in
+ * a {@link TimingWheel} instead of polled for.
+ *
+ * A notified entry is texted again after {@code waitlist.timeouts.renotify-after}
+ * and cancelled after {@code expire-after}, freeing the table; a reservation
+ * still confirmed {@code reservations.no-show.grace} after its slot is
+ * cancelled as a no-show. Deadlines are scheduled from the status change
+ * events and dropped when the entry or reservation moves on. Each tick fires
+ * what is due in batches, one locking query and one transaction per batch;
+ * the lock and a re-check of the deadline make firing safe when several
+ * instances track the same timer. Reminder texts are handed to a small
+ * bounded pool, so a slow SMS provider never holds up the scheduler thread
+ * that also renews the lease.
+ *
+ * The wheel only lives in memory, so it is rebuilt from notified_at and the
+ * reservation slots at startup, and again whenever this instance finds that
+ * another one's {@link SchedulerLease} lapsed and takes over its timers.
+ */
+@Service
+public class TimeoutScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeoutScheduler.class);
+
+    // A batch that failed to write is tried again after this long
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    enum Kind {
+        WAITLIST_RENOTIFY,
+        WAITLIST_EXPIRE,
+        RESERVATION_NO_SHOW
+    }
+
+    record Timeout(Kind kind, UUID id) {
+    }
+
+    private record Reminder(UUID entryId, UUID businessId, String phone, String businessName,
+            String businessPhone) {
+    }
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SmsService smsService;
+
+    @Autowired
+    private SchedulerLease lease;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${waitlist.timeouts.enabled:true}")
+    private boolean waitlistEnabled;
+
+    @Value("${waitlist.timeouts.renotify-after:PT10M}")
+    private Duration renotifyAfter;
+
+    @Value("${waitlist.timeouts.expire-after:PT20M}")
+    private Duration expireAfter;
+
+    @Value("${reservations.no-show.enabled:false}")
+    private boolean noShowEnabled;
+
+    @Value("${reservations.no-show.grace:PT30M}")
+    private Duration noShowGrace;
+
+    @Value("${scheduler.wheel.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${scheduler.wheel.size:512}")
+    private int wheelSize;
+
+    @Value("${scheduler.batch-size:200}")
+    private int batchSize;
+
+    @Value("${scheduler.reminders.threads:2}")
+    private int reminderThreads;
+
+    @Value("${scheduler.reminders.queue-capacity:1000}")
+    private int reminderQueueCapacity;
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private final Map<Kind, Counter> fired = new EnumMap<>(Kind.class);
+    private TimingWheel<Timeout> wheel;
+    private ThreadPoolExecutor reminders;
+    private Counter skippedReminders;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        reminders = new ThreadPoolExecutor(reminderThreads, reminderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(reminderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "scheduler-reminder-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        reminders.allowCoreThreadTimeOut(true);
+        skippedReminders = Counter.builder("scheduler.reminders.skipped")
+                .description("Reminder texts dropped because the send backlog was full")
+                .register(meterRegistry);
+
+        wheel = new TimingWheel<>(Duration.ofMillis(tickMillis), wheelSize, clock.millis());
+        Gauge.builder("scheduler.timers.pending", wheel, TimingWheel::size)
+                .description("Deadlines waiting in the timing wheel")
+                .register(meterRegistry);
+        for (Kind kind : Kind.values()) {
+            fired.put(kind, Counter.builder("scheduler.timeouts.fired")
+                    .description("Deadlines that fired and were acted on, by kind")
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reminders.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            lease.renew();
+        } catch (Exception e) {
+            logger.error("Error renewing scheduler lease: {}", e.getMessage(), e);
+        }
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${scheduler.lease.renew-interval-ms:10000}",
+            fixedDelayString = "${scheduler.lease.renew-interval-ms:10000}")
+    public void renewLease() {
+        try {
+            if (lease.renew() > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            logger.error("Error renewing scheduler lease: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Schedules every deadline from the database. Timers already in the wheel
+     * are simply replaced.
+     */
+    public void rebuild() {
+        try {
+            int timers = 0;
+            if (waitlistEnabled) {
+                for (NotifiedEntry entry : waitlistEntryRepository.findNotifiedEntries()) {
+                    scheduleEntry(entry.id(), entry.notifiedAt());
+                    timers++;
+                }
+            }
+            if (noShowEnabled) {
+                LocalDate from = LocalDate.now(clock).minusDays(1);
+                for (ReservationSlot slot : reservationRepository.findConfirmedSlots(from)) {
+                    scheduleNoShow(slot.id(), LocalDateTime.of(slot.reservationDate(), slot.reservationTime()));
+                    timers++;
+                }
+            }
+            logger.info("Timing wheel rebuilt with deadlines for {} entries and reservations", timers);
+        } catch (Exception e) {
+            logger.error("Error rebuilding timing wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistEntryStatusChanged(WaitlistEntryStatusChanged event) {
+        if (event.entryId() == null) {
+            return;
+        }
+        if (event.newStatus() == WaitlistStatus.NOTIFIED) {
+            scheduleEntry(event.entryId(), event.occurredAt());
+        } else if (event.previousStatus() == WaitlistStatus.NOTIFIED) {
+            wheel.cancel(new Timeout(Kind.WAITLIST_RENOTIFY, event.entryId()));
+            wheel.cancel(new Timeout(Kind.WAITLIST_EXPIRE, event.entryId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationStatusChanged(ReservationStatusChanged event) {
+        if (event.reservationId() == null) {
+            return;
+        }
+        if (event.newStatus() == ReservationStatus.CONFIRMED) {
+            scheduleNoShow(event.reservationId(), LocalDateTime.of(event.reservationDate(), event.reservationTime()));
+        } else {
+            wheel.cancel(new Timeout(Kind.RESERVATION_NO_SHOW, event.reservationId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.wheel.tick-ms:1000}")
+    public void tick() {
+        fire(clock.instant());
+    }
+
+    /**
+     * Acts on every deadline due by {@code now}.
+     */
+    void fire(Instant now) {
+        List<Timeout> due = wheel.advance(now.toEpochMilli());
+        if (due.isEmpty()) {
+            return;
+        }
+        Map<Kind, List<UUID>> byKind = new EnumMap<>(Kind.class);
+        for (Timeout timeout : due) {
+            byKind.computeIfAbsent(timeout.kind(), kind -> new ArrayList<>()).add(timeout.id());
+        }
+        LocalDateTime at = LocalDateTime.ofInstant(now, clock.getZone());
+        byKind.forEach((kind, ids) -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<UUID> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                try {
+                    int acted = switch (kind) {
+                        case WAITLIST_RENOTIFY -> renotify(batch, at);
+                        case WAITLIST_EXPIRE -> expire(batch, at);
+                        case RESERVATION_NO_SHOW -> cancelNoShows(batch, at);
+                    };
+                    fired.get(kind).increment(acted);
+                } catch (Exception e) {
+                    logger.error("Error firing {} {} timeouts, retrying in {}: {}", batch.size(), kind, RETRY_DELAY,
+                            e.getMessage(), e);
+                    long retryAt = now.plus(RETRY_DELAY).toEpochMilli();
+                    batch.forEach(id -> wheel.schedule(new Timeout(kind, id), retryAt));
+                }
+            }
+        });
+    }
+
+    int pendingTimers() {
+        return wheel.size();
+    }
+
+    private void scheduleEntry(UUID entryId, LocalDateTime notifiedAt) {
+        if (!waitlistEnabled || notifiedAt == null) {
+            return;
+        }
+        if (!renotifyAfter.isZero()) {
+            wheel.schedule(new Timeout(Kind.WAITLIST_RENOTIFY, entryId), millis(notifiedAt.plus(renotifyAfter)));
+        }
+        if (!expireAfter.isZero()) {
+            wheel.schedule(new Timeout(Kind.WAITLIST_EXPIRE, entryId), millis(notifiedAt.plus(expireAfter)));
+        }
+    }
+
+    private void scheduleNoShow(UUID reservationId, LocalDateTime slot) {
+        if (noShowEnabled) {
+            wheel.schedule(new Timeout(Kind.RESERVATION_NO_SHOW, reservationId), millis(slot.plus(noShowGrace)));
+        }
+    }
+
+    /**
+     * Marks entries still notified as reminded and queues the table-ready
+     * message again for each. The entry's reminded_at marks it as reminded, so
+     * each is texted once whichever instances fire it.
+     */
+    private int renotify(List<UUID> ids, LocalDateTime now) {
+        List<Reminder> due = new TransactionTemplate(transactionManager).execute(status -> {
+            List<WaitlistEntry> entries = waitlistEntryRepository.lockNotifiedEntries(ids).stream()
+                    .filter(entry -> isDue(entry.getNotifiedAt(), renotifyAfter, now))
+                    .filter(entry -> entry.getRemindedAt() == null
+                            || entry.getRemindedAt().isBefore(entry.getNotifiedAt()))
+                    .toList();
+            if (!entries.isEmpty()) {
+                waitlistEntryRepository.markReminded(entries.stream().map(WaitlistEntry::getId).toList(), now);
+            }
+            return entries.stream()
+                    .map(entry -> new Reminder(entry.getId(), entry.getBusiness().getId(),
+                            entry.getCustomer().getPhone(), entry.getBusiness().getName(),
+                            entry.getBusiness().getPhone()))
+                    .toList();
+        });
+        for (Reminder reminder : due) {
+            try {
+                reminders.execute(() -> remind(reminder));
+            } catch (RejectedExecutionException e) {
+                skippedReminders.increment();
+                logger.warn("Reminder for waitlist entry {} skipped, backlog full", reminder.entryId());
+            }
+        }
+        return due.size();
+    }
+
+    private void remind(Reminder reminder) {
+        try {
+            SmsTenant.callAs(reminder.businessId(), () -> smsService.sendTableReadyNotification(
+                    reminder.phone(), reminder.businessName(), reminder.businessPhone()));
+        } catch (Exception e) {
+            logger.error("Error re-notifying waitlist entry {}: {}", reminder.entryId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Cancels entries still notified, releasing their place in the queue.
+     */
+    private int expire(List<UUID> ids, LocalDateTime now) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<WaitlistEntry> due = waitlistEntryRepository.lockNotifiedEntries(ids).stream()
+                    .filter(entry -> isDue(entry.getNotifiedAt(), expireAfter, now))
+                    // Highest position first, so each shift leaves the remaining entries' positions as loaded
+                    .sorted(Comparator.comparing(WaitlistEntry::getPosition).reversed())
+                    .toList();
+            for (WaitlistEntry entry : due) {
+                entry.cancel();
+                waitlistEntryRepository.save(entry);
+                waitlistEntryRepository.updatePositionsAfterRemoval(entry.getBusiness().getId(), entry.getPosition());
+            }
+            if (!due.isEmpty()) {
+                logger.info("Released {} waitlist entries not seated within {} of being notified", due.size(),
+                        expireAfter);
+            }
+            return due.size();
+        });
+    }
+
+    private int cancelNoShows(List<UUID> ids, LocalDateTime now) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<Reservation> due = reservationRepository.lockConfirmedReservations(ids).stream()
+                    .filter(reservation -> isDue(LocalDateTime.of(reservation.getReservationDate(),
+                            reservation.getReservationTime()), noShowGrace, now))
+                    .toList();
+            for (Reservation reservation : due) {
+                reservation.cancel();
+                reservationRepository.save(reservation);
+            }
+            if (!due.isEmpty()) {
+                logger.info("Cancelled {} reservations as no-shows after {}", due.size(), noShowGrace);
+            }
+            return due.size();
+        });
+    }
+
+    // Re-checked against the row, since the timer may be older than its latest state
+    private static boolean isDue(LocalDateTime since, Duration after, LocalDateTime now) {
+        return since != null && !since.plus(after).isAfter(now);
+    }
+
+    private long millis(LocalDateTime at) {
+        return at.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
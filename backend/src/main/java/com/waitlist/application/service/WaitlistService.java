@@ -4,6 +4,7 @@ import com.waitlist.domain.entity.Business;
 import com.waitlist.domain.entity.Customer;
 import com.waitlist.domain.entity.WaitlistEntry;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
 import com.waitlist.infrastructure.repository.BusinessRepository;
 import com.waitlist.infrastructure.repository.CustomerRepository;
 import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
@@ -62,11 +63,11 @@ public class WaitlistService {
 
         // Send SMS notification
         try {
-            smsService.sendWaitlistNotification(
+            SmsTenant.callAs(business.getId(), () -> smsService.sendWaitlistNotification(
                     customer.getPhone(),
                     business.getName(),
                     savedEntry.getEstimatedWaitTime(),
-                    savedEntry.getPosition());
+                    savedEntry.getPosition()));
         } catch (Exception e) {
             // Log error but don't fail the operation
             // In a real application, you might want to retry or queue the SMS
@@ -84,10 +85,10 @@ public class WaitlistService {
             waitlistEntryRepository.save(entry);
 
             // Send SMS notification
-            smsService.sendTableReadyNotification(
+            SmsTenant.callAs(entry.getBusiness().getId(), () -> smsService.sendTableReadyNotification(
                     entry.getCustomer().getPhone(),
                     entry.getBusiness().getName(),
-                    entry.getBusiness().getPhone());
+                    entry.getBusiness().getPhone()));
         } else {
             throw new IllegalStateException("Customer cannot be notified at this time");
         }
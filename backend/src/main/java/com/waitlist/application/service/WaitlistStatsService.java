@@ -0,0 +1,249 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import com.waitlist.infrastructure.monitoring.BusinessTagLimiter;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Per-business waitlist counters (waiting, notified, seated and cancelled
+ * today, covers waiting, party sizes) kept in memory and updated after each
+ * committed transition, so the stats endpoint and gauges don't query the
+ * database.
+ *
+ * A business's counters are loaded with one aggregate query on first use and
+ * re-read on a fixed interval, which also corrects for transitions made by
+ * other instances and for the day rolling over. The oldest waiting entry
+ * can't be tracked incrementally once it leaves the queue, so that triggers a
+ * re-read on the next stats request. Businesses beyond
+ * {@code waitlist.stats.max-tracked-businesses} are always served by the
+ * query and get no gauges.
+ *
+ * Gauges are tagged through {@link BusinessTagLimiter}; tracked businesses
+ * past its limit are summed into one set of gauges tagged {@code other}.
+ */
+@Service
+public class WaitlistStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistStatsService.class);
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BusinessTagLimiter businessTagLimiter;
+
+    @Value("${waitlist.stats.max-tracked-businesses:500}")
+    private int maxTrackedBusinesses;
+
+    private final Map<UUID, WaitlistCounters> counters = new ConcurrentHashMap<>();
+
+    // Tracked businesses reported under the "other" tag
+    private final Map<UUID, WaitlistCounters> untagged = new ConcurrentHashMap<>();
+
+    public record WaitlistStatsSnapshot(
+            long waiting,
+            long notified,
+            long seatedToday,
+            long cancelledToday,
+            long coversWaiting,
+            LocalDateTime oldestWaitingAt,
+            long partiesOf1To2,
+            long partiesOf3To4,
+            long partiesOf5To6,
+            long partiesOf7Plus) {
+
+        public Long longestWaitMinutes() {
+            return oldestWaitingAt == null ? null : Duration.between(oldestWaitingAt, LocalDateTime.now()).toMinutes();
+        }
+    }
+
+    public WaitlistStatsSnapshot getStats(UUID businessId) {
+        WaitlistCounters businessCounters = counters.get(businessId);
+        if (businessCounters == null) {
+            if (counters.size() >= maxTrackedBusinesses) {
+                return query(businessId);
+            }
+            businessCounters = counters.computeIfAbsent(businessId, this::track);
+        }
+        if (businessCounters.needsRefresh()) {
+            businessCounters.reset(query(businessId));
+        }
+        return businessCounters.snapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistEntryStatusChanged(WaitlistEntryStatusChanged event) {
+        WaitlistCounters businessCounters = counters.get(event.businessId());
+        if (businessCounters != null) {
+            businessCounters.apply(event);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${waitlist.stats.resync-interval-ms:60000}",
+            fixedDelayString = "${waitlist.stats.resync-interval-ms:60000}")
+    public void resync() {
+        counters.forEach((businessId, businessCounters) -> {
+            try {
+                businessCounters.reset(query(businessId));
+            } catch (Exception e) {
+                logger.error("Error resyncing waitlist counters for business {}: {}", businessId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private WaitlistCounters track(UUID businessId) {
+        WaitlistCounters businessCounters = new WaitlistCounters();
+        businessCounters.reset(query(businessId));
+
+        String tag = businessTagLimiter.tag(businessId);
+        if (BusinessTagLimiter.OTHER.equals(tag)) {
+            untagged.put(businessId, businessCounters);
+            // Registers the shared gauges once; later calls return the existing ones
+            registerGauges(tag, () -> untagged.values().stream().map(WaitlistCounters::snapshot));
+        } else {
+            registerGauges(tag, () -> Stream.of(businessCounters.snapshot()));
+        }
+        return businessCounters;
+    }
+
+    private void registerGauges(String business, Supplier<Stream<WaitlistStatsSnapshot>> snapshots) {
+        gauge("waitlist.entries.waiting", "Entries waiting to be notified", business, snapshots,
+                WaitlistStatsSnapshot::waiting);
+        gauge("waitlist.entries.notified", "Entries notified and not yet seated", business, snapshots,
+                WaitlistStatsSnapshot::notified);
+        gauge("waitlist.entries.seated.today", "Entries seated today", business, snapshots,
+                WaitlistStatsSnapshot::seatedToday);
+        gauge("waitlist.entries.cancelled.today", "Entries cancelled today", business, snapshots,
+                WaitlistStatsSnapshot::cancelledToday);
+        gauge("waitlist.covers.waiting", "Guests in waiting parties", business, snapshots,
+                WaitlistStatsSnapshot::coversWaiting);
+        Gauge.builder("waitlist.longest.wait", () -> snapshots.get()
+                        .map(WaitlistStatsSnapshot::oldestWaitingAt)
+                        .filter(Objects::nonNull)
+                        .mapToLong(oldest -> Duration.between(oldest, LocalDateTime.now()).toSeconds())
+                        .max().orElse(0))
+                .description("Time the oldest waiting entry has been waiting")
+                .baseUnit("seconds")
+                .tag("business", business)
+                .register(meterRegistry);
+    }
+
+    private void gauge(String name, String description, String business,
+            Supplier<Stream<WaitlistStatsSnapshot>> snapshots, ToLongFunction<WaitlistStatsSnapshot> value) {
+        Gauge.builder(name, () -> snapshots.get().mapToLong(value).sum())
+                .description(description)
+                .tag("business", business)
+                .register(meterRegistry);
+    }
+
+    private WaitlistStatsSnapshot query(UUID businessId) {
+        WaitlistEntryRepository.WaitlistStats stats = waitlistEntryRepository.findWaitlistStats(businessId);
+        return new WaitlistStatsSnapshot(stats.getWaiting(), stats.getNotified(), stats.getSeatedToday(),
+                stats.getCancelledToday(), stats.getCoversWaiting(), stats.getOldestWaitingAt(),
+                stats.getPartiesOf1To2(), stats.getPartiesOf3To4(), stats.getPartiesOf5To6(),
+                stats.getPartiesOf7Plus());
+    }
+
+    /**
+     * Counters of one business. Every transition updates them under the
+     * instance lock, so a snapshot never reflects half a transition.
+     */
+    static final class WaitlistCounters {
+
+        private long waiting;
+        private long notified;
+        private long seatedToday;
+        private long cancelledToday;
+        private long coversWaiting;
+        private LocalDateTime oldestWaitingAt;
+        private final long[] partySizes = new long[4];
+        private LocalDate day;
+        private boolean oldestStale;
+
+        synchronized void reset(WaitlistStatsSnapshot snapshot) {
+            waiting = snapshot.waiting();
+            notified = snapshot.notified();
+            seatedToday = snapshot.seatedToday();
+            cancelledToday = snapshot.cancelledToday();
+            coversWaiting = snapshot.coversWaiting();
+            oldestWaitingAt = snapshot.oldestWaitingAt();
+            partySizes[0] = snapshot.partiesOf1To2();
+            partySizes[1] = snapshot.partiesOf3To4();
+            partySizes[2] = snapshot.partiesOf5To6();
+            partySizes[3] = snapshot.partiesOf7Plus();
+            day = LocalDate.now();
+            oldestStale = false;
+        }
+
+        synchronized boolean needsRefresh() {
+            return oldestStale || !LocalDate.now().equals(day);
+        }
+
+        synchronized void apply(WaitlistEntryStatusChanged event) {
+            WaitlistStatus from = event.previousStatus();
+            if (from == null) {
+                addWaiting(event.partySize(), 1);
+                LocalDateTime joinedAt = event.createdAt() != null ? event.createdAt() : event.occurredAt();
+                if (!oldestStale && (oldestWaitingAt == null || joinedAt.isBefore(oldestWaitingAt))) {
+                    oldestWaitingAt = joinedAt;
+                }
+                return;
+            }
+
+            if (from == WaitlistStatus.WAITING) {
+                addWaiting(event.partySize(), -1);
+                oldestStale = true;
+            } else if (from == WaitlistStatus.NOTIFIED) {
+                notified--;
+            }
+
+            boolean today = event.occurredAt().toLocalDate().equals(day);
+            switch (event.newStatus()) {
+                case NOTIFIED -> notified++;
+                case SEATED -> seatedToday += today ? 1 : 0;
+                case CANCELLED -> cancelledToday += today ? 1 : 0;
+                default -> {
+                }
+            }
+        }
+
+        private void addWaiting(int partySize, int delta) {
+            waiting += delta;
+            coversWaiting += (long) delta * partySize;
+            partySizes[partySizeBucket(partySize)] += delta;
+        }
+
+        synchronized WaitlistStatsSnapshot snapshot() {
+            return new WaitlistStatsSnapshot(waiting, notified, seatedToday, cancelledToday, coversWaiting,
+                    oldestWaitingAt, partySizes[0], partySizes[1], partySizes[2], partySizes[3]);
+        }
+
+        static int partySizeBucket(int partySize) {
+            return partySize <= 2 ? 0 : partySize <= 4 ? 1 : partySize <= 6 ? 2 : 3;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.waitlist.domain.entity.Business;
 import com.waitlist.domain.entity.Customer;
 import com.waitlist.domain.entity.WaitlistEntry;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
 import com.waitlist.infrastructure.repository.BusinessRepository;
 import com.waitlist.infrastructure.repository.CustomerRepository;
 import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
@@ -54,11 +55,11 @@ public class AddCustomerToWaitlistUseCase {
         // Save waitlist entry
         WaitlistEntry savedEntry = waitlistEntryRepository.save(entry);
 
-        // Send SMS notification
-        boolean smsSent = sendSmsNotification(savedEntry);
+        // Queue SMS notification, sent once the entry is committed
+        boolean smsQueued = sendSmsNotification(savedEntry);
 
         // Build and return response
-        return buildResponse(savedEntry, smsSent);
+        return buildResponse(savedEntry, smsQueued);
     }
 
     private Business validateBusiness(UUID businessId) {
@@ -96,11 +97,11 @@ public class AddCustomerToWaitlistUseCase {
 
     private boolean sendSmsNotification(WaitlistEntry entry) {
         try {
-            return smsService.sendWaitlistNotification(
+            return SmsTenant.callAs(entry.getBusiness().getId(), () -> smsService.sendWaitlistNotification(
                     entry.getCustomer().getPhone(),
                     entry.getBusiness().getName(),
                     entry.getEstimatedWaitTime(),
-                    entry.getPosition());
+                    entry.getPosition()));
         } catch (Exception e) {
             // Log error but don't fail the operation
             // In a real application, you might want to retry or queue the SMS
@@ -108,7 +109,7 @@ public class AddCustomerToWaitlistUseCase {
         }
     }
 
-    private AddCustomerToWaitlistResponse buildResponse(WaitlistEntry entry, boolean smsSent) {
+    private AddCustomerToWaitlistResponse buildResponse(WaitlistEntry entry, boolean smsQueued) {
         return new AddCustomerToWaitlistResponse(
                 entry.getId(),
                 entry.getBusiness().getId(),
@@ -121,7 +122,7 @@ public class AddCustomerToWaitlistUseCase {
                 entry.getEstimatedWaitTime(),
                 entry.getStatus(),
                 entry.getCreatedAt(),
-                smsSent);
+                smsQueued);
     }
 }
 
@@ -1,6 +1,8 @@
 package com.waitlist.domain.entity;
 
+import com.waitlist.domain.event.ReservationStatusChanged;
 import jakarta.persistence.*;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,10 +15,10 @@ import java.util.UUID;
 @Entity
 @Table(name = "reservations")
 @EntityListeners(AuditingEntityListener.class)
-public class Reservation {
+public class Reservation extends AbstractAggregateRoot<Reservation> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +45,9 @@ public class Reservation {
     @Column(name = "special_requests", columnDefinition = "TEXT")
     private String specialRequests;
 
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -130,6 +135,14 @@ public class Reservation {
         this.specialRequests = specialRequests;
     }
 
+    public LocalDateTime getConfirmedAt() {
+        return confirmedAt;
+    }
+
+    public void setConfirmedAt(LocalDateTime confirmedAt) {
+        this.confirmedAt = confirmedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -150,18 +163,23 @@ public class Reservation {
     public void confirm() {
         if (this.status == ReservationStatus.PENDING) {
             this.status = ReservationStatus.CONFIRMED;
+            this.confirmedAt = LocalDateTime.now();
+            registerStatusChange(ReservationStatus.PENDING);
         }
     }
 
     public void cancel() {
-        if (this.status != ReservationStatus.COMPLETED) {
+        if (this.status != ReservationStatus.COMPLETED && this.status != ReservationStatus.CANCELLED) {
+            ReservationStatus previousStatus = this.status;
             this.status = ReservationStatus.CANCELLED;
+            registerStatusChange(previousStatus);
         }
     }
 
     public void complete() {
         if (this.status == ReservationStatus.CONFIRMED) {
             this.status = ReservationStatus.COMPLETED;
+            registerStatusChange(ReservationStatus.CONFIRMED);
         }
     }
 
@@ -172,5 +190,9 @@ public class Reservation {
     public boolean canBeCancelled() {
         return this.status == ReservationStatus.PENDING || this.status == ReservationStatus.CONFIRMED;
     }
-}
 
+    private void registerStatusChange(ReservationStatus previousStatus) {
+        registerEvent(new ReservationStatusChanged(id, business.getId(), previousStatus, status,
+                partySize, reservationDate, reservationTime));
+    }
+}
@@ -0,0 +1,24 @@
+package com.waitlist.domain.entity;
+
+import com.waitlist.infrastructure.persistence.UuidV7Generator;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers for new rows. Use in place of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)} on write-heavy
+ * tables so inserts append to the right edge of the primary key index.
+ * Existing random (v4) identifiers stay valid; the column type is unchanged.
+ *
+ * The generator lives in {@code infrastructure.persistence}; this annotation
+ * is the only place the entities refer to it.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
@@ -1,20 +1,27 @@
 package com.waitlist.domain.entity;
 
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
 import jakarta.persistence.*;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "waitlist_entries")
 @EntityListeners(AuditingEntityListener.class)
-public class WaitlistEntry {
+public class WaitlistEntry extends AbstractAggregateRoot<WaitlistEntry> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +51,10 @@ public class WaitlistEntry {
     @Column(name = "seated_at")
     private LocalDateTime seatedAt;
 
+    // Set when the table-ready message is sent again to a notified entry
+    @Column(name = "reminded_at")
+    private LocalDateTime remindedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -52,6 +63,10 @@ public class WaitlistEntry {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set until the join event is published
+    @Transient
+    private LocalDateTime joinedAt;
+
     // Constructors
     public WaitlistEntry() {
     }
@@ -61,6 +76,7 @@ public class WaitlistEntry {
         this.customer = customer;
         this.partySize = partySize;
         this.position = position;
+        this.joinedAt = LocalDateTime.now();
     }
 
     // Getters and Setters
@@ -136,6 +152,14 @@ public class WaitlistEntry {
         this.seatedAt = seatedAt;
     }
 
+    public LocalDateTime getRemindedAt() {
+        return remindedAt;
+    }
+
+    public void setRemindedAt(LocalDateTime remindedAt) {
+        this.remindedAt = remindedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -157,6 +181,7 @@ public class WaitlistEntry {
         if (this.status == WaitlistStatus.WAITING) {
             this.status = WaitlistStatus.NOTIFIED;
             this.notifiedAt = LocalDateTime.now();
+            registerStatusChange(WaitlistStatus.WAITING, this.notifiedAt);
         }
     }
 
@@ -164,12 +189,15 @@ public class WaitlistEntry {
         if (this.status == WaitlistStatus.NOTIFIED) {
             this.status = WaitlistStatus.SEATED;
             this.seatedAt = LocalDateTime.now();
+            registerStatusChange(WaitlistStatus.NOTIFIED, this.seatedAt);
         }
     }
 
     public void cancel() {
-        if (this.status != WaitlistStatus.SEATED) {
+        if (this.status != WaitlistStatus.SEATED && this.status != WaitlistStatus.CANCELLED) {
+            WaitlistStatus previousStatus = this.status;
             this.status = WaitlistStatus.CANCELLED;
+            registerStatusChange(previousStatus, LocalDateTime.now());
         }
     }
 
@@ -194,5 +222,33 @@ public class WaitlistEntry {
             this.estimatedWaitTime = currentPosition * averageServiceTime;
         }
     }
-}
 
+    /**
+     * The join event is built when events are published, after the entry has
+     * been persisted, so that it carries the generated id and creation time.
+     */
+    @Override
+    @DomainEvents
+    protected Collection<Object> domainEvents() {
+        if (joinedAt == null) {
+            return super.domainEvents();
+        }
+        List<Object> events = new ArrayList<>();
+        events.add(new WaitlistEntryStatusChanged(id, business.getId(), null, WaitlistStatus.WAITING,
+                partySize, position, createdAt, joinedAt));
+        events.addAll(super.domainEvents());
+        return events;
+    }
+
+    @Override
+    @AfterDomainEventPublication
+    protected void clearDomainEvents() {
+        joinedAt = null;
+        super.clearDomainEvents();
+    }
+
+    private void registerStatusChange(WaitlistStatus previousStatus, LocalDateTime occurredAt) {
+        registerEvent(new WaitlistEntryStatusChanged(id, business.getId(), previousStatus, status,
+                partySize, position, createdAt, occurredAt));
+    }
+}
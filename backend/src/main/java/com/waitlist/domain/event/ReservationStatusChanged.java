@@ -0,0 +1,21 @@
+package com.waitlist.domain.event;
+
+import com.waitlist.domain.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Published when a reservation is saved after a status transition. Carries the
+ * reserved slot so that analytics can attribute covers to the service hour.
+ */
+public record ReservationStatusChanged(
+        UUID reservationId,
+        UUID businessId,
+        ReservationStatus previousStatus,
+        ReservationStatus newStatus,
+        int partySize,
+        LocalDate reservationDate,
+        LocalTime reservationTime) {
+}
@@ -0,0 +1,22 @@
+package com.waitlist.domain.event;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a waitlist entry is saved after joining the waitlist
+ * ({@code previousStatus} is null) or after a status transition.
+ * {@code position} is the entry's place in the queue when it changed.
+ */
+public record WaitlistEntryStatusChanged(
+        UUID entryId,
+        UUID businessId,
+        WaitlistStatus previousStatus,
+        WaitlistStatus newStatus,
+        int partySize,
+        Integer position,
+        LocalDateTime createdAt,
+        LocalDateTime occurredAt) {
+}
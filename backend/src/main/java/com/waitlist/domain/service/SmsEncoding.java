@@ -0,0 +1,178 @@
+package com.waitlist.domain.service;
+
+import java.text.Normalizer;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * GSM 03.38 / UCS-2 encoding rules used by carriers to split and bill SMS.
+ *
+ * A message made only of GSM-7 characters fits 160 units in one segment, or
+ * 153 per segment once concatenated; extension characters such as
+ * {@code €} or {@code [} take two units and are never split across segments.
+ * A single other character switches the whole message to UCS-2, where a
+ * segment holds 70 UTF-16 units, or 67 when concatenated.
+ */
+public final class SmsEncoding {
+
+    public enum Encoding {
+        GSM_7(160, 153),
+        UCS_2(70, 67);
+
+        private final int singleSegmentUnits;
+        private final int concatenatedSegmentUnits;
+
+        Encoding(int singleSegmentUnits, int concatenatedSegmentUnits) {
+            this.singleSegmentUnits = singleSegmentUnits;
+            this.concatenatedSegmentUnits = concatenatedSegmentUnits;
+        }
+
+        public int singleSegmentUnits() {
+            return singleSegmentUnits;
+        }
+
+        public int concatenatedSegmentUnits() {
+            return concatenatedSegmentUnits;
+        }
+    }
+
+    /**
+     * Encoding, length in encoding units and billed segments of a message.
+     */
+    public record Analysis(Encoding encoding, int units, int segments) {
+    }
+
+    private static final String GSM_BASIC =
+            "@£$¥èéùìòÇ\nØø\rÅåΔ_ΦΓΛΩΠΨΣΘΞÆæßÉ !\"#¤%&'()*+,-./0123456789:;<=>?"
+                    + "¡ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÑÜ§¿abcdefghijklmnopqrstuvwxyzäöñüà";
+
+    private static final String GSM_EXTENSION = "\f^{}\\[~]|€";
+
+    private static final BitSet BASIC = charset(GSM_BASIC);
+    private static final BitSet EXTENSION = charset(GSM_EXTENSION);
+
+    // Characters whose accent-stripped form is wrong or missing in GSM-7
+    private static final Map<Character, String> REPLACEMENTS = Map.ofEntries(
+            Map.entry('ç', "Ç"),
+            Map.entry('‘', "'"),
+            Map.entry('’', "'"),
+            Map.entry('´', "'"),
+            Map.entry('“', "\""),
+            Map.entry('”', "\""),
+            Map.entry('«', "\""),
+            Map.entry('»', "\""),
+            Map.entry('–', "-"),
+            Map.entry('—', "-"),
+            Map.entry('…', "..."),
+            Map.entry(' ', " "),
+            Map.entry('\t', " "),
+            Map.entry('º', "o"),
+            Map.entry('ª', "a"));
+
+    private SmsEncoding() {
+    }
+
+    public static boolean isGsm7(char c) {
+        return BASIC.get(c) || EXTENSION.get(c);
+    }
+
+    public static boolean isGsm7(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isGsm7(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Encoding encodingOf(CharSequence text) {
+        return isGsm7(text) ? Encoding.GSM_7 : Encoding.UCS_2;
+    }
+
+    /**
+     * Units {@code text} takes in {@code encoding}: extension characters count
+     * twice in GSM-7, every UTF-16 unit counts once in UCS-2.
+     */
+    public static int units(CharSequence text, Encoding encoding) {
+        if (encoding == Encoding.UCS_2) {
+            return text.length();
+        }
+        int units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += EXTENSION.get(text.charAt(i)) ? 2 : 1;
+        }
+        return units;
+    }
+
+    public static Analysis analyze(CharSequence text) {
+        Encoding encoding = encodingOf(text);
+        int units = units(text, encoding);
+        if (units <= encoding.singleSegmentUnits()) {
+            return new Analysis(encoding, units, units == 0 ? 0 : 1);
+        }
+        return new Analysis(encoding, units, concatenatedSegments(text, encoding));
+    }
+
+    /**
+     * Same text using only GSM-7 characters: accents GSM-7 lacks are stripped
+     * ({@code ó} to {@code o}, {@code Á} to {@code A}), typographic quotes and
+     * dashes become their ASCII forms and anything else becomes {@code ?}.
+     * Characters GSM-7 already has, such as {@code ñ}, {@code é} or
+     * {@code ¡}, are kept.
+     */
+    public static String transliterate(CharSequence text) {
+        if (isGsm7(text)) {
+            return text.toString();
+        }
+        StringBuilder gsm = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isGsm7(c)) {
+                gsm.append(c);
+            } else if (REPLACEMENTS.containsKey(c)) {
+                gsm.append(REPLACEMENTS.get(c));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                gsm.append('?');
+                i++;
+            } else {
+                gsm.append(stripAccent(c));
+            }
+        }
+        return gsm.toString();
+    }
+
+    private static char stripAccent(char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        char base = decomposed.charAt(0);
+        return base != c && BASIC.get(base) ? base : '?';
+    }
+
+    private static int concatenatedSegments(CharSequence text, Encoding encoding) {
+        int limit = encoding.concatenatedSegmentUnits();
+        int segments = 1;
+        int used = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // Escape pairs and surrogate pairs stay within one segment
+            int width = encoding == Encoding.GSM_7
+                    ? (EXTENSION.get(c) ? 2 : 1)
+                    : (Character.isHighSurrogate(c) && i + 1 < text.length() ? 2 : 1);
+            if (used + width > limit) {
+                segments++;
+                used = 0;
+            }
+            used += width;
+            if (encoding == Encoding.UCS_2 && width == 2) {
+                i++;
+            }
+        }
+        return segments;
+    }
+
+    private static BitSet charset(String chars) {
+        BitSet set = new BitSet();
+        chars.chars().forEach(set::set);
+        return set;
+    }
+}
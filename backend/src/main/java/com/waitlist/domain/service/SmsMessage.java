@@ -0,0 +1,14 @@
+package com.waitlist.domain.service;
+
+/**
+ * A rendered SMS with what it will be billed: {@code segments} is what is
+ * sent, {@code baselineSegments} what the untouched template with the full
+ * values would have cost.
+ */
+public record SmsMessage(String type, String text, SmsEncoding.Encoding encoding, int segments,
+        int baselineSegments, boolean transliterated, boolean truncated) {
+
+    public int savedSegments() {
+        return baselineSegments - segments;
+    }
+}
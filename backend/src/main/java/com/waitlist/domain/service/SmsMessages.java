@@ -0,0 +1,62 @@
+package com.waitlist.domain.service;
+
+/**
+ * Text of the customer-facing SMS messages, shared by every
+ * {@link SmsService} implementation.
+ *
+ * The templates are written in Spanish with accents; {@link SmsTemplate}
+ * falls back to a GSM-7 transliteration and shortens long business names
+ * whenever that saves billed segments.
+ */
+public final class SmsMessages {
+
+    private static final SmsTemplate WAITLIST_NOTIFICATION = SmsTemplate.compile("waitlistNotification",
+            "Posición #{position} en {business}. Espera: {wait} min. Te avisamos cuando esté lista.",
+            "business", "wait", "position")
+            .truncating("business");
+
+    private static final SmsTemplate TABLE_READY = SmsTemplate.compile("tableReady",
+            "¡Mesa lista en {business}! Acércate a recepción. Tienes 15 min. Tel: {phone}",
+            "business", "phone")
+            .truncating("business");
+
+    private static final SmsTemplate ALMOST_UP = SmsTemplate.compile("almostUp",
+            "¡Ya casi! Eres #{position} en {business}. Espera aprox. {wait} min. Quédate cerca de recepción.",
+            "business", "wait", "position")
+            .truncating("business");
+
+    private static final SmsTemplate RESERVATION_CONFIRMATION = SmsTemplate.compile("reservationConfirmation",
+            "Reservación confirmada en {business}: {date} a las {time} para {partySize} persona{plural}. ¡Te esperamos!",
+            "business", "date", "time", "partySize", "plural")
+            .truncating("business");
+
+    private static final SmsTemplate RESERVATION_REMINDER = SmsTemplate.compile("reservationReminder",
+            "Recordatorio: Reservación en {business} mañana ({date}) a las {time}. Llega 5 min antes.",
+            "business", "date", "time")
+            .truncating("business");
+
+    private SmsMessages() {
+    }
+
+    public static SmsMessage waitlistNotification(String businessName, Integer estimatedWaitTime, Integer position) {
+        return WAITLIST_NOTIFICATION.render(businessName, estimatedWaitTime, position);
+    }
+
+    public static SmsMessage tableReady(String businessName, String businessPhone) {
+        return TABLE_READY.render(businessName, businessPhone);
+    }
+
+    public static SmsMessage almostUp(String businessName, Integer estimatedWaitTime, Integer position) {
+        return ALMOST_UP.render(businessName, estimatedWaitTime, position);
+    }
+
+    public static SmsMessage reservationConfirmation(String businessName, String reservationDate,
+            String reservationTime, Integer partySize) {
+        return RESERVATION_CONFIRMATION.render(businessName, reservationDate, reservationTime, partySize,
+                Integer.valueOf(1).equals(partySize) ? "" : "s");
+    }
+
+    public static SmsMessage reservationReminder(String businessName, String reservationDate, String reservationTime) {
+        return RESERVATION_REMINDER.render(businessName, reservationDate, reservationTime);
+    }
+}
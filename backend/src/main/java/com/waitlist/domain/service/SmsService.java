@@ -1,5 +1,11 @@
 package com.waitlist.domain.service;
 
+/**
+ * Outbound SMS. Called inside a transaction, a message is only queued and
+ * goes out once the transaction commits, so the send methods then return
+ * {@code true} for "queued" rather than "sent"; called outside one, they
+ * return the provider's answer.
+ */
 public interface SmsService {
 
     /**
@@ -33,6 +39,18 @@ public interface SmsService {
      */
     boolean sendTableReadyNotification(String phoneNumber, String businessName, String businessPhone);
 
+    /**
+     * Tell a waiting customer that their turn is coming up soon
+     * 
+     * @param phoneNumber       The customer's phone number
+     * @param businessName      The name of the business
+     * @param estimatedWaitTime The estimated wait time in minutes
+     * @param position          The customer's position in the waitlist
+     * @return true if the message was sent successfully, false otherwise
+     */
+    boolean sendAlmostUpNotification(String phoneNumber, String businessName,
+            Integer estimatedWaitTime, Integer position);
+
     /**
      * Send a reservation confirmation to a customer
      * 
@@ -0,0 +1,182 @@
+package com.waitlist.domain.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An SMS text with {@code {name}} placeholders, parsed once and rendered
+ * into the cheapest {@link SmsMessage} it can produce.
+ *
+ * Rendering tries the template as written and, when that needs UCS-2, a
+ * GSM-7 transliteration of the template and the values. One value may be
+ * marked truncatable (the business name): if a message would need more than
+ * one segment, that value is shortened until it fits, as long as at least
+ * {@value #MIN_TRUNCATED_LENGTH} characters of it remain. The message with
+ * the fewest segments wins; on a tie the untruncated one, then the one
+ * that keeps the accents.
+ */
+public final class SmsTemplate {
+
+    static final int MIN_TRUNCATED_LENGTH = 12;
+
+    private final String type;
+    private final List<String> parameters;
+    private final int truncatable;
+    private final Variant original;
+    private final Variant gsm;
+
+    private SmsTemplate(String type, List<String> parameters, int truncatable, Variant original) {
+        this.type = type;
+        this.parameters = parameters;
+        this.truncatable = truncatable;
+        this.original = original;
+        this.gsm = original.toGsm7();
+    }
+
+    /**
+     * @param parameters placeholder names, in the order values are passed to
+     *                   {@link #render(Object...)}
+     */
+    public static SmsTemplate compile(String type, String pattern, String... parameters) {
+        List<String> names = List.of(parameters);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = pattern.indexOf('{', start)) >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in " + type + ": " + pattern);
+            }
+            String name = pattern.substring(open + 1, close);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown placeholder {" + name + "} in " + type);
+            }
+            literals.add(pattern.substring(start, open));
+            slots.add(slot);
+            start = close + 1;
+        }
+        literals.add(pattern.substring(start));
+        return new SmsTemplate(type, names, -1, new Variant(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), false));
+    }
+
+    /**
+     * Copy of this template that may shorten {@code parameter} to stay in a
+     * single segment.
+     */
+    public SmsTemplate truncating(String parameter) {
+        int slot = parameters.indexOf(parameter);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown parameter " + parameter + " in " + type);
+        }
+        return new SmsTemplate(type, parameters, slot, original);
+    }
+
+    public String type() {
+        return type;
+    }
+
+    public SmsMessage render(Object... values) {
+        if (values.length != parameters.size()) {
+            throw new IllegalArgumentException(type + " expects " + parameters + " but got " + values.length + " values");
+        }
+        String[] args = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            args[i] = String.valueOf(values[i]);
+        }
+
+        String text = original.render(args);
+        SmsEncoding.Analysis baseline = SmsEncoding.analyze(text);
+        SmsMessage best = fit(original, args, text, baseline, baseline.segments());
+        if (best.encoding() == SmsEncoding.Encoding.UCS_2 && (best.segments() > 1 || best.truncated())) {
+            String[] gsmArgs = new String[args.length];
+            for (int i = 0; i < args.length; i++) {
+                gsmArgs[i] = SmsEncoding.transliterate(args[i]);
+            }
+            String gsmText = gsm.render(gsmArgs);
+            SmsMessage candidate = fit(gsm, gsmArgs, gsmText, SmsEncoding.analyze(gsmText), baseline.segments());
+            if (candidate.segments() < best.segments()
+                    || (candidate.segments() == best.segments() && best.truncated() && !candidate.truncated())) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private SmsMessage fit(Variant variant, String[] args, String text, SmsEncoding.Analysis analysis,
+            int baselineSegments) {
+        if (analysis.segments() > 1 && truncatable >= 0) {
+            SmsEncoding.Encoding encoding = analysis.encoding();
+            String value = args[truncatable];
+            int budget = encoding.singleSegmentUnits()
+                    - (analysis.units() - SmsEncoding.units(value, encoding) * variant.occurrences(truncatable));
+            String shortened = shorten(value, budget / Math.max(1, variant.occurrences(truncatable)), encoding);
+            if (shortened != null) {
+                String[] truncated = args.clone();
+                truncated[truncatable] = shortened;
+                String truncatedText = variant.render(truncated);
+                SmsEncoding.Analysis truncatedAnalysis = SmsEncoding.analyze(truncatedText);
+                if (truncatedAnalysis.segments() < analysis.segments()) {
+                    return new SmsMessage(type, truncatedText, truncatedAnalysis.encoding(),
+                            truncatedAnalysis.segments(), baselineSegments, variant.transliterated, true);
+                }
+            }
+        }
+        return new SmsMessage(type, text, analysis.encoding(), analysis.segments(), baselineSegments,
+                variant.transliterated, false);
+    }
+
+    /**
+     * Longest prefix of {@code value} within {@code budget} units, without
+     * trailing whitespace, or {@code null} if that leaves too little of it.
+     */
+    private static String shorten(String value, int budget, SmsEncoding.Encoding encoding) {
+        int end = 0;
+        int used = 0;
+        while (end < value.length()) {
+            char c = value.charAt(end);
+            int width = Character.isHighSurrogate(c) && end + 1 < value.length() ? 2 : 1;
+            int units = SmsEncoding.units(value.substring(end, end + width), encoding);
+            if (used + units > budget) {
+                break;
+            }
+            used += units;
+            end += width;
+        }
+        String prefix = value.substring(0, end).stripTrailing();
+        return prefix.length() >= MIN_TRUNCATED_LENGTH ? prefix : null;
+    }
+
+    private record Variant(String[] literals, int[] slots, boolean transliterated) {
+
+        Variant toGsm7() {
+            String[] gsm = new String[literals.length];
+            for (int i = 0; i < literals.length; i++) {
+                gsm[i] = SmsEncoding.transliterate(literals[i]);
+            }
+            return new Variant(gsm, slots, true);
+        }
+
+        String render(String[] args) {
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            for (int slot : slots) {
+                length += args[slot].length();
+            }
+            StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < slots.length; i++) {
+                text.append(literals[i]).append(args[slots[i]]);
+            }
+            return text.append(literals[slots.length]).toString();
+        }
+
+        int occurrences(int slot) {
+            return (int) Arrays.stream(slots).filter(s -> s == slot).count();
+        }
+    }
+}
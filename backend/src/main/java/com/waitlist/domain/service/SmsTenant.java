@@ -0,0 +1,38 @@
+package com.waitlist.domain.service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The business on whose behalf SMS are being sent on this thread. Callers
+ * wrap their {@link SmsService} calls in {@link #callAs} so the outbound
+ * path can share provider throughput fairly between businesses.
+ */
+public final class SmsTenant {
+
+    private static final ThreadLocal<UUID> CURRENT = new ThreadLocal<>();
+
+    private SmsTenant() {
+    }
+
+    public static <T> T callAs(UUID businessId, Supplier<T> action) {
+        UUID previous = CURRENT.get();
+        CURRENT.set(businessId);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * The business set by the enclosing {@link #callAs}, or {@code null}.
+     */
+    public static UUID current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.waitlist.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates business_activity_rollups, the hourly and daily per-business
+ * counters maintained by ActivityRollupService and read by the analytics API,
+ * and reservations.confirmed_at, which lets a backfill count reservations
+ * that were confirmed and later cancelled.
+ */
+@Component
+@Order(9) // Run after WaitlistHistoryMigration
+public class ActivityRollupMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRollupMigration.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrateDatabase() {
+        try {
+            logger.info("Running database migration: Creating business_activity_rollups");
+
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS business_activity_rollups (" +
+                "business_id UUID NOT NULL, " +
+                "granularity VARCHAR(8) NOT NULL, " +
+                "bucket_start TIMESTAMP NOT NULL, " +
+                "waitlist_joined BIGINT NOT NULL DEFAULT 0, " +
+                "waitlist_notified BIGINT NOT NULL DEFAULT 0, " +
+                "waitlist_seated BIGINT NOT NULL DEFAULT 0, " +
+                "waitlist_cancelled BIGINT NOT NULL DEFAULT 0, " +
+                "waitlist_no_shows BIGINT NOT NULL DEFAULT 0, " +
+                "seated_covers BIGINT NOT NULL DEFAULT 0, " +
+                "total_wait_seconds BIGINT NOT NULL DEFAULT 0, " +
+                "reservations_confirmed BIGINT NOT NULL DEFAULT 0, " +
+                "reservations_completed BIGINT NOT NULL DEFAULT 0, " +
+                "reservations_cancelled BIGINT NOT NULL DEFAULT 0, " +
+                "reservation_covers BIGINT NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (business_id, granularity, bucket_start)" +
+                ")"
+            );
+
+            jdbcTemplate.execute("ALTER TABLE reservations ADD COLUMN IF NOT EXISTS confirmed_at TIMESTAMP");
+            // Reservations confirmed before the column existed; ones since cancelled can't be recovered
+            int stamped = jdbcTemplate.update(
+                "UPDATE reservations SET confirmed_at = COALESCE(updated_at, created_at) " +
+                "WHERE confirmed_at IS NULL AND status IN ('CONFIRMED', 'COMPLETED')"
+            );
+            if (stamped > 0) {
+                logger.info("Set confirmed_at on {} existing reservations", stamped);
+            }
+
+            logger.info("Migration completed successfully. Activity rollup table is in place.");
+
+        } catch (Exception e) {
+            logger.error("Error during activity rollup migration: {}", e.getMessage(), e);
+            logger.error("Migration failed. Please run the SQL migration manually.");
+            // Don't throw - allow application to continue if migration fails
+        }
+    }
+}
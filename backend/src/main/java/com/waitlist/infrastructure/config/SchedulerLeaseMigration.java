@@ -0,0 +1,49 @@
+package com.waitlist.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates scheduler_leases, one row per running instance renewed by
+ * SchedulerLease while the instance's in-memory timers are alive, and
+ * waitlist_entries.reminded_at, which TimeoutScheduler sets when it texts a
+ * notified entry again.
+ */
+@Component
+@Order(11) // Run after SmsStatusMigration
+public class SchedulerLeaseMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeaseMigration.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrateDatabase() {
+        try {
+            logger.info("Running database migration: Creating scheduler_leases");
+
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS scheduler_leases (" +
+                "holder VARCHAR(128) PRIMARY KEY, " +
+                "expires_at TIMESTAMP NOT NULL" +
+                ")"
+            );
+
+            jdbcTemplate.execute("ALTER TABLE waitlist_entries ADD COLUMN IF NOT EXISTS reminded_at TIMESTAMP");
+
+            logger.info("Migration completed successfully. Scheduler lease table and reminder column are in place.");
+
+        } catch (Exception e) {
+            logger.error("Error during scheduler lease migration: {}", e.getMessage(), e);
+            logger.error("Migration failed. Please run the SQL migration manually.");
+            // Don't throw - allow application to continue if migration fails
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.waitlist.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the waitlist archiver.
+ * Each job has its own enabled flag in application.yml.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
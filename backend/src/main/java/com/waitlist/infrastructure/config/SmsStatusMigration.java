@@ -0,0 +1,57 @@
+package com.waitlist.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates sms_message_status, the latest delivery status of each outbound
+ * message keyed by the provider's message SID, written in batches by
+ * SmsStatusService.
+ */
+@Component
+@Order(10) // Run after ActivityRollupMigration
+public class SmsStatusMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsStatusMigration.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrateDatabase() {
+        try {
+            logger.info("Running database migration: Creating sms_message_status");
+
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS sms_message_status (" +
+                "message_sid VARCHAR(64) PRIMARY KEY, " +
+                "provider VARCHAR(32) NOT NULL, " +
+                "business_id UUID, " +
+                "to_phone VARCHAR(32), " +
+                "status VARCHAR(16) NOT NULL, " +
+                "status_rank INTEGER NOT NULL, " +
+                "error_code VARCHAR(16), " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP NOT NULL" +
+                ")"
+            );
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_sms_message_status_business_created " +
+                "ON sms_message_status (business_id, created_at)"
+            );
+
+            logger.info("Migration completed successfully. SMS message status table is in place.");
+
+        } catch (Exception e) {
+            logger.error("Error during SMS message status migration: {}", e.getMessage(), e);
+            logger.error("Migration failed. Please run the SQL migration manually.");
+            // Don't throw - allow application to continue if migration fails
+        }
+    }
+}
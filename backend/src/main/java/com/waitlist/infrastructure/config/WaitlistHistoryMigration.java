@@ -0,0 +1,84 @@
+package com.waitlist.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Creates the cold side of the waitlist hot/cold split: finished entries are
+ * moved into waitlist_entries_history by WaitlistArchiveService, and
+ * waitlist_entries_all presents both tables for history lookups.
+ */
+@Component
+@Order(7) // Run after CustomerBusinessMigration
+public class WaitlistHistoryMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistHistoryMigration.class);
+
+    public static final String ENTRY_COLUMNS = "id, business_id, customer_id, party_size, estimated_wait_time, position, " +
+            "status, notified_at, seated_at, created_at, updated_at";
+
+    public static final String CREATE_ALL_VIEW = "CREATE OR REPLACE VIEW waitlist_entries_all AS " +
+            "SELECT " + ENTRY_COLUMNS + " FROM waitlist_entries " +
+            "UNION ALL " +
+            "SELECT " + ENTRY_COLUMNS + " FROM waitlist_entries_history";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrateDatabase() {
+        try {
+            logger.info("Running database migration: Creating waitlist_entries_history and waitlist_entries_all");
+
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS waitlist_entries_history (" +
+                "id UUID PRIMARY KEY, " +
+                "business_id UUID NOT NULL, " +
+                "customer_id UUID NOT NULL, " +
+                "party_size INTEGER NOT NULL, " +
+                "estimated_wait_time INTEGER, " +
+                "position INTEGER NOT NULL, " +
+                "status VARCHAR(255) NOT NULL, " +
+                "notified_at TIMESTAMP, " +
+                "seated_at TIMESTAMP, " +
+                "created_at TIMESTAMP NOT NULL, " +
+                "updated_at TIMESTAMP, " +
+                "archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP" +
+                ")"
+            );
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_waitlist_history_customer ON waitlist_entries_history(customer_id)"
+            );
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_waitlist_history_business_created " +
+                "ON waitlist_entries_history(business_id, created_at)"
+            );
+            // Entries finished today, for the waitlist stats query
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_waitlist_history_business_updated " +
+                "ON waitlist_entries_history(business_id, updated_at)"
+            );
+
+            // Lets the archiver find finished rows without scanning the active queues
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_waitlist_entries_status_updated " +
+                "ON waitlist_entries(status, updated_at)"
+            );
+
+            jdbcTemplate.execute(CREATE_ALL_VIEW);
+
+            logger.info("Migration completed successfully. Waitlist history table and view are in place.");
+
+        } catch (Exception e) {
+            logger.error("Error during waitlist history migration: {}", e.getMessage(), e);
+            logger.error("Migration failed. Please run the SQL migration manually.");
+            // Don't throw - allow application to continue if migration fails
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.waitlist.infrastructure.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounds the cardinality of the {@code business} metric tag. The first
+ * {@code metrics.business-tag-limit} businesses seen get their own tag value;
+ * every later business is reported as {@code other}.
+ */
+@Component
+public class BusinessTagLimiter {
+
+    public static final String NONE = "none";
+    public static final String OTHER = "other";
+
+    @Value("${metrics.business-tag-limit:50}")
+    private int limit;
+
+    private final Set<UUID> tagged = ConcurrentHashMap.newKeySet();
+
+    public String tag(UUID businessId) {
+        if (businessId == null) {
+            return NONE;
+        }
+        if (tagged.contains(businessId)) {
+            return businessId.toString();
+        }
+        synchronized (tagged) {
+            if (tagged.contains(businessId) || tagged.size() < limit) {
+                tagged.add(businessId);
+                return businessId.toString();
+            }
+        }
+        return OTHER;
+    }
+}
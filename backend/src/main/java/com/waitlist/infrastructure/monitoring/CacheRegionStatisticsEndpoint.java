@@ -0,0 +1,74 @@
+package com.waitlist.infrastructure.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes Hibernate second-level cache region statistics at
+ * {@code /actuator/cacheregions}. Counters are only populated when
+ * {@code JPA_STATISTICS_ENABLED=true}.
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionStatisticsEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> regions() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        Statistics statistics = sessionFactory.getStatistics();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("secondLevelCacheEnabled", options.isSecondLevelCacheEnabled());
+        response.put("queryCacheEnabled", options.isQueryCacheEnabled());
+        response.put("statisticsEnabled", statistics.isStatisticsEnabled());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(regionName, toMap(statistics.getCacheRegionStatistics(regionName)));
+        }
+        response.put("regions", regions);
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hitCount", statistics.getQueryCacheHitCount());
+        queryCache.put("missCount", statistics.getQueryCacheMissCount());
+        queryCache.put("putCount", statistics.getQueryCachePutCount());
+        response.put("queryCache", queryCache);
+
+        return response;
+    }
+
+    @ReadOperation
+    public Map<String, Object> region(@Selector String name) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return toMap(statistics.getCacheRegionStatistics(name));
+    }
+
+    private Map<String, Object> toMap(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (regionStatistics == null) {
+            return stats;
+        }
+        stats.put("hitCount", regionStatistics.getHitCount());
+        stats.put("missCount", regionStatistics.getMissCount());
+        stats.put("putCount", regionStatistics.getPutCount());
+        stats.put("elementCountInMemory", regionStatistics.getElementCountInMemory());
+        stats.put("sizeInMemory", regionStatistics.getSizeInMemory());
+        return stats;
+    }
+}
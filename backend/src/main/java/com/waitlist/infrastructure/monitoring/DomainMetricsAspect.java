@@ -0,0 +1,95 @@
+package com.waitlist.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times use cases, waitlist transitions, the reservation lifecycle and SMS
+ * sends. Runs outside the transaction advice, so commit time is included,
+ * and inside {@code SmsAfterCommitAspect}, so an SMS held back until its
+ * transaction commits is timed when it is actually sent.
+ *
+ * Every timer is tagged with the handling endpoint (method and URI pattern,
+ * or {@code none} outside a request) and a bounded business tag.
+ * Repository latency by method is recorded by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class DomainMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BusinessTagLimiter businessTagLimiter;
+
+    @Around("execution(public * com.waitlist.application.usecase.*.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("waitlist.usecase",
+                Tags.of("usecase", joinPoint.getSignature().getDeclaringType().getSimpleName()), joinPoint);
+    }
+
+    @Around("execution(public * com.waitlist.application.service.WaitlistService.*(..))")
+    public Object timeWaitlistTransition(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("waitlist.transition", Tags.of("operation", joinPoint.getSignature().getName()), joinPoint);
+    }
+
+    @Around("execution(public * com.waitlist.presentation.controller.ReservationController.createReservation(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.ReservationController.confirmReservation(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.ReservationController.cancelReservation(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.ReservationController.completeReservation(..))")
+    public Object timeReservationLifecycle(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName().replace("Reservation", "");
+        return time("reservation.lifecycle", Tags.of("operation", operation), joinPoint);
+    }
+
+    @Around("execution(public boolean com.waitlist.domain.service.SmsService+.send*(..))")
+    public Object timeSms(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Boolean.TRUE.equals(result) ? "sent" : "failed";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("sms.send")
+                    .description("SMS send latency by message type and outcome")
+                    .tags("type", joinPoint.getSignature().getName(),
+                            "provider", joinPoint.getTarget().getClass().getSimpleName(),
+                            "outcome", outcome,
+                            "endpoint", JoinPoints.endpoint())
+                    .register(meterRegistry));
+        }
+    }
+
+    private Object time(String name, Tags tags, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result = null;
+        String exception = "none";
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tags(tags)
+                    .tags("outcome", JoinPoints.outcome(result, !"none".equals(exception)),
+                            "exception", exception,
+                            "business", businessTagLimiter.tag(JoinPoints.businessId(joinPoint, result)),
+                            "endpoint", JoinPoints.endpoint())
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.waitlist.infrastructure.monitoring;
+
+import com.waitlist.application.dto.AddCustomerToWaitlistResponse;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.presentation.dto.ReservationDto;
+import com.waitlist.presentation.dto.WaitlistEntryDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.UUID;
+
+/**
+ * Context lookups shared by the instrumentation aspects.
+ */
+public final class JoinPoints {
+
+    private JoinPoints() {
+    }
+
+    /**
+     * Business an operation ran for: a {@code businessId} argument, or the
+     * business of the returned entry, reservation or response body.
+     */
+    public static UUID businessId(ProceedingJoinPoint joinPoint, Object result) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; names != null && i < names.length; i++) {
+            if ("businessId".equals(names[i]) && args[i] instanceof UUID businessId) {
+                return businessId;
+            }
+        }
+
+        Object value = result instanceof ResponseEntity<?> response ? response.getBody() : result;
+        if (value instanceof ReservationDto reservation) {
+            return reservation.getBusinessId();
+        }
+        if (value instanceof WaitlistEntryDto entry) {
+            return entry.getBusinessId();
+        }
+        if (value instanceof AddCustomerToWaitlistResponse response) {
+            return response.getBusinessId();
+        }
+        if (value instanceof WaitlistEntry entry && entry.getBusiness() != null) {
+            return entry.getBusiness().getId();
+        }
+        return null;
+    }
+
+    /**
+     * The handling endpoint as method and URI pattern, {@code unmatched} before
+     * handler mapping, or {@code none} outside a request.
+     */
+    public static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return pattern != null ? request.getMethod() + " " + pattern : "unmatched";
+        }
+        return "none";
+    }
+
+    /**
+     * Outcome of an operation: error when it threw, otherwise the status class
+     * of a returned {@link ResponseEntity}, or success.
+     */
+    public static String outcome(Object result, boolean failed) {
+        if (failed) {
+            return "error";
+        }
+        if (result instanceof ResponseEntity<?> response) {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                return "success";
+            }
+            return response.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        return "success";
+    }
+}
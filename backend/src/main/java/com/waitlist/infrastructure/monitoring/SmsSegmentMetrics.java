@@ -0,0 +1,35 @@
+package com.waitlist.infrastructure.monitoring;
+
+import com.waitlist.domain.service.SmsMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts billed SMS segments by message type and encoding, and the segments
+ * saved against the untouched template, so the effect of transliteration
+ * and business-name truncation shows up in {@code sms.segments.saved}.
+ */
+@Component
+public class SmsSegmentMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void record(SmsMessage message) {
+        Counter.builder("sms.segments")
+                .description("Billed SMS segments by message type and encoding")
+                .tags("type", message.type(),
+                        "encoding", message.encoding().name(),
+                        "transliterated", String.valueOf(message.transliterated()),
+                        "truncated", String.valueOf(message.truncated()))
+                .register(meterRegistry)
+                .increment(message.segments());
+        Counter.builder("sms.segments.saved")
+                .description("SMS segments saved by transliteration and truncation, by message type")
+                .tags("type", message.type())
+                .register(meterRegistry)
+                .increment(message.savedSegments());
+    }
+}
@@ -0,0 +1,114 @@
+package com.waitlist.infrastructure.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds spans for controllers, use cases, repository calls and SMS sends
+ * below the HTTP server span, so a slow trace shows which query or provider
+ * call it waited on. Repository spans carry the JPQL or SQL of
+ * {@code @Query} methods as {@code db.statement}.
+ *
+ * Runs inside the metrics and Flight Recorder advice but outside the
+ * transaction advice, so controller spans include commit time.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class TracingAspect {
+
+    private final Map<Method, String> statements = new ConcurrentHashMap<>();
+
+    @Autowired
+    private Tracer tracer;
+
+    @Around("within(com.waitlist.presentation.controller..*) && execution(public * *(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(tracer.nextSpan().name(spanName(joinPoint)), joinPoint, true);
+    }
+
+    @Around("execution(public * com.waitlist.application.usecase.*.execute(..)) || " +
+            "execution(public * com.waitlist.application.service.WaitlistService.*(..))")
+    public Object traceUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(tracer.nextSpan().name(spanName(joinPoint)), joinPoint, true);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Span span = tracer.nextSpan()
+                .name(repositoryName(joinPoint) + "." + method.getName())
+                .tag("peer.service", "database");
+        String statement = statements.computeIfAbsent(method, TracingAspect::statement);
+        if (!statement.isEmpty()) {
+            span.tag("db.statement", statement);
+        }
+        return proceed(span, joinPoint, false);
+    }
+
+    @Around("execution(public boolean com.waitlist.domain.service.SmsService+.send*(..))")
+    public Object traceSms(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.nextSpan()
+                .name("sms " + joinPoint.getSignature().getName())
+                .tag("peer.service", "sms")
+                .tag("sms.provider", joinPoint.getTarget().getClass().getSimpleName());
+        return proceed(span, joinPoint, false);
+    }
+
+    private Object proceed(Span span, ProceedingJoinPoint joinPoint, boolean tagBusiness) throws Throwable {
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span.start())) {
+            Object result = joinPoint.proceed();
+            if (tagBusiness) {
+                UUID businessId = JoinPoints.businessId(joinPoint, result);
+                if (businessId != null) {
+                    span.tag("business.id", businessId.toString());
+                }
+                span.tag("outcome", JoinPoints.outcome(result, false));
+            }
+            return result;
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private String spanName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    /**
+     * The application repository interface behind a Spring Data proxy, so
+     * inherited methods like {@code findById} are named after it rather
+     * than {@code CrudRepository}.
+     */
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith("com.waitlist.")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private static String statement(Method method) {
+        Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+        return query != null ? query.value().replaceAll("\\s+", " ").trim() : "";
+    }
+}
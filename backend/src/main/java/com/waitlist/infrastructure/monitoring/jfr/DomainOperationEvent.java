@@ -0,0 +1,46 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by the waitlist and reservation operation events. The
+ * duration is the event's own begin/commit span, so it lines up with GC,
+ * lock and socket events in the same recording.
+ */
+@Category({"Waitlist", "Domain"})
+@StackTrace(false)
+abstract class DomainOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Business ID")
+    String businessId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Repository Calls")
+    @Description("Spring Data repository invocations made by the operation")
+    int repositoryCalls;
+
+    @Label("Rows Read")
+    @Description("Entities returned by repository finders")
+    long rowsRead;
+
+    @Label("Rows Written")
+    @Description("Entities saved or deleted plus rows changed by bulk updates")
+    long rowsWritten;
+
+    void complete(OperationScope scope, String outcome) {
+        this.outcome = outcome;
+        this.businessId = scope.businessId();
+        this.repositoryCalls = scope.repositoryCalls();
+        this.rowsRead = scope.rowsRead();
+        this.rowsWritten = scope.rowsWritten();
+    }
+}
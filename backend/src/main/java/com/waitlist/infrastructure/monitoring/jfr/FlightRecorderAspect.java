@@ -0,0 +1,202 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.monitoring.JoinPoints;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Emits the custom Flight Recorder events. Each advice checks whether its
+ * event type is enabled first, so without a recording the cost is one
+ * allocation the JIT can usually eliminate.
+ *
+ * Runs just inside {@code DomainMetricsAspect} and outside the transaction
+ * advice, so event durations include commit time like the timers do.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class FlightRecorderAspect {
+
+    @Around("execution(public * com.waitlist.application.usecase.AddCustomerToWaitlistUseCase.execute(..)) || " +
+            "execution(public * com.waitlist.application.service.WaitlistService.*(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.WaitlistController.notifyCustomer(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.WaitlistController.seatCustomer(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.WaitlistController.updateStatus(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.WaitlistController.removeFromWaitlist(..))")
+    public Object recordWaitlistOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new WaitlistOperationEvent(), waitlistOperation(joinPoint), joinPoint);
+    }
+
+    @Around("execution(public * com.waitlist.presentation.controller.ReservationController.createReservation(..)) || " +
+            "execution(public * com.waitlist.presentation.controller.ReservationController.confirmReservation(..))")
+    public Object recordReservationOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName().replace("Reservation", "");
+        return record(new ReservationOperationEvent(), operation, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationScope scope = OperationScope.current();
+        if (scope == null) {
+            return joinPoint.proceed();
+        }
+        Object result = joinPoint.proceed();
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        scope.recordRepositoryCall(signature.getName(),
+                AnnotatedElementUtils.hasAnnotation(signature.getMethod(), Modifying.class),
+                joinPoint.getArgs(), result);
+        return result;
+    }
+
+    @Around("execution(public boolean com.waitlist.domain.service.SmsService+.send*(..))")
+    public Object recordSmsDispatch(ProceedingJoinPoint joinPoint) throws Throwable {
+        SmsDispatchEvent event = new SmsDispatchEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Boolean.TRUE.equals(result) ? "sent" : "failed";
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                OperationScope scope = OperationScope.current();
+                event.messageType = joinPoint.getSignature().getName();
+                event.provider = joinPoint.getTarget().getClass().getSimpleName();
+                UUID tenant = SmsTenant.current();
+                event.businessId = scope != null ? scope.businessId() : tenant != null ? tenant.toString() : null;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * com.waitlist.infrastructure.security.JwtUtil.extractUsername(..)) || " +
+            "execution(public * com.waitlist.infrastructure.security.JwtUtil.validateToken(..))")
+    public Object recordJwtValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        JwtValidationEvent event = new JwtValidationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        String outcome = "invalid";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Boolean.FALSE.equals(result) || result == null ? "invalid" : "valid";
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.step = joinPoint.getSignature().getName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.security.core.userdetails.UserDetailsService+.loadUserByUsername(..))")
+    public Object recordPrincipalLoad(ProceedingJoinPoint joinPoint) throws Throwable {
+        PrincipalLoadEvent event = new PrincipalLoadEvent();
+        if (!event.isEnabled() || OperationScope.current() != null) {
+            return joinPoint.proceed();
+        }
+        OperationScope scope = OperationScope.open(null);
+        event.begin();
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "found";
+            if (result instanceof CustomUserDetailsService.CustomUserPrincipal principal) {
+                Set<UUID> businessIds = principal.getBusinessIds();
+                event.businessId = businessIds.size() == 1 ? businessIds.iterator().next().toString() : null;
+                event.businessCount = businessIds.size();
+            }
+            return result;
+        } catch (UsernameNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } finally {
+            scope.close();
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.repositoryCalls = scope.repositoryCalls();
+                event.rowsRead = scope.rowsRead();
+                event.commit();
+            }
+        }
+    }
+
+    private Object record(DomainOperationEvent event, String operation, ProceedingJoinPoint joinPoint)
+            throws Throwable {
+        if (!event.isEnabled() || OperationScope.current() != null) {
+            return joinPoint.proceed();
+        }
+        OperationScope scope = OperationScope.open(JoinPoints.businessId(joinPoint, null));
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            scope.close();
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.complete(scope, JoinPoints.outcome(result, failed));
+                UUID businessId = JoinPoints.businessId(joinPoint, result);
+                if (businessId != null) {
+                    event.businessId = businessId.toString();
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private String waitlistOperation(ProceedingJoinPoint joinPoint) {
+        String method = joinPoint.getSignature().getName();
+        switch (method) {
+            case "execute", "addCustomerToWaitlist":
+                return "enqueue";
+            case "notifyCustomer":
+                return "notify";
+            case "seatCustomer":
+                return "seat";
+            case "cancelWaitlistEntry", "removeFromWaitlist":
+                return "cancel";
+            case "updateStatus":
+                for (Object arg : joinPoint.getArgs()) {
+                    if (arg instanceof WaitlistStatus status) {
+                        return switch (status) {
+                            case NOTIFIED -> "notify";
+                            case SEATED -> "seat";
+                            case CANCELLED -> "cancel";
+                            default -> "status:" + status.name().toLowerCase();
+                        };
+                    }
+                }
+                return method;
+            default:
+                return method;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts, lists, dumps and stops Flight Recorder recordings at
+ * {@code /actuator/jfr}. Recordings use a JDK settings file ({@code default}
+ * is cheap enough to leave on, {@code profile} adds allocation and method
+ * sampling) with the domain events enabled on top.
+ *
+ * With {@code JFR_CONTINUOUS_ENABLED=true} a bounded recording starts with
+ * the application, so a slow dinner rush can be dumped after the fact.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    static final String CONTINUOUS_RECORDING = "waitlist-continuous";
+
+    private static final List<String> DOMAIN_EVENTS = List.of(
+            WaitlistOperationEvent.NAME,
+            ReservationOperationEvent.NAME,
+            SmsDispatchEvent.NAME,
+            JwtValidationEvent.NAME,
+            PrincipalLoadEvent.NAME);
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    @Value("${jfr.continuous.enabled:false}")
+    private boolean continuousEnabled;
+
+    @Value("${jfr.continuous.settings:default}")
+    private String continuousSettings;
+
+    @Value("${jfr.max-age-minutes:60}")
+    private int defaultMaxAgeMinutes;
+
+    @Value("${jfr.max-size-mb:250}")
+    private long maxSizeMb;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (continuousEnabled && FlightRecorder.isAvailable()) {
+            Recording recording = startRecording(CONTINUOUS_RECORDING, continuousSettings, null);
+            logger.info("Started continuous flight recording {} with {} settings",
+                    recording.getId(), continuousSettings);
+        }
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(this::toMap)
+                .toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String name, @Nullable String settings,
+            @Nullable Integer maxAgeMinutes) {
+        Recording recording = startRecording(name != null ? name : "waitlist-" + System.currentTimeMillis(),
+                settings != null ? settings : "default", maxAgeMinutes);
+        logger.info("Started flight recording {} ({})", recording.getId(), recording.getName());
+        return toMap(recording);
+    }
+
+    /**
+     * Dumps what the recording holds so far without stopping it.
+     */
+    @ReadOperation
+    public Resource dump(@Selector long id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            return null;
+        }
+        try {
+            Path file = Files.createTempFile("waitlist-" + id + "-", ".jfr");
+            try {
+                recording.dump(file);
+                return new ByteArrayResource(Files.readAllBytes(file));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording " + id, e);
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop(@Selector long id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            return null;
+        }
+        Map<String, Object> stopped = toMap(recording);
+        recording.close();
+        logger.info("Closed flight recording {} ({})", id, recording.getName());
+        return stopped;
+    }
+
+    private Recording startRecording(String name, String settings, Integer maxAgeMinutes) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName(name);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes != null ? maxAgeMinutes : defaultMaxAgeMinutes));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        for (String event : DOMAIN_EVENTS) {
+            recording.enable(event).withoutStackTrace();
+        }
+        recording.start();
+        return recording;
+    }
+
+    private Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Map<String, Object> toMap(Recording recording) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", recording.getId());
+        map.put("name", recording.getName());
+        map.put("state", recording.getState().name());
+        map.put("startTime", recording.getStartTime());
+        map.put("maxAge", recording.getMaxAge());
+        map.put("size", recording.getSize());
+        return map;
+    }
+}
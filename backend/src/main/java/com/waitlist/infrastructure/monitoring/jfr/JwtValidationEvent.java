@@ -0,0 +1,24 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(JwtValidationEvent.NAME)
+@Label("JWT Validation")
+@Description("Parsing and signature check of a bearer token")
+@Category({"Waitlist", "Security"})
+@StackTrace(false)
+class JwtValidationEvent extends Event {
+
+    static final String NAME = "com.waitlist.JwtValidation";
+
+    @Label("Step")
+    String step;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,113 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.WaitlistEntry;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Per-thread repository counters for the domain operation being recorded.
+ * Only one scope is open per thread: nested operations (a controller calling
+ * the use case) are folded into the outermost one.
+ */
+final class OperationScope {
+
+    private static final ThreadLocal<OperationScope> CURRENT = new ThreadLocal<>();
+
+    private UUID businessId;
+    private int repositoryCalls;
+    private long rowsRead;
+    private long rowsWritten;
+
+    private OperationScope() {
+    }
+
+    static OperationScope current() {
+        return CURRENT.get();
+    }
+
+    static OperationScope open(UUID businessId) {
+        OperationScope scope = new OperationScope();
+        scope.businessId = businessId;
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Counts one repository call. Finder results count as rows read, saves
+     * and deletes as rows written, and numeric results of bulk updates as the
+     * rows they changed. The first waitlist entry or reservation seen also
+     * supplies the business when the operation did not name one.
+     */
+    void recordRepositoryCall(String method, boolean modifying, Object[] args, Object result) {
+        repositoryCalls++;
+        if (method.startsWith("save") || method.startsWith("delete")) {
+            rowsWritten += size(result != null ? result : args.length > 0 ? args[0] : null);
+        } else if (modifying) {
+            if (result instanceof Number changed) {
+                rowsWritten += changed.longValue();
+            }
+        } else if (!(result instanceof Number) && !(result instanceof Boolean)) {
+            rowsRead += size(result);
+        }
+
+        Object value = result instanceof Optional<?> optional ? optional.orElse(null) : result;
+        if (value instanceof WaitlistEntry entry && entry.getBusiness() != null) {
+            observeBusiness(entry.getBusiness().getId());
+        } else if (value instanceof Reservation reservation && reservation.getBusiness() != null) {
+            observeBusiness(reservation.getBusiness().getId());
+        }
+    }
+
+    String businessId() {
+        return businessId != null ? businessId.toString() : null;
+    }
+
+    int repositoryCalls() {
+        return repositoryCalls;
+    }
+
+    long rowsRead() {
+        return rowsRead;
+    }
+
+    long rowsWritten() {
+        return rowsWritten;
+    }
+
+    private void observeBusiness(UUID businessId) {
+        if (this.businessId == null) {
+            this.businessId = businessId;
+        }
+    }
+
+    private static long size(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (value instanceof Iterable<?> iterable) {
+            long count = 0;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        return 1;
+    }
+}
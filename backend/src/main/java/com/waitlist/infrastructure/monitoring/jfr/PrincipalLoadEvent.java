@@ -0,0 +1,34 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(PrincipalLoadEvent.NAME)
+@Label("Principal Load")
+@Description("Loading a user and its businesses for authentication")
+@Category({"Waitlist", "Security"})
+@StackTrace(false)
+class PrincipalLoadEvent extends Event {
+
+    static final String NAME = "com.waitlist.PrincipalLoad";
+
+    @Label("Business ID")
+    @Description("Business of the loaded user, when it belongs to exactly one")
+    String businessId;
+
+    @Label("Business Count")
+    int businessCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Repository Calls")
+    int repositoryCalls;
+
+    @Label("Rows Read")
+    long rowsRead;
+}
@@ -0,0 +1,13 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ReservationOperationEvent.NAME)
+@Label("Reservation Operation")
+@Description("Reservation create or confirm")
+class ReservationOperationEvent extends DomainOperationEvent {
+
+    static final String NAME = "com.waitlist.ReservationOperation";
+}
@@ -0,0 +1,31 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SmsDispatchEvent.NAME)
+@Label("SMS Dispatch")
+@Description("One call to the SMS provider")
+@Category({"Waitlist", "SMS"})
+@StackTrace(false)
+class SmsDispatchEvent extends Event {
+
+    static final String NAME = "com.waitlist.SmsDispatch";
+
+    @Label("Message Type")
+    String messageType;
+
+    @Label("Provider")
+    String provider;
+
+    @Label("Business ID")
+    @Description("Business of the enclosing waitlist or reservation operation, or the one sent for, if known")
+    String businessId;
+
+    @Label("Outcome")
+    String outcome;
+}
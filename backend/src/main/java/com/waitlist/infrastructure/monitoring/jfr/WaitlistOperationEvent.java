@@ -0,0 +1,13 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(WaitlistOperationEvent.NAME)
+@Label("Waitlist Operation")
+@Description("Waitlist enqueue, notify, seat or cancel")
+class WaitlistOperationEvent extends DomainOperationEvent {
+
+    static final String NAME = "com.waitlist.WaitlistOperation";
+}
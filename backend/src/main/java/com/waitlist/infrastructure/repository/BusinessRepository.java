@@ -2,8 +2,11 @@ package com.waitlist.infrastructure.repository;
 
 import com.waitlist.domain.entity.Business;
 import com.waitlist.domain.entity.BusinessType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,8 +17,10 @@ import java.util.UUID;
 @Repository
 public interface BusinessRepository extends JpaRepository<Business, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Business> findByIsActiveTrue();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Business> findByTypeAndIsActiveTrue(BusinessType type);
 
     Optional<Business> findByNameAndIsActiveTrue(String name);
@@ -1,14 +1,20 @@
 package com.waitlist.infrastructure.repository;
 
+import com.waitlist.application.dto.BroadcastRecipient;
+import com.waitlist.application.dto.ReservationSlot;
+import com.waitlist.application.dto.ReservationSummary;
 import com.waitlist.domain.entity.Reservation;
 import com.waitlist.domain.entity.ReservationStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,14 +22,31 @@ import java.util.UUID;
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
 
-        List<Reservation> findByBusinessIdAndReservationDate(UUID businessId, LocalDate date);
+        /**
+         * Read-only list projection: selects the response fields directly instead of
+         * loading managed reservations, businesses and customers.
+         */
+        String RESERVATION_SUMMARY = "SELECT new com.waitlist.application.dto.ReservationSummary(" +
+                        "r.id, b.id, c.id, r.reservationDate, r.reservationTime, r.partySize, r.status, " +
+                        "r.specialRequests, r.createdAt, r.updatedAt, b.name, c.name, c.phone) " +
+                        "FROM Reservation r JOIN r.business b JOIN r.customer c ";
+
+        @Query("SELECT r FROM Reservation r JOIN FETCH r.business JOIN FETCH r.customer " +
+                        "WHERE r.business.id = :businessId AND r.reservationDate = :date")
+        List<Reservation> findByBusinessIdAndReservationDate(@Param("businessId") UUID businessId,
+                        @Param("date") LocalDate date);
 
         List<Reservation> findByBusinessIdAndReservationDateAndStatus(
                         UUID businessId, LocalDate date, ReservationStatus status);
 
-        List<Reservation> findByCustomerId(UUID customerId);
+        @Query("SELECT r FROM Reservation r JOIN FETCH r.business JOIN FETCH r.customer " +
+                        "WHERE r.customer.id = :customerId")
+        List<Reservation> findByCustomerId(@Param("customerId") UUID customerId);
 
-        List<Reservation> findByBusinessIdAndStatus(UUID businessId, ReservationStatus status);
+        @Query("SELECT r FROM Reservation r JOIN FETCH r.business JOIN FETCH r.customer " +
+                        "WHERE r.business.id = :businessId AND r.status = :status")
+        List<Reservation> findByBusinessIdAndStatus(@Param("businessId") UUID businessId,
+                        @Param("status") ReservationStatus status);
 
         @Query("SELECT r FROM Reservation r WHERE r.business.id = :businessId AND " +
                         "r.reservationDate = :date AND r.reservationTime = :time AND " +
@@ -64,4 +87,53 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
         List<Reservation> findByBusinessIdsAndStatuses(
                 @Param("businessIds") List<UUID> businessIds,
                 @Param("statuses") List<ReservationStatus> statuses);
+
+        @Query(RESERVATION_SUMMARY)
+        List<ReservationSummary> findAllReservationSummaries();
+
+        @Query(RESERVATION_SUMMARY + "WHERE b.id IN :businessIds AND r.status IN :statuses " +
+                        "ORDER BY r.reservationDate, r.reservationTime")
+        List<ReservationSummary> findReservationSummariesByBusinessIdsAndStatuses(
+                        @Param("businessIds") List<UUID> businessIds,
+                        @Param("statuses") List<ReservationStatus> statuses);
+
+        @Query(RESERVATION_SUMMARY + "WHERE b.id = :businessId AND r.reservationDate = :date")
+        List<ReservationSummary> findReservationSummariesByBusinessIdAndDate(@Param("businessId") UUID businessId,
+                        @Param("date") LocalDate date);
+
+        @Query(RESERVATION_SUMMARY + "WHERE b.id = :businessId AND r.status = :status")
+        List<ReservationSummary> findReservationSummariesByBusinessIdAndStatus(@Param("businessId") UUID businessId,
+                        @Param("status") ReservationStatus status);
+
+        @Query(RESERVATION_SUMMARY + "WHERE c.id = :customerId")
+        List<ReservationSummary> findReservationSummariesByCustomerId(@Param("customerId") UUID customerId);
+
+        /**
+         * Phones of customers booked on {@code date}, earliest first, for a broadcast.
+         */
+        @Query("SELECT new com.waitlist.application.dto.BroadcastRecipient(c.id, c.phone) " +
+                        "FROM Reservation r JOIN r.customer c WHERE r.business.id = :businessId AND " +
+                        "r.reservationDate = :date AND r.status IN :statuses AND " +
+                        "r.partySize BETWEEN :minPartySize AND :maxPartySize AND " +
+                        "r.reservationTime BETWEEN :fromTime AND :toTime " +
+                        "ORDER BY r.reservationTime ASC")
+        List<BroadcastRecipient> findBroadcastRecipients(@Param("businessId") UUID businessId,
+                        @Param("date") LocalDate date,
+                        @Param("statuses") List<ReservationStatus> statuses,
+                        @Param("minPartySize") int minPartySize,
+                        @Param("maxPartySize") int maxPartySize,
+                        @Param("fromTime") LocalTime fromTime,
+                        @Param("toTime") LocalTime toTime);
+
+        @Query("SELECT new com.waitlist.application.dto.ReservationSlot(r.id, r.reservationDate, r.reservationTime) " +
+                        "FROM Reservation r WHERE r.status = 'CONFIRMED' AND r.reservationDate >= :fromDate")
+        List<ReservationSlot> findConfirmedSlots(@Param("fromDate") LocalDate fromDate);
+
+        /**
+         * Locks the reservations among {@code ids} that are still confirmed,
+         * so that a no-show fired on two instances is handled once.
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = 'CONFIRMED'")
+        List<Reservation> lockConfirmedReservations(@Param("ids") Collection<UUID> ids);
 }
@@ -1,10 +1,14 @@
 package com.waitlist.infrastructure.repository;
 
+import com.waitlist.application.dto.SubscriptionSummary;
 import com.waitlist.domain.entity.Subscription;
 import com.waitlist.domain.entity.SubscriptionPlan;
 import com.waitlist.domain.entity.SubscriptionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,9 +20,19 @@ import java.util.UUID;
 @Repository
 public interface SubscriptionRepository extends JpaRepository<Subscription, UUID> {
 
+    /**
+     * Read-only list projection: selects the response fields directly instead of
+     * loading managed subscriptions and businesses.
+     */
+    String SUBSCRIPTION_SUMMARY = "SELECT new com.waitlist.application.dto.SubscriptionSummary(" +
+            "s.id, b.id, b.name, s.plan, s.status, s.startDate, s.endDate, s.billingCycleDays, " +
+            "s.monthlyPrice, s.autoRenew, s.trialEndDate, s.notes, s.createdAt, s.updatedAt) " +
+            "FROM Subscription s JOIN s.business b ";
+
     Optional<Subscription> findByBusinessId(UUID businessId);
 
-    List<Subscription> findByStatus(SubscriptionStatus status);
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.business WHERE s.status = :status")
+    List<Subscription> findByStatus(@Param("status") SubscriptionStatus status);
 
     List<Subscription> findByPlan(SubscriptionPlan plan);
 
@@ -28,10 +42,21 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
     @Query("SELECT s FROM Subscription s WHERE s.status IN ('ACTIVE', 'TRIAL')")
     List<Subscription> findActiveSubscriptions();
 
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.business WHERE s.id = :id")
+    Optional<Subscription> findByIdWithBusiness(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Subscription s JOIN FETCH s.business WHERE s.business.id = :businessId")
     Optional<Subscription> findByBusinessIdWithBusiness(@Param("businessId") UUID businessId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Subscription s JOIN FETCH s.business")
     List<Subscription> findAllWithBusiness();
-}
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SUBSCRIPTION_SUMMARY)
+    List<SubscriptionSummary> findAllSubscriptionSummaries();
+
+    @Query(SUBSCRIPTION_SUMMARY + "WHERE s.status = :status")
+    List<SubscriptionSummary> findSubscriptionSummariesByStatus(@Param("status") SubscriptionStatus status);
+}
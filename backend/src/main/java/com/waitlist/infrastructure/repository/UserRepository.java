@@ -1,11 +1,13 @@
 package com.waitlist.infrastructure.repository;
 
 import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,4 +39,25 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.businesses WHERE u.id = :id")
     Optional<User> findByIdWithBusinesses(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.businesses WHERE u.isActive = true AND u.id IN " +
+            "(SELECT m.id FROM User m JOIN m.businesses b WHERE b.id IN :businessIds)")
+    java.util.List<User> findActiveByBusinessIdsWithBusinesses(@Param("businessIds") Collection<UUID> businessIds);
+
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.businesses WHERE u.isActive = true AND u.role = :role " +
+            "AND u.id IN (SELECT m.id FROM User m JOIN m.businesses b WHERE b.id IN :businessIds)")
+    java.util.List<User> findActiveByBusinessIdsAndRoleWithBusinesses(
+            @Param("businessIds") Collection<UUID> businessIds,
+            @Param("role") UserRole role);
+
+    // One count per business link, so a user in two of the businesses is counted for each
+    @Query("SELECT u.role AS role, COUNT(u.id) AS userCount FROM User u JOIN u.businesses b " +
+            "WHERE b.id IN :businessIds AND u.isActive = true GROUP BY u.role")
+    java.util.List<RoleCount> countActiveUsersByRoleForBusinesses(@Param("businessIds") Collection<UUID> businessIds);
+
+    interface RoleCount {
+        UserRole getRole();
+
+        Long getUserCount();
+    }
 }
@@ -1,13 +1,21 @@
 package com.waitlist.infrastructure.repository;
 
+import com.waitlist.application.dto.BroadcastRecipient;
+import com.waitlist.application.dto.NotifiedEntry;
+import com.waitlist.application.dto.WaitlistEntrySummary;
+import com.waitlist.application.dto.WaitlistHistoryEntry;
 import com.waitlist.domain.entity.WaitlistEntry;
 import com.waitlist.domain.entity.WaitlistStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,17 +23,53 @@ import java.util.UUID;
 @Repository
 public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
 
+        /**
+         * Read-only list projection: selects the response fields directly instead of
+         * loading managed entries, businesses and customers.
+         */
+        String WAITLIST_ENTRY_SUMMARY = "SELECT new com.waitlist.application.dto.WaitlistEntrySummary(" +
+                        "w.id, b.id, c.id, w.partySize, w.estimatedWaitTime, w.position, w.status, " +
+                        "w.notifiedAt, w.seatedAt, w.createdAt, w.updatedAt, b.name, c.name, c.phone) " +
+                        "FROM WaitlistEntry w JOIN w.business b JOIN w.customer c ";
+
         List<WaitlistEntry> findByBusinessIdAndStatusOrderByPositionAsc(UUID businessId, WaitlistStatus status);
 
         List<WaitlistEntry> findByBusinessIdOrderByPositionAsc(UUID businessId);
 
-        List<WaitlistEntry> findByCustomerId(UUID customerId);
+        /**
+         * Full history for a customer, including entries already moved to
+         * waitlist_entries_history. Returned as a projection so archived rows
+         * never become managed entities. IDs are read as text because native
+         * UUID columns come back as byte[] on some drivers.
+         */
+        @Query(value = "SELECT CAST(id AS VARCHAR) AS id, CAST(business_id AS VARCHAR) AS businessId, " +
+                        "party_size AS partySize, status AS status, " +
+                        "notified_at AS notifiedAt, seated_at AS seatedAt, created_at AS createdAt " +
+                        "FROM waitlist_entries_all WHERE customer_id = :customerId ORDER BY created_at DESC",
+                        nativeQuery = true)
+        List<WaitlistHistoryEntry> findHistoryByCustomerId(@Param("customerId") UUID customerId);
 
         @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.business JOIN FETCH w.customer WHERE w.business.id = :businessId AND "
                         +
                         "w.status IN ('WAITING', 'NOTIFIED') ORDER BY w.position ASC")
         List<WaitlistEntry> findActiveWaitlistEntries(@Param("businessId") UUID businessId);
 
+        @Query(WAITLIST_ENTRY_SUMMARY + "WHERE b.id = :businessId AND w.status IN ('WAITING', 'NOTIFIED') " +
+                        "ORDER BY w.position ASC")
+        List<WaitlistEntrySummary> findActiveWaitlistEntrySummaries(@Param("businessId") UUID businessId);
+
+        /**
+         * Phones of customers in line, front of the queue first, for a broadcast.
+         */
+        @Query("SELECT new com.waitlist.application.dto.BroadcastRecipient(c.id, c.phone) " +
+                        "FROM WaitlistEntry w JOIN w.customer c WHERE w.business.id = :businessId AND " +
+                        "w.status IN :statuses AND w.partySize BETWEEN :minPartySize AND :maxPartySize " +
+                        "ORDER BY w.position ASC")
+        List<BroadcastRecipient> findBroadcastRecipients(@Param("businessId") UUID businessId,
+                        @Param("statuses") List<WaitlistStatus> statuses,
+                        @Param("minPartySize") int minPartySize,
+                        @Param("maxPartySize") int maxPartySize);
+
         @Query("SELECT w FROM WaitlistEntry w WHERE w.business.id = :businessId AND " +
                         "w.status = 'WAITING' ORDER BY w.position ASC")
         List<WaitlistEntry> findWaitingEntries(@Param("businessId") UUID businessId);
@@ -46,6 +90,27 @@ public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UU
                         "w.status IN ('WAITING', 'NOTIFIED')")
         long countActiveEntries(@Param("businessId") UUID businessId);
 
+        /**
+         * Every queue metric in one aggregate pass: active entries plus entries
+         * finished today (by the database clock). Read from waitlist_entries_all,
+         * since the archiver may already have moved some of today's finished
+         * entries to waitlist_entries_history.
+         */
+        @Query(value = "SELECT COUNT(*) FILTER (WHERE status = 'WAITING') AS waiting, " +
+                        "COUNT(*) FILTER (WHERE status = 'NOTIFIED') AS notified, " +
+                        "COUNT(*) FILTER (WHERE status = 'SEATED' AND seated_at >= CURRENT_DATE) AS seatedToday, " +
+                        "COUNT(*) FILTER (WHERE status = 'CANCELLED' AND updated_at >= CURRENT_DATE) AS cancelledToday, " +
+                        "COALESCE(SUM(party_size) FILTER (WHERE status = 'WAITING'), 0) AS coversWaiting, " +
+                        "MIN(created_at) FILTER (WHERE status = 'WAITING') AS oldestWaitingAt, " +
+                        "COUNT(*) FILTER (WHERE status = 'WAITING' AND party_size <= 2) AS partiesOf1To2, " +
+                        "COUNT(*) FILTER (WHERE status = 'WAITING' AND party_size BETWEEN 3 AND 4) AS partiesOf3To4, " +
+                        "COUNT(*) FILTER (WHERE status = 'WAITING' AND party_size BETWEEN 5 AND 6) AS partiesOf5To6, " +
+                        "COUNT(*) FILTER (WHERE status = 'WAITING' AND party_size >= 7) AS partiesOf7Plus " +
+                        "FROM waitlist_entries_all WHERE business_id = :businessId AND " +
+                        "(status IN ('WAITING', 'NOTIFIED') OR updated_at >= CURRENT_DATE)",
+                        nativeQuery = true)
+        WaitlistStats findWaitlistStats(@Param("businessId") UUID businessId);
+
         @Query("SELECT w FROM WaitlistEntry w WHERE w.business.id = :businessId AND " +
                         "w.customer.id = :customerId AND w.status IN ('WAITING', 'NOTIFIED')")
         Optional<WaitlistEntry> findActiveEntryByCustomer(@Param("businessId") UUID businessId,
@@ -65,5 +130,43 @@ public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UU
 
         @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.business JOIN FETCH w.customer WHERE w.id = :id")
         Optional<WaitlistEntry> findByIdWithBusinessAndCustomer(@Param("id") UUID id);
-}
 
+        interface WaitlistStats {
+                long getWaiting();
+
+                long getNotified();
+
+                long getSeatedToday();
+
+                long getCancelledToday();
+
+                long getCoversWaiting();
+
+                LocalDateTime getOldestWaitingAt();
+
+                long getPartiesOf1To2();
+
+                long getPartiesOf3To4();
+
+                long getPartiesOf5To6();
+
+                long getPartiesOf7Plus();
+        }
+
+        @Query("SELECT new com.waitlist.application.dto.NotifiedEntry(w.id, w.notifiedAt) FROM WaitlistEntry w " +
+                        "WHERE w.status = 'NOTIFIED' AND w.notifiedAt IS NOT NULL")
+        List<NotifiedEntry> findNotifiedEntries();
+
+        /**
+         * Locks the entries among {@code ids} that are still notified, so that
+         * timeouts fired on two instances act on each entry only once.
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.business JOIN FETCH w.customer " +
+                        "WHERE w.id IN :ids AND w.status = 'NOTIFIED'")
+        List<WaitlistEntry> lockNotifiedEntries(@Param("ids") Collection<UUID> ids);
+
+        @Modifying
+        @Query("UPDATE WaitlistEntry w SET w.remindedAt = :remindedAt WHERE w.id IN :ids")
+        void markReminded(@Param("ids") Collection<UUID> ids, @Param("remindedAt") LocalDateTime remindedAt);
+}
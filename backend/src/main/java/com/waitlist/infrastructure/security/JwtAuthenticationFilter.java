@@ -1,5 +1,9 @@
 package com.waitlist.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
@@ -39,6 +49,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = tracer.nextSpan().name("jwt authentication").start();
+        String outcome;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            outcome = authenticate(request);
+            span.tag("outcome", outcome);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+        sample.stop(Timer.builder("security.jwt.filter")
+                .description("Time spent validating the bearer token and loading the principal")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticates the request from its bearer token, if any.
+     *
+     * @return the metric outcome: authenticated, rejected, anonymous or existing
+     */
+    private String authenticate(HttpServletRequest request) {
+        String requestPath = request.getRequestURI();
         final String authorizationHeader = request.getHeader("Authorization");
 
         String username = null;
@@ -70,15 +107,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 logger.debug("Successfully authenticated user: {}", username);
+                return "authenticated";
             } else {
                 logger.debug("JWT token validation failed for user: {}", username);
+                return "rejected";
             }
         } else if (username == null) {
             logger.debug("Username is null, skipping authentication");
+            return jwt != null ? "rejected" : "anonymous";
         } else {
             logger.debug("Authentication already exists and is not anonymous, skipping");
+            return "existing";
         }
-
-        filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,396 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.application.dto.AnalyticsBucketDto;
+import com.waitlist.application.dto.PeakHourDto;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.ReservationStatusChanged;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains business_activity_rollups: one row per business per hour and per
+ * day holding waitlist and reservation counters, so analytics reads never
+ * have to scan raw entries.
+ *
+ * Rows are incremented from the domain events published when waitlist entries
+ * and reservations are saved. Once the change commits, its deltas are added to
+ * an in-memory buffer keyed by bucket; a scheduled flush writes each touched
+ * bucket once, as one batch in its own transaction. State changes therefore
+ * never wait on, or lock, a shared rollup row. Reads lag by at most
+ * {@code analytics.rollup.flush-interval-ms}, and increments still buffered
+ * when an instance dies are lost until the period is backfilled.
+ *
+ * Waitlist activity is bucketed by when it happened; reservation activity by
+ * the reserved slot, so covers line up with the service hour.
+ */
+@Service
+public class ActivityRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRollupService.class);
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+
+    enum Metric {
+        WAITLIST_JOINED,
+        WAITLIST_NOTIFIED,
+        WAITLIST_SEATED,
+        WAITLIST_CANCELLED,
+        WAITLIST_NO_SHOWS,
+        SEATED_COVERS,
+        TOTAL_WAIT_SECONDS,
+        RESERVATIONS_CONFIRMED,
+        RESERVATIONS_COMPLETED,
+        RESERVATIONS_CANCELLED,
+        RESERVATION_COVERS;
+
+        String column() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final String METRIC_COLUMNS = Arrays.stream(Metric.values())
+            .map(Metric::column)
+            .collect(Collectors.joining(", "));
+
+    private static final String INSERT = "INSERT INTO business_activity_rollups (business_id, granularity, " +
+            "bucket_start, " + METRIC_COLUMNS + ") VALUES (:businessId, :granularity, :bucketStart, " +
+            Arrays.stream(Metric.values()).map(m -> ":" + m.column()).collect(Collectors.joining(", ")) + ")";
+
+    private static final String UPSERT = INSERT +
+            " ON CONFLICT (business_id, granularity, bucket_start) DO UPDATE SET " +
+            Arrays.stream(Metric.values())
+                    .map(m -> m.column() + " = business_activity_rollups." + m.column() + " + EXCLUDED." + m.column())
+                    .collect(Collectors.joining(", "));
+
+    private static final String UPDATE = "UPDATE business_activity_rollups SET " +
+            Arrays.stream(Metric.values())
+                    .map(m -> m.column() + " = " + m.column() + " + :" + m.column())
+                    .collect(Collectors.joining(", ")) +
+            " WHERE business_id = :businessId AND granularity = :granularity AND bucket_start = :bucketStart";
+
+    private record Bucket(UUID businessId, Granularity granularity, LocalDateTime start) {
+    }
+
+    /**
+     * Every rolled-up event as one row of metric deltas. Mirrors the increments
+     * made by the event listeners, using updated_at as the cancellation time.
+     * A reservation counts as confirmed if it ever was (confirmed_at is set),
+     * whatever happened to it afterwards; completed and cancelled are final.
+     */
+    private static final String EVENT_STREAM =
+            "SELECT business_id, created_at AS ts, " +
+            "1 AS waitlist_joined, 0 AS waitlist_notified, 0 AS waitlist_seated, 0 AS waitlist_cancelled, " +
+            "0 AS waitlist_no_shows, 0 AS seated_covers, 0 AS total_wait_seconds, 0 AS reservations_confirmed, " +
+            "0 AS reservations_completed, 0 AS reservations_cancelled, 0 AS reservation_covers " +
+            "FROM waitlist_entries_all WHERE created_at >= :start AND created_at < :end " +
+            "UNION ALL " +
+            "SELECT business_id, notified_at, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0 " +
+            "FROM waitlist_entries_all WHERE notified_at >= :start AND notified_at < :end " +
+            "UNION ALL " +
+            "SELECT business_id, seated_at, 0, 0, 1, 0, 0, party_size, " +
+            "CAST(EXTRACT(EPOCH FROM seated_at) - EXTRACT(EPOCH FROM created_at) AS BIGINT), 0, 0, 0, 0 " +
+            "FROM waitlist_entries_all WHERE status = 'SEATED' AND seated_at >= :start AND seated_at < :end " +
+            "UNION ALL " +
+            "SELECT business_id, updated_at, 0, 0, 0, 1, CASE WHEN notified_at IS NULL THEN 0 ELSE 1 END, " +
+            "0, 0, 0, 0, 0, 0 " +
+            "FROM waitlist_entries_all WHERE status = 'CANCELLED' AND updated_at >= :start AND updated_at < :end " +
+            "UNION ALL " +
+            "SELECT business_id, CAST(CONCAT(CAST(reservation_date AS VARCHAR(10)), ' ', " +
+            "CAST(reservation_time AS VARCHAR(8))) AS TIMESTAMP), 0, 0, 0, 0, 0, 0, 0, " +
+            "CASE WHEN confirmed_at IS NULL THEN 0 ELSE 1 END, " +
+            "CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END, " +
+            "CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END, " +
+            "CASE WHEN status = 'COMPLETED' THEN party_size ELSE 0 END " +
+            "FROM reservations WHERE status <> 'PENDING' " +
+            "AND reservation_date >= :startDate AND reservation_date < :endDate";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${analytics.backfill.chunk-days:1}")
+    private int backfillChunkDays;
+
+    private volatile Boolean postgres;
+
+    // Deltas not yet written, per bucket and indexed by Metric ordinal; guarded by this
+    private Map<Bucket, long[]> pending = new HashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistEntryStatusChanged(WaitlistEntryStatusChanged event) {
+        Map<Metric, Long> deltas = new EnumMap<>(Metric.class);
+        if (event.previousStatus() == null) {
+            deltas.put(Metric.WAITLIST_JOINED, 1L);
+        } else if (event.newStatus() == WaitlistStatus.NOTIFIED) {
+            deltas.put(Metric.WAITLIST_NOTIFIED, 1L);
+        } else if (event.newStatus() == WaitlistStatus.SEATED) {
+            deltas.put(Metric.WAITLIST_SEATED, 1L);
+            deltas.put(Metric.SEATED_COVERS, (long) event.partySize());
+            if (event.createdAt() != null) {
+                deltas.put(Metric.TOTAL_WAIT_SECONDS,
+                        Duration.between(event.createdAt(), event.occurredAt()).toSeconds());
+            }
+        } else if (event.newStatus() == WaitlistStatus.CANCELLED) {
+            deltas.put(Metric.WAITLIST_CANCELLED, 1L);
+            if (event.previousStatus() == WaitlistStatus.NOTIFIED) {
+                deltas.put(Metric.WAITLIST_NO_SHOWS, 1L);
+            }
+        }
+        increment(event.businessId(), event.occurredAt(), deltas);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationStatusChanged(ReservationStatusChanged event) {
+        Map<Metric, Long> deltas = new EnumMap<>(Metric.class);
+        if (event.newStatus() == ReservationStatus.CONFIRMED) {
+            deltas.put(Metric.RESERVATIONS_CONFIRMED, 1L);
+        } else if (event.newStatus() == ReservationStatus.COMPLETED) {
+            deltas.put(Metric.RESERVATIONS_COMPLETED, 1L);
+            deltas.put(Metric.RESERVATION_COVERS, (long) event.partySize());
+        } else if (event.newStatus() == ReservationStatus.CANCELLED) {
+            deltas.put(Metric.RESERVATIONS_CANCELLED, 1L);
+        }
+        increment(event.businessId(), LocalDateTime.of(event.reservationDate(), event.reservationTime()), deltas);
+    }
+
+    void increment(UUID businessId, LocalDateTime at, Map<Metric, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (Granularity granularity : Granularity.values()) {
+                long[] values = pending.computeIfAbsent(new Bucket(businessId, granularity, granularity.truncate(at)),
+                        bucket -> new long[Metric.values().length]);
+                deltas.forEach((metric, delta) -> values[metric.ordinal()] += delta);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered increments, one row per bucket. A failed write puts
+     * them back to be retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Bucket, long[]> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        try {
+            write(batch);
+        } catch (Exception e) {
+            logger.error("Error writing {} activity rollup buckets: {}", batch.size(), e.getMessage(), e);
+            synchronized (this) {
+                batch.forEach((bucket, values) -> {
+                    long[] merged = pending.computeIfAbsent(bucket, b -> new long[values.length]);
+                    for (int i = 0; i < values.length; i++) {
+                        merged[i] += values[i];
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(Map<Bucket, long[]> batch) {
+        MapSqlParameterSource[] params = batch.entrySet().stream()
+                .map(entry -> params(entry.getKey(), entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (isPostgres()) {
+                jdbcTemplate.batchUpdate(UPSERT, params);
+                return;
+            }
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE, params);
+            List<MapSqlParameterSource> inserts = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    inserts.add(params[i]);
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, inserts.toArray(MapSqlParameterSource[]::new));
+            }
+        });
+        logger.debug("Wrote {} activity rollup buckets", params.length);
+    }
+
+    private static MapSqlParameterSource params(Bucket bucket, long[] values) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("businessId", bucket.businessId())
+                .addValue("granularity", bucket.granularity().name())
+                .addValue("bucketStart", Timestamp.valueOf(bucket.start()));
+        for (Metric metric : Metric.values()) {
+            params.addValue(metric.column(), values[metric.ordinal()]);
+        }
+        return params;
+    }
+
+    /**
+     * Rebuilds the rollups of {@code [from, to]} from the raw tables, one
+     * transaction per chunk of {@code analytics.backfill.chunk-days} days.
+     * Rebuilding replaces the chunk's rows, so it is meant for closed periods
+     * rather than the hour currently receiving live increments. Buffered
+     * increments are flushed first so they are not added on top afterwards.
+     *
+     * @return the number of rollup rows written
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        flush();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int chunkDays = Math.max(1, backfillChunkDays);
+
+        int written = 0;
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(chunkDays)) {
+            LocalDate end = start.plusDays(chunkDays);
+            if (end.isAfter(to.plusDays(1))) {
+                end = to.plusDays(1);
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("start", Timestamp.valueOf(start.atStartOfDay()))
+                    .addValue("end", Timestamp.valueOf(end.atStartOfDay()))
+                    .addValue("startDate", Date.valueOf(start))
+                    .addValue("endDate", Date.valueOf(end));
+
+            Integer chunkRows = transaction.execute(status -> {
+                jdbcTemplate.update("DELETE FROM business_activity_rollups " +
+                        "WHERE bucket_start >= :start AND bucket_start < :end", params);
+                int rows = 0;
+                for (Granularity granularity : Granularity.values()) {
+                    rows += jdbcTemplate.update(
+                            "INSERT INTO business_activity_rollups (business_id, granularity, bucket_start, " +
+                            METRIC_COLUMNS + ") " +
+                            "SELECT business_id, '" + granularity.name() + "', " +
+                            "DATE_TRUNC('" + granularity.name().toLowerCase() + "', ts), " +
+                            Arrays.stream(Metric.values())
+                                    .map(m -> "SUM(" + m.column() + ")")
+                                    .collect(Collectors.joining(", ")) +
+                            " FROM (" + EVENT_STREAM + ") events " +
+                            "WHERE ts >= :start AND ts < :end " +
+                            "GROUP BY business_id, DATE_TRUNC('" + granularity.name().toLowerCase() + "', ts)",
+                            params);
+                }
+                return rows;
+            });
+            written += chunkRows != null ? chunkRows : 0;
+            logger.info("Backfilled activity rollups for [{}, {}): {} rows", start, end, chunkRows);
+        }
+        return written;
+    }
+
+    public List<AnalyticsBucketDto> findBuckets(UUID businessId, Granularity granularity,
+            LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, " + METRIC_COLUMNS + " FROM business_activity_rollups " +
+                "WHERE business_id = :businessId AND granularity = :granularity " +
+                "AND bucket_start >= :from AND bucket_start < :to " +
+                "ORDER BY bucket_start",
+                new MapSqlParameterSource()
+                        .addValue("businessId", businessId)
+                        .addValue("granularity", granularity.name())
+                        .addValue("from", Timestamp.valueOf(from))
+                        .addValue("to", Timestamp.valueOf(to)),
+                (rs, rowNum) -> toBucket(rs));
+    }
+
+    /**
+     * Hours of the day with the most covers (seated from the waitlist plus
+     * completed reservations), busiest first.
+     */
+    public List<PeakHourDto> findPeakHours(UUID businessId, LocalDateTime from, LocalDateTime to, int limit) {
+        return jdbcTemplate.query(
+                "SELECT EXTRACT(HOUR FROM bucket_start) AS hour_of_day, " +
+                "SUM(seated_covers + reservation_covers) AS covers " +
+                "FROM business_activity_rollups " +
+                "WHERE business_id = :businessId AND granularity = 'HOUR' " +
+                "AND bucket_start >= :from AND bucket_start < :to " +
+                "GROUP BY EXTRACT(HOUR FROM bucket_start) " +
+                "HAVING SUM(seated_covers + reservation_covers) > 0 " +
+                "ORDER BY covers DESC, hour_of_day " +
+                "LIMIT " + limit,
+                new MapSqlParameterSource()
+                        .addValue("businessId", businessId)
+                        .addValue("from", Timestamp.valueOf(from))
+                        .addValue("to", Timestamp.valueOf(to)),
+                (rs, rowNum) -> new PeakHourDto(rs.getInt("hour_of_day"), rs.getLong("covers")));
+    }
+
+    private AnalyticsBucketDto toBucket(ResultSet rs) throws SQLException {
+        return new AnalyticsBucketDto(
+                rs.getTimestamp("bucket_start").toLocalDateTime(),
+                rs.getLong("waitlist_joined"),
+                rs.getLong("waitlist_notified"),
+                rs.getLong("waitlist_seated"),
+                rs.getLong("waitlist_cancelled"),
+                rs.getLong("waitlist_no_shows"),
+                rs.getLong("seated_covers"),
+                rs.getLong("total_wait_seconds"),
+                rs.getLong("reservations_confirmed"),
+                rs.getLong("reservations_completed"),
+                rs.getLong("reservations_cancelled"),
+                rs.getLong("reservation_covers"));
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
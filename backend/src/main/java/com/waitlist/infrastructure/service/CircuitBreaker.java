@@ -0,0 +1,159 @@
+package com.waitlist.infrastructure.service;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops sending to a provider that keeps failing. Outcomes of the last
+ * {@code windowSize} calls are kept; once at least {@code minimumCalls} of
+ * them are in and the failure rate reaches the threshold, the breaker opens
+ * and refuses calls for {@code openDuration}. After that a single probe call
+ * is let through (half-open): success closes the breaker with a fresh
+ * window, failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    public record Settings(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+
+        public Settings {
+            if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+            }
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+            }
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative");
+            }
+        }
+    }
+
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final Consumer<State> onTransition;
+
+    private final boolean[] failed;
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(Settings settings, LongSupplier nanoClock, Consumer<State> onTransition) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.onTransition = onTransition;
+        this.failed = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * Whether {@link #tryAcquire} would currently let a call through,
+     * without taking the half-open probe.
+     */
+    public synchronized boolean isAvailable() {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> !probing;
+            case OPEN -> openElapsed();
+        };
+    }
+
+    /**
+     * Asks to make a call. Every granted call must be followed by
+     * {@link #onSuccess}, {@link #onFailure} or, if it never reached the
+     * provider, {@link #release}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && openElapsed()) {
+            transition(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                if (probing) {
+                    yield false;
+                }
+                probing = true;
+                yield true;
+            }
+            case OPEN -> false;
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            clearWindow();
+            transition(State.CLOSED);
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= settings.minimumCalls()
+                    && failures >= settings.failureRateThreshold() * calls) {
+                open();
+            }
+        }
+    }
+
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == failed.length) {
+            if (failed[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        failed[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % failed.length;
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        clearWindow();
+        transition(State.OPEN);
+    }
+
+    private boolean openElapsed() {
+        return nanoClock.getAsLong() - openedAt >= settings.openDuration().toNanos();
+    }
+
+    private void clearWindow() {
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    private void transition(State to) {
+        state = to;
+        probing = false;
+        onTransition.accept(to);
+    }
+}
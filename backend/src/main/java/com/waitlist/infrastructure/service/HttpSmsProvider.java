@@ -0,0 +1,119 @@
+package com.waitlist.infrastructure.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends by POSTing {@code {"from", "to", "body"}} as JSON to a gateway URL,
+ * optionally with a bearer token. Any 2xx counts as sent, with the message
+ * id taken from a {@code "sid"} in a JSON response if there is one, and a 429
+ * as rate limited, honouring a Retry-After given in seconds; everything
+ * else, including timeouts, is a failure. Pointed at a local stub this stands in
+ * for a second provider in development and load tests.
+ */
+public class HttpSmsProvider implements SmsProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpSmsProvider.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String name;
+    private final URI url;
+    private final String fromNumber;
+    private final String authToken;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+
+    public HttpSmsProvider(String name, URI url, String fromNumber, String authToken, Duration timeout,
+            ObjectMapper objectMapper) {
+        this.name = name;
+        this.url = url;
+        this.fromNumber = fromNumber;
+        this.authToken = authToken;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String fromNumber() {
+        return fromNumber;
+    }
+
+    @Override
+    public SmsDispatcher.Attempt send(String phoneNumber, String message) {
+        try {
+            String body = objectMapper.writeValueAsString(
+                    Map.of("from", fromNumber, "to", phoneNumber, "body", message));
+            HttpRequest.Builder request = HttpRequest.newBuilder(url)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+            if (authToken != null && !authToken.isEmpty()) {
+                request.header("Authorization", "Bearer " + authToken);
+            }
+
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                logger.info("SMS sent through {} to {} from {}", name, phoneNumber, fromNumber);
+                return SmsDispatcher.Attempt.sent(messageId(response.body()));
+            }
+            if (status == TOO_MANY_REQUESTS) {
+                logger.warn("{} rate limited SMS to {} from {}", name, phoneNumber, fromNumber);
+                return SmsDispatcher.Attempt.rateLimited(
+                        retryAfter(response.headers().firstValue("Retry-After").orElse(null)));
+            }
+            logger.error("{} answered {} sending SMS to {}", name, status, phoneNumber);
+            return SmsDispatcher.Attempt.failed();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SmsDispatcher.Attempt.failed();
+        } catch (Exception e) {
+            logger.error("Failed to send SMS through {} to {}: {}", name, phoneNumber, e.getMessage());
+            return SmsDispatcher.Attempt.failed();
+        }
+    }
+
+    private String messageId(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode sid = objectMapper.readTree(body).get("sid");
+            return sid != null && sid.isTextual() ? sid.asText() : null;
+        } catch (Exception e) {
+            // A gateway that answers with something other than JSON just isn't tracked
+            return null;
+        }
+    }
+
+    // Only the delay-seconds form; an HTTP date falls back to the dispatcher's default
+    static Duration retryAfter(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            long seconds = Long.parseLong(header.trim());
+            return seconds >= 0 ? Duration.ofSeconds(seconds) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
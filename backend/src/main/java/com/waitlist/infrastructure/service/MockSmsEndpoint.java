@@ -0,0 +1,95 @@
+package com.waitlist.infrastructure.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controls {@link MockSmsService} at {@code /actuator/smsmock}:
+ *
+ * <ul>
+ *   <li>GET shows the fault settings, scheduled outages and the latest
+ *       messages ({@code ?phoneNumber=} and {@code ?limit=} filter them);</li>
+ *   <li>POST changes any subset of the settings, and schedules an outage
+ *       with {@code outageFor} (starting after {@code outageIn});</li>
+ *   <li>DELETE restores the configured settings and clears the log.</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "smsmock")
+@ConditionalOnProperty(name = "sms.mock.enabled", havingValue = "true", matchIfMissing = true)
+public class MockSmsEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockSmsEndpoint.class);
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    @Autowired
+    private MockSmsService mockSmsService;
+
+    @ReadOperation
+    public Map<String, Object> state(@Nullable String phoneNumber, @Nullable Integer limit) {
+        MockSmsFaults faults = mockSmsService.getFaults();
+        SentSmsLog log = mockSmsService.getSentMessages();
+        int max = limit != null ? limit : DEFAULT_LIMIT;
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("settings", faults.getSettings());
+        state.put("outages", faults.getOutages());
+        state.put("total", log.total());
+        state.put("capacity", log.capacity());
+        state.put("messages", phoneNumber != null
+                ? log.find(sent -> sent.phoneNumber().equals(phoneNumber), max)
+                : log.recent(max));
+        return state;
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable String distribution, @Nullable Duration base,
+            @Nullable Duration max, @Nullable Double errorRate, @Nullable Integer rateLimitPerSecond,
+            @Nullable Duration outageLatency, @Nullable Duration outageFor, @Nullable Duration outageIn) {
+        MockSmsFaults faults = mockSmsService.getFaults();
+        MockSmsFaults.Settings current = faults.getSettings();
+        MockSmsFaults.Settings updated;
+        try {
+            updated = new MockSmsFaults.Settings(
+                    distribution != null ? MockSmsFaults.LatencyDistribution.parse(distribution) : current.distribution(),
+                    base != null ? base : current.base(),
+                    max != null ? max : current.max(),
+                    errorRate != null ? errorRate : current.errorRate(),
+                    rateLimitPerSecond != null ? rateLimitPerSecond : current.rateLimitPerSecond(),
+                    outageLatency != null ? outageLatency : current.outageLatency());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        faults.setSettings(updated);
+        logger.warn("Mock SMS faults changed to {}", updated);
+
+        if (outageFor != null) {
+            Instant start = Instant.now().plus(outageIn != null ? outageIn : Duration.ZERO);
+            faults.scheduleOutage(start, outageFor);
+            logger.warn("Mock SMS outage scheduled from {} for {}", start, outageFor);
+        }
+        return state(null, 0);
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        mockSmsService.reset();
+        logger.info("Mock SMS faults reset to configured settings");
+        return state(null, 0);
+    }
+}
@@ -0,0 +1,196 @@
+package com.waitlist.infrastructure.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides how a mock SMS send behaves: how long the provider takes and
+ * whether it accepts the message, throttles it (429), fails it, or is down.
+ * Settings can be swapped at runtime; each send sees one consistent snapshot.
+ */
+public class MockSmsFaults {
+
+    public enum LatencyDistribution {
+        /** Returns immediately. */
+        NONE,
+        /** Always {@code base}. */
+        FIXED,
+        /** Evenly spread between {@code base} and {@code max}. */
+        UNIFORM,
+        /** Log-normal with median {@code base} and 99th percentile {@code max}. */
+        LONG_TAIL;
+
+        public static LatencyDistribution parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    public enum Outcome {
+        DELIVERED,
+        FAILED,
+        RATE_LIMITED,
+        OUTAGE
+    }
+
+    public record Settings(LatencyDistribution distribution, Duration base, Duration max, double errorRate,
+            int rateLimitPerSecond, Duration outageLatency) {
+
+        public Settings {
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("errorRate must be between 0 and 1");
+            }
+            if (rateLimitPerSecond < 0) {
+                throw new IllegalArgumentException("rateLimitPerSecond must not be negative");
+            }
+            if (max.compareTo(base) < 0) {
+                throw new IllegalArgumentException("max latency must not be below base latency");
+            }
+        }
+    }
+
+    public record Outage(Instant start, Instant end) {
+
+        boolean covers(Instant instant) {
+            return !instant.isBefore(start) && instant.isBefore(end);
+        }
+    }
+
+    /**
+     * z-score of the 99th percentile of a standard normal distribution.
+     */
+    private static final double Z_99 = 2.326;
+
+    private final Clock clock;
+    private final List<Outage> outages = new CopyOnWriteArrayList<>();
+    private volatile Settings settings;
+
+    private long rateWindowSecond;
+    private int rateWindowCount;
+
+    public MockSmsFaults(Settings settings, Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Settings settings) {
+        this.settings = settings;
+    }
+
+    public List<Outage> getOutages() {
+        Instant now = clock.instant();
+        outages.removeIf(outage -> !outage.end().isAfter(now));
+        return List.copyOf(outages);
+    }
+
+    public void scheduleOutage(Instant start, Duration duration) {
+        outages.add(new Outage(start, start.plus(duration)));
+    }
+
+    public void scheduleOutages(List<Outage> windows) {
+        outages.addAll(windows);
+    }
+
+    public void clearOutages() {
+        outages.clear();
+    }
+
+    /**
+     * Parses scripted outage windows, comma separated, each
+     * {@code <start>/<duration>}. The start is an ISO instant
+     * ({@code 2024-06-01T19:00:00Z}) or an offset from {@code origin}
+     * ({@code PT10M}).
+     */
+    public static List<Outage> parseOutages(String windows, Instant origin) {
+        List<Outage> parsed = new ArrayList<>();
+        if (windows == null || windows.isBlank()) {
+            return parsed;
+        }
+        for (String window : windows.split(",")) {
+            String[] parts = window.trim().split("/", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Outage window must be <start>/<duration>: " + window);
+            }
+            Instant start = parts[0].startsWith("P") ? origin.plus(Duration.parse(parts[0])) : Instant.parse(parts[0]);
+            parsed.add(new Outage(start, start.plus(Duration.parse(parts[1]))));
+        }
+        return parsed;
+    }
+
+    /**
+     * Waits as long as the provider would and returns what it answered.
+     */
+    public Outcome attempt() {
+        Settings current = settings;
+        Instant now = clock.instant();
+
+        if (outages.stream().anyMatch(outage -> outage.covers(now))) {
+            // A provider that is down usually shows up as a connect or read timeout
+            pause(current.outageLatency());
+            return Outcome.OUTAGE;
+        }
+
+        pause(sampleLatency(current));
+        if (Thread.currentThread().isInterrupted()) {
+            return Outcome.FAILED;
+        }
+        if (current.rateLimitPerSecond() > 0 && !acquire(clock.instant(), current.rateLimitPerSecond())) {
+            return Outcome.RATE_LIMITED;
+        }
+        if (current.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.errorRate()) {
+            return Outcome.FAILED;
+        }
+        return Outcome.DELIVERED;
+    }
+
+    Duration sampleLatency(Settings current) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long base = current.base().toNanos();
+        long max = current.max().toNanos();
+        return switch (current.distribution()) {
+            case NONE -> Duration.ZERO;
+            case FIXED -> current.base();
+            case UNIFORM -> Duration.ofNanos(base == max ? base : random.nextLong(base, max + 1));
+            case LONG_TAIL -> {
+                if (base == 0 || max <= base) {
+                    yield current.base();
+                }
+                double sigma = Math.log((double) max / base) / Z_99;
+                yield Duration.ofNanos((long) (base * Math.exp(random.nextGaussian() * sigma)));
+            }
+        };
+    }
+
+    /**
+     * Fixed one-second windows, like the per-second caps SMS providers
+     * enforce per sending number.
+     */
+    private synchronized boolean acquire(Instant now, int limit) {
+        long second = now.getEpochSecond();
+        if (second != rateWindowSecond) {
+            rateWindowSecond = second;
+            rateWindowCount = 0;
+        }
+        return ++rateWindowCount <= limit;
+    }
+
+    private static void pause(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,69 +1,193 @@
 package com.waitlist.infrastructure.service;
 
+import com.waitlist.domain.service.SmsMessage;
+import com.waitlist.domain.service.SmsMessages;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.infrastructure.monitoring.SmsSegmentMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Logs messages instead of sending them. Latency, errors, 429 rate limits
+ * and outage windows can be injected through {@code sms.mock.*} or
+ * {@code /actuator/smsmock}, so load tests see how the app behaves when the
+ * provider is slow or down. Sends are paced by {@link SmsDispatcher} like
+ * real ones, and every attempt is kept in {@link SentSmsLog}. Delivered
+ * messages get a Twilio-style SID and are tracked as queued, so a local stub
+ * can drive them further through the status webhook.
+ */
 @Service
 @ConditionalOnProperty(name = "sms.mock.enabled", havingValue = "true", matchIfMissing = true)
 public class MockSmsService implements SmsService {
 
         private static final Logger logger = LoggerFactory.getLogger(MockSmsService.class);
 
-        public MockSmsService() {
-                logger.info("MockSmsService initialized - SMS will be logged but not sent");
+        /**
+         * Sending number the mock's sends are paced under by {@link SmsDispatcher}.
+         */
+        static final String MOCK_FROM_NUMBER = "mock";
+
+        @Autowired
+        private SmsSegmentMetrics segmentMetrics;
+
+        @Autowired
+        private SmsDispatcher dispatcher;
+
+        @Autowired
+        private SmsStatusService statusService;
+
+        @Value("${sms.mock.latency.distribution:none}")
+        private String latencyDistribution;
+
+        @Value("${sms.mock.latency.base:PT0.2S}")
+        private Duration latencyBase;
+
+        @Value("${sms.mock.latency.max:PT3S}")
+        private Duration latencyMax;
+
+        @Value("${sms.mock.error-rate:0}")
+        private double errorRate;
+
+        @Value("${sms.mock.rate-limit-per-second:0}")
+        private int rateLimitPerSecond;
+
+        @Value("${sms.mock.outages:}")
+        private String outages;
+
+        @Value("${sms.mock.outage-latency:PT10S}")
+        private Duration outageLatency;
+
+        @Value("${sms.mock.history-size:1000}")
+        private int historySize;
+
+        private final Clock clock = Clock.systemUTC();
+
+        private MockSmsFaults faults;
+        private MockSmsFaults.Settings configuredSettings;
+        private SentSmsLog sentMessages;
+
+        @PostConstruct
+        public void init() {
+                configuredSettings = new MockSmsFaults.Settings(
+                                MockSmsFaults.LatencyDistribution.parse(latencyDistribution),
+                                latencyBase, latencyMax, errorRate, rateLimitPerSecond, outageLatency);
+                faults = new MockSmsFaults(configuredSettings, clock);
+                scheduleConfiguredOutages();
+                sentMessages = new SentSmsLog(historySize);
+
+                logger.info("MockSmsService initialized - SMS will be logged but not sent ({})", configuredSettings);
         }
 
         @Override
         public boolean sendSms(String phoneNumber, String message) {
-                logger.info("MOCK SMS to {}: {}", phoneNumber, message);
-                return true;
+                return deliver("sendSms", phoneNumber, message, SmsPriority.BULK);
         }
 
         @Override
         public boolean sendWaitlistNotification(String phoneNumber, String businessName,
                         Integer estimatedWaitTime, Integer position) {
-                String message = String.format(
-                                "Posición #%d en %s. Espera: %d min. Te avisamos cuando esté lista.",
-                                position, businessName, estimatedWaitTime);
+                SmsMessage message = SmsMessages.waitlistNotification(businessName, estimatedWaitTime, position);
+
+                segmentMetrics.record(message);
 
-                logger.info("MOCK Waitlist Notification to {}: {}", phoneNumber, message);
-                return true;
+                return deliver("sendWaitlistNotification", phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
         }
 
         @Override
         public boolean sendTableReadyNotification(String phoneNumber, String businessName, String businessPhone) {
-                String message = String.format(
-                                "¡Mesa lista en %s! Acércate a recepción. Tienes 15 min. Tel: %s",
-                                businessName, businessPhone);
+                SmsMessage message = SmsMessages.tableReady(businessName, businessPhone);
+
+                segmentMetrics.record(message);
 
-                logger.info("MOCK Table Ready Notification to {}: {}", phoneNumber, message);
-                return true;
+                return deliver("sendTableReadyNotification", phoneNumber, message.text(), SmsPriority.URGENT);
+        }
+
+        @Override
+        public boolean sendAlmostUpNotification(String phoneNumber, String businessName,
+                        Integer estimatedWaitTime, Integer position) {
+                SmsMessage message = SmsMessages.almostUp(businessName, estimatedWaitTime, position);
+
+                segmentMetrics.record(message);
+
+                return deliver("sendAlmostUpNotification", phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
         }
 
         @Override
         public boolean sendReservationConfirmation(String phoneNumber, String businessName,
                         String reservationDate, String reservationTime,
                         Integer partySize) {
-                String message = String.format(
-                                "Reservación confirmada en %s: %s a las %s para %d persona%s. ¡Te esperamos!",
-                                businessName, reservationDate, reservationTime, partySize,
-                                partySize == 1 ? "" : "s");
+                SmsMessage message = SmsMessages.reservationConfirmation(businessName, reservationDate, reservationTime, partySize);
+
+                segmentMetrics.record(message);
 
-                logger.info("MOCK Reservation Confirmation to {}: {}", phoneNumber, message);
-                return true;
+                return deliver("sendReservationConfirmation", phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
         }
 
         @Override
         public boolean sendReservationReminder(String phoneNumber, String businessName,
                         String reservationDate, String reservationTime) {
-                String message = String.format(
-                                "Recordatorio: Reservación en %s mañana (%s) a las %s. Llega 5 min antes.",
-                                businessName, reservationDate, reservationTime);
+                SmsMessage message = SmsMessages.reservationReminder(businessName, reservationDate, reservationTime);
+
+                segmentMetrics.record(message);
+
+                return deliver("sendReservationReminder", phoneNumber, message.text(), SmsPriority.BULK);
+        }
+
+        public MockSmsFaults getFaults() {
+                return faults;
+        }
+
+        public SentSmsLog getSentMessages() {
+                return sentMessages;
+        }
+
+        /**
+         * Restores the configured behaviour and scripted outages and empties
+         * the message log.
+         */
+        public void reset() {
+                faults.setSettings(configuredSettings);
+                faults.clearOutages();
+                scheduleConfiguredOutages();
+                sentMessages.clear();
+        }
+
+        private boolean deliver(String type, String phoneNumber, String message, SmsPriority priority) {
+                return dispatcher.dispatch(MOCK_FROM_NUMBER, priority, () -> attempt(type, phoneNumber, message));
+        }
+
+        private SmsDispatcher.Attempt attempt(String type, String phoneNumber, String message) {
+                Instant sentAt = clock.instant();
+                long started = System.nanoTime();
+                MockSmsFaults.Outcome outcome = faults.attempt();
+                long latencyMillis = (System.nanoTime() - started) / 1_000_000;
+                String messageSid = outcome == MockSmsFaults.Outcome.DELIVERED
+                                ? "SM" + UUID.randomUUID().toString().replace("-", "")
+                                : null;
+                sentMessages.add(sentAt, phoneNumber, type, message, outcome, latencyMillis, messageSid);
+
+                if (messageSid != null) {
+                        logger.info("MOCK {} to {} ({}): {}", type, phoneNumber, messageSid, message);
+                        return statusService.track(MOCK_FROM_NUMBER, phoneNumber, SmsDispatcher.Attempt.sent(messageSid));
+                }
+                logger.warn("MOCK {} to {} not sent: {} after {} ms", type, phoneNumber, outcome, latencyMillis);
+                return outcome == MockSmsFaults.Outcome.RATE_LIMITED
+                                ? SmsDispatcher.Attempt.rateLimited(null)
+                                : SmsDispatcher.Attempt.failed();
+        }
 
-                logger.info("MOCK Reservation Reminder to {}: {}", phoneNumber, message);
-                return true;
+        private void scheduleConfiguredOutages() {
+                // Offsets such as PT10M/PT2M count from startup, or from the last reset
+                faults.scheduleOutages(MockSmsFaults.parseOutages(outages, clock.instant()));
         }
 }
@@ -0,0 +1,90 @@
+package com.waitlist.infrastructure.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Naming and planning rules for monthly range partitions. Partitions are
+ * named {@code <table>_pYYYY_MM} and cover {@code [first of month, first of
+ * next month)}.
+ */
+public final class MonthlyPartitions {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('(\\d{4}-\\d{2}-\\d{2})");
+
+    private MonthlyPartitions() {
+    }
+
+    public static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    /**
+     * Month covered by a partition created by this class, or empty for any
+     * other partition (such as the legacy partition created during migration).
+     */
+    public static Optional<YearMonth> monthOf(String table, String partitionName) {
+        String prefix = table + "_p";
+        if (!partitionName.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(prefix.length()), SUFFIX));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Exclusive upper bound of a partition, parsed from
+     * {@code pg_get_expr(relpartbound)} output such as
+     * {@code FOR VALUES FROM (MINVALUE) TO ('2026-11-01')}.
+     */
+    public static Optional<LocalDate> upperBound(String partitionBound) {
+        Matcher matcher = UPPER_BOUND.matcher(partitionBound);
+        return matcher.find() ? Optional.of(LocalDate.parse(matcher.group(1))) : Optional.empty();
+    }
+
+    /**
+     * Months that still need a partition so that every month up to
+     * {@code current + premakeMonths} is covered.
+     *
+     * @param coveredUntil exclusive upper bound of the existing partitions, if any
+     */
+    public static List<YearMonth> monthsToCreate(YearMonth current, int premakeMonths,
+            Optional<LocalDate> coveredUntil) {
+        YearMonth from = current;
+        if (coveredUntil.isPresent()) {
+            YearMonth firstUncovered = YearMonth.from(coveredUntil.get().minusDays(1)).plusMonths(1);
+            if (firstUncovered.isAfter(from)) {
+                from = firstUncovered;
+            }
+        }
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(current.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Whether a monthly partition falls outside the retention window. A
+     * retention of zero keeps every partition.
+     */
+    public static boolean isExpired(YearMonth month, YearMonth current, int retentionMonths) {
+        return retentionMonths > 0 && month.isBefore(current.minusMonths(retentionMonths));
+    }
+
+    public static String createSql(String table, YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(table, month) + " PARTITION OF " + table +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
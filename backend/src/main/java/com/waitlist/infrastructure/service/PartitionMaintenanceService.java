@@ -0,0 +1,137 @@
+package com.waitlist.infrastructure.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the monthly range partitions of reservations (by reservation_date) and
+ * waitlist_entries_history (by created_at) ahead of time and retires expired
+ * ones. Off by default: the tables are converted once by hand with
+ * db/partition_by_month.sql, after which partitioning.enabled is turned on.
+ * Does nothing on databases other than PostgreSQL or on tables that have not
+ * been converted.
+ */
+@Service
+public class PartitionMaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${partitioning.reservations.premake-months:12}")
+    private int reservationPremakeMonths;
+
+    @Value("${partitioning.reservations.retention-months:36}")
+    private int reservationRetentionMonths;
+
+    @Value("${partitioning.reservations.drop-expired:false}")
+    private boolean reservationDropExpired;
+
+    @Value("${partitioning.waitlist-history.premake-months:2}")
+    private int historyPremakeMonths;
+
+    @Value("${partitioning.waitlist-history.retention-months:13}")
+    private int historyRetentionMonths;
+
+    @Value("${partitioning.waitlist-history.drop-expired:false}")
+    private boolean historyDropExpired;
+
+    public record PartitionedTable(String table, String column, int premakeMonths, int retentionMonths,
+            boolean dropExpired) {
+    }
+
+    public List<PartitionedTable> partitionedTables() {
+        return List.of(
+                new PartitionedTable("reservations", "reservation_date",
+                        reservationPremakeMonths, reservationRetentionMonths, reservationDropExpired),
+                new PartitionedTable("waitlist_entries_history", "created_at",
+                        historyPremakeMonths, historyRetentionMonths, historyDropExpired));
+    }
+
+    public boolean isEnabled() {
+        return enabled && isPostgres();
+    }
+
+    @Scheduled(cron = "${partitioning.maintenance-cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        if (!isEnabled()) {
+            return;
+        }
+        for (PartitionedTable table : partitionedTables()) {
+            try {
+                maintain(table, YearMonth.now());
+            } catch (Exception e) {
+                logger.error("Error maintaining partitions of {}: {}", table.table(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void maintain(PartitionedTable table, YearMonth current) {
+        if (!isPartitioned(table.table())) {
+            return;
+        }
+
+        List<Map<String, Object>> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound " +
+                "FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?",
+                table.table());
+
+        Optional<LocalDate> coveredUntil = partitions.stream()
+                .map(row -> MonthlyPartitions.upperBound((String) row.get("bound")))
+                .flatMap(Optional::stream)
+                .max(LocalDate::compareTo);
+
+        for (YearMonth month : MonthlyPartitions.monthsToCreate(current, table.premakeMonths(), coveredUntil)) {
+            jdbcTemplate.execute(MonthlyPartitions.createSql(table.table(), month));
+            logger.info("Created partition {}", MonthlyPartitions.partitionName(table.table(), month));
+        }
+
+        for (Map<String, Object> partition : partitions) {
+            String name = (String) partition.get("name");
+            Optional<YearMonth> month = MonthlyPartitions.monthOf(table.table(), name);
+            if (month.isEmpty() || !MonthlyPartitions.isExpired(month.get(), current, table.retentionMonths())) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table.table() + " DETACH PARTITION " + name);
+            if (table.dropExpired()) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+                logger.info("Dropped expired partition {}", name);
+            } else {
+                logger.info("Detached expired partition {}", name);
+            }
+        }
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
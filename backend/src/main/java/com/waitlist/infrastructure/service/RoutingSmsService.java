@@ -0,0 +1,225 @@
+package com.waitlist.infrastructure.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.Twilio;
+import com.waitlist.domain.service.SmsMessage;
+import com.waitlist.domain.service.SmsMessages;
+import com.waitlist.domain.service.SmsService;
+import com.waitlist.infrastructure.monitoring.SmsSegmentMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends through several providers via {@link SmsRouter} instead of a single
+ * Twilio account. Takes precedence over the mock and Twilio services when
+ * {@code sms.routing.enabled} is set. Providers are listed by name in
+ * {@code sms.routing.providers}; those without credentials or a URL are
+ * left out with a warning.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "sms.routing.enabled", havingValue = "true")
+public class RoutingSmsService implements SmsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoutingSmsService.class);
+
+    @Autowired
+    private SmsSegmentMetrics segmentMetrics;
+
+    @Autowired
+    private SmsDispatcher dispatcher;
+
+    @Autowired
+    private SmsStatusService statusService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sms.routing.providers:twilio,http}")
+    private List<String> providerNames;
+
+    @Value("${twilio.account-sid:}")
+    private String twilioAccountSid;
+
+    @Value("${twilio.auth-token:}")
+    private String twilioAuthToken;
+
+    @Value("${twilio.phone-number:}")
+    private String twilioPhoneNumber;
+
+    @Value("${sms.routing.http.url:}")
+    private String httpUrl;
+
+    @Value("${sms.routing.http.from-number:}")
+    private String httpFromNumber;
+
+    @Value("${sms.routing.http.auth-token:}")
+    private String httpAuthToken;
+
+    @Value("${sms.routing.http.timeout:PT5S}")
+    private Duration httpTimeout;
+
+    @Value("${sms.routing.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${sms.routing.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${sms.routing.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${sms.routing.circuit.open-duration:PT30S}")
+    private Duration circuitOpenDuration;
+
+    @Value("${sms.routing.latency-smoothing:0.2}")
+    private double latencySmoothing;
+
+    @Value("${sms.routing.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    @Value("${sms.routing.hedge.delay:PT2S}")
+    private Duration hedgeDelay;
+
+    @Value("${sms.routing.hedge.max-threads:32}")
+    private int hedgeMaxThreads;
+
+    private ThreadPoolExecutor executor;
+    private SmsRouter router;
+
+    @PostConstruct
+    public void init() {
+        List<SmsProvider> providers = new ArrayList<>();
+        for (String name : providerNames) {
+            SmsProvider provider = createProvider(name.trim());
+            if (provider != null) {
+                providers.add(statusService.tracking(provider));
+            }
+        }
+        if (providers.isEmpty()) {
+            logger.warn("SMS routing enabled but no provider is configured. SMS will not be sent.");
+        }
+
+        // Hedged sends run here; when all threads are busy the caller sends
+        // itself, which simply means no hedge for that message
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(0, hedgeMaxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sms-hedge-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        SmsRouter.Settings settings = new SmsRouter.Settings(
+                new CircuitBreaker.Settings(circuitWindowSize, circuitMinimumCalls, circuitFailureRateThreshold,
+                        circuitOpenDuration),
+                latencySmoothing, hedgeEnabled, hedgeDelay);
+        router = new SmsRouter(providers, settings, dispatcher::dispatch, executor, meterRegistry, System::nanoTime);
+
+        logger.info("RoutingSmsService initialized with providers {} ({})",
+                providers.stream().map(SmsProvider::name).toList(), settings);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean sendSms(String phoneNumber, String message) {
+        return router.send(phoneNumber, message, SmsPriority.BULK);
+    }
+
+    @Override
+    public boolean sendWaitlistNotification(String phoneNumber, String businessName,
+            Integer estimatedWaitTime, Integer position) {
+        SmsMessage message = SmsMessages.waitlistNotification(businessName, estimatedWaitTime, position);
+
+        segmentMetrics.record(message);
+
+        return router.send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
+    }
+
+    @Override
+    public boolean sendTableReadyNotification(String phoneNumber, String businessName, String businessPhone) {
+        SmsMessage message = SmsMessages.tableReady(businessName, businessPhone);
+
+        segmentMetrics.record(message);
+
+        return router.send(phoneNumber, message.text(), SmsPriority.URGENT);
+    }
+
+    @Override
+    public boolean sendAlmostUpNotification(String phoneNumber, String businessName,
+            Integer estimatedWaitTime, Integer position) {
+        SmsMessage message = SmsMessages.almostUp(businessName, estimatedWaitTime, position);
+
+        segmentMetrics.record(message);
+
+        return router.send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
+    }
+
+    @Override
+    public boolean sendReservationConfirmation(String phoneNumber, String businessName,
+            String reservationDate, String reservationTime,
+            Integer partySize) {
+        SmsMessage message = SmsMessages.reservationConfirmation(businessName, reservationDate, reservationTime, partySize);
+
+        segmentMetrics.record(message);
+
+        return router.send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
+    }
+
+    @Override
+    public boolean sendReservationReminder(String phoneNumber, String businessName,
+            String reservationDate, String reservationTime) {
+        SmsMessage message = SmsMessages.reservationReminder(businessName, reservationDate, reservationTime);
+
+        segmentMetrics.record(message);
+
+        return router.send(phoneNumber, message.text(), SmsPriority.BULK);
+    }
+
+    private SmsProvider createProvider(String name) {
+        switch (name) {
+            case "twilio":
+                if (twilioAccountSid.isEmpty() || twilioAuthToken.isEmpty() || twilioPhoneNumber.isEmpty()) {
+                    logger.warn("Twilio credentials not configured. Twilio left out of SMS routing.");
+                    return null;
+                }
+                Twilio.init(twilioAccountSid, twilioAuthToken);
+                return new TwilioSmsProvider(twilioPhoneNumber);
+            case "http":
+                if (httpUrl.isEmpty() || httpFromNumber.isEmpty()) {
+                    logger.warn("SMS_ROUTING_HTTP_URL or SMS_ROUTING_HTTP_FROM_NUMBER not set. "
+                            + "HTTP provider left out of SMS routing.");
+                    return null;
+                }
+                return new HttpSmsProvider("http", URI.create(httpUrl), httpFromNumber, httpAuthToken, httpTimeout,
+                        objectMapper);
+            default:
+                logger.warn("Unknown SMS provider '{}' in sms.routing.providers, ignored", name);
+                return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.waitlist.infrastructure.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * This instance's lease in scheduler_leases, telling the other instances
+ * that the timers it holds in memory are still being looked after.
+ *
+ * Every instance renews its own lease well within {@code scheduler.lease.ttl}
+ * and removes the leases of instances that stopped renewing. Whoever
+ * removes a lapsed lease has to take over that instance's timers, which
+ * {@link #renew()} reports so the caller can rebuild them from the database.
+ */
+@Component
+public class SchedulerLease {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLease.class);
+
+    private static final int MAX_HOST_NAME_LENGTH = 100;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${scheduler.lease.ttl:PT30S}")
+    private Duration ttl;
+
+    private final Clock clock = Clock.systemUTC();
+    private final String holder = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    public String holder() {
+        return holder;
+    }
+
+    /**
+     * Renews this instance's lease and removes lapsed ones.
+     *
+     * @return the number of other instances' leases removed, whose timers
+     *         this instance now has to take over
+     */
+    public int renew() {
+        Instant now = clock.instant();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("holder", holder)
+                .addValue("now", Timestamp.from(now))
+                .addValue("expiresAt", Timestamp.from(now.plus(ttl)));
+        if (jdbcTemplate.update("UPDATE scheduler_leases SET expires_at = :expiresAt WHERE holder = :holder",
+                params) == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO scheduler_leases (holder, expires_at) VALUES (:holder, :expiresAt)",
+                        params);
+            } catch (DuplicateKeyException e) {
+                // Another thread of this instance got there first
+            }
+        }
+        int lapsed = jdbcTemplate.update("DELETE FROM scheduler_leases WHERE expires_at < :now AND holder <> :holder",
+                params);
+        if (lapsed > 0) {
+            logger.warn("Took over timers from {} instance(s) whose scheduler lease lapsed", lapsed);
+        }
+        return lapsed;
+    }
+
+    /**
+     * Lets the lease lapse at once on shutdown rather than deleting it, so
+     * another instance takes over the timers on its next renewal.
+     */
+    @PreDestroy
+    public void release() {
+        try {
+            jdbcTemplate.update("UPDATE scheduler_leases SET expires_at = :expiresAt WHERE holder = :holder",
+                    new MapSqlParameterSource()
+                            .addValue("holder", holder)
+                            .addValue("expiresAt", Timestamp.from(Instant.EPOCH)));
+        } catch (Exception e) {
+            logger.warn("Could not release scheduler lease {}: {}", holder, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            String name = InetAddress.getLocalHost().getHostName();
+            return name.length() > MAX_HOST_NAME_LENGTH ? name.substring(0, MAX_HOST_NAME_LENGTH) : name;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.waitlist.infrastructure.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Parties waiting for a table, ordered by rank (lower first, ties broken by
+ * key) and answering "who is first among the parties of this many people".
+ *
+ * Parties are kept in one ordered set per party size, and a segment tree over
+ * party sizes holds the first party of each size, so adding or removing a
+ * party is O(log n) and finding the first party within a size range is
+ * O(log s) for a largest party size s. The tree doubles when a larger party
+ * arrives. Thread-safe.
+ */
+public class SeatingQueue<K extends Comparable<K>> {
+
+    public record Party<K>(K key, int size, long rank) {
+    }
+
+    private final Comparator<Party<K>> order = Comparator.<Party<K>>comparingLong(Party::rank)
+            .thenComparing(Party::key);
+
+    private final Map<K, Party<K>> parties = new HashMap<>();
+    private final List<TreeSet<Party<K>>> bySize = new ArrayList<>();
+    // Leaves start at index capacity; leaf i holds the first party of size i + 1
+    private Party<K>[] tree;
+    private int capacity;
+
+    public SeatingQueue() {
+        grow(8);
+    }
+
+    /**
+     * Adds a party, or moves it if {@code key} is already queued.
+     */
+    public synchronized void add(K key, int size, long rank) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        remove(key);
+        if (size > capacity) {
+            grow(Integer.highestOneBit(size - 1) << 1);
+        }
+        Party<K> party = new Party<>(key, size, rank);
+        parties.put(key, party);
+        bySize.get(size - 1).add(party);
+        update(size);
+    }
+
+    public synchronized boolean remove(K key) {
+        Party<K> party = parties.remove(key);
+        if (party == null) {
+            return false;
+        }
+        bySize.get(party.size() - 1).remove(party);
+        update(party.size());
+        return true;
+    }
+
+    /**
+     * The first party of {@code minSize} to {@code maxSize} people, or null.
+     */
+    public synchronized Party<K> first(int minSize, int maxSize) {
+        int from = Math.max(minSize, 1) - 1 + capacity;
+        int to = Math.min(maxSize, capacity) - 1 + capacity;
+        Party<K> best = null;
+        // Bottom-up range query over [from, to]
+        while (from <= to) {
+            if ((from & 1) == 1) {
+                best = better(best, tree[from++]);
+            }
+            if ((to & 1) == 0) {
+                best = better(best, tree[to--]);
+            }
+            from >>= 1;
+            to >>= 1;
+        }
+        return best;
+    }
+
+    public synchronized boolean contains(K key) {
+        return parties.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return parties.size();
+    }
+
+    private void update(int size) {
+        int node = size - 1 + capacity;
+        TreeSet<Party<K>> sameSize = bySize.get(size - 1);
+        tree[node] = sameSize.isEmpty() ? null : sameSize.first();
+        for (node >>= 1; node >= 1; node >>= 1) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void grow(int newCapacity) {
+        while (bySize.size() < newCapacity) {
+            bySize.add(new TreeSet<>(order));
+        }
+        capacity = newCapacity;
+        tree = new Party[2 * capacity];
+        for (int size = 1; size <= capacity; size++) {
+            TreeSet<Party<K>> sameSize = bySize.get(size - 1);
+            tree[size - 1 + capacity] = sameSize.isEmpty() ? null : sameSize.first();
+        }
+        for (int node = capacity - 1; node >= 1; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    private Party<K> better(Party<K> a, Party<K> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return order.compare(a, b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,80 @@
+package com.waitlist.infrastructure.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size ring buffer of the messages the mock provider was asked to
+ * send, newest overwriting oldest, so tests and load runs can assert on
+ * delivery without unbounded memory.
+ */
+public class SentSmsLog {
+
+    public record SentSms(long sequence, Instant sentAt, String phoneNumber, String type, String message,
+            MockSmsFaults.Outcome outcome, long latencyMillis, String messageSid) {
+
+        public boolean delivered() {
+            return outcome == MockSmsFaults.Outcome.DELIVERED;
+        }
+    }
+
+    private final SentSms[] buffer;
+    private long sequence;
+
+    public SentSmsLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.buffer = new SentSms[capacity];
+    }
+
+    public synchronized SentSms add(Instant sentAt, String phoneNumber, String type, String message,
+            MockSmsFaults.Outcome outcome, long latencyMillis, String messageSid) {
+        SentSms sent = new SentSms(++sequence, sentAt, phoneNumber, type, message, outcome, latencyMillis,
+                messageSid);
+        buffer[(int) ((sent.sequence() - 1) % buffer.length)] = sent;
+        return sent;
+    }
+
+    /**
+     * Up to {@code limit} retained messages, newest first.
+     */
+    public List<SentSms> recent(int limit) {
+        return find(sent -> true, limit);
+    }
+
+    public List<SentSms> to(String phoneNumber) {
+        return find(sent -> sent.phoneNumber().equals(phoneNumber), buffer.length);
+    }
+
+    public synchronized List<SentSms> find(Predicate<SentSms> filter, int limit) {
+        List<SentSms> found = new ArrayList<>(Math.min(limit, buffer.length));
+        for (long s = sequence; s > 0 && s > sequence - buffer.length && found.size() < limit; s--) {
+            SentSms sent = buffer[(int) ((s - 1) % buffer.length)];
+            if (filter.test(sent)) {
+                found.add(sent);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Messages recorded since startup or the last clear, including ones
+     * already overwritten.
+     */
+    public synchronized long total() {
+        return sequence;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        sequence = 0;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+}
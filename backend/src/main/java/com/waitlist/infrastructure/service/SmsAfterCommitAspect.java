@@ -0,0 +1,133 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.monitoring.BusinessTagLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds back SMS sent from inside a transaction until it has committed, so
+ * a saturated {@link SmsDispatcher} or a slow provider never keeps the
+ * caller's transaction, and its connection, open. Nothing is sent if the
+ * transaction rolls back.
+ *
+ * After the commit the call is made again through the SMS service's proxy
+ * on one of {@code sms.dispatcher.after-commit.threads}, under the same
+ * {@link SmsTenant}, so the send timer, Flight Recorder event and span
+ * record the real send and its outcome. The caller only learns that the
+ * message was queued. Outside a transaction the send goes straight
+ * through.
+ *
+ * Runs outside the monitoring aspects, which therefore never see the
+ * deferred call itself.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SmsAfterCommitAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsAfterCommitAspect.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BusinessTagLimiter businessTagLimiter;
+
+    @Value("${sms.dispatcher.after-commit.threads:8}")
+    private int threads;
+
+    @Value("${sms.dispatcher.after-commit.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sms-after-commit-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("sms.dispatch.after.commit.depth", executor, pool -> pool.getQueue().size())
+                .description("Sends from committed transactions waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return the send's result, or, inside a transaction, {@code true} for
+     *         a message queued until the commit
+     */
+    @Around("execution(public boolean com.waitlist.domain.service.SmsService+.send*(..))")
+    public Object sendAfterCommit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return joinPoint.proceed();
+        }
+        Object service = joinPoint.getThis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        UUID businessId = SmsTenant.current();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    executor.execute(() -> send(service, method, args, businessId));
+                } catch (RejectedExecutionException e) {
+                    Counter.builder("sms.dispatch.rejected")
+                            .description("Sends dropped by the dispatcher before reaching the provider")
+                            .tags("reason", "after_commit_full", "business", businessTagLimiter.tag(businessId))
+                            .register(meterRegistry)
+                            .increment();
+                    logger.warn("SMS {} for business {} not sent after commit: backlog full", method.getName(),
+                            businessId);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void send(Object service, Method method, Object[] args, UUID businessId) {
+        try {
+            SmsTenant.callAs(businessId, () -> ReflectionUtils.invokeMethod(method, service, args));
+        } catch (RuntimeException e) {
+            logger.error("SMS {} for business {} failed after commit: {}", method.getName(), businessId,
+                    e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.waitlist.infrastructure.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Where an outbound message is on its way to the handset. Callbacks can
+ * arrive out of order, so a status only replaces one of lower or equal
+ * {@link #rank()}; the three final states share the highest rank.
+ */
+public enum SmsDeliveryStatus {
+    QUEUED(0),
+    SENDING(1),
+    SENT(2),
+    DELIVERED(3),
+    UNDELIVERED(3),
+    FAILED(3);
+
+    private final int rank;
+
+    SmsDeliveryStatus(int rank) {
+        this.rank = rank;
+    }
+
+    public int rank() {
+        return rank;
+    }
+
+    /**
+     * Maps a provider's status name (Twilio's MessageStatus values and
+     * their common equivalents) to ours; empty for statuses that aren't
+     * about an outbound message.
+     */
+    public static Optional<SmsDeliveryStatus> fromProvider(String status) {
+        if (status == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(switch (status.trim().toLowerCase(Locale.ROOT)) {
+            case "accepted", "scheduled", "queued" -> QUEUED;
+            case "sending" -> SENDING;
+            case "sent" -> SENT;
+            case "delivered", "read" -> DELIVERED;
+            case "undelivered" -> UNDELIVERED;
+            case "failed", "canceled" -> FAILED;
+            default -> null;
+        });
+    }
+}
@@ -0,0 +1,274 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.monitoring.BusinessTagLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces provider calls so bursts of notifications stay under the provider's
+ * throughput caps instead of being rejected and dropped.
+ *
+ * Each send takes a token from its sending number's bucket and from the
+ * account-wide bucket. Sends that have to wait line up in a
+ * {@link WeightedFairQueue}: table-ready messages go before confirmations,
+ * which go before reminders and broadcasts, and within each class
+ * businesses take turns in proportion to their plan's weight
+ * ({@link SmsTenantWeights}), so one chain's burst cannot hold up
+ * everyone else's notifications. At most
+ * {@code queue-capacity} sends may be waiting or in flight; beyond that, and
+ * for sends that would wait longer than {@code max-wait}, the dispatcher
+ * fails fast rather than holding request threads. A 429 from the provider
+ * pauses both buckets for its Retry-After (or {@code retry-after}) and the
+ * send is retried, up to {@code max-attempts}.
+ *
+ * Sends complete before {@link #dispatch} returns, so the caller gets the
+ * provider's sent/not-sent answer. Messages sent from inside a transaction
+ * don't reach the dispatcher until it has committed; see
+ * {@link SmsAfterCommitAspect}.
+ */
+@Component
+public class SmsDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsDispatcher.class);
+
+    public record Settings(boolean enabled, double globalRatePerSecond, int globalBurst,
+            double perNumberRatePerSecond, int perNumberBurst, int queueCapacity, Duration maxWait,
+            int maxAttempts, Duration retryAfter) {
+
+        public Settings {
+            if (globalRatePerSecond <= 0 || perNumberRatePerSecond <= 0) {
+                throw new IllegalArgumentException("rates must be positive");
+            }
+            if (globalBurst < 1 || perNumberBurst < 1) {
+                throw new IllegalArgumentException("bursts must be at least 1");
+            }
+            if (queueCapacity < 1 || maxAttempts < 1) {
+                throw new IllegalArgumentException("queueCapacity and maxAttempts must be at least 1");
+            }
+            if (maxWait.isNegative() || retryAfter.isNegative()) {
+                throw new IllegalArgumentException("durations must not be negative");
+            }
+        }
+    }
+
+    /**
+     * What one provider call returned; {@code retryAfter} is only set for
+     * {@link Outcome#RATE_LIMITED}, and may be {@code null} there.
+     * {@code messageId} is the provider's id for an accepted message, if it
+     * gave one.
+     */
+    public record Attempt(Outcome outcome, Duration retryAfter, String messageId) {
+
+        public Attempt(Outcome outcome, Duration retryAfter) {
+            this(outcome, retryAfter, null);
+        }
+
+        public static Attempt sent() {
+            return new Attempt(Outcome.SENT, null);
+        }
+
+        public static Attempt sent(String messageId) {
+            return new Attempt(Outcome.SENT, null, messageId);
+        }
+
+        public static Attempt failed() {
+            return new Attempt(Outcome.FAILED, null);
+        }
+
+        public static Attempt rateLimited(Duration retryAfter) {
+            return new Attempt(Outcome.RATE_LIMITED, retryAfter);
+        }
+    }
+
+    public enum Outcome {
+        SENT,
+        FAILED,
+        RATE_LIMITED
+    }
+
+    @FunctionalInterface
+    public interface ProviderCall {
+        Attempt send();
+    }
+
+    @Value("${sms.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.dispatcher.global.rate-per-second:100}")
+    private double globalRatePerSecond;
+
+    @Value("${sms.dispatcher.global.burst:100}")
+    private int globalBurst;
+
+    @Value("${sms.dispatcher.per-number.rate-per-second:10}")
+    private double perNumberRatePerSecond;
+
+    @Value("${sms.dispatcher.per-number.burst:30}")
+    private int perNumberBurst;
+
+    @Value("${sms.dispatcher.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${sms.dispatcher.max-wait:PT5S}")
+    private Duration maxWait;
+
+    @Value("${sms.dispatcher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${sms.dispatcher.retry-after:PT1S}")
+    private Duration retryAfter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SmsTenantWeights tenantWeights;
+
+    @Autowired
+    private BusinessTagLimiter businessTagLimiter;
+
+    private final WeightedFairQueue queue = new WeightedFairQueue();
+
+    private volatile State state;
+    private Settings configuredSettings;
+    private Counter retries;
+
+    private record State(Settings settings, TokenBucket global, Map<String, TokenBucket> perNumber,
+            Semaphore slots) {
+    }
+
+    @PostConstruct
+    public void init() {
+        configuredSettings = new Settings(enabled, globalRatePerSecond, globalBurst, perNumberRatePerSecond,
+                perNumberBurst, queueCapacity, maxWait, maxAttempts, retryAfter);
+        configure(configuredSettings);
+
+        Gauge.builder("sms.dispatch.queue.depth", queue, WeightedFairQueue::size)
+                .description("Sends waiting for their turn or a rate-limit token")
+                .register(meterRegistry);
+        Gauge.builder("sms.dispatch.in.flight", this,
+                        dispatcher -> dispatcher.state.settings().queueCapacity()
+                                - dispatcher.state.slots().availablePermits())
+                .description("Sends waiting or in flight, bounded by the queue capacity")
+                .register(meterRegistry);
+        retries = Counter.builder("sms.dispatch.retries")
+                .description("Sends retried after the provider answered 429")
+                .register(meterRegistry);
+
+        logger.info("SmsDispatcher initialized ({})", configuredSettings);
+    }
+
+    /**
+     * Replaces the limits, starting from full buckets.
+     */
+    public void configure(Settings settings) {
+        state = new State(settings, newBucket(settings.globalRatePerSecond(), settings.globalBurst()),
+                new ConcurrentHashMap<>(), new Semaphore(settings.queueCapacity()));
+    }
+
+    public Settings getSettings() {
+        return state.settings();
+    }
+
+    public void reset() {
+        configure(configuredSettings);
+    }
+
+    /**
+     * Sends through {@code call} once it is this send's turn and tokens for
+     * {@code fromNumber} and the account are available. The business is
+     * taken from {@link SmsTenant}.
+     *
+     * @return whether the provider accepted the message
+     */
+    public boolean dispatch(String fromNumber, SmsPriority priority, ProviderCall call) {
+        State current = state;
+        Settings settings = current.settings();
+        if (!settings.enabled()) {
+            return call.send().outcome() == Outcome.SENT;
+        }
+        UUID businessId = SmsTenant.current();
+        if (!current.slots().tryAcquire()) {
+            reject("queue_full", fromNumber, businessId);
+            return false;
+        }
+        try {
+            long deadline = System.nanoTime() + settings.maxWait().toNanos();
+            TokenBucket number = current.perNumber().computeIfAbsent(fromNumber,
+                    key -> newBucket(settings.perNumberRatePerSecond(), settings.perNumberBurst()));
+            String tenant = businessId != null ? businessId.toString() : BusinessTagLimiter.NONE;
+            double weight = tenantWeights.weight(businessId);
+            for (int attempt = 1; ; attempt++) {
+                WeightedFairQueue.Ticket ticket = queue.enqueue(tenant, weight, priority);
+                boolean granted = queue.awaitTurn(ticket, deadline,
+                        () -> Math.max(number.waitNanos(), current.global().waitNanos()),
+                        () -> {
+                            number.reserve(0);
+                            current.global().reserve(0);
+                        });
+                Timer.builder("sms.dispatch.wait")
+                        .description("Time sends spent queued for their turn and rate-limit tokens")
+                        .tags("business", businessTagLimiter.tag(businessId),
+                                "priority", priority.name(),
+                                "outcome", granted ? "granted" : "timeout")
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - ticket.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                if (!granted) {
+                    reject("timeout", fromNumber, businessId);
+                    return false;
+                }
+
+                Attempt result = call.send();
+                if (result.outcome() != Outcome.RATE_LIMITED) {
+                    return result.outcome() == Outcome.SENT;
+                }
+
+                Duration pause = result.retryAfter() != null ? result.retryAfter() : settings.retryAfter();
+                long until = System.nanoTime() + pause.toNanos();
+                // A 429 means the account is over its cap, not only this number
+                current.global().pauseUntil(until);
+                number.pauseUntil(until);
+                if (attempt >= settings.maxAttempts()) {
+                    logger.warn("SMS from {} still rate limited after {} attempts", fromNumber, attempt);
+                    return false;
+                }
+                retries.increment();
+                logger.debug("SMS from {} rate limited, retrying after {}", fromNumber, pause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            current.slots().release();
+        }
+    }
+
+    private void reject(String reason, String fromNumber, UUID businessId) {
+        Counter.builder("sms.dispatch.rejected")
+                .description("Sends dropped by the dispatcher before reaching the provider")
+                .tags("reason", reason, "business", businessTagLimiter.tag(businessId))
+                .register(meterRegistry)
+                .increment();
+        logger.warn("SMS from {} for business {} not dispatched: {}", fromNumber, businessId, reason);
+    }
+
+    private static TokenBucket newBucket(double ratePerSecond, int burst) {
+        return new TokenBucket(ratePerSecond, burst, System::nanoTime);
+    }
+}
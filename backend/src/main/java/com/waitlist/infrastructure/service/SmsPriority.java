@@ -0,0 +1,14 @@
+package com.waitlist.infrastructure.service;
+
+/**
+ * Scheduling class of an outbound SMS. Higher classes are always served
+ * first; within a class businesses share throughput by weight.
+ */
+public enum SmsPriority {
+    /** The customer is standing by, e.g. their table is ready. */
+    URGENT,
+    /** Direct answer to something the customer just did. */
+    TRANSACTIONAL,
+    /** Reminders, staff messages and broadcasts. */
+    BULK
+}
@@ -0,0 +1,21 @@
+package com.waitlist.infrastructure.service;
+
+/**
+ * One SMS gateway account that {@link SmsRouter} can send through. Adapters
+ * make a single provider call and report its outcome; pacing, retries and
+ * failover are left to the caller.
+ */
+public interface SmsProvider {
+
+    /**
+     * Short unique name, used in logs and as the {@code provider} metric tag.
+     */
+    String name();
+
+    /**
+     * Number messages are sent from, which {@link SmsDispatcher} paces by.
+     */
+    String fromNumber();
+
+    SmsDispatcher.Attempt send(String phoneNumber, String message);
+}
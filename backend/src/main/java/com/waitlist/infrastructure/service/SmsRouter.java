@@ -0,0 +1,295 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.domain.service.SmsTenant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks which {@link SmsProvider} sends each message.
+ *
+ * Providers whose {@link CircuitBreaker} is closed are tried fastest first,
+ * by an exponentially weighted average of the latency of their accepted
+ * sends; a provider with none yet ranks first so it gets measured. Failures
+ * and 429s often answer fast, so they are left to the breaker rather than
+ * counted as speed. A failed send fails over to
+ * the next provider. Urgent sends can be hedged: if the first provider has
+ * not answered within {@code hedgeDelay}, the next one is tried alongside
+ * it and whichever accepts first wins. The customer may then get the
+ * message twice, which is the price of not leaving them waiting for a table.
+ *
+ * Every provider call goes through the {@link Pacer}, normally
+ * {@link SmsDispatcher#dispatch}, under that provider's sending number.
+ */
+public class SmsRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsRouter.class);
+
+    public record Settings(CircuitBreaker.Settings circuit, double latencySmoothing, boolean hedgeEnabled,
+            Duration hedgeDelay) {
+
+        public Settings {
+            if (latencySmoothing <= 0 || latencySmoothing > 1) {
+                throw new IllegalArgumentException("latencySmoothing must be in (0, 1]");
+            }
+            if (hedgeDelay.isNegative()) {
+                throw new IllegalArgumentException("hedgeDelay must not be negative");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Pacer {
+        boolean dispatch(String fromNumber, SmsPriority priority, SmsDispatcher.ProviderCall call);
+    }
+
+    private final class Route {
+
+        private final SmsProvider provider;
+        private final CircuitBreaker breaker;
+        private final Timer latency;
+        private double averageNanos = Double.NaN;
+
+        private Route(SmsProvider provider) {
+            this.provider = provider;
+            this.breaker = new CircuitBreaker(settings.circuit(), nanoClock, state -> {
+                logger.warn("SMS provider {} circuit {}", provider.name(), state);
+                Counter.builder("sms.routing.circuit.transitions")
+                        .description("Circuit breaker state changes per provider")
+                        .tags("provider", provider.name(), "state", tag(state))
+                        .register(meterRegistry)
+                        .increment();
+            });
+            this.latency = Timer.builder("sms.routing.latency")
+                    .description("Provider call latency")
+                    .tag("provider", provider.name())
+                    .register(meterRegistry);
+        }
+
+        private synchronized double averageNanos() {
+            return Double.isNaN(averageNanos) ? 0 : averageNanos;
+        }
+
+        private synchronized void observe(long nanos) {
+            averageNanos = Double.isNaN(averageNanos)
+                    ? nanos
+                    : averageNanos + settings.latencySmoothing() * (nanos - averageNanos);
+        }
+    }
+
+    private final Settings settings;
+    private final Pacer pacer;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final List<Route> routes = new ArrayList<>();
+    private final Counter unavailable;
+
+    public SmsRouter(List<SmsProvider> providers, Settings settings, Pacer pacer, Executor executor,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.pacer = pacer;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        for (SmsProvider provider : providers) {
+            Route route = new Route(provider);
+            routes.add(route);
+            Gauge.builder("sms.routing.circuit.state", route, r -> r.breaker.state().ordinal())
+                    .description("Circuit state per provider: 0 closed, 1 half-open, 2 open")
+                    .tag("provider", provider.name())
+                    .register(meterRegistry);
+            Gauge.builder("sms.routing.latency.score", route, r -> r.averageNanos() / 1_000_000)
+                    .description("Smoothed latency in milliseconds that providers are ranked by")
+                    .tag("provider", provider.name())
+                    .register(meterRegistry);
+        }
+        this.unavailable = Counter.builder("sms.routing.unavailable")
+                .description("Sends dropped because every provider's circuit was open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return whether some provider accepted the message
+     */
+    public boolean send(String phoneNumber, String message, SmsPriority priority) {
+        List<Route> ranked = routes.stream()
+                .filter(route -> route.breaker.isAvailable())
+                .sorted(Comparator.comparingDouble(Route::averageNanos))
+                .toList();
+        if (ranked.isEmpty()) {
+            unavailable.increment();
+            logger.warn("No SMS provider available, message to {} not sent", phoneNumber);
+            return false;
+        }
+        if (settings.hedgeEnabled() && priority == SmsPriority.URGENT && ranked.size() > 1) {
+            return sendHedged(ranked, phoneNumber, message, priority);
+        }
+        return sendInOrder(ranked, null, phoneNumber, message, priority);
+    }
+
+    private boolean sendInOrder(List<Route> ranked, Route failed, String phoneNumber, String message,
+            SmsPriority priority) {
+        Route previous = failed;
+        for (Route route : ranked) {
+            if (!route.breaker.tryAcquire()) {
+                continue;
+            }
+            if (previous != null) {
+                failover(previous, route);
+            }
+            if (attempt(route, previous == null ? "primary" : "failover", phoneNumber, message, priority)) {
+                return true;
+            }
+            previous = route;
+        }
+        return false;
+    }
+
+    private boolean sendHedged(List<Route> ranked, String phoneNumber, String message, SmsPriority priority) {
+        Route primary = acquireFirst(ranked);
+        if (primary == null) {
+            return false;
+        }
+        List<Route> others = without(ranked, primary);
+        UUID tenant = SmsTenant.current();
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> SmsTenant.callAs(tenant, () -> attempt(primary, "primary", phoneNumber, message, priority)),
+                executor);
+        try {
+            if (first.get(settings.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            // Failed before the hedge was due, so fail over as usual
+            return sendInOrder(others, primary, phoneNumber, message, priority);
+        } catch (TimeoutException e) {
+            // Slow: hedge below
+        } catch (ExecutionException e) {
+            logger.error("SMS to {} through {} failed: {}", phoneNumber, primary.provider.name(),
+                    e.getCause().getMessage());
+            return sendInOrder(others, primary, phoneNumber, message, priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        Route backup = acquireFirst(others);
+        if (backup == null) {
+            return first.join();
+        }
+        logger.info("SMS to {} through {} slow after {}, hedging through {}", phoneNumber,
+                primary.provider.name(), settings.hedgeDelay(), backup.provider.name());
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> SmsTenant.callAs(tenant, () -> attempt(backup, "hedge", phoneNumber, message, priority)),
+                executor);
+
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        first.whenComplete((sent, error) -> settle(winner, pending, Boolean.TRUE.equals(sent), "primary"));
+        second.whenComplete((sent, error) -> settle(winner, pending, Boolean.TRUE.equals(sent), "hedge"));
+        String won;
+        try {
+            won = winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            won = "none";
+        }
+        Counter.builder("sms.routing.hedges")
+                .description("Hedged sends, by which attempt was accepted first")
+                .tag("winner", won)
+                .register(meterRegistry)
+                .increment();
+        if (!won.equals("none")) {
+            return true;
+        }
+        return sendInOrder(without(others, backup), backup, phoneNumber, message, priority);
+    }
+
+    private boolean attempt(Route route, String role, String phoneNumber, String message, SmsPriority priority) {
+        SmsDispatcher.Attempt[] last = new SmsDispatcher.Attempt[1];
+        boolean sent = false;
+        try {
+            sent = pacer.dispatch(route.provider.fromNumber(), priority, () -> {
+                long started = nanoClock.getAsLong();
+                SmsDispatcher.Attempt result = route.provider.send(phoneNumber, message);
+                long elapsed = nanoClock.getAsLong() - started;
+                route.latency.record(elapsed, TimeUnit.NANOSECONDS);
+                if (result.outcome() == SmsDispatcher.Outcome.SENT) {
+                    route.observe(elapsed);
+                }
+                last[0] = result;
+                return result;
+            });
+        } finally {
+            SmsDispatcher.Attempt result = last[0];
+            if (result == null) {
+                route.breaker.release();
+            } else if (result.outcome() == SmsDispatcher.Outcome.FAILED) {
+                route.breaker.onFailure();
+            } else {
+                route.breaker.onSuccess();
+            }
+        }
+        Counter.builder("sms.routing.sends")
+                .description("Send attempts per provider, by role and outcome")
+                .tags("provider", route.provider.name(), "role", role,
+                        "outcome", last[0] == null ? "rejected"
+                                : sent ? "sent" : last[0].outcome().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        return sent;
+    }
+
+    private void failover(Route from, Route to) {
+        logger.info("Failing over SMS from {} to {}", from.provider.name(), to.provider.name());
+        Counter.builder("sms.routing.failovers")
+                .description("Sends retried on another provider after a failure")
+                .tags("from", from.provider.name(), "to", to.provider.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void settle(CompletableFuture<String> winner, AtomicInteger pending, boolean sent, String role) {
+        if (sent) {
+            winner.complete(role);
+        } else if (pending.decrementAndGet() == 0) {
+            winner.complete("none");
+        }
+    }
+
+    private static Route acquireFirst(List<Route> ranked) {
+        for (Route route : ranked) {
+            if (route.breaker.tryAcquire()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static List<Route> without(List<Route> routes, Route excluded) {
+        return routes.stream().filter(route -> route != excluded).toList();
+    }
+
+    private static String tag(CircuitBreaker.State state) {
+        return state.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,321 @@
+package com.waitlist.infrastructure.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waitlist.domain.service.SmsTenant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Tracks the delivery status of outbound messages in sms_message_status,
+ * one row per provider message SID.
+ *
+ * Accepted sends and provider status callbacks are only put on a bounded
+ * in-memory buffer; a scheduled flush drains it in batches, merges updates
+ * for the same SID and writes each batch as one batched upsert in a single
+ * transaction, so a burst of callbacks costs a few round trips instead of
+ * a transaction each. A full buffer refuses further callbacks so the
+ * provider retries them later. Updates never move a message back to an
+ * earlier status, whatever order they arrive in. Reads see what has been
+ * flushed, which lags by at most {@code sms.status.flush-interval-ms}.
+ */
+@Service
+public class SmsStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsStatusService.class);
+
+    private static final String COLUMNS = "message_sid, provider, business_id, to_phone, status, status_rank, " +
+            "error_code, created_at, updated_at";
+
+    private static final String INSERT = "INSERT INTO sms_message_status (" + COLUMNS + ") " +
+            "VALUES (:sid, :provider, :businessId, :toPhone, :status, :rank, :errorCode, :at, :at)";
+
+    private static final String UPSERT = INSERT + " ON CONFLICT (message_sid) DO UPDATE SET " +
+            "business_id = COALESCE(sms_message_status.business_id, EXCLUDED.business_id), " +
+            "to_phone = COALESCE(sms_message_status.to_phone, EXCLUDED.to_phone), " +
+            "status = CASE WHEN EXCLUDED.status_rank >= sms_message_status.status_rank " +
+            "THEN EXCLUDED.status ELSE sms_message_status.status END, " +
+            "error_code = CASE WHEN EXCLUDED.status_rank >= sms_message_status.status_rank " +
+            "THEN COALESCE(EXCLUDED.error_code, sms_message_status.error_code) " +
+            "ELSE sms_message_status.error_code END, " +
+            "status_rank = GREATEST(sms_message_status.status_rank, EXCLUDED.status_rank), " +
+            "created_at = LEAST(sms_message_status.created_at, EXCLUDED.created_at), " +
+            "updated_at = GREATEST(sms_message_status.updated_at, EXCLUDED.updated_at)";
+
+    private static final String UPDATE = "UPDATE sms_message_status SET " +
+            "business_id = COALESCE(business_id, :businessId), " +
+            "to_phone = COALESCE(to_phone, :toPhone), " +
+            "status = CASE WHEN :rank >= status_rank THEN :status ELSE status END, " +
+            "error_code = CASE WHEN :rank >= status_rank THEN COALESCE(:errorCode, error_code) ELSE error_code END, " +
+            "status_rank = GREATEST(status_rank, :rank), " +
+            "created_at = LEAST(created_at, :at), " +
+            "updated_at = GREATEST(updated_at, :at) " +
+            "WHERE message_sid = :sid";
+
+    /**
+     * One observation of a message's status. {@code businessId} and
+     * {@code toPhone} are only known for our own sends, not from callbacks.
+     */
+    public record StatusUpdate(String messageSid, String provider, UUID businessId, String toPhone,
+            SmsDeliveryStatus status, String errorCode, Instant at) {
+
+        private StatusUpdate mergedWith(StatusUpdate later) {
+            // Same rules as the upsert
+            boolean laterWins = later.status.rank() >= status.rank();
+            return new StatusUpdate(messageSid,
+                    provider != null ? provider : later.provider,
+                    businessId != null ? businessId : later.businessId,
+                    toPhone != null ? toPhone : later.toPhone,
+                    laterWins ? later.status : status,
+                    laterWins && later.errorCode != null ? later.errorCode : errorCode,
+                    at.isAfter(later.at) ? at : later.at);
+        }
+    }
+
+    public record MessageStatus(String messageSid, String provider, UUID businessId, String toPhone,
+            SmsDeliveryStatus status, String errorCode, Instant createdAt, Instant updatedAt) {
+    }
+
+    public record DeliveryStats(UUID businessId, Instant since, long total, long pending, long sent,
+            long delivered, long undelivered, long failed) {
+
+        /**
+         * Delivered share of the messages with a final status, or
+         * {@code null} before any has one.
+         */
+        @JsonProperty
+        public Double deliveryRate() {
+            long finished = delivered + undelivered + failed;
+            return finished > 0 ? (double) delivered / finished : null;
+        }
+    }
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sms.status.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.status.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${sms.status.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<StatusUpdate> buffer;
+    private volatile Boolean postgres;
+    private Counter dropped;
+    private Counter written;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        Gauge.builder("sms.status.buffer.depth", buffer, BlockingQueue::size)
+                .description("Status updates waiting to be written")
+                .register(meterRegistry);
+        dropped = Counter.builder("sms.status.updates.dropped")
+                .description("Status updates refused because the buffer was full, or lost in a failed write")
+                .register(meterRegistry);
+        written = Counter.builder("sms.status.updates.written")
+                .description("Rows upserted into sms_message_status, after merging updates per message")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("sms.status.flush")
+                .description("Time to write one batch of status updates")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers {@code update} for the next flush.
+     *
+     * @return {@code false} if the buffer is full
+     */
+    public boolean submit(StatusUpdate update) {
+        if (!enabled) {
+            return true;
+        }
+        if (!buffer.offer(update)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records {@code attempt} as queued if the provider accepted it with a
+     * message id, for the business in {@link SmsTenant}, and returns it.
+     */
+    public SmsDispatcher.Attempt track(String provider, String toPhone, SmsDispatcher.Attempt attempt) {
+        if (attempt.outcome() == SmsDispatcher.Outcome.SENT && attempt.messageId() != null) {
+            submit(new StatusUpdate(attempt.messageId(), provider, SmsTenant.current(), toPhone,
+                    SmsDeliveryStatus.QUEUED, null, Instant.now()));
+        }
+        return attempt;
+    }
+
+    /**
+     * {@code provider} with every accepted send {@link #track tracked}.
+     */
+    public SmsProvider tracking(SmsProvider provider) {
+        return new SmsProvider() {
+            @Override
+            public String name() {
+                return provider.name();
+            }
+
+            @Override
+            public String fromNumber() {
+                return provider.fromNumber();
+            }
+
+            @Override
+            public SmsDispatcher.Attempt send(String phoneNumber, String message) {
+                return track(provider.name(), phoneNumber, provider.send(phoneNumber, message));
+            }
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${sms.status.flush-interval-ms:500}")
+    public void flush() {
+        List<StatusUpdate> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                flushTimer.record(() -> write(batch));
+            } catch (Exception e) {
+                // Drop this batch rather than retry it forever; the rest stays buffered for the next run
+                dropped.increment(batch.size());
+                logger.error("Error writing {} SMS status updates: {}", batch.size(), e.getMessage(), e);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public Optional<MessageStatus> findMessage(String messageSid) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM sms_message_status WHERE message_sid = :sid",
+                new MapSqlParameterSource("sid", messageSid),
+                (rs, rowNum) -> toMessageStatus(rs)).stream().findFirst();
+    }
+
+    /**
+     * Current status of the business's messages sent since {@code since}.
+     */
+    public DeliveryStats findBusinessStats(UUID businessId, Instant since) {
+        Map<SmsDeliveryStatus, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) AS messages FROM sms_message_status " +
+                        "WHERE business_id = :businessId AND created_at >= :since GROUP BY status",
+                new MapSqlParameterSource()
+                        .addValue("businessId", businessId)
+                        .addValue("since", Timestamp.from(since)),
+                rs -> {
+                    counts.put(SmsDeliveryStatus.valueOf(rs.getString("status")), rs.getLong("messages"));
+                });
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new DeliveryStats(businessId, since, total,
+                counts.getOrDefault(SmsDeliveryStatus.QUEUED, 0L) + counts.getOrDefault(SmsDeliveryStatus.SENDING, 0L),
+                counts.getOrDefault(SmsDeliveryStatus.SENT, 0L),
+                counts.getOrDefault(SmsDeliveryStatus.DELIVERED, 0L),
+                counts.getOrDefault(SmsDeliveryStatus.UNDELIVERED, 0L),
+                counts.getOrDefault(SmsDeliveryStatus.FAILED, 0L));
+    }
+
+    private void write(List<StatusUpdate> batch) {
+        Map<String, StatusUpdate> merged = new LinkedHashMap<>();
+        for (StatusUpdate update : batch) {
+            merged.merge(update.messageSid(), update, StatusUpdate::mergedWith);
+        }
+        MapSqlParameterSource[] params = merged.values().stream()
+                .map(SmsStatusService::params)
+                .toArray(MapSqlParameterSource[]::new);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (isPostgres()) {
+                jdbcTemplate.batchUpdate(UPSERT, params);
+                return;
+            }
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE, params);
+            List<MapSqlParameterSource> inserts = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    inserts.add(params[i]);
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, inserts.toArray(MapSqlParameterSource[]::new));
+            }
+        });
+        written.increment(params.length);
+        logger.debug("Wrote {} SMS status updates as {} rows", batch.size(), params.length);
+    }
+
+    private static MapSqlParameterSource params(StatusUpdate update) {
+        return new MapSqlParameterSource()
+                .addValue("sid", update.messageSid())
+                .addValue("provider", update.provider())
+                .addValue("businessId", update.businessId())
+                .addValue("toPhone", update.toPhone())
+                .addValue("status", update.status().name())
+                .addValue("rank", update.status().rank())
+                .addValue("errorCode", update.errorCode())
+                .addValue("at", Timestamp.from(update.at()));
+    }
+
+    private static MessageStatus toMessageStatus(ResultSet rs) throws SQLException {
+        return new MessageStatus(
+                rs.getString("message_sid"),
+                rs.getString("provider"),
+                rs.getObject("business_id", UUID.class),
+                rs.getString("to_phone"),
+                SmsDeliveryStatus.valueOf(rs.getString("status")),
+                rs.getString("error_code"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
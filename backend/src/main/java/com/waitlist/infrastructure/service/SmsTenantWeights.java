@@ -0,0 +1,68 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.domain.entity.Subscription;
+import com.waitlist.domain.entity.SubscriptionPlan;
+import com.waitlist.infrastructure.repository.SubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Share of SMS throughput each business gets when the provider is the
+ * bottleneck, from its subscription plan. Plans are read for all active
+ * subscriptions on a fixed interval so sends never query the database;
+ * businesses without an active subscription weigh as BASIC.
+ */
+@Component
+public class SmsTenantWeights {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsTenantWeights.class);
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Value("${sms.scheduling.weights.basic:1}")
+    private double basicWeight;
+
+    @Value("${sms.scheduling.weights.pro:2}")
+    private double proWeight;
+
+    @Value("${sms.scheduling.weights.enterprise:4}")
+    private double enterpriseWeight;
+
+    private volatile Map<UUID, SubscriptionPlan> plans = Map.of();
+
+    public double weight(UUID businessId) {
+        SubscriptionPlan plan = businessId != null ? plans.get(businessId) : null;
+        return weight(plan != null ? plan : SubscriptionPlan.BASIC);
+    }
+
+    public double weight(SubscriptionPlan plan) {
+        return switch (plan) {
+            case BASIC -> basicWeight;
+            case PRO -> proWeight;
+            case ENTERPRISE -> enterpriseWeight;
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${sms.scheduling.weights-refresh-ms:300000}")
+    public void refresh() {
+        try {
+            Map<UUID, SubscriptionPlan> loaded = new HashMap<>();
+            for (Subscription subscription : subscriptionRepository.findActiveSubscriptions()) {
+                loaded.put(subscription.getBusiness().getId(), subscription.getPlan());
+            }
+            plans = loaded;
+            logger.debug("Loaded SMS weights for {} subscribed businesses", loaded.size());
+        } catch (Exception e) {
+            logger.error("Error loading subscription plans for SMS weights: {}", e.getMessage(), e);
+        }
+    }
+}
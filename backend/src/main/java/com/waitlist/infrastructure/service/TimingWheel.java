@@ -0,0 +1,106 @@
+package com.waitlist.infrastructure.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel: deadlines are rounded up to a tick and kept in one
+ * of {@code wheelSize} slots by tick number, so scheduling and cancelling
+ * are O(1) and each {@link #advance} only looks at the slots of the ticks
+ * that have passed. Deadlines more than one revolution away simply stay in
+ * their slot until their tick comes round.
+ *
+ * Each key has at most one deadline; scheduling it again replaces it.
+ * Thread-safe; callers supply the time, which keeps it testable.
+ */
+public class TimingWheel<K> {
+
+    private record Timer<K>(K key, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final List<Set<Timer<K>>> slots;
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    public TimingWheel(Duration tick, int wheelSize, long startMillis) {
+        if (tick.toMillis() < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("tick and wheelSize must be positive");
+        }
+        this.tickMillis = tick.toMillis();
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new LinkedHashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Fires {@code key} on the first {@link #advance} at or after
+     * {@code deadlineMillis}; a deadline already past fires on the next one.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // Round up so nothing fires early
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Timer<K> timer = new Timer<>(key, deadlineTick);
+        timers.put(key, timer);
+        slot(deadlineTick).add(timer);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timer<K> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        slot(timer.deadlineTick()).remove(timer);
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and removes and returns the keys
+     * whose deadline has passed, earliest first.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick <= currentTick) {
+            return List.of();
+        }
+        List<Timer<K>> expired = new ArrayList<>();
+        // After a long pause every slot is due once; no need to go round more than once
+        long from = Math.max(currentTick + 1, nowTick - slots.size() + 1);
+        for (long tick = from; tick <= nowTick; tick++) {
+            Iterator<Timer<K>> slot = slot(tick).iterator();
+            while (slot.hasNext()) {
+                Timer<K> timer = slot.next();
+                if (timer.deadlineTick() <= nowTick) {
+                    slot.remove();
+                    timers.remove(timer.key());
+                    expired.add(timer);
+                }
+            }
+        }
+        currentTick = nowTick;
+        expired.sort(Comparator.comparingLong(Timer::deadlineTick));
+        return expired.stream().map(Timer::key).toList();
+    }
+
+    public synchronized boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    private Set<Timer<K>> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.waitlist.infrastructure.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket refilled at {@code ratePerSecond} and holding up
+ * to {@code burst} tokens.
+ *
+ * The bucket is kept as a single timestamp, the theoretical arrival time of
+ * the next token (the GCRA form of a token bucket), so taking a token is one
+ * compare-and-set. Callers reserve a token and are told how long to wait
+ * before using it; reservations are handed out in arrival order, which makes
+ * the waiting callers a FIFO queue without a queue data structure.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000d / ratePerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Reserves a token.
+     *
+     * @return nanoseconds to wait before the token may be used, or
+     *         {@code -1} if that would exceed {@code maxWaitNanos}, in which
+     *         case nothing is reserved
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long wait = Math.max(0, arrival - toleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, now) + intervalNanos)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds until a token could be taken without waiting; reserves
+     * nothing.
+     */
+    public long waitNanos() {
+        return Math.max(0, theoreticalArrival.get() - toleranceNanos - nanoClock.getAsLong());
+    }
+
+    /**
+     * Hands out no tokens before {@code untilNanos}, e.g. after the provider
+     * answered 429 with a Retry-After, and refills from a single token then
+     * rather than releasing a full burst at once.
+     */
+    public void pauseUntil(long untilNanos) {
+        theoreticalArrival.accumulateAndGet(untilNanos + toleranceNanos, Math::max);
+    }
+
+    /**
+     * Tokens that could be taken right now without waiting.
+     */
+    public int available() {
+        long now = nanoClock.getAsLong();
+        long backlog = Math.max(theoreticalArrival.get(), now) - toleranceNanos - now;
+        return (int) Math.max(0, -backlog / intervalNanos + (backlog <= 0 ? 1 : 0));
+    }
+}
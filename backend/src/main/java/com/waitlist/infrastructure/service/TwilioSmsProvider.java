@@ -0,0 +1,76 @@
+package com.waitlist.infrastructure.service;
+
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends through the Twilio REST API. The client must already have been
+ * initialized with {@code Twilio.init}.
+ */
+public class TwilioSmsProvider implements SmsProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwilioSmsProvider.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String fromNumber;
+
+    public TwilioSmsProvider(String fromNumber) {
+        this.fromNumber = fromNumber;
+    }
+
+    @Override
+    public String name() {
+        return "twilio";
+    }
+
+    @Override
+    public String fromNumber() {
+        return fromNumber;
+    }
+
+    @Override
+    public SmsDispatcher.Attempt send(String phoneNumber, String message) {
+        try {
+            Message sent = Message.creator(
+                    new PhoneNumber(phoneNumber),
+                    new PhoneNumber(fromNumber),
+                    message).create();
+
+            logger.info("SMS sent successfully to {} from {}, message: {}", phoneNumber, fromNumber, message);
+            return SmsDispatcher.Attempt.sent(sent.getSid());
+
+        } catch (ApiException e) {
+            String errorMessage = e.getMessage();
+            if (e.getStatusCode() != null && e.getStatusCode() == TOO_MANY_REQUESTS) {
+                // The SDK does not expose Retry-After, so the dispatcher's default applies
+                logger.warn("Twilio rate limited SMS to {} from {}: {}", phoneNumber, fromNumber, errorMessage);
+                return SmsDispatcher.Attempt.rateLimited(null);
+            }
+            logger.error("Twilio API error sending SMS to {}: {}", phoneNumber, errorMessage);
+
+            // Provide helpful error messages for common issues
+            if (errorMessage != null) {
+                if (errorMessage.contains("not a valid message-capable")) {
+                    logger.error(
+                            "The Twilio phone number {} may not be activated for SMS or may not support international messaging to {}. "
+                                    +
+                                    "Check your Twilio console: https://console.twilio.com/us1/develop/phone-numbers/manage/incoming",
+                            fromNumber, phoneNumber);
+                } else if (errorMessage.contains("unverified")) {
+                    logger.error(
+                            "This appears to be a Twilio trial account. Trial accounts can only send SMS to verified phone numbers. "
+                                    +
+                                    "Verify the number at: https://console.twilio.com/us1/develop/phone-numbers/manage/verified");
+                }
+            }
+            return SmsDispatcher.Attempt.failed();
+        } catch (Exception e) {
+            logger.error("Failed to send SMS to {}: {}", phoneNumber, e.getMessage(), e);
+            return SmsDispatcher.Attempt.failed();
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.waitlist.infrastructure.service;
 
 import com.twilio.Twilio;
-import com.twilio.exception.ApiException;
-import com.twilio.rest.api.v2010.account.Message;
-import com.twilio.type.PhoneNumber;
+import com.waitlist.domain.service.SmsMessage;
+import com.waitlist.domain.service.SmsMessages;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.infrastructure.monitoring.SmsSegmentMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,15 @@ public class TwilioSmsService implements SmsService {
 
     private static final Logger logger = LoggerFactory.getLogger(TwilioSmsService.class);
 
+    @Autowired
+    private SmsSegmentMetrics segmentMetrics;
+
+    @Autowired
+    private SmsDispatcher dispatcher;
+
+    @Autowired
+    private SmsStatusService statusService;
+
     @Value("${twilio.account-sid}")
     private String accountSid;
 
@@ -28,6 +38,8 @@ public class TwilioSmsService implements SmsService {
     @Value("${twilio.phone-number}")
     private String twilioPhoneNumber;
 
+    private SmsProvider provider;
+
     @PostConstruct
     public void init() {
         logger.info("TwilioSmsService initialization started");
@@ -35,6 +47,7 @@ public class TwilioSmsService implements SmsService {
         logger.debug("Auth Token configured: {}", authToken != null && !authToken.isEmpty());
         logger.debug("Phone Number configured: {}", twilioPhoneNumber != null && !twilioPhoneNumber.isEmpty());
 
+        provider = statusService.tracking(new TwilioSmsProvider(twilioPhoneNumber));
         if (accountSid != null && authToken != null && !accountSid.isEmpty() && !authToken.isEmpty()) {
             Twilio.init(accountSid, authToken);
             logger.info("Twilio SMS service initialized successfully with phone number: {}", twilioPhoneNumber);
@@ -48,6 +61,10 @@ public class TwilioSmsService implements SmsService {
 
     @Override
     public boolean sendSms(String phoneNumber, String message) {
+        return send(phoneNumber, message, SmsPriority.BULK);
+    }
+
+    private boolean send(String phoneNumber, String message, SmsPriority priority) {
         try {
             if (accountSid == null || authToken == null || accountSid.isEmpty() || authToken.isEmpty()) {
                 logger.warn("Twilio not configured. SMS not sent to {}", phoneNumber);
@@ -60,34 +77,8 @@ public class TwilioSmsService implements SmsService {
                 return false;
             }
 
-            Message.creator(
-                    new PhoneNumber(phoneNumber),
-                    new PhoneNumber(twilioPhoneNumber),
-                    message).create();
-
-            logger.info("SMS sent successfully to {} from {}, message: {}", phoneNumber, twilioPhoneNumber, message);
-            return true;
-
-        } catch (ApiException e) {
-            String errorMessage = e.getMessage();
-            logger.error("Twilio API error sending SMS to {}: {}", phoneNumber, errorMessage);
-
-            // Provide helpful error messages for common issues
-            if (errorMessage != null) {
-                if (errorMessage.contains("not a valid message-capable")) {
-                    logger.error(
-                            "The Twilio phone number {} may not be activated for SMS or may not support international messaging to {}. "
-                                    +
-                                    "Check your Twilio console: https://console.twilio.com/us1/develop/phone-numbers/manage/incoming",
-                            twilioPhoneNumber, phoneNumber);
-                } else if (errorMessage.contains("unverified")) {
-                    logger.error(
-                            "This appears to be a Twilio trial account. Trial accounts can only send SMS to verified phone numbers. "
-                                    +
-                                    "Verify the number at: https://console.twilio.com/us1/develop/phone-numbers/manage/verified");
-                }
-            }
-            return false;
+            return dispatcher.dispatch(twilioPhoneNumber, priority, () -> provider.send(phoneNumber, message));
+
         } catch (Exception e) {
             logger.error("Failed to send SMS to {}: {}", phoneNumber, e.getMessage(), e);
             return false;
@@ -97,41 +88,50 @@ public class TwilioSmsService implements SmsService {
     @Override
     public boolean sendWaitlistNotification(String phoneNumber, String businessName,
             Integer estimatedWaitTime, Integer position) {
-        String message = String.format(
-                "Posición #%d en %s. Espera: %d min. Te avisamos cuando esté lista.",
-                position, businessName, estimatedWaitTime);
+        SmsMessage message = SmsMessages.waitlistNotification(businessName, estimatedWaitTime, position);
+
+        segmentMetrics.record(message);
 
-        return sendSms(phoneNumber, message);
+        return send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
     }
 
     @Override
     public boolean sendTableReadyNotification(String phoneNumber, String businessName, String businessPhone) {
-        String message = String.format(
-                "¡Mesa lista en %s! Acércate a recepción. Tienes 15 min. Tel: %s",
-                businessName, businessPhone);
+        SmsMessage message = SmsMessages.tableReady(businessName, businessPhone);
 
-        return sendSms(phoneNumber, message);
+        segmentMetrics.record(message);
+
+        return send(phoneNumber, message.text(), SmsPriority.URGENT);
+    }
+
+    @Override
+    public boolean sendAlmostUpNotification(String phoneNumber, String businessName,
+            Integer estimatedWaitTime, Integer position) {
+        SmsMessage message = SmsMessages.almostUp(businessName, estimatedWaitTime, position);
+
+        segmentMetrics.record(message);
+
+        return send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
     }
 
     @Override
     public boolean sendReservationConfirmation(String phoneNumber, String businessName,
             String reservationDate, String reservationTime,
             Integer partySize) {
-        String message = String.format(
-                "Reservación confirmada en %s: %s a las %s para %d persona%s. ¡Te esperamos!",
-                businessName, reservationDate, reservationTime, partySize,
-                partySize == 1 ? "" : "s");
+        SmsMessage message = SmsMessages.reservationConfirmation(businessName, reservationDate, reservationTime, partySize);
 
-        return sendSms(phoneNumber, message);
+        segmentMetrics.record(message);
+
+        return send(phoneNumber, message.text(), SmsPriority.TRANSACTIONAL);
     }
 
     @Override
     public boolean sendReservationReminder(String phoneNumber, String businessName,
             String reservationDate, String reservationTime) {
-        String message = String.format(
-                "Recordatorio: Reservación en %s mañana (%s) a las %s. Llega 5 min antes.",
-                businessName, reservationDate, reservationTime);
+        SmsMessage message = SmsMessages.reservationReminder(businessName, reservationDate, reservationTime);
+
+        segmentMetrics.record(message);
 
-        return sendSms(phoneNumber, message);
+        return send(phoneNumber, message.text(), SmsPriority.BULK);
     }
 }
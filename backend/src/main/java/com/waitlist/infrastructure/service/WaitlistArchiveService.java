@@ -0,0 +1,118 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.infrastructure.config.WaitlistHistoryMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves finished (SEATED or CANCELLED) waitlist entries out of the live
+ * waitlist_entries table into waitlist_entries_history, so the active-queue
+ * queries, the MAX(position) probe and the position-shifting UPDATE only touch
+ * roughly today's queues.
+ *
+ * Rows are moved in small keyset batches (ordered by id, which is time-ordered
+ * for new rows) with one short transaction per batch, so the job never holds
+ * long locks on the live table.
+ */
+@Service
+public class WaitlistArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistArchiveService.class);
+
+    private static final String COLUMNS = WaitlistHistoryMigration.ENTRY_COLUMNS;
+    private static final String FINISHED = "status IN ('SEATED', 'CANCELLED') AND updated_at < :cutoff";
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${waitlist.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${waitlist.archive.older-than:PT12H}")
+    private Duration olderThan;
+
+    @Value("${waitlist.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${waitlist.archive.interval-ms:300000}",
+            fixedDelayString = "${waitlist.archive.interval-ms:300000}")
+    public void archiveOnSchedule() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int archived = archiveFinishedEntries(olderThan, batchSize);
+            if (archived > 0) {
+                logger.info("Archived {} finished waitlist entries older than {}", archived, olderThan);
+            }
+        } catch (Exception e) {
+            logger.error("Error archiving waitlist entries: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Archives every entry that finished more than {@code age} ago.
+     *
+     * @return the number of entries moved
+     */
+    public int archiveFinishedEntries(Duration age, int batchSize) {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(age));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int archived = 0;
+        UUID lastId = MIN_ID;
+        while (true) {
+            UUID after = lastId;
+            List<UUID> ids = transaction.execute(status -> moveBatch(cutoff, after, batchSize));
+            if (ids == null || ids.isEmpty()) {
+                return archived;
+            }
+            archived += ids.size();
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                return archived;
+            }
+        }
+    }
+
+    private List<UUID> moveBatch(Timestamp cutoff, UUID after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("after", after)
+                .addValue("limit", limit);
+
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM waitlist_entries WHERE " + FINISHED + " AND id > :after " +
+                "ORDER BY id LIMIT :limit",
+                params, UUID.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        params.addValue("ids", ids).addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(
+                "INSERT INTO waitlist_entries_history (" + COLUMNS + ", archived_at) " +
+                "SELECT " + COLUMNS + ", :archivedAt FROM waitlist_entries WHERE id IN (:ids)",
+                params);
+        jdbcTemplate.update("DELETE FROM waitlist_entries WHERE id IN (:ids)", params);
+        return ids;
+    }
+}
@@ -0,0 +1,148 @@
+package com.waitlist.infrastructure.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Orders waiting SMS sends by priority class, then by start-time fair
+ * queuing across tenants.
+ *
+ * Each ticket gets a virtual start tag, the later of the queue's virtual
+ * time and the tenant's previous finish tag, and a finish tag
+ * {@code 1 / weight} after that. Tickets are served in finish-tag order, so
+ * a tenant with weight 4 gets four sends for every one of a tenant with
+ * weight 1 while both are backlogged, and a tenant that was idle starts
+ * level with the others instead of with saved-up credit.
+ */
+public class WeightedFairQueue {
+
+    public static final class Ticket {
+
+        private final String tenant;
+        private final SmsPriority priority;
+        private final double startTag;
+        private final double finishTag;
+        private final long sequence;
+        private final long enqueuedNanos;
+
+        private Ticket(String tenant, SmsPriority priority, double startTag, double finishTag, long sequence,
+                long enqueuedNanos) {
+            this.tenant = tenant;
+            this.priority = priority;
+            this.startTag = startTag;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        public String tenant() {
+            return tenant;
+        }
+
+        public SmsPriority priority() {
+            return priority;
+        }
+
+        public long enqueuedNanos() {
+            return enqueuedNanos;
+        }
+    }
+
+    private static final Comparator<Ticket> ORDER = Comparator
+            .comparing(Ticket::priority)
+            .thenComparingDouble(ticket -> ticket.finishTag)
+            .thenComparingLong(ticket -> ticket.sequence);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(ORDER);
+    private final Map<String, Double> lastFinish = new HashMap<>();
+    private double virtualTime;
+    private long sequence;
+
+    public Ticket enqueue(String tenant, double weight, SmsPriority priority) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+        lock.lock();
+        try {
+            double start = Math.max(virtualTime, lastFinish.getOrDefault(tenant, 0d));
+            double finish = start + 1 / weight;
+            lastFinish.put(tenant, finish);
+            Ticket ticket = new Ticket(tenant, priority, start, finish, sequence++, System.nanoTime());
+            waiting.add(ticket);
+            changed.signalAll();
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until {@code ticket} is first in line and {@code readyInNanos}
+     * reports nothing left to wait for, then runs {@code take} and removes
+     * the ticket. The first ticket re-checks whenever the line changes, so a
+     * more urgent arrival overtakes it even while it waits for a token.
+     *
+     * @return {@code false}, with the ticket removed, if that cannot happen
+     *         by {@code deadlineNanos}
+     */
+    public boolean awaitTurn(Ticket ticket, long deadlineNanos, LongSupplier readyInNanos, Runnable take)
+            throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long remaining = deadlineNanos - System.nanoTime();
+                long wait;
+                if (waiting.peek() == ticket) {
+                    long readyIn = readyInNanos.getAsLong();
+                    if (readyIn <= 0) {
+                        take.run();
+                        waiting.poll();
+                        virtualTime = ticket.startTag;
+                        lastFinish.values().removeIf(finish -> finish <= virtualTime);
+                        changed.signalAll();
+                        return true;
+                    }
+                    if (readyIn > remaining) {
+                        remove(ticket);
+                        return false;
+                    }
+                    wait = readyIn;
+                } else {
+                    if (remaining <= 0) {
+                        remove(ticket);
+                        return false;
+                    }
+                    wait = remaining;
+                }
+                changed.await(wait, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            remove(ticket);
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Ticket ticket) {
+        waiting.remove(ticket);
+        changed.signalAll();
+    }
+}
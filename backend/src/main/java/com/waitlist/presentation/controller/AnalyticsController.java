@@ -0,0 +1,102 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.application.dto.AnalyticsBucketDto;
+import com.waitlist.application.dto.PeakHourDto;
+import com.waitlist.domain.entity.User;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.ActivityRollupService;
+import com.waitlist.presentation.dto.BusinessAnalyticsDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "Business analytics served from hourly and daily rollups")
+public class AnalyticsController {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int PEAK_HOURS = 3;
+
+    @Autowired
+    private ActivityRollupService activityRollupService;
+
+    @GetMapping("/business/{businessId}")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Get business analytics",
+            description = "Covers, average wait, no-show and cancel rates and peak hours for a date range (inclusive)")
+    public ResponseEntity<BusinessAnalyticsDto> getBusinessAnalytics(@PathVariable UUID businessId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "DAY") ActivityRollupService.Granularity granularity,
+            Authentication authentication) {
+        CustomUserDetailsService.CustomUserPrincipal userPrincipal = (CustomUserDetailsService.CustomUserPrincipal) authentication
+                .getPrincipal();
+        User currentUser = userPrincipal.getUser();
+
+        boolean isPlatformAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_PLATFORM_ADMIN"));
+        if (!isPlatformAdmin && !currentUser.hasBusiness(businessId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.plusDays(1).atStartOfDay();
+
+        List<AnalyticsBucketDto> buckets = activityRollupService.findBuckets(businessId, granularity, rangeStart, rangeEnd);
+        List<PeakHourDto> peakHours = activityRollupService.findPeakHours(businessId, rangeStart, rangeEnd, PEAK_HOURS);
+
+        AnalyticsBucketDto totals = new AnalyticsBucketDto(null, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        for (AnalyticsBucketDto bucket : buckets) {
+            totals = totals.plus(bucket);
+        }
+
+        return ResponseEntity.ok(new BusinessAnalyticsDto(businessId, start, end, granularity.name(), totals,
+                rate(totals.getWaitlistNoShows(), totals.getWaitlistNotified()),
+                rate(totals.getWaitlistCancelled(), totals.getWaitlistJoined()),
+                rate(totals.getReservationsCancelled(),
+                        totals.getReservationsConfirmed() + totals.getReservationsCancelled()),
+                peakHours, buckets));
+    }
+
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN')")
+    @Operation(summary = "Backfill analytics rollups",
+            description = "Rebuild the rollups of a closed date range (inclusive) from raw waitlist and reservation data")
+    public ResponseEntity<Object> backfill(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int rows = activityRollupService.backfill(from, to);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("from", from);
+        response.put("to", to);
+        response.put("rollupRows", rows);
+        return ResponseEntity.ok(response);
+    }
+
+    private Double rate(long count, long total) {
+        if (total == 0) {
+            return null;
+        }
+        return Math.round(count * 1000.0 / total) / 1000.0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+/**
+ * Whether the caller may act on a business: platform admins on any, other
+ * users on the businesses they belong to.
+ */
+final class BusinessAccess {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessAccess.class);
+
+    private BusinessAccess() {
+    }
+
+    static boolean canAccess(Authentication authentication, UUID businessId) {
+        if (authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_PLATFORM_ADMIN"))) {
+            return true;
+        }
+        if (!(authentication.getPrincipal() instanceof CustomUserDetailsService.CustomUserPrincipal principal)) {
+            return false;
+        }
+        if (!principal.getBusinessIds().contains(businessId)) {
+            logger.warn("Access denied - User {} does not have access to business: {}",
+                    principal.getUsername(), businessId);
+            return false;
+        }
+        return true;
+    }
+}
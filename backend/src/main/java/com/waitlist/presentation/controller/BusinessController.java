@@ -6,6 +6,8 @@ import com.waitlist.infrastructure.repository.BusinessRepository;
 import com.waitlist.presentation.dto.BusinessDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +29,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Business", description = "Business management endpoints")
 public class BusinessController {
 
+    private static final Logger logger = LoggerFactory.getLogger(BusinessController.class);
+
     @Autowired
     private BusinessRepository businessRepository;
 
@@ -70,7 +74,7 @@ public class BusinessController {
                         }
                     }
                 } catch (Exception e) {
-                    System.err.println("Error checking user authorization: " + e.getMessage());
+                    logger.error("Error checking user authorization", e);
                 }
             }
 
@@ -86,8 +90,7 @@ public class BusinessController {
             
             return ResponseEntity.ok(convertToDto(businessEntity));
         } catch (Exception e) {
-            System.err.println("Error in getBusinessDetails: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in getBusinessDetails", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -12,6 +12,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +31,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Customers", description = "Customer management endpoints")
 public class CustomerController {
 
+    private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
+
     @Autowired
     private CustomerRepository customerRepository;
 
@@ -68,8 +72,7 @@ public class CustomerController {
                     .collect(Collectors.toList());
             return ResponseEntity.ok(customerDtos);
         } catch (Exception e) {
-            System.err.println("Error in getAllCustomers: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in getAllCustomers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -146,19 +149,13 @@ public class CustomerController {
                 }
             }
 
+            // The saved customer already holds its businesses, no reload needed
             Customer savedCustomer = customerRepository.save(customer);
             customerRepository.flush(); // Ensure relationships are persisted
 
-            // Reload customer with businesses
-            Customer customerWithBusinesses = customerRepository.findAllWithBusinesses().stream()
-                    .filter(c -> c.getId().equals(savedCustomer.getId()))
-                    .findFirst()
-                    .orElse(savedCustomer);
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(customerWithBusinesses));
+            return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(savedCustomer));
         } catch (Exception e) {
-            System.err.println("Error in createCustomer: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in createCustomer", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -229,16 +226,9 @@ public class CustomerController {
             Customer savedCustomer = customerRepository.save(customer);
             customerRepository.flush();
 
-            // Reload customer with businesses
-            Customer customerWithBusinesses = customerRepository.findAllWithBusinesses().stream()
-                    .filter(c -> c.getId().equals(savedCustomer.getId()))
-                    .findFirst()
-                    .orElse(savedCustomer);
-
-            return ResponseEntity.ok(convertToDto(customerWithBusinesses));
+            return ResponseEntity.ok(convertToDto(savedCustomer));
         } catch (Exception e) {
-            System.err.println("Error in findOrCreateCustomer: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in findOrCreateCustomer", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -1,36 +1,70 @@
 package com.waitlist.presentation.controller;
 
+import com.waitlist.application.service.BroadcastService;
 import com.waitlist.domain.entity.Customer;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
 import com.waitlist.infrastructure.repository.CustomerRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.SmsStatusService;
+import com.waitlist.presentation.dto.BroadcastRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/notifications")
 @Tag(name = "Notifications", description = "Notification management endpoints")
 public class NotificationController {
 
+    private static final int MAX_STATS_HOURS = 24 * 31;
+
     @Autowired
     private SmsService smsService;
 
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private BroadcastService broadcastService;
+
+    @Autowired
+    private SmsStatusService smsStatusService;
+
     @PostMapping("/sms")
-    @Operation(summary = "Send SMS to customer", description = "Send SMS to a customer using Twilio")
+    @Operation(summary = "Send SMS to customer", description = "Send SMS to a customer using Twilio, on behalf of "
+            + "the given business or the sender's only business")
     public ResponseEntity<Map<String, Object>> sendSms(@Valid @RequestBody SmsRequest smsRequest,
             Authentication authentication) {
+        UUID businessId = smsRequest.getBusinessId();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetailsService.CustomUserPrincipal principal) {
+            Set<UUID> businessIds = principal.getBusinessIds();
+            if (businessId == null && businessIds.size() == 1) {
+                businessId = businessIds.iterator().next();
+            } else if (businessId != null && !BusinessAccess.canAccess(authentication, businessId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        } else if (businessId != null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        UUID tenant = businessId;
+
         try {
             // Find customer
             Optional<Customer> customer = customerRepository.findById(smsRequest.getCustomerId());
@@ -40,8 +74,8 @@ public class NotificationController {
 
             Customer customerEntity = customer.get();
 
-            // Send SMS
-            boolean success = smsService.sendSms(customerEntity.getPhone(), smsRequest.getMessage());
+            boolean success = SmsTenant.callAs(tenant,
+                    () -> smsService.sendSms(customerEntity.getPhone(), smsRequest.getMessage()));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", success);
@@ -64,24 +98,91 @@ public class NotificationController {
         }
     }
 
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Broadcast SMS", description = "Text a business's waiting customers or today's reservations. "
+            + "Returns a job id at once; poll GET /broadcast/{jobId} for progress")
+    public ResponseEntity<Object> broadcast(@Valid @RequestBody BroadcastRequest request,
+            Authentication authentication) {
+        if (!BusinessAccess.canAccess(authentication, request.getBusinessId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            BroadcastService.Job job = broadcastService.start(request.getBusinessId(), request.getAudience(),
+                    request.toFilter(), request.getMessage());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.progress());
+        } catch (RejectedExecutionException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "Too many broadcasts in progress, try again shortly");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "30")
+                    .body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    @GetMapping("/broadcast/{jobId}")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Get broadcast progress", description = "Messages sent and failed so far for a broadcast job")
+    public ResponseEntity<BroadcastService.Progress> getBroadcast(@PathVariable UUID jobId,
+            Authentication authentication) {
+        Optional<BroadcastService.Job> job = broadcastService.find(jobId);
+        if (job.isEmpty() || !BusinessAccess.canAccess(authentication, job.get().getBusinessId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job.get().progress());
+    }
+
+    @DeleteMapping("/broadcast/{jobId}")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Cancel broadcast", description = "Stop sending the rest of a broadcast")
+    public ResponseEntity<BroadcastService.Progress> cancelBroadcast(@PathVariable UUID jobId,
+            Authentication authentication) {
+        Optional<BroadcastService.Job> job = broadcastService.find(jobId);
+        if (job.isEmpty() || !BusinessAccess.canAccess(authentication, job.get().getBusinessId())) {
+            return ResponseEntity.notFound().build();
+        }
+        broadcastService.cancel(job.get());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.get().progress());
+    }
+
     @GetMapping("/status/{id}")
-    @Operation(summary = "Check SMS delivery status", description = "Check SMS delivery status (mock implementation)")
-    public ResponseEntity<Map<String, Object>> checkSmsStatus(@PathVariable String id) {
-        // This is a mock implementation since Twilio webhook integration would be more
-        // complex
-        Map<String, Object> response = new HashMap<>();
-        response.put("messageId", id);
-        response.put("status", "delivered"); // Mock status
-        response.put("timestamp", System.currentTimeMillis());
-        response.put("note",
-                "This is a mock implementation. In production, integrate with Twilio webhooks for real status tracking.");
-
-        return ResponseEntity.ok(response);
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Check SMS delivery status", description = "Latest delivery status reported by the provider "
+            + "for a message SID")
+    public ResponseEntity<SmsStatusService.MessageStatus> checkSmsStatus(@PathVariable String id,
+            Authentication authentication) {
+        Optional<SmsStatusService.MessageStatus> message = smsStatusService.findMessage(id);
+        if (message.isEmpty() || !BusinessAccess.canAccess(authentication, message.get().businessId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(message.get());
+    }
+
+    @GetMapping("/stats/business/{businessId}")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Get SMS delivery stats", description = "Current delivery status of a business's messages "
+            + "sent in the last hours")
+    public ResponseEntity<SmsStatusService.DeliveryStats> getDeliveryStats(@PathVariable UUID businessId,
+            @RequestParam(defaultValue = "24") int hours, Authentication authentication) {
+        if (!BusinessAccess.canAccess(authentication, businessId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (hours < 1 || hours > MAX_STATS_HOURS) {
+            return ResponseEntity.badRequest().build();
+        }
+        Instant since = Instant.now().minus(Duration.ofHours(hours));
+        return ResponseEntity.ok(smsStatusService.findBusinessStats(businessId, since));
     }
 
     // DTO for SMS request
     public static class SmsRequest {
         private UUID customerId;
+        private UUID businessId;
         private String message;
 
         public SmsRequest() {
@@ -100,6 +201,18 @@ public class NotificationController {
             this.customerId = customerId;
         }
 
+        /**
+         * Business the message is sent for; may be omitted by users with a
+         * single business.
+         */
+        public UUID getBusinessId() {
+            return businessId;
+        }
+
+        public void setBusinessId(UUID businessId) {
+            this.businessId = businessId;
+        }
+
         public String getMessage() {
             return message;
         }
@@ -109,4 +222,3 @@ public class NotificationController {
         }
     }
 }
-
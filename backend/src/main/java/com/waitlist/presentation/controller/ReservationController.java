@@ -1,10 +1,12 @@
 package com.waitlist.presentation.controller;
 
+import com.waitlist.application.dto.ReservationSummary;
 import com.waitlist.domain.entity.Business;
 import com.waitlist.domain.entity.Customer;
 import com.waitlist.domain.entity.Reservation;
 import com.waitlist.domain.entity.ReservationStatus;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
 import com.waitlist.infrastructure.repository.BusinessRepository;
 import com.waitlist.infrastructure.repository.CustomerRepository;
 import com.waitlist.infrastructure.repository.ReservationRepository;
@@ -61,17 +63,19 @@ public class ReservationController {
             User currentUser = userPrincipal.getUser();
             UserRole currentUserRole = currentUser.getRole();
 
-            List<Reservation> reservations;
+            List<ReservationDto> reservationDtos;
 
             if (currentUserRole == UserRole.PLATFORM_ADMIN) {
                 // PLATFORM_ADMIN sees all reservations
-                reservations = reservationRepository.findAllWithBusinessAndCustomer();
+                reservationDtos = reservationRepository.findAllReservationSummaries().stream()
+                        .map(ReservationDto::from)
+                        .toList();
             } else {
                 // Business users see only reservations for their businesses
                 java.util.Set<Business> ownedBusinesses = currentUser.getBusinesses();
 
                 if (ownedBusinesses.isEmpty()) {
-                    reservations = new java.util.ArrayList<>();
+                    reservationDtos = new java.util.ArrayList<>();
                 } else {
                     // Collect business IDs
                     java.util.List<UUID> businessIds = ownedBusinesses.stream()
@@ -83,17 +87,16 @@ public class ReservationController {
                     java.util.List<ReservationStatus> activeStatuses = java.util.Arrays.asList(
                             ReservationStatus.PENDING,
                             ReservationStatus.CONFIRMED);
-                    reservations = reservationRepository.findByBusinessIdsAndStatuses(businessIds, activeStatuses);
+                    reservationDtos = reservationRepository.findReservationSummariesByBusinessIdsAndStatuses(businessIds,
+                            activeStatuses).stream()
+                            .map(ReservationDto::from)
+                            .toList();
                 }
             }
 
-            List<ReservationDto> reservationDtos = reservations.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
             return ResponseEntity.ok(reservationDtos);
         } catch (Exception e) {
-            System.err.println("Error in getAllReservations: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in getAllReservations", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -103,36 +106,29 @@ public class ReservationController {
     public ResponseEntity<ReservationDto> getReservationById(@PathVariable UUID id) {
         Optional<Reservation> reservation = reservationRepository.findByIdWithBusinessAndCustomer(id);
         if (reservation.isPresent()) {
-            return ResponseEntity.ok(convertToDto(reservation.get()));
+            return ResponseEntity.ok(ReservationDto.from(reservation.get()));
         }
         return ResponseEntity.notFound().build();
     }
 
     @GetMapping("/business/{businessId}")
     @Operation(summary = "Get reservations by business", description = "Retrieve reservations for a specific business")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<ReservationDto>> getReservationsByBusiness(@PathVariable UUID businessId,
             @RequestParam(required = false) LocalDate date) {
-        List<Reservation> reservations;
         if (date != null) {
-            reservations = reservationRepository.findByBusinessIdAndReservationDate(businessId, date);
-        } else {
-            reservations = reservationRepository.findByBusinessIdAndStatus(businessId, ReservationStatus.PENDING);
+            return ResponseEntity.ok(
+                    toDtos(reservationRepository.findReservationSummariesByBusinessIdAndDate(businessId, date)));
         }
-
-        List<ReservationDto> reservationDtos = reservations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(reservationDtos);
+        return ResponseEntity.ok(toDtos(
+                reservationRepository.findReservationSummariesByBusinessIdAndStatus(businessId, ReservationStatus.PENDING)));
     }
 
     @GetMapping("/customer/{customerId}")
     @Operation(summary = "Get reservations by customer", description = "Retrieve reservations for a specific customer")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<ReservationDto>> getReservationsByCustomer(@PathVariable UUID customerId) {
-        List<Reservation> reservations = reservationRepository.findByCustomerId(customerId);
-        List<ReservationDto> reservationDtos = reservations.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(reservationDtos);
+        return ResponseEntity.ok(toDtos(reservationRepository.findReservationSummariesByCustomerId(customerId)));
     }
 
     @PostMapping
@@ -184,10 +180,9 @@ public class ReservationController {
             Reservation reservationForDto = reservationRepository
                     .findByIdWithBusinessAndCustomer(savedReservation.getId())
                     .orElse(savedReservation);
-            return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(reservationForDto));
+            return ResponseEntity.status(HttpStatus.CREATED).body(ReservationDto.from(reservationForDto));
         } catch (Exception e) {
-            System.err.println("Error in createReservation: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in createReservation", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -230,12 +225,12 @@ public class ReservationController {
                 try {
                     String reservationDateStr = reservation.getReservationDate().toString();
                     String reservationTimeStr = reservation.getReservationTime().toString();
-                    boolean smsSent = smsService.sendReservationConfirmation(
+                    boolean smsSent = SmsTenant.callAs(business.getId(), () -> smsService.sendReservationConfirmation(
                             customerPhone,
                             businessName,
                             reservationDateStr,
                             reservationTimeStr,
-                            reservation.getPartySize());
+                            reservation.getPartySize()));
                     if (smsSent) {
                         logger.info("Reservation confirmation SMS sent to {} for reservation {}",
                                 customerPhone, reservation.getId());
@@ -253,9 +248,9 @@ public class ReservationController {
                         reservation.getId());
             }
 
-            return ResponseEntity.ok(convertToDto(savedReservation));
+            return ResponseEntity.ok(ReservationDto.from(savedReservation));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Error in confirmReservation", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -270,7 +265,7 @@ public class ReservationController {
             // Refetch to ensure relationships are loaded
             Optional<Reservation> savedReservation = reservationRepository.findByIdWithBusinessAndCustomer(id);
             if (savedReservation.isPresent()) {
-                return ResponseEntity.ok(convertToDto(savedReservation.get()));
+                return ResponseEntity.ok(ReservationDto.from(savedReservation.get()));
             }
         }
         return ResponseEntity.badRequest().build();
@@ -310,41 +305,13 @@ public class ReservationController {
             reservation.complete();
             Reservation savedReservation = reservationRepository.save(reservation);
 
-            return ResponseEntity.ok(convertToDto(savedReservation));
+            return ResponseEntity.ok(ReservationDto.from(savedReservation));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Error in completeReservation", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private ReservationDto convertToDto(Reservation reservation) {
-        Business business = reservation.getBusiness();
-        Customer customer = reservation.getCustomer();
-
-        if (business == null || customer == null) {
-            throw new IllegalStateException("Reservation must have business and customer loaded");
-        }
-
-        ReservationDto dto = new ReservationDto(
-                reservation.getId(),
-                business.getId(),
-                customer.getId(),
-                reservation.getReservationDate(),
-                reservation.getReservationTime(),
-                reservation.getPartySize(),
-                reservation.getStatus(),
-                reservation.getSpecialRequests(),
-                reservation.getCreatedAt(),
-                reservation.getUpdatedAt());
-
-        // Add display fields
-        dto.setBusinessName(business.getName());
-        dto.setCustomerName(customer.getName());
-        dto.setCustomerPhone(customer.getPhone());
-
-        return dto;
-    }
-
     private Reservation convertToEntity(ReservationDto reservationDto, Business business, Customer customer) {
         return new Reservation(
                 business,
@@ -354,4 +321,8 @@ public class ReservationController {
                 reservationDto.getPartySize(),
                 reservationDto.getSpecialRequests());
     }
+
+    private List<ReservationDto> toDtos(List<ReservationSummary> summaries) {
+        return summaries.stream().map(ReservationDto::from).toList();
+    }
 }
@@ -0,0 +1,40 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.application.service.SeatingQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/seating")
+@Tag(name = "Seating", description = "Seating queue across the waitlist and reservations")
+public class SeatingController {
+
+    @Autowired
+    private SeatingQueueService seatingQueueService;
+
+    @GetMapping("/business/{businessId}/next")
+    @PreAuthorize("hasRole('PLATFORM_ADMIN') or hasRole('BUSINESS_OWNER') or hasRole('BUSINESS_STAFF')")
+    @Operation(summary = "Get next party for a table", description = "The waiting party or due reservation to seat "
+            + "next at a table with the given number of seats; no content when nobody fits")
+    public ResponseEntity<SeatingQueueService.SeatingCandidate> getNextParty(@PathVariable UUID businessId,
+            @RequestParam int seats, @RequestParam(defaultValue = "1") int minPartySize,
+            Authentication authentication) {
+        if (!BusinessAccess.canAccess(authentication, businessId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (seats < 1 || minPartySize < 1 || minPartySize > seats) {
+            return ResponseEntity.badRequest().build();
+        }
+        return seatingQueueService.next(businessId, seats, minPartySize)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
@@ -0,0 +1,143 @@
+package com.waitlist.presentation.controller;
+
+import com.twilio.security.RequestValidator;
+import com.waitlist.infrastructure.service.SmsDeliveryStatus;
+import com.waitlist.infrastructure.service.SmsStatusService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Receives delivery status callbacks in Twilio's format (form-encoded
+ * MessageSid, MessageStatus and ErrorCode, signed in X-Twilio-Signature).
+ * The generic HTTP provider and local stubs post the same format. Callbacks
+ * are only buffered here; {@link SmsStatusService} writes them in batches.
+ */
+@RestController
+@RequestMapping("/api/webhooks/sms")
+@Tag(name = "SMS Webhooks", description = "Delivery status callbacks from SMS providers")
+public class SmsStatusWebhookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SmsStatusWebhookController.class);
+
+    private static final Pattern PROVIDER = Pattern.compile("[a-z0-9-]{1,32}");
+    private static final int MAX_SID_LENGTH = 64;
+    private static final int MAX_ERROR_CODE_LENGTH = 16;
+
+    @Autowired
+    private SmsStatusService smsStatusService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sms.status.webhook.auth-token:}")
+    private String authToken;
+
+    @Value("${sms.status.webhook.validate-signature:true}")
+    private boolean validateSignature;
+
+    @Value("${sms.status.webhook.public-base-url:}")
+    private String publicBaseUrl;
+
+    @PostMapping(value = "/{provider}/status", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @Operation(summary = "SMS status callback", description = "Provider delivery status callback (Twilio format)")
+    public ResponseEntity<Void> statusCallback(@PathVariable String provider,
+            @RequestHeader(value = "X-Twilio-Signature", required = false) String signature,
+            HttpServletRequest request) {
+        if (!PROVIDER.matcher(provider).matches()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Map<String, String> params = new HashMap<>();
+        request.getParameterMap().forEach((name, values) -> params.put(name, values[0]));
+
+        if (validateSignature && !isSignatureValid(request, params, signature)) {
+            count("invalid_signature");
+            logger.warn("Rejected {} status callback with invalid signature from {}", provider,
+                    request.getRemoteAddr());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        String messageSid = params.getOrDefault("MessageSid", params.get("SmsSid"));
+        if (messageSid == null || messageSid.isBlank() || messageSid.length() > MAX_SID_LENGTH) {
+            count("invalid");
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<SmsDeliveryStatus> status = SmsDeliveryStatus.fromProvider(
+                params.getOrDefault("MessageStatus", params.get("SmsStatus")));
+        if (status.isEmpty()) {
+            count("ignored");
+            return ResponseEntity.noContent().build();
+        }
+
+        String errorCode = params.get("ErrorCode");
+        if (errorCode != null && errorCode.length() > MAX_ERROR_CODE_LENGTH) {
+            errorCode = errorCode.substring(0, MAX_ERROR_CODE_LENGTH);
+        }
+        boolean buffered = smsStatusService.submit(new SmsStatusService.StatusUpdate(messageSid, provider, null,
+                null, status.get(), errorCode, Instant.now()));
+        if (!buffered) {
+            count("dropped");
+            // Asks the provider to retry once the backlog has been written
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
+        }
+        count("accepted");
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isSignatureValid(HttpServletRequest request, Map<String, String> params, String signature) {
+        if (authToken == null || authToken.isEmpty()) {
+            logger.warn("SMS_STATUS_WEBHOOK_AUTH_TOKEN not set, status callbacks cannot be verified");
+            return false;
+        }
+        if (signature == null) {
+            return false;
+        }
+        // Twilio signs the URL it was configured with, which a proxy may have rewritten
+        String url = publicBaseUrl.isEmpty()
+                ? request.getRequestURL().toString()
+                : publicBaseUrl.replaceAll("/+$", "") + request.getRequestURI();
+        if (request.getQueryString() != null) {
+            url += "?" + request.getQueryString();
+            params.keySet().removeAll(queryParameterNames(request.getQueryString()));
+        }
+        return new RequestValidator(authToken).validate(url, params, signature);
+    }
+
+    // Query parameters are part of the signed URL, only POST parameters are signed separately
+    private static Set<String> queryParameterNames(String queryString) {
+        Set<String> names = new HashSet<>();
+        for (String pair : queryString.split("&")) {
+            names.add(URLDecoder.decode(pair.split("=", 2)[0], StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    private void count(String outcome) {
+        Counter.builder("sms.status.callbacks")
+                .description("Provider status callbacks received, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -19,7 +19,6 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/subscriptions")
@@ -35,24 +34,20 @@ public class SubscriptionController {
     @GetMapping
     @PreAuthorize("hasRole('PLATFORM_ADMIN')")
     @Operation(summary = "Get all subscriptions", description = "Retrieve all subscriptions (Platform Admin only)")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<SubscriptionDto>> getAllSubscriptions() {
-        List<Subscription> subscriptions = subscriptionRepository.findAllWithBusiness();
-        List<SubscriptionDto> subscriptionDtos = subscriptions.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(subscriptionDtos);
+        return ResponseEntity.ok(subscriptionRepository.findAllSubscriptionSummaries().stream()
+                .map(SubscriptionDto::from)
+                .toList());
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('PLATFORM_ADMIN')")
     @Operation(summary = "Get subscription by ID", description = "Retrieve a specific subscription by ID")
     public ResponseEntity<SubscriptionDto> getSubscriptionById(@PathVariable UUID id) {
-        Optional<Subscription> subscription = subscriptionRepository.findById(id);
+        Optional<Subscription> subscription = subscriptionRepository.findByIdWithBusiness(id);
         if (subscription.isPresent()) {
-            Subscription sub = subscription.get();
-            // Load business relationship
-            sub.getBusiness().getName();
-            return ResponseEntity.ok(convertToDto(sub));
+            return ResponseEntity.ok(convertToDto(subscription.get()));
         }
         return ResponseEntity.notFound().build();
     }
@@ -71,12 +66,11 @@ public class SubscriptionController {
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('PLATFORM_ADMIN')")
     @Operation(summary = "Get subscriptions by status", description = "Retrieve subscriptions by status")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<SubscriptionDto>> getSubscriptionsByStatus(@PathVariable SubscriptionStatus status) {
-        List<Subscription> subscriptions = subscriptionRepository.findByStatus(status);
-        List<SubscriptionDto> subscriptionDtos = subscriptions.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(subscriptionDtos);
+        return ResponseEntity.ok(subscriptionRepository.findSubscriptionSummariesByStatus(status).stream()
+                .map(SubscriptionDto::from)
+                .toList());
     }
 
     @PostMapping
@@ -9,6 +9,8 @@ import com.waitlist.presentation.dto.CreateUserRequest;
 import com.waitlist.presentation.dto.UserDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +34,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Users", description = "User management endpoints")
 public class UserController {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserController.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -62,20 +66,12 @@ public class UserController {
                 // PLATFORM_ADMIN sees all users
                 users = userRepository.findAllWithBusinesses();
             } else if (currentUserRole == UserRole.BUSINESS_OWNER) {
-                // BUSINESS_OWNER sees only their BUSINESS_STAFF
-                java.util.Set<Business> ownedBusinesses = currentUser.getBusinesses();
-                users = new java.util.ArrayList<>();
-                for (Business ownedBusiness : ownedBusinesses) {
-                    List<User> staffUsers = userRepository.findByBusinessIdAndIsActiveTrue(ownedBusiness.getId());
-                    for (User staffUser : staffUsers) {
-                        // Load businesses relationship
-                        staffUser.getBusinesses().size();
-                        // Only include BUSINESS_STAFF
-                        if (staffUser.getRole() == UserRole.BUSINESS_STAFF) {
-                            users.add(staffUser);
-                        }
-                    }
-                }
+                // BUSINESS_OWNER sees only their BUSINESS_STAFF, loaded with their businesses in one query
+                java.util.Set<UUID> ownedBusinessIds = userPrincipal.getBusinessIds();
+                users = ownedBusinessIds.isEmpty()
+                        ? new java.util.ArrayList<>()
+                        : userRepository.findActiveByBusinessIdsAndRoleWithBusinesses(ownedBusinessIds,
+                                UserRole.BUSINESS_STAFF);
             } else {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
@@ -83,24 +79,7 @@ public class UserController {
             // Remove duplicates that might occur from LEFT JOIN FETCH
             java.util.Map<UUID, User> uniqueUsersMap = new java.util.LinkedHashMap<>();
             for (User user : users) {
-                if (!uniqueUsersMap.containsKey(user.getId())) {
-                    uniqueUsersMap.put(user.getId(), user);
-                    // Force initialization of businesses within transaction
-                    java.util.Set<Business> businesses = user.getBusinesses();
-                    if (businesses != null) {
-                        int size = businesses.size(); // Trigger Hibernate to load the collection
-                        System.out.println("User " + user.getUsername() + " has " + size + " businesses");
-                        // Initialize each business
-                        for (Business business : businesses) {
-                            business.getId(); // Ensure business is fully loaded
-                            business.getName(); // Ensure name is loaded
-                            System.out
-                                    .println("  - Business: " + business.getName() + " (ID: " + business.getId() + ")");
-                        }
-                    } else {
-                        System.out.println("User " + user.getUsername() + " has null businesses");
-                    }
-                }
+                uniqueUsersMap.putIfAbsent(user.getId(), user);
             }
 
             // Convert to DTOs
@@ -108,11 +87,10 @@ public class UserController {
                     .map(this::convertToDto)
                     .collect(Collectors.toList());
 
-            System.out.println("Returning " + userDtos.size() + " users");
+            logger.debug("Returning {} users", userDtos.size());
             return ResponseEntity.ok(userDtos);
         } catch (Exception e) {
-            System.err.println("Error in getAllUsers: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in getAllUsers", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -122,12 +100,9 @@ public class UserController {
     @Operation(summary = "Get user by ID", description = "Retrieve a specific user by ID")
     @Transactional
     public ResponseEntity<UserDto> getUserById(@PathVariable UUID id) {
-        Optional<User> user = userRepository.findById(id);
+        Optional<User> user = userRepository.findByIdWithBusinesses(id);
         if (user.isPresent()) {
-            User userEntity = user.get();
-            // Load businesses relationship
-            userEntity.getBusinesses().size();
-            return ResponseEntity.ok(convertToDto(userEntity));
+            return ResponseEntity.ok(convertToDto(user.get()));
         }
         return ResponseEntity.notFound().build();
     }
@@ -137,9 +112,7 @@ public class UserController {
     @Operation(summary = "Get users by business ID", description = "Retrieve all users for a specific business")
     @Transactional
     public ResponseEntity<List<UserDto>> getUsersByBusiness(@PathVariable UUID businessId) {
-        List<User> users = userRepository.findByBusinessIdAndIsActiveTrue(businessId);
-        // Load businesses relationship for each user
-        users.forEach(u -> u.getBusinesses().size());
+        List<User> users = userRepository.findActiveByBusinessIdsWithBusinesses(List.of(businessId));
         List<UserDto> userDtos = users.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -179,14 +152,12 @@ public class UserController {
                 }
 
                 // Check limit: BUSINESS_OWNER can only create max 3 BUSINESS_STAFF
-                // Count existing BUSINESS_STAFF users for businesses owned by current user
-                int existingStaffCount = 0;
-                for (Business ownedBusiness : currentUser.getBusinesses()) {
-                    List<User> staffUsers = userRepository.findByBusinessIdAndIsActiveTrue(ownedBusiness.getId());
-                    existingStaffCount += (int) staffUsers.stream()
-                            .filter(u -> u.getRole() == UserRole.BUSINESS_STAFF)
-                            .count();
-                }
+                // Sum the BUSINESS_STAFF of each business owned by current user
+                long existingStaffCount = userRepository
+                        .countActiveUsersByRoleForBusinesses(userPrincipal.getBusinessIds()).stream()
+                        .filter(c -> c.getRole() == UserRole.BUSINESS_STAFF)
+                        .mapToLong(UserRepository.RoleCount::getUserCount)
+                        .sum();
 
                 if (existingStaffCount >= 3) {
                     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -218,11 +189,9 @@ public class UserController {
             }
 
             // Validate that all businesses exist
-            for (UUID businessId : createUserRequest.getBusinessIds()) {
-                Optional<Business> business = businessRepository.findById(businessId);
-                if (business.isEmpty()) {
-                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-                }
+            List<Business> businesses = findAllBusinesses(createUserRequest.getBusinessIds());
+            if (businesses == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
             }
 
             // Create user - use email as username
@@ -234,15 +203,8 @@ public class UserController {
 
             user.setIsActive(createUserRequest.getIsActive() != null ? createUserRequest.getIsActive() : true);
 
-            // Assign businesses - ensure entities are managed
-            for (UUID businessId : createUserRequest.getBusinessIds()) {
-                Optional<Business> businessOpt = businessRepository.findById(businessId);
-                if (businessOpt.isEmpty()) {
-                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-                }
-                Business business = businessOpt.get();
-                user.addBusiness(business);
-            }
+            // Assign businesses - entities are managed by the current transaction
+            businesses.forEach(user::addBusiness);
 
             // Save user (this should persist the many-to-many relationship)
             User savedUser = userRepository.save(user);
@@ -252,7 +214,6 @@ public class UserController {
 
             // Get the saved user ID before clearing context
             UUID savedUserId = savedUser.getId();
-            System.out.println("Saved user ID: " + savedUserId);
 
             // Clear persistence context to force fresh load from database
             entityManager.clear();
@@ -261,31 +222,22 @@ public class UserController {
             Optional<User> reloadedUserOpt = userRepository.findByIdWithBusinesses(savedUserId);
 
             if (reloadedUserOpt.isEmpty()) {
-                System.err.println("ERROR: User not found after save with ID: " + savedUser.getId());
+                logger.error("User not found after save with ID: {}", savedUser.getId());
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
             }
 
             User userWithBusinesses = reloadedUserOpt.get();
 
-            // Force load businesses collection to avoid any lazy loading issues
             if (userWithBusinesses.getBusinesses() != null) {
-                int size = userWithBusinesses.getBusinesses().size();
-                System.out.println("Reloaded user has " + size + " businesses");
-
-                // Access each business to ensure they're fully loaded
-                for (Business b : userWithBusinesses.getBusinesses()) {
-                    UUID id = b.getId();
-                    String name = b.getName();
-                    System.out.println("  - Business: " + name + " (ID: " + id + ")");
-                }
+                logger.debug("Created user {} with {} businesses", savedUserId,
+                        userWithBusinesses.getBusinesses().size());
             } else {
-                System.err.println("WARNING: Reloaded user has null businesses collection");
+                logger.warn("Reloaded user has null businesses collection");
             }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(userWithBusinesses));
         } catch (Exception e) {
-            System.err.println("Error in createUser: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in createUser", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -296,16 +248,13 @@ public class UserController {
     @Operation(summary = "Update user", description = "Update an existing user")
     public ResponseEntity<UserDto> updateUser(@PathVariable UUID id,
             @Valid @RequestBody CreateUserRequest updateUserRequest) {
-        Optional<User> existingUser = userRepository.findById(id);
+        Optional<User> existingUser = userRepository.findByIdWithBusinesses(id);
         if (existingUser.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         User user = existingUser.get();
 
-        // Load businesses relationship
-        user.getBusinesses().size();
-
         // Use email as username
         String newUsername = updateUserRequest.getEmail();
 
@@ -322,11 +271,9 @@ public class UserController {
         }
 
         // Validate that all businesses exist
-        for (UUID businessId : updateUserRequest.getBusinessIds()) {
-            Optional<Business> business = businessRepository.findById(businessId);
-            if (business.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-            }
+        List<Business> businesses = findAllBusinesses(updateUserRequest.getBusinessIds());
+        if (businesses == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
         // Update user fields - username is automatically set to email
@@ -343,10 +290,7 @@ public class UserController {
 
         // Update businesses
         user.getBusinesses().clear();
-        for (UUID businessId : updateUserRequest.getBusinessIds()) {
-            Business business = businessRepository.findById(businessId).get();
-            user.addBusiness(business);
-        }
+        businesses.forEach(user::addBusiness);
 
         User savedUser = userRepository.save(user);
         return ResponseEntity.ok(convertToDto(savedUser));
@@ -391,27 +335,21 @@ public class UserController {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Loads all requested businesses in a single query.
+     *
+     * @return the businesses, or null if any of the IDs does not exist
+     */
+    private List<Business> findAllBusinesses(List<UUID> businessIds) {
+        java.util.Set<UUID> uniqueIds = new java.util.LinkedHashSet<>(businessIds);
+        List<Business> businesses = businessRepository.findAllById(uniqueIds);
+        return businesses.size() == uniqueIds.size() ? businesses : null;
+    }
+
     private UserDto convertToDto(User user) {
         try {
             java.util.Set<Business> businesses = user.getBusinesses();
 
-            System.out.println("Converting user " + user.getUsername() + " to DTO");
-
-            // Force initialization of businesses collection
-            if (businesses != null) {
-                int size = businesses.size(); // Trigger loading
-                System.out.println("  Businesses collection size: " + size);
-
-                // Access each business to ensure full loading
-                for (Business business : businesses) {
-                    UUID businessId = business.getId(); // Ensure business is loaded
-                    String businessName = business.getName(); // Ensure name is loaded
-                    System.out.println("    Business ID: " + businessId + ", Name: " + businessName);
-                }
-            } else {
-                System.out.println("  Businesses collection is null");
-            }
-
             List<UUID> businessIds = businesses != null && !businesses.isEmpty()
                     ? businesses.stream()
                             .map(Business::getId)
@@ -425,9 +363,6 @@ public class UserController {
                             .collect(Collectors.toList())
                     : new java.util.ArrayList<>();
 
-            System.out.println("  Extracted " + businessIds.size() + " businessIds and " + businessNames.size()
-                    + " businessNames");
-
             UserDto dto = new UserDto(
                     user.getId(),
                     user.getUsername(),
@@ -442,16 +377,12 @@ public class UserController {
 
             // Debug logging
             if (businessNames.isEmpty() && !businessIds.isEmpty()) {
-                System.err.println("Warning: User " + user.getUsername() + " has businessIds but no businessNames");
+                logger.warn("User {} has businessIds but no businessNames", user.getUsername());
             }
 
-            System.out.println("  Final DTO - businessIds: " + dto.getBusinessIds() + ", businessNames: "
-                    + dto.getBusinessNames());
-
             return dto;
         } catch (Exception e) {
-            System.err.println("Error converting user to DTO: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error converting user to DTO", e);
             // Return DTO with empty businesses list
             UserDto dto = new UserDto(
                     user.getId(),
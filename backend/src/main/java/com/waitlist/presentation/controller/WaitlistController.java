@@ -2,6 +2,7 @@ package com.waitlist.presentation.controller;
 
 import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
 import com.waitlist.application.dto.AddCustomerToWaitlistResponse;
+import com.waitlist.application.service.WaitlistStatsService;
 import com.waitlist.application.usecase.AddCustomerToWaitlistUseCase;
 import com.waitlist.domain.entity.Business;
 import com.waitlist.domain.entity.Customer;
@@ -9,6 +10,7 @@ import com.waitlist.domain.entity.User;
 import com.waitlist.domain.entity.WaitlistEntry;
 import com.waitlist.domain.entity.WaitlistStatus;
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.domain.service.SmsTenant;
 import com.waitlist.infrastructure.repository.BusinessRepository;
 import com.waitlist.infrastructure.repository.CustomerRepository;
 import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
@@ -16,6 +18,8 @@ import com.waitlist.infrastructure.security.CustomUserDetailsService;
 import com.waitlist.presentation.dto.WaitlistEntryDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,17 +30,19 @@ import org.springframework.security.core.Authentication;
 
 import jakarta.validation.Valid;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/waitlist")
 @Tag(name = "Waitlist", description = "Waitlist management endpoints")
 public class WaitlistController {
 
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistController.class);
+
     @Autowired
     private WaitlistEntryRepository waitlistEntryRepository;
 
@@ -52,27 +58,28 @@ public class WaitlistController {
     @Autowired
     private AddCustomerToWaitlistUseCase addCustomerToWaitlistUseCase;
 
+    @Autowired
+    private WaitlistStatsService waitlistStatsService;
+
     @GetMapping
     @Operation(summary = "List all waitlist entries", description = "List all waitlist entries for the authenticated business")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<WaitlistEntryDto>> listWaitlistEntries(Authentication authentication) {
         try {
             CustomUserDetailsService.CustomUserPrincipal userPrincipal = (CustomUserDetailsService.CustomUserPrincipal) authentication
                     .getPrincipal();
 
             UUID businessId = userPrincipal.getBusinessId();
-            List<WaitlistEntry> entries = waitlistEntryRepository.findActiveWaitlistEntries(businessId);
-            List<WaitlistEntryDto> entryDtos = entries.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(entryDtos);
+            return ResponseEntity.ok(activeEntries(businessId));
         } catch (Exception e) {
-            e.printStackTrace(); // Log the actual error
+            logger.error("Error in listWaitlistEntries", e);
             return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping("/business/{businessId}")
     @Operation(summary = "Get waitlist entries for a business", description = "Get all active waitlist entries for a specific business")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<WaitlistEntryDto>> getWaitlistByBusiness(
             @PathVariable UUID businessId,
             Authentication authentication) {
@@ -92,11 +99,7 @@ public class WaitlistController {
                     return ResponseEntity.notFound().build();
                 }
 
-                List<WaitlistEntry> entries = waitlistEntryRepository.findActiveWaitlistEntries(businessId);
-                List<WaitlistEntryDto> entryDtos = entries.stream()
-                        .map(this::convertToDto)
-                        .collect(Collectors.toList());
-                return ResponseEntity.ok(entryDtos);
+                return ResponseEntity.ok(activeEntries(businessId));
             }
 
             // For business users, check if they belong to the requested business
@@ -104,8 +107,8 @@ public class WaitlistController {
 
             // Check if user has access to this business
             if (!user.hasBusiness(businessId)) {
-                System.err.println("Access denied - User " + userPrincipal.getUsername()
-                        + " does not have access to business: " + businessId);
+                logger.warn("Access denied - User {} does not have access to business: {}",
+                        userPrincipal.getUsername(), businessId);
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
@@ -115,14 +118,9 @@ public class WaitlistController {
                 return ResponseEntity.notFound().build();
             }
 
-            List<WaitlistEntry> entries = waitlistEntryRepository.findActiveWaitlistEntries(businessId);
-            List<WaitlistEntryDto> entryDtos = entries.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(entryDtos);
+            return ResponseEntity.ok(activeEntries(businessId));
         } catch (Exception e) {
-            System.err.println("Error in getWaitlistByBusiness: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in getWaitlistByBusiness", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -130,12 +128,23 @@ public class WaitlistController {
     @GetMapping("/business/{businessId}/stats")
     @Operation(summary = "Get waitlist statistics", description = "Get waitlist statistics for a business")
     public ResponseEntity<Object> getWaitlistStats(@PathVariable UUID businessId) {
-        long waitingCount = waitlistEntryRepository.countWaitingEntries(businessId);
-        long activeCount = waitlistEntryRepository.countActiveEntries(businessId);
+        WaitlistStatsService.WaitlistStatsSnapshot snapshot = waitlistStatsService.getStats(businessId);
+
+        Map<String, Long> partySizes = new LinkedHashMap<>();
+        partySizes.put("1-2", snapshot.partiesOf1To2());
+        partySizes.put("3-4", snapshot.partiesOf3To4());
+        partySizes.put("5-6", snapshot.partiesOf5To6());
+        partySizes.put("7+", snapshot.partiesOf7Plus());
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("waitingCount", waitingCount);
-        stats.put("activeCount", activeCount);
+        stats.put("waitingCount", snapshot.waiting());
+        stats.put("activeCount", snapshot.waiting() + snapshot.notified());
+        stats.put("notifiedCount", snapshot.notified());
+        stats.put("seatedToday", snapshot.seatedToday());
+        stats.put("cancelledToday", snapshot.cancelledToday());
+        stats.put("coversWaiting", snapshot.coversWaiting());
+        stats.put("longestWaitMinutes", snapshot.longestWaitMinutes());
+        stats.put("partySizeDistribution", partySizes);
         return ResponseEntity.ok(stats);
     }
 
@@ -144,7 +153,7 @@ public class WaitlistController {
     public ResponseEntity<WaitlistEntryDto> getWaitlistEntryById(@PathVariable UUID id) {
         Optional<WaitlistEntry> entry = waitlistEntryRepository.findByIdWithBusinessAndCustomer(id);
         if (entry.isPresent()) {
-            return ResponseEntity.ok(convertToDto(entry.get()));
+            return ResponseEntity.ok(WaitlistEntryDto.from(entry.get()));
         }
         return ResponseEntity.notFound().build();
     }
@@ -212,17 +221,17 @@ public class WaitlistController {
                 WaitlistEntry savedEntry = waitlistEntryRepository.save(waitlistEntry);
 
                 // Send SMS notification using the loaded values
-                smsService.sendTableReadyNotification(customerPhone, businessName, businessPhone);
+                SmsTenant.callAs(businessId,
+                        () -> smsService.sendTableReadyNotification(customerPhone, businessName, businessPhone));
 
                 // Reload with relationships for DTO conversion
                 WaitlistEntry entryForDto = waitlistEntryRepository.findByIdWithBusinessAndCustomer(savedEntry.getId())
                         .orElse(savedEntry);
-                return ResponseEntity.ok(convertToDto(entryForDto));
+                return ResponseEntity.ok(WaitlistEntryDto.from(entryForDto));
             }
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            System.err.println("Error in notifyCustomer: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in notifyCustomer", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -265,18 +274,18 @@ public class WaitlistController {
                 // Reload with relationships for DTO conversion
                 WaitlistEntry entryForDto = waitlistEntryRepository.findByIdWithBusinessAndCustomer(savedEntry.getId())
                         .orElse(savedEntry);
-                return ResponseEntity.ok(convertToDto(entryForDto));
+                return ResponseEntity.ok(WaitlistEntryDto.from(entryForDto));
             }
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            System.err.println("Error in seatCustomer: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Error in seatCustomer", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Update status", description = "Update waitlist entry status (waiting, called, seated, canceled)")
+    @Transactional
     public ResponseEntity<WaitlistEntryDto> updateStatus(@PathVariable UUID id,
             @RequestParam WaitlistStatus status,
             Authentication authentication) {
@@ -284,7 +293,7 @@ public class WaitlistController {
             CustomUserDetailsService.CustomUserPrincipal userPrincipal = (CustomUserDetailsService.CustomUserPrincipal) authentication
                     .getPrincipal();
 
-            Optional<WaitlistEntry> entry = waitlistEntryRepository.findById(id);
+            Optional<WaitlistEntry> entry = waitlistEntryRepository.findByIdWithBusinessAndCustomer(id);
             if (entry.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
@@ -301,10 +310,10 @@ public class WaitlistController {
                     if (waitlistEntry.canBeNotified()) {
                         waitlistEntry.notifyCustomer();
                         // Send SMS notification
-                        smsService.sendTableReadyNotification(
+                        SmsTenant.callAs(waitlistEntry.getBusiness().getId(), () -> smsService.sendTableReadyNotification(
                                 waitlistEntry.getCustomer().getPhone(),
                                 waitlistEntry.getBusiness().getName(),
-                                waitlistEntry.getBusiness().getPhone());
+                                waitlistEntry.getBusiness().getPhone()));
                     }
                     break;
                 case SEATED:
@@ -330,7 +339,7 @@ public class WaitlistController {
             }
 
             WaitlistEntry savedEntry = waitlistEntryRepository.save(waitlistEntry);
-            return ResponseEntity.ok(convertToDto(savedEntry));
+            return ResponseEntity.ok(WaitlistEntryDto.from(savedEntry));
 
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -339,6 +348,7 @@ public class WaitlistController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Remove from waitlist", description = "Remove a customer from the waitlist")
+    @Transactional
     public ResponseEntity<Void> removeFromWaitlist(@PathVariable UUID id, Authentication authentication) {
         try {
             CustomUserDetailsService.CustomUserPrincipal userPrincipal = (CustomUserDetailsService.CustomUserPrincipal) authentication
@@ -372,30 +382,9 @@ public class WaitlistController {
         }
     }
 
-    private WaitlistEntryDto convertToDto(WaitlistEntry entry) {
-        // Ensure relationships are loaded
-        if (entry.getBusiness() == null || entry.getCustomer() == null) {
-            throw new IllegalStateException("WaitlistEntry must have business and customer loaded");
-        }
-
-        WaitlistEntryDto dto = new WaitlistEntryDto(
-                entry.getId(),
-                entry.getBusiness().getId(),
-                entry.getCustomer().getId(),
-                entry.getPartySize(),
-                entry.getEstimatedWaitTime(),
-                entry.getPosition(),
-                entry.getStatus(),
-                entry.getNotifiedAt(),
-                entry.getSeatedAt(),
-                entry.getCreatedAt(),
-                entry.getUpdatedAt());
-
-        // Add display fields
-        dto.setBusinessName(entry.getBusiness().getName());
-        dto.setCustomerName(entry.getCustomer().getName());
-        dto.setCustomerPhone(entry.getCustomer().getPhone());
-
-        return dto;
+    private List<WaitlistEntryDto> activeEntries(UUID businessId) {
+        return waitlistEntryRepository.findActiveWaitlistEntrySummaries(businessId).stream()
+                .map(WaitlistEntryDto::from)
+                .toList();
     }
 }
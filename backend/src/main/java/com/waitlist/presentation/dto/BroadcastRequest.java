@@ -0,0 +1,116 @@
+package com.waitlist.presentation.dto;
+
+import com.waitlist.application.service.BroadcastService;
+import com.waitlist.domain.entity.WaitlistStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class BroadcastRequest {
+
+    @NotNull(message = "Business is required")
+    private UUID businessId;
+
+    @NotNull(message = "Audience is required")
+    private BroadcastService.Audience audience;
+
+    @NotBlank(message = "Message is required")
+    @Size(max = 1600, message = "Message must be at most 1600 characters")
+    private String message;
+
+    // Optional filters
+    @Min(value = 1, message = "Minimum party size must be at least 1")
+    private Integer minPartySize;
+
+    @Min(value = 1, message = "Maximum party size must be at least 1")
+    private Integer maxPartySize;
+
+    private WaitlistStatus waitlistStatus;
+
+    private LocalTime fromTime;
+
+    private LocalTime toTime;
+
+    // Constructors
+    public BroadcastRequest() {
+    }
+
+    public BroadcastRequest(UUID businessId, BroadcastService.Audience audience, String message) {
+        this.businessId = businessId;
+        this.audience = audience;
+        this.message = message;
+    }
+
+    public BroadcastService.Filter toFilter() {
+        return new BroadcastService.Filter(minPartySize, maxPartySize, waitlistStatus, fromTime, toTime);
+    }
+
+    // Getters and Setters
+    public UUID getBusinessId() {
+        return businessId;
+    }
+
+    public void setBusinessId(UUID businessId) {
+        this.businessId = businessId;
+    }
+
+    public BroadcastService.Audience getAudience() {
+        return audience;
+    }
+
+    public void setAudience(BroadcastService.Audience audience) {
+        this.audience = audience;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Integer getMinPartySize() {
+        return minPartySize;
+    }
+
+    public void setMinPartySize(Integer minPartySize) {
+        this.minPartySize = minPartySize;
+    }
+
+    public Integer getMaxPartySize() {
+        return maxPartySize;
+    }
+
+    public void setMaxPartySize(Integer maxPartySize) {
+        this.maxPartySize = maxPartySize;
+    }
+
+    public WaitlistStatus getWaitlistStatus() {
+        return waitlistStatus;
+    }
+
+    public void setWaitlistStatus(WaitlistStatus waitlistStatus) {
+        this.waitlistStatus = waitlistStatus;
+    }
+
+    public LocalTime getFromTime() {
+        return fromTime;
+    }
+
+    public void setFromTime(LocalTime fromTime) {
+        this.fromTime = fromTime;
+    }
+
+    public LocalTime getToTime() {
+        return toTime;
+    }
+
+    public void setToTime(LocalTime toTime) {
+        this.toTime = toTime;
+    }
+}
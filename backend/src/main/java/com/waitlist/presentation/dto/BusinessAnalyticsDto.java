@@ -0,0 +1,126 @@
+package com.waitlist.presentation.dto;
+
+import com.waitlist.application.dto.AnalyticsBucketDto;
+import com.waitlist.application.dto.PeakHourDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Business analytics over a date range, computed only from the activity
+ * rollups.
+ */
+public class BusinessAnalyticsDto {
+
+    private UUID businessId;
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    private AnalyticsBucketDto totals;
+    private Double noShowRate;
+    private Double cancelRate;
+    private Double reservationCancelRate;
+    private List<PeakHourDto> peakHours;
+    private List<AnalyticsBucketDto> buckets;
+
+    // Constructors
+    public BusinessAnalyticsDto() {
+    }
+
+    public BusinessAnalyticsDto(UUID businessId, LocalDate from, LocalDate to, String granularity,
+            AnalyticsBucketDto totals, Double noShowRate, Double cancelRate, Double reservationCancelRate,
+            List<PeakHourDto> peakHours, List<AnalyticsBucketDto> buckets) {
+        this.businessId = businessId;
+        this.from = from;
+        this.to = to;
+        this.granularity = granularity;
+        this.totals = totals;
+        this.noShowRate = noShowRate;
+        this.cancelRate = cancelRate;
+        this.reservationCancelRate = reservationCancelRate;
+        this.peakHours = peakHours;
+        this.buckets = buckets;
+    }
+
+    // Getters and Setters
+    public UUID getBusinessId() {
+        return businessId;
+    }
+
+    public void setBusinessId(UUID businessId) {
+        this.businessId = businessId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public AnalyticsBucketDto getTotals() {
+        return totals;
+    }
+
+    public void setTotals(AnalyticsBucketDto totals) {
+        this.totals = totals;
+    }
+
+    public Double getNoShowRate() {
+        return noShowRate;
+    }
+
+    public void setNoShowRate(Double noShowRate) {
+        this.noShowRate = noShowRate;
+    }
+
+    public Double getCancelRate() {
+        return cancelRate;
+    }
+
+    public void setCancelRate(Double cancelRate) {
+        this.cancelRate = cancelRate;
+    }
+
+    public Double getReservationCancelRate() {
+        return reservationCancelRate;
+    }
+
+    public void setReservationCancelRate(Double reservationCancelRate) {
+        this.reservationCancelRate = reservationCancelRate;
+    }
+
+    public List<PeakHourDto> getPeakHours() {
+        return peakHours;
+    }
+
+    public void setPeakHours(List<PeakHourDto> peakHours) {
+        this.peakHours = peakHours;
+    }
+
+    public List<AnalyticsBucketDto> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<AnalyticsBucketDto> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -1,5 +1,9 @@
 package com.waitlist.presentation.dto;
 
+import com.waitlist.application.dto.ReservationSummary;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
 import com.waitlist.domain.entity.ReservationStatus;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -59,6 +63,50 @@ public class ReservationDto {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Converts a list projection.
+     */
+    public static ReservationDto from(ReservationSummary summary) {
+        ReservationDto dto = new ReservationDto(summary.id(), summary.businessId(), summary.customerId(),
+                summary.reservationDate(), summary.reservationTime(), summary.partySize(), summary.status(),
+                summary.specialRequests(), summary.createdAt(), summary.updatedAt());
+        dto.setBusinessName(summary.businessName());
+        dto.setCustomerName(summary.customerName());
+        dto.setCustomerPhone(summary.customerPhone());
+        return dto;
+    }
+
+    /**
+     * Converts a reservation with its business and customer loaded.
+     */
+    public static ReservationDto from(Reservation reservation) {
+        Business business = reservation.getBusiness();
+        Customer customer = reservation.getCustomer();
+
+        if (business == null || customer == null) {
+            throw new IllegalStateException("Reservation must have business and customer loaded");
+        }
+
+        ReservationDto dto = new ReservationDto(
+                reservation.getId(),
+                business.getId(),
+                customer.getId(),
+                reservation.getReservationDate(),
+                reservation.getReservationTime(),
+                reservation.getPartySize(),
+                reservation.getStatus(),
+                reservation.getSpecialRequests(),
+                reservation.getCreatedAt(),
+                reservation.getUpdatedAt());
+
+        // Add display fields
+        dto.setBusinessName(business.getName());
+        dto.setCustomerName(customer.getName());
+        dto.setCustomerPhone(customer.getPhone());
+
+        return dto;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -1,5 +1,6 @@
 package com.waitlist.presentation.dto;
 
+import com.waitlist.application.dto.SubscriptionSummary;
 import com.waitlist.domain.entity.SubscriptionPlan;
 import com.waitlist.domain.entity.SubscriptionStatus;
 import jakarta.validation.constraints.NotNull;
@@ -70,6 +71,18 @@ public class SubscriptionDto {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Converts a list projection.
+     */
+    public static SubscriptionDto from(SubscriptionSummary summary) {
+        SubscriptionDto dto = new SubscriptionDto(summary.id(), summary.businessId(), summary.plan(),
+                summary.status(), summary.startDate(), summary.endDate(), summary.billingCycleDays(),
+                summary.monthlyPrice(), summary.autoRenew(), summary.trialEndDate(), summary.notes(),
+                summary.createdAt(), summary.updatedAt());
+        dto.setBusinessName(summary.businessName());
+        return dto;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
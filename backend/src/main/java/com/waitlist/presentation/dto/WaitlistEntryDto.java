@@ -1,5 +1,7 @@
 package com.waitlist.presentation.dto;
 
+import com.waitlist.application.dto.WaitlistEntrySummary;
+import com.waitlist.domain.entity.WaitlistEntry;
 import com.waitlist.domain.entity.WaitlistStatus;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -58,6 +60,49 @@ public class WaitlistEntryDto {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Converts a list projection.
+     */
+    public static WaitlistEntryDto from(WaitlistEntrySummary summary) {
+        WaitlistEntryDto dto = new WaitlistEntryDto(summary.id(), summary.businessId(), summary.customerId(),
+                summary.partySize(), summary.estimatedWaitTime(), summary.position(), summary.status(),
+                summary.notifiedAt(), summary.seatedAt(), summary.createdAt(), summary.updatedAt());
+        dto.setBusinessName(summary.businessName());
+        dto.setCustomerName(summary.customerName());
+        dto.setCustomerPhone(summary.customerPhone());
+        return dto;
+    }
+
+    /**
+     * Converts a waitlist entry with its business and customer loaded.
+     */
+    public static WaitlistEntryDto from(WaitlistEntry entry) {
+        // Ensure relationships are loaded
+        if (entry.getBusiness() == null || entry.getCustomer() == null) {
+            throw new IllegalStateException("WaitlistEntry must have business and customer loaded");
+        }
+
+        WaitlistEntryDto dto = new WaitlistEntryDto(
+                entry.getId(),
+                entry.getBusiness().getId(),
+                entry.getCustomer().getId(),
+                entry.getPartySize(),
+                entry.getEstimatedWaitTime(),
+                entry.getPosition(),
+                entry.getStatus(),
+                entry.getNotifiedAt(),
+                entry.getSeatedAt(),
+                entry.getCreatedAt(),
+                entry.getUpdatedAt());
+
+        // Add display fields
+        dto.setBusinessName(entry.getBusiness().getName());
+        dto.setCustomerName(entry.getCustomer().getName());
+        dto.setCustomerPhone(entry.getCustomer().getPhone());
+
+        return dto;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
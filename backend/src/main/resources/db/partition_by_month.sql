@@ -0,0 +1,119 @@
+-- One-off conversion of reservations (by reservation_date) and
+-- waitlist_entries_history (by created_at) into tables range partitioned by
+-- month. PostgreSQL 12+ only. Review it against a copy of production and run it
+-- once, by hand, outside a transaction (CREATE INDEX CONCURRENTLY needs that):
+--
+--   psql -h localhost -U waitlist_user -d waitlist_db -f backend/src/main/resources/db/partition_by_month.sql
+--
+-- Then set PARTITIONING_ENABLED=true so PartitionMaintenanceService keeps the
+-- monthly partitions ahead and retires expired ones.
+--
+-- No rows are copied. Each existing table becomes a single "legacy" partition
+-- covering everything before the first month that has no data yet:
+--
+--   1. a NOT VALID range check is added and validated, which scans the table
+--      without blocking reads or writes;
+--   2. a unique index on (id, partition key) is built concurrently;
+--   3. in one short transaction the table is renamed, an empty partitioned
+--      parent with the same columns, checks and foreign keys is created under
+--      the old name and the legacy table is attached. The attach reuses the
+--      validated check, index and foreign keys instead of rescanning.
+--
+-- Primary keys: a partitioned table can only enforce uniqueness on columns
+-- that include its partition key, so the parents' primary keys are
+-- (id, reservation_date) and (id, created_at). The legacy partitions keep
+-- their original primary key on id. Across partitions, id stays unique
+-- because ids are generated (UUIDv7 for reservations) or copied from the
+-- live waitlist_entries table, never reused; a row whose partition key
+-- changes moves partitions with the same id.
+
+\set ON_ERROR_STOP on
+
+-- 1. Range checks, validated without blocking writes
+
+SELECT (date_trunc('month', GREATEST(MAX(reservation_date), CURRENT_DATE)) + INTERVAL '1 month')::date
+       AS reservations_bound
+FROM reservations \gset
+SELECT (date_trunc('month', GREATEST(MAX(created_at)::date, CURRENT_DATE)) + INTERVAL '1 month')::date
+       AS history_bound
+FROM waitlist_entries_history \gset
+
+ALTER TABLE reservations ADD CONSTRAINT reservations_legacy_range
+    CHECK (reservation_date IS NOT NULL AND reservation_date < :'reservations_bound') NOT VALID;
+ALTER TABLE reservations VALIDATE CONSTRAINT reservations_legacy_range;
+
+ALTER TABLE waitlist_entries_history ADD CONSTRAINT waitlist_entries_history_legacy_range
+    CHECK (created_at IS NOT NULL AND created_at < :'history_bound') NOT VALID;
+ALTER TABLE waitlist_entries_history VALIDATE CONSTRAINT waitlist_entries_history_legacy_range;
+
+-- 2. Unique (id, partition key) indexes for the parents' primary keys
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS reservations_id_reservation_date_key
+    ON reservations (id, reservation_date);
+ALTER TABLE reservations ADD CONSTRAINT reservations_id_reservation_date_key
+    UNIQUE USING INDEX reservations_id_reservation_date_key;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS waitlist_entries_history_id_created_at_key
+    ON waitlist_entries_history (id, created_at);
+ALTER TABLE waitlist_entries_history ADD CONSTRAINT waitlist_entries_history_id_created_at_key
+    UNIQUE USING INDEX waitlist_entries_history_id_created_at_key;
+
+-- 3. Swap in the partitioned parents
+
+BEGIN;
+
+-- Fail fast rather than queue every other query behind the rename
+SET LOCAL lock_timeout = '5s';
+
+CREATE FUNCTION pg_temp.partition_by_month(tbl text, col text, bound date, premake_months int)
+RETURNS void AS $$
+DECLARE
+    legacy text := tbl || '_legacy';
+    c record;
+    month date;
+BEGIN
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', tbl, legacy);
+    -- Uses the validated range check instead of scanning
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET NOT NULL', legacy, col);
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS) PARTITION BY RANGE (%I)', tbl, legacy, col);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, %I)', tbl, tbl || '_id_' || col || '_pkey', col);
+    FOR c IN SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint
+             WHERE conrelid = legacy::regclass AND contype IN ('c', 'f') AND conname <> tbl || '_legacy_range'
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', tbl, c.conname, c.definition);
+    END LOOP;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)', tbl, legacy, bound);
+
+    -- Recreate secondary indexes on the parent under their old names; each
+    -- adopts the legacy copy instead of rebuilding it
+    FOR c IN SELECT i.relname AS name, pg_get_indexdef(x.indexrelid) AS definition
+             FROM pg_index x JOIN pg_class i ON i.oid = x.indexrelid
+             WHERE x.indrelid = legacy::regclass AND NOT x.indisunique
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', c.name, c.name || '_legacy');
+        EXECUTE regexp_replace(c.definition, ' ON \S+ ', format(' ON %I ', tbl));
+    END LOOP;
+
+    -- Same names and bounds as MonthlyPartitions
+    FOR month IN SELECT generate_series(bound, bound + make_interval(months => premake_months), '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                tbl || '_p' || to_char(month, 'YYYY_MM'), tbl, month, (month + INTERVAL '1 month')::date);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT pg_temp.partition_by_month('reservations', 'reservation_date', :'reservations_bound', 12);
+SELECT pg_temp.partition_by_month('waitlist_entries_history', 'created_at', :'history_bound', 2);
+
+-- The view followed the renamed table; point it back at the partitioned parent
+CREATE OR REPLACE VIEW waitlist_entries_all AS
+    SELECT id, business_id, customer_id, party_size, estimated_wait_time, position,
+           status, notified_at, seated_at, created_at, updated_at FROM waitlist_entries
+    UNION ALL
+    SELECT id, business_id, customer_id, party_size, estimated_wait_time, position,
+           status, notified_at, seated_at, created_at, updated_at FROM waitlist_entries_history;
+
+COMMIT;
@@ -0,0 +1,105 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.SentSmsLog;
+import com.waitlist.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("AlmostUpNotificationService")
+class AlmostUpNotificationServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private TimeoutScheduler timeoutScheduler;
+
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+    private final List<WaitlistEntry> entries = new ArrayList<>();
+    private final List<Customer> customers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 30 minute service time, so only the position threshold (2) applies
+        Business business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+        for (int position = 1; position <= 4; position++) {
+            Customer customer = newCustomer(business);
+            customers.add(customer);
+            entries.add(waitlistEntryRepository.save(new WaitlistEntry(business, customer, 2, position)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should text only the entries a shift brings within the threshold, once each")
+    void shouldNotifyEntriesThatCrossTheThreshold() throws Exception {
+        WaitlistEntry first = entries.get(0);
+        first.notifyCustomer();
+        waitlistEntryRepository.save(first);
+
+        // 2 -> 1 was already close, 3 -> 2 crosses
+        mockMvc.perform(put("/api/waitlist/{id}/seat", first.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+        SentSmsLog.SentSms third = awaitMessage(customers.get(2).getPhone());
+        assertEquals("sendAlmostUpNotification", third.type());
+        assertTrue(third.message().contains("#2"), third.message());
+
+        // 1 -> gone, 2 -> 1 was already told, 3 -> 2 crosses
+        mockMvc.perform(delete("/api/waitlist/{id}", entries.get(1).getId()).with(user(owner)))
+                .andExpect(status().isNoContent());
+        awaitMessage(customers.get(3).getPhone());
+
+        mockMvc.perform(delete("/api/waitlist/{id}", entries.get(2).getId()).with(user(owner)))
+                .andExpect(status().isNoContent());
+        // Let any pass for the last removal finish before checking nothing else was sent
+        Thread.sleep(200);
+
+        assertTrue(mockSmsService.getSentMessages().to(customers.get(1).getPhone()).isEmpty());
+        assertEquals(1, mockSmsService.getSentMessages().to(customers.get(2).getPhone()).size());
+        assertEquals(1, mockSmsService.getSentMessages().to(customers.get(3).getPhone()).size());
+        assertEquals(2, mockSmsService.getSentMessages().total());
+    }
+
+    @Test
+    @DisplayName("Should count every place freed in one transaction when two parties ahead expire together")
+    void shouldNotifyEntriesMovedUpByExpiredParties() throws Exception {
+        for (WaitlistEntry entry : entries.subList(0, 2)) {
+            entry.setStatus(WaitlistStatus.NOTIFIED);
+            entry.setNotifiedAt(LocalDateTime.now().minusMinutes(25));
+            waitlistEntryRepository.save(entry);
+        }
+        timeoutScheduler.rebuild();
+
+        // Both expire in one tick: 3 -> 1 and 4 -> 2 cross; read as a one-place shift, 3 -> 1 looks like 2 -> 1
+        timeoutScheduler.fire(Instant.now());
+
+        assertEquals(WaitlistStatus.CANCELLED,
+                waitlistEntryRepository.findById(entries.get(1).getId()).orElseThrow().getStatus());
+        assertEquals("sendAlmostUpNotification", awaitMessage(customers.get(2).getPhone()).type());
+        assertTrue(awaitMessage(customers.get(3).getPhone()).message().contains("#2"));
+        Thread.sleep(200);
+        assertEquals(1, mockSmsService.getSentMessages().to(customers.get(2).getPhone()).size());
+        assertEquals(1, mockSmsService.getSentMessages().to(customers.get(3).getPhone()).size());
+    }
+}
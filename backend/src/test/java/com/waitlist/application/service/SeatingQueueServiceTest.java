@@ -0,0 +1,123 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("SeatingQueueService")
+class SeatingQueueServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatingQueueService seatingQueueService;
+
+    private Business business;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+    }
+
+    @Test
+    @DisplayName("Should merge walk-ins with due reservations and follow changes to either")
+    void shouldMergeWalkInsWithDueReservations() throws Exception {
+        // Loads the (empty) queue, so everything below arrives as events
+        next(4, 1).andExpect(status().isNoContent());
+
+        WaitlistEntry couple = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 2, 1));
+        WaitlistEntry group = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 6, 2));
+        // Its window opened before the walk-ins joined
+        Reservation due = confirm(LocalDateTime.now().plusMinutes(5), 4);
+        confirm(LocalDateTime.now().plusHours(1), 2);
+        // Pending reservations don't queue
+        reservationRepository.save(new Reservation(business, newCustomer(business),
+                due.getReservationDate(), due.getReservationTime(), 2, null));
+
+        next(4, 1).andExpect(jsonPath("$.source").value("RESERVATION"))
+                .andExpect(jsonPath("$.id").value(due.getId().toString()));
+        next(2, 1).andExpect(jsonPath("$.id").value(couple.getId().toString()));
+        next(8, 5).andExpect(jsonPath("$.source").value("WAITLIST"))
+                .andExpect(jsonPath("$.id").value(group.getId().toString()));
+
+        due.cancel();
+        reservationRepository.save(due);
+        couple.notifyCustomer();
+        waitlistEntryRepository.save(couple);
+        next(4, 1).andExpect(jsonPath("$.id").value(couple.getId().toString()));
+
+        couple.seatCustomer();
+        waitlistEntryRepository.save(couple);
+        next(4, 1).andExpect(status().isNoContent());
+        next(8, 1).andExpect(jsonPath("$.id").value(group.getId().toString()));
+        next(2, 1).andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should stop ranking a reservation ahead of walk-ins once its grace period has passed")
+    void shouldDropReservationsPastTheirGrace() throws Exception {
+        next(4, 1).andExpect(status().isNoContent());
+
+        WaitlistEntry walkIn = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 2, 1));
+        // Default grace is 30 minutes
+        Reservation late = confirm(LocalDateTime.now().minusMinutes(10), 2);
+        confirm(LocalDateTime.now().minusMinutes(45), 2);
+
+        next(2, 1).andExpect(jsonPath("$.id").value(late.getId().toString()));
+        late.cancel();
+        reservationRepository.save(late);
+        next(2, 1).andExpect(jsonPath("$.id").value(walkIn.getId().toString()));
+
+        // Nor once the queue is re-read from the database
+        seatingQueueService.resync();
+        next(2, 1).andExpect(jsonPath("$.id").value(walkIn.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should reject tables without seats and other businesses' queues")
+    void shouldValidateRequest() throws Exception {
+        next(0, 1).andExpect(status().isBadRequest());
+        next(2, 3).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/seating/business/{businessId}/next", newBusiness().getId())
+                        .param("seats", "4")
+                        .with(user(owner)))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions next(int seats, int minPartySize) throws Exception {
+        return mockMvc.perform(get("/api/seating/business/{businessId}/next", business.getId())
+                .param("seats", String.valueOf(seats))
+                .param("minPartySize", String.valueOf(minPartySize))
+                .with(user(owner)));
+    }
+
+    private Reservation confirm(LocalDateTime slot, int partySize) {
+        Reservation reservation = reservationRepository.save(new Reservation(business, newCustomer(business),
+                slot.toLocalDate(), slot.toLocalTime(), partySize, null));
+        reservation.confirm();
+        return reservationRepository.save(reservation);
+    }
+}
@@ -0,0 +1,167 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.ReservationStatus;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.MockSmsFaults;
+import com.waitlist.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("TimeoutScheduler")
+class TimeoutSchedulerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TimeoutScheduler timeoutScheduler;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Business business;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+    }
+
+    @Test
+    @DisplayName("Should text a notified entry once more, then release its place, unless it is seated first")
+    void shouldRenotifyThenExpire() throws Exception {
+        Customer customer = newCustomer(business);
+        WaitlistEntry notified = waitlistEntryRepository.save(new WaitlistEntry(business, customer, 2, 1));
+        WaitlistEntry seated = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 2, 2));
+        WaitlistEntry behind = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 2, 3));
+        Instant notifiedAt = Instant.now();
+        mockMvc.perform(put("/api/waitlist/{id}/notify", notified.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/waitlist/{id}/notify", seated.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/waitlist/{id}/seat", seated.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+
+        timeoutScheduler.fire(notifiedAt.plus(Duration.ofMinutes(11)));
+        timeoutScheduler.fire(notifiedAt.plus(Duration.ofMinutes(12)));
+        // Reminders are sent in the background
+        awaitMessages(customer.getPhone(), 2);
+        assertEquals(WaitlistStatus.NOTIFIED, statusOf(notified));
+
+        timeoutScheduler.fire(notifiedAt.plus(Duration.ofMinutes(21)));
+        assertEquals(WaitlistStatus.CANCELLED, statusOf(notified));
+        assertEquals(WaitlistStatus.SEATED, statusOf(seated));
+        assertEquals(1, waitlistEntryRepository.findById(behind.getId()).orElseThrow().getPosition());
+        assertEquals(2, mockSmsService.getSentMessages().to(customer.getPhone()).size(), "notified, then reminded once");
+        awaitMessages(seated.getCustomer().getPhone(), 1);
+        assertEquals(1, mockSmsService.getSentMessages().to(seated.getCustomer().getPhone()).size());
+    }
+
+    @Test
+    @DisplayName("Should fire reminders without waiting for a slow SMS provider")
+    void shouldNotBlockTickOnSlowProvider() throws Exception {
+        Customer customer = newCustomer(business);
+        WaitlistEntry entry = new WaitlistEntry(business, customer, 2, 1);
+        entry.setStatus(WaitlistStatus.NOTIFIED);
+        entry.setNotifiedAt(LocalDateTime.now().minusMinutes(11));
+        entry = waitlistEntryRepository.save(entry);
+        timeoutScheduler.rebuild();
+        MockSmsFaults.Settings settings = mockSmsService.getFaults().getSettings();
+        mockSmsService.getFaults().setSettings(new MockSmsFaults.Settings(MockSmsFaults.LatencyDistribution.FIXED,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), 0, 0, settings.outageLatency()));
+
+        long started = System.nanoTime();
+        timeoutScheduler.fire(Instant.now());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_000, "tick took " + elapsedMillis + " ms");
+        assertEquals("sendTableReadyNotification", awaitMessage(customer.getPhone()).type());
+        assertNotNull(waitlistEntryRepository.findById(entry.getId()).orElseThrow().getRemindedAt());
+    }
+
+    @Test
+    @DisplayName("Should take over the deadlines of an instance whose lease lapsed")
+    void shouldRebuildWhenLeaseLapses() {
+        WaitlistEntry entry = new WaitlistEntry(business, newCustomer(business), 2, 1);
+        entry.setStatus(WaitlistStatus.NOTIFIED);
+        entry.setNotifiedAt(LocalDateTime.now().minusMinutes(25));
+        entry = waitlistEntryRepository.save(entry);
+
+        timeoutScheduler.fire(Instant.now());
+        assertEquals(WaitlistStatus.NOTIFIED, statusOf(entry), "never seen by this instance");
+
+        jdbcTemplate.update("INSERT INTO scheduler_leases (holder, expires_at) VALUES (?, ?)",
+                "crashed-" + UUID.randomUUID(), Timestamp.from(Instant.now().minusSeconds(60)));
+        timeoutScheduler.renewLease();
+        timeoutScheduler.fire(Instant.now().plusSeconds(1));
+
+        assertEquals(WaitlistStatus.CANCELLED, statusOf(entry));
+    }
+
+    @Test
+    @DisplayName("Should cancel confirmed reservations past their slot and grace as no-shows")
+    void shouldCancelNoShows() {
+        ReflectionTestUtils.setField(timeoutScheduler, "noShowEnabled", true);
+        try {
+            LocalDateTime slot = LocalDateTime.now().plusHours(1);
+            Reservation noShow = confirm(slot);
+            Reservation completed = confirm(slot);
+            completed.complete();
+            reservationRepository.save(completed);
+
+            Instant afterSlot = slot.atZone(java.time.ZoneId.systemDefault()).toInstant();
+            timeoutScheduler.fire(afterSlot.plus(Duration.ofMinutes(10)));
+            assertEquals(ReservationStatus.CONFIRMED, statusOf(noShow));
+
+            timeoutScheduler.fire(afterSlot.plus(Duration.ofMinutes(31)));
+            assertEquals(ReservationStatus.CANCELLED, statusOf(noShow));
+            assertEquals(ReservationStatus.COMPLETED, statusOf(completed));
+        } finally {
+            ReflectionTestUtils.setField(timeoutScheduler, "noShowEnabled", false);
+        }
+    }
+
+    private Reservation confirm(LocalDateTime slot) {
+        Reservation reservation = reservationRepository.save(new Reservation(business, newCustomer(business),
+                slot.toLocalDate(), slot.toLocalTime(), 2, null));
+        reservation.confirm();
+        return reservationRepository.save(reservation);
+    }
+
+    private WaitlistStatus statusOf(WaitlistEntry entry) {
+        return waitlistEntryRepository.findById(entry.getId()).orElseThrow().getStatus();
+    }
+
+    private ReservationStatus statusOf(Reservation reservation) {
+        return reservationRepository.findById(reservation.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,130 @@
+package com.waitlist.application.service;
+
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.domain.event.WaitlistEntryStatusChanged;
+import com.waitlist.infrastructure.monitoring.BusinessTagLimiter;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WaitlistStatsServiceTest {
+
+    private static final UUID BUSINESS_ID = UUID.randomUUID();
+
+    private WaitlistStatsService.WaitlistCounters counters;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        counters = new WaitlistStatsService.WaitlistCounters();
+        counters.reset(new WaitlistStatsService.WaitlistStatsSnapshot(0, 0, 0, 0, 0, null, 0, 0, 0, 0));
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Should count joining parties by size")
+    void shouldCountJoins() {
+        counters.apply(event(null, WaitlistStatus.WAITING, 2, now.minusMinutes(20)));
+        counters.apply(event(null, WaitlistStatus.WAITING, 5, now.minusMinutes(5)));
+
+        WaitlistStatsService.WaitlistStatsSnapshot snapshot = counters.snapshot();
+        assertEquals(2, snapshot.waiting());
+        assertEquals(7, snapshot.coversWaiting());
+        assertEquals(1, snapshot.partiesOf1To2());
+        assertEquals(1, snapshot.partiesOf5To6());
+        assertEquals(now.minusMinutes(20), snapshot.oldestWaitingAt());
+        assertFalse(counters.needsRefresh());
+    }
+
+    @Test
+    @DisplayName("Should move parties through notify, seat and cancel")
+    void shouldApplyTransitions() {
+        counters.apply(event(null, WaitlistStatus.WAITING, 4, now));
+        counters.apply(event(null, WaitlistStatus.WAITING, 2, now));
+        counters.apply(event(WaitlistStatus.WAITING, WaitlistStatus.NOTIFIED, 4, now));
+        counters.apply(event(WaitlistStatus.NOTIFIED, WaitlistStatus.SEATED, 4, now));
+        counters.apply(event(WaitlistStatus.WAITING, WaitlistStatus.CANCELLED, 2, now));
+
+        WaitlistStatsService.WaitlistStatsSnapshot snapshot = counters.snapshot();
+        assertEquals(0, snapshot.waiting());
+        assertEquals(0, snapshot.notified());
+        assertEquals(1, snapshot.seatedToday());
+        assertEquals(1, snapshot.cancelledToday());
+        assertEquals(0, snapshot.coversWaiting());
+        assertEquals(0, snapshot.partiesOf1To2() + snapshot.partiesOf3To4());
+    }
+
+    @Test
+    @DisplayName("Should not count transitions from a previous day as today")
+    void shouldIgnoreOtherDays() {
+        counters.apply(event(WaitlistStatus.NOTIFIED, WaitlistStatus.SEATED, 2, now.minusDays(1)));
+
+        assertEquals(0, counters.snapshot().seatedToday());
+    }
+
+    @Test
+    @DisplayName("Should request a refresh once a waiting party leaves the queue")
+    void shouldRefreshOldestAfterLeavingWaiting() {
+        counters.apply(event(null, WaitlistStatus.WAITING, 2, now));
+        counters.apply(event(WaitlistStatus.WAITING, WaitlistStatus.NOTIFIED, 2, now));
+
+        assertTrue(counters.needsRefresh());
+    }
+
+    @Test
+    @DisplayName("Should bucket party sizes")
+    void shouldBucketPartySizes() {
+        assertEquals(0, WaitlistStatsService.WaitlistCounters.partySizeBucket(1));
+        assertEquals(1, WaitlistStatsService.WaitlistCounters.partySizeBucket(3));
+        assertEquals(2, WaitlistStatsService.WaitlistCounters.partySizeBucket(6));
+        assertEquals(3, WaitlistStatsService.WaitlistCounters.partySizeBucket(12));
+    }
+
+    @Test
+    @DisplayName("Should sum businesses past the tag limit into one other gauge")
+    void shouldLimitGaugeTags() {
+        WaitlistEntryRepository.WaitlistStats stats = mock(WaitlistEntryRepository.WaitlistStats.class);
+        when(stats.getWaiting()).thenReturn(3L);
+        WaitlistEntryRepository repository = mock(WaitlistEntryRepository.class);
+        when(repository.findWaitlistStats(any())).thenReturn(stats);
+        BusinessTagLimiter tagLimiter = new BusinessTagLimiter();
+        ReflectionTestUtils.setField(tagLimiter, "limit", 1);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WaitlistStatsService service = new WaitlistStatsService();
+        ReflectionTestUtils.setField(service, "waitlistEntryRepository", repository);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "businessTagLimiter", tagLimiter);
+        ReflectionTestUtils.setField(service, "maxTrackedBusinesses", 10);
+
+        UUID first = UUID.randomUUID();
+        service.getStats(first);
+        service.getStats(UUID.randomUUID());
+        service.getStats(UUID.randomUUID());
+
+        assertEquals(2, meterRegistry.find("waitlist.entries.waiting").gauges().size());
+        assertEquals(3, meterRegistry.get("waitlist.entries.waiting").tag("business", first.toString())
+                .gauge().value());
+        assertEquals(6, meterRegistry.get("waitlist.entries.waiting").tag("business", BusinessTagLimiter.OTHER)
+                .gauge().value());
+    }
+
+    private WaitlistEntryStatusChanged event(WaitlistStatus from, WaitlistStatus to, int partySize,
+            LocalDateTime occurredAt) {
+        return new WaitlistEntryStatusChanged(null, BUSINESS_ID, from, to, partySize, 1,
+                from == null ? null : occurredAt, occurredAt);
+    }
+}
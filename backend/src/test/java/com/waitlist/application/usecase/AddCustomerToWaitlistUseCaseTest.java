@@ -110,7 +110,7 @@ class AddCustomerToWaitlistUseCaseTest {
         assertEquals(3, response.getPosition());
         assertEquals(180, response.getEstimatedWaitTime());
         assertEquals(WaitlistStatus.WAITING, response.getStatus());
-        assertTrue(response.isSmsNotificationSent());
+        assertTrue(response.isSmsNotificationQueued());
 
         // Verify interactions
         verify(businessRepository).findById(businessId);
@@ -266,7 +266,7 @@ class AddCustomerToWaitlistUseCaseTest {
         // Assert
         assertNotNull(response);
         assertEquals(WaitlistStatus.WAITING, response.getStatus());
-        assertFalse(response.isSmsNotificationSent());
+        assertFalse(response.isSmsNotificationQueued());
 
         verify(smsService).sendWaitlistNotification(anyString(), anyString(), anyInt(), anyInt());
     }
@@ -296,7 +296,7 @@ class AddCustomerToWaitlistUseCaseTest {
         // Assert
         assertNotNull(response);
         assertEquals(WaitlistStatus.WAITING, response.getStatus());
-        assertFalse(response.isSmsNotificationSent());
+        assertFalse(response.isSmsNotificationQueued());
 
         verify(smsService).sendWaitlistNotification(anyString(), anyString(), anyInt(), anyInt());
     }
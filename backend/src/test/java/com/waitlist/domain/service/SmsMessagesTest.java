@@ -0,0 +1,88 @@
+package com.waitlist.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmsMessagesTest {
+
+    @Test
+    @DisplayName("Should count GSM-7 and UCS-2 units and segments like the carriers")
+    void shouldAnalyzeEncoding() {
+        assertEquals(new SmsEncoding.Analysis(SmsEncoding.Encoding.GSM_7, 160, 1),
+                SmsEncoding.analyze("a".repeat(160)));
+        assertEquals(new SmsEncoding.Analysis(SmsEncoding.Encoding.GSM_7, 161, 2),
+                SmsEncoding.analyze("a".repeat(161)));
+        assertEquals(new SmsEncoding.Analysis(SmsEncoding.Encoding.GSM_7, 306, 3),
+                SmsEncoding.analyze("a".repeat(152) + "€" + "a".repeat(152)),
+                "an escape pair never straddles a segment boundary");
+        assertEquals(SmsEncoding.Encoding.GSM_7, SmsEncoding.encodingOf("¡Mañana! ¿Café?"));
+        assertEquals(new SmsEncoding.Analysis(SmsEncoding.Encoding.UCS_2, 71, 2),
+                SmsEncoding.analyze("ó" + "a".repeat(70)));
+        assertEquals(3, SmsEncoding.analyze("ó".repeat(135)).segments());
+    }
+
+    @Test
+    @DisplayName("Should transliterate only the characters GSM-7 lacks")
+    void shouldTransliterate() {
+        assertEquals("Posicion, Reservacion, ¡Mañana! Café", SmsEncoding.transliterate("Posición, Reservación, ¡Mañana! Café"));
+        assertEquals("ÇAIOU 'x' \"y\" - ...", SmsEncoding.transliterate("çÁÍÓÚ ‘x’ “y” – …"));
+        assertEquals("Tacos ?", SmsEncoding.transliterate("Tacos 🌮"));
+    }
+
+    @Test
+    @DisplayName("Should keep accents while the message fits one segment")
+    void shouldKeepAccentsWhenFree() {
+        SmsMessage message = SmsMessages.waitlistNotification("Lola", 25, 3);
+
+        assertEquals("Posición #3 en Lola. Espera: 25 min. Te avisamos cuando esté lista.", message.text());
+        assertEquals(SmsEncoding.Encoding.UCS_2, message.encoding());
+        assertEquals(1, message.segments());
+        assertFalse(message.transliterated());
+        assertEquals(0, message.savedSegments());
+    }
+
+    @Test
+    @DisplayName("Should transliterate instead of paying for a second UCS-2 segment")
+    void shouldTransliterateToSaveSegments() {
+        SmsMessage message = SmsMessages.tableReady("La Cocina de Doña Rosa", "+15550000000");
+
+        assertEquals("¡Mesa lista en La Cocina de Doña Rosa! Acércate a recepcion. Tienes 15 min. Tel: +15550000000",
+                message.text());
+        assertEquals(SmsEncoding.Encoding.GSM_7, message.encoding());
+        assertEquals(1, message.segments());
+        assertEquals(2, message.baselineSegments());
+        assertTrue(message.transliterated());
+        assertFalse(message.truncated());
+    }
+
+    @Test
+    @DisplayName("Should truncate long business names to stay within one segment")
+    void shouldTruncateLongBusinessNames() {
+        String name = "Taquería y Marisquería Los Hermanos González de Guadalajara, Sucursal Centro Histórico";
+        SmsMessage message = SmsMessages.reservationConfirmation(name, "2026-10-18", "20:30", 4);
+
+        assertEquals(1, message.segments());
+        assertTrue(message.baselineSegments() > 1);
+        assertTrue(message.truncated());
+        assertTrue(message.text().startsWith("Reservacion confirmada en Taqueria y Marisqueria Los Hermanos"),
+                message.text());
+        assertTrue(message.text().endsWith(": 2026-10-18 a las 20:30 para 4 personas. ¡Te esperamos!"));
+        assertEquals(1, SmsEncoding.analyze(message.text()).segments());
+    }
+
+    @Test
+    @DisplayName("Should reject placeholders that are not declared parameters")
+    void shouldRejectUnknownPlaceholders() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SmsTemplate.compile("broken", "Hola {name}", "nombre"));
+        assertThrows(IllegalArgumentException.class,
+                () -> SmsTemplate.compile("broken", "Hola {name}", "name").render("a", "b"));
+        assertEquals("Hola Ana y Ana", SmsTemplate.compile("greeting", "Hola {name} y {name}", "name")
+                .render("Ana").text());
+    }
+}
@@ -0,0 +1,111 @@
+package com.waitlist.infrastructure.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics;DB_CLOSE_DELAY=-1"
+})
+@DisplayName("Domain metrics")
+class DomainMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time the use case and SMS send tagged by business and endpoint")
+    void shouldTimeUseCaseAndSms() throws Exception {
+        Business business = fixtures.newBusiness();
+        Customer customer = fixtures.newCustomer(business);
+        CustomUserDetailsService.CustomUserPrincipal owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+
+        mockMvc.perform(post("/api/waitlist")
+                        .with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCustomerToWaitlistRequest(customer.getId(), 2))))
+                .andExpect(status().isCreated());
+
+        Timer useCase = meterRegistry.find("waitlist.usecase")
+                .tags("usecase", "AddCustomerToWaitlistUseCase",
+                        "business", business.getId().toString(),
+                        "endpoint", "POST /api/waitlist",
+                        "outcome", "success")
+                .timer();
+        assertNotNull(useCase, "use case timer");
+        assertEquals(1, useCase.count());
+
+        Timer sms = meterRegistry.find("sms.send")
+                .tags("type", "sendWaitlistNotification", "outcome", "sent", "endpoint", "POST /api/waitlist")
+                .timer();
+        assertNotNull(sms, "SMS timer");
+    }
+
+    @Test
+    @DisplayName("Should expose timers on the Prometheus scrape endpoint")
+    void shouldExposePrometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/api/waitlist").with(user(fixtures.newUser(UserRole.BUSINESS_OWNER, fixtures.newBusiness()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("security_jwt_filter_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")));
+    }
+
+    @Test
+    @DisplayName("Should tag businesses beyond the limit as other")
+    void shouldBoundBusinessTag() {
+        BusinessTagLimiter limiter = new BusinessTagLimiter();
+        ReflectionTestUtils.setField(limiter, "limit", 1);
+        UUID first = UUID.randomUUID();
+
+        assertEquals(first.toString(), limiter.tag(first));
+        assertEquals(BusinessTagLimiter.OTHER, limiter.tag(UUID.randomUUID()));
+        assertEquals(first.toString(), limiter.tag(first));
+        assertEquals(BusinessTagLimiter.NONE, limiter.tag(null));
+    }
+}
@@ -0,0 +1,139 @@
+package com.waitlist.infrastructure.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.security.JwtUtil;
+import com.waitlist.support.InMemoryTracingConfiguration;
+import com.waitlist.support.TestFixtures;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Import({TestFixtures.class, InMemoryTracingConfiguration.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracing;DB_CLOSE_DELAY=-1",
+        "management.tracing.sampling.probability=1.0"
+})
+@DisplayName("Tracing")
+class TracingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void resetSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("Should trace a request from the JWT filter through repositories and SMS")
+    void shouldTraceRequestPath() throws Exception {
+        Business business = fixtures.newBusiness();
+        Customer customer = fixtures.newCustomer(business);
+        CustomUserDetailsService.CustomUserPrincipal owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+
+        mockMvc.perform(post("/api/waitlist")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(owner.getUsername()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCustomerToWaitlistRequest(customer.getId(), 2))))
+                .andExpect(status().isCreated());
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData server = spans.stream()
+                .filter(span -> span.getName().equals("http post /api/waitlist"))
+                .findFirst().orElseThrow(() -> new AssertionError("no server span in " + names(spans)));
+        List<SpanData> trace = spans.stream()
+                .filter(span -> span.getTraceId().equals(server.getTraceId()))
+                .toList();
+        Set<String> names = names(trace);
+
+        assertTrue(names.contains("jwt authentication"), names::toString);
+        assertTrue(names.contains("UserRepository.findByUsernameAndIsActiveTrueWithBusiness"), names::toString);
+        assertTrue(names.contains("WaitlistController.addToWaitlist"), names::toString);
+        assertTrue(names.contains("AddCustomerToWaitlistUseCase.execute"), names::toString);
+        assertTrue(names.contains("WaitlistEntryRepository.save"), names::toString);
+        assertTrue(names.contains("sms sendWaitlistNotification"), names::toString);
+
+        SpanData controller = span(trace, "WaitlistController.addToWaitlist");
+        assertEquals(business.getId().toString(),
+                controller.getAttributes().get(AttributeKey.stringKey("business.id")));
+        SpanData useCase = span(trace, "AddCustomerToWaitlistUseCase.execute");
+        assertEquals(controller.getSpanId(), useCase.getParentSpanId());
+        SpanData principal = span(trace, "UserRepository.findByUsernameAndIsActiveTrueWithBusiness");
+        assertTrue(principal.getAttributes().get(AttributeKey.stringKey("db.statement")).startsWith("SELECT"));
+    }
+
+    @Test
+    @DisplayName("Should put the current trace ID into the logging MDC")
+    void shouldCorrelateLogs() {
+        Span span = tracer.nextSpan().name("mdc").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            assertEquals(span.context().traceId(), MDC.get("traceId"));
+            assertEquals(span.context().spanId(), MDC.get("spanId"));
+        } finally {
+            span.end();
+        }
+    }
+
+    private SpanData span(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private Set<String> names(List<SpanData> spans) {
+        return spans.stream().map(SpanData::getName).collect(Collectors.toSet());
+    }
+}
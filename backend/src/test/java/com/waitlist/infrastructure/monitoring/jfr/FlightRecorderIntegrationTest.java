@@ -0,0 +1,187 @@
+package com.waitlist.infrastructure.monitoring.jfr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.security.JwtUtil;
+import com.waitlist.support.TestFixtures;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfr;DB_CLOSE_DELAY=-1",
+        "management.endpoint.jfr.enabled=true"
+})
+@DisplayName("Flight Recorder events")
+class FlightRecorderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("Should record waitlist operations with business and row counts")
+    void shouldRecordWaitlistOperations() throws Exception {
+        Business business = fixtures.newBusiness();
+        Customer customer = fixtures.newCustomer(business);
+        CustomUserDetailsService.CustomUserPrincipal owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+        String businessId = business.getId().toString();
+
+        List<RecordedEvent> events = record(() -> {
+            String body = mockMvc.perform(post("/api/waitlist")
+                            .with(user(owner))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AddCustomerToWaitlistRequest(customer.getId(), 2))))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            String entryId = objectMapper.readTree(body).get("waitlistEntryId").asText();
+
+            mockMvc.perform(delete("/api/waitlist/{id}", entryId).with(user(owner)))
+                    .andExpect(status().isNoContent());
+        });
+
+        RecordedEvent enqueue = single(events, WaitlistOperationEvent.NAME,
+                event -> "enqueue".equals(event.getString("operation")));
+        assertEquals(businessId, enqueue.getString("businessId"));
+        assertEquals("success", enqueue.getString("outcome"));
+        assertTrue(enqueue.getInt("repositoryCalls") > 0);
+        assertTrue(enqueue.getLong("rowsWritten") > 0);
+
+        RecordedEvent cancel = single(events, WaitlistOperationEvent.NAME,
+                event -> "cancel".equals(event.getString("operation")));
+        assertEquals(businessId, cancel.getString("businessId"), "business taken from the loaded entry");
+        assertTrue(cancel.getLong("rowsRead") > 0);
+
+        RecordedEvent sms = single(events, SmsDispatchEvent.NAME, event -> true);
+        assertEquals("sendWaitlistNotification", sms.getString("messageType"));
+        assertEquals(businessId, sms.getString("businessId"));
+    }
+
+    @Test
+    @DisplayName("Should record JWT validation and principal loading for bearer requests")
+    void shouldRecordAuthentication() throws Exception {
+        Business business = fixtures.newBusiness();
+        CustomUserDetailsService.CustomUserPrincipal owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+        String token = jwtUtil.generateToken(owner.getUsername());
+
+        List<RecordedEvent> events = record(() -> mockMvc.perform(get("/api/waitlist")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        RecordedEvent validation = single(events, JwtValidationEvent.NAME,
+                event -> "validateToken".equals(event.getString("step")));
+        assertEquals("valid", validation.getString("outcome"));
+
+        RecordedEvent principal = single(events, PrincipalLoadEvent.NAME, event -> true);
+        assertEquals("found", principal.getString("outcome"));
+        assertEquals(business.getId().toString(), principal.getString("businessId"));
+        assertEquals(1, principal.getInt("businessCount"));
+        assertEquals(1, principal.getInt("repositoryCalls"));
+    }
+
+    @Test
+    @DisplayName("Should start, dump and stop a recording through the actuator endpoint")
+    void shouldManageRecordingThroughEndpoint() throws Exception {
+        CustomUserDetailsService.CustomUserPrincipal admin = fixtures.platformAdmin();
+        mockMvc.perform(post("/actuator/jfr")
+                        .with(user(fixtures.newUser(UserRole.BUSINESS_OWNER, fixtures.newBusiness())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"endpoint-test\"}"))
+                .andExpect(status().isForbidden());
+
+        String started = mockMvc.perform(post("/actuator/jfr")
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"endpoint-test\",\"maxAgeMinutes\":5}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode recording = objectMapper.readTree(started);
+        assertEquals("RUNNING", recording.get("state").asText());
+        long id = recording.get("id").asLong();
+
+        byte[] dump = mockMvc.perform(get("/actuator/jfr/{id}", id)
+                        .with(user(admin)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("FLR", new String(dump, 0, 3, StandardCharsets.US_ASCII));
+
+        mockMvc.perform(delete("/actuator/jfr/{id}", id)
+                        .with(user(admin)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/jfr/{id}", id)
+                        .with(user(admin)))
+                .andExpect(status().isNotFound());
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = Files.createTempFile("flight-recorder-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(WaitlistOperationEvent.NAME);
+            recording.enable(SmsDispatchEvent.NAME);
+            recording.enable(JwtValidationEvent.NAME);
+            recording.enable(PrincipalLoadEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private RecordedEvent single(List<RecordedEvent> events, String name, Predicate<RecordedEvent> filter) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(filter)
+                .toList();
+        assertEquals(1, matching.size(), () -> name + " events: " + matching);
+        return matching.get(0);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
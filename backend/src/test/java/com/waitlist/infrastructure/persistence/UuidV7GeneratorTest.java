@@ -0,0 +1,86 @@
+package com.waitlist.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Should set version 7 and the RFC 9562 variant")
+    void shouldSetVersionAndVariant() {
+        UUID uuid = UuidV7Generator.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Should embed the current Unix millisecond timestamp")
+    void shouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7Generator.timestamp(uuid);
+        // A burst of IDs in one millisecond may borrow the next one
+        assertTrue(timestamp >= before && timestamp <= after + 1,
+                "timestamp " + timestamp + " outside [" + before + ", " + after + "]");
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing even within the same millisecond")
+    void shouldBeStrictlyIncreasing() {
+        UUID previous = UuidV7Generator.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.generate();
+            assertTrue(previous.toString().compareTo(next.toString()) < 0,
+                    previous + " should sort before " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should not repeat across threads")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        seen.add(UuidV7Generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    @DisplayName("Should reject timestamp extraction from random UUIDs")
+    void shouldRejectRandomUuidTimestamp() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestamp(UUID.randomUUID()));
+    }
+}
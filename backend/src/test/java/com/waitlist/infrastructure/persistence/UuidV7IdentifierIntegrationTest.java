@@ -0,0 +1,79 @@
+package com.waitlist.infrastructure.persistence;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.infrastructure.repository.CustomerRepository;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@DisplayName("UUIDv7 identifiers")
+class UuidV7IdentifierIntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("New customers, waitlist entries and reservations get time-ordered IDs")
+    void newRowsGetVersion7Ids() {
+        Business business = fixtures.newBusiness();
+        Customer first = fixtures.newCustomer(business);
+        Customer second = fixtures.newCustomer(business);
+        WaitlistEntry entry = waitlistEntryRepository.save(new WaitlistEntry(business, first, 2, 1));
+        Reservation reservation = reservationRepository.save(new Reservation(business, second,
+                LocalDate.now().plusDays(1), LocalTime.NOON, 2, null));
+
+        assertEquals(7, first.getId().version());
+        assertEquals(7, entry.getId().version());
+        assertEquals(7, reservation.getId().version());
+        assertTrue(first.getId().toString().compareTo(second.getId().toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("Rows with existing random IDs remain readable and writable")
+    void existingRandomIdsRemainValid() {
+        UUID legacyId = UUID.randomUUID();
+        String phone = TestFixtures.newPhone();
+        jdbcTemplate.update("INSERT INTO customers (id, phone, name, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                legacyId, phone, "Legacy Customer", LocalDateTime.now(), LocalDateTime.now());
+
+        Customer legacy = customerRepository.findByPhone(phone).orElseThrow();
+        assertEquals(legacyId, legacy.getId());
+
+        legacy.updateContactInfo("Legacy Renamed", null);
+        customerRepository.save(legacy);
+        assertEquals("Legacy Renamed", customerRepository.findById(legacyId).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,178 @@
+package com.waitlist.infrastructure.repository;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.presentation.dto.WaitlistEntryDto;
+import com.waitlist.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the managed-entity list path (join-fetched entities copied into DTOs)
+ * with the JPQL constructor projection used by the list endpoints.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("List projection benchmark")
+class ListProjectionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListProjectionBenchmarkTest.class);
+
+    private static final int ROWS = 1_200;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 15;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnly;
+    private UUID businessId;
+
+    @BeforeAll
+    void seed() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Business business = fixtures.newBusiness();
+        businessId = business.getId();
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Customer customer = new Customer(TestFixtures.newPhone(), "Bench Customer " + i, null);
+            customer.addBusiness(business);
+            customers.add(customer);
+        }
+        customers = customerRepository.saveAll(customers);
+
+        List<WaitlistEntry> entries = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            entries.add(new WaitlistEntry(business, customers.get(i), 2, i + 1));
+        }
+        waitlistEntryRepository.saveAll(entries);
+    }
+
+    @Test
+    @DisplayName("Projection returns the same rows without managing entities")
+    void projectionMatchesEntityPath() {
+        List<String> fromEntities = readOnly.execute(status -> summarize(loadViaEntities()));
+        List<String> fromProjection = readOnly.execute(status -> summarize(loadViaProjection()));
+        assertEquals(ROWS, fromProjection.size());
+        assertEquals(fromEntities, fromProjection);
+
+        long managedByEntities = readOnly.execute(status -> {
+            loadViaEntities();
+            return (long) entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+        long managedByProjection = readOnly.execute(status -> {
+            loadViaProjection();
+            return (long) entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+        assertEquals(2L * ROWS + 1, managedByEntities, "entries, customers and the business");
+        assertEquals(0L, managedByProjection);
+    }
+
+    @Test
+    @DisplayName("Projection allocates less than loading entities")
+    void projectionAllocatesLess() {
+        Measurement entities = measure(this::loadViaEntities);
+        Measurement projection = measure(this::loadViaProjection);
+
+        logger.info("Waitlist list of {} rows: entities {} KiB / {} us, projection {} KiB / {} us",
+                ROWS, entities.allocatedBytes / 1024, entities.nanos / 1000,
+                projection.allocatedBytes / 1024, projection.nanos / 1000);
+        assertTrue(projection.allocatedBytes < entities.allocatedBytes,
+                "projection should allocate less than the entity path");
+    }
+
+    private List<WaitlistEntryDto> loadViaEntities() {
+        return waitlistEntryRepository.findActiveWaitlistEntries(businessId).stream()
+                .map(WaitlistEntryDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private List<WaitlistEntryDto> loadViaProjection() {
+        return waitlistEntryRepository.findActiveWaitlistEntrySummaries(businessId).stream()
+                .map(WaitlistEntryDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> summarize(List<WaitlistEntryDto> dtos) {
+        return dtos.stream()
+                .map(dto -> dto.getId() + "|" + dto.getPosition() + "|" + dto.getStatus() + "|"
+                        + dto.getBusinessName() + "|" + dto.getCustomerName() + "|" + dto.getCustomerPhone())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Median allocation and latency of a read-only transaction running the
+     * supplier, measured on the current thread after a warmup.
+     */
+    private Measurement measure(Supplier<List<WaitlistEntryDto>> supplier) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> supplier.get());
+        }
+
+        long[] allocated = new long[ITERATIONS];
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            readOnly.execute(status -> supplier.get());
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        return new Measurement(median(allocated), median(nanos));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Measurement(long allocatedBytes, long nanos) {
+    }
+}
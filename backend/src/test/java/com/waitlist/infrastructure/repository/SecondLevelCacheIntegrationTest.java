@@ -0,0 +1,225 @@
+package com.waitlist.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.BusinessType;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Subscription;
+import com.waitlist.domain.entity.SubscriptionPlan;
+import com.waitlist.domain.entity.SubscriptionStatus;
+import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.BusinessDto;
+import com.waitlist.presentation.dto.CreateUserRequest;
+import com.waitlist.presentation.dto.CustomerDto;
+import com.waitlist.presentation.dto.SubscriptionDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Second-level cache consistency")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private CustomUserDetailsService.CustomUserPrincipal platformAdmin;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        platformAdmin = principal("platform@waitlist.com");
+    }
+
+    @Test
+    @DisplayName("Business reads are served from cache and reflect controller updates")
+    void businessUpdateIsVisibleAfterCachedRead() throws Exception {
+        Business business = businessRepository.save(newBusiness("Cache Bistro"));
+
+        mockMvc.perform(get("/api/business/{id}", business.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/business/{id}", business.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.name").value("Cache Bistro"));
+        assertTrue(statistics.getCacheRegionStatistics("business").getHitCount() > 0,
+                "second read should be served from the business region");
+
+        BusinessDto update = new BusinessDto(null, "Cache Bistro Renamed", BusinessType.RESTAURANT,
+                "1 Cache St", "+15550000001", "bistro@cache.test", 30, 45, true, null, null);
+        mockMvc.perform(put("/api/business/{id}", business.getId())
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/business/{id}", business.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.name").value("Cache Bistro Renamed"));
+        mockMvc.perform(get("/api/business").with(user(platformAdmin)))
+                .andExpect(jsonPath("$[?(@.id == '" + business.getId() + "')].name")
+                        .value(contains("Cache Bistro Renamed")));
+    }
+
+    @Test
+    @DisplayName("Cached subscription queries are invalidated by controller updates")
+    void subscriptionUpdateInvalidatesQueryCache() throws Exception {
+        Business business = businessRepository.save(newBusiness("Cache Subscriber"));
+        Subscription subscription = subscriptionRepository.save(new Subscription(business, SubscriptionPlan.BASIC,
+                SubscriptionStatus.ACTIVE, LocalDate.now(), null, 30, 19.0));
+
+        mockMvc.perform(get("/api/subscriptions/business/{businessId}", business.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.plan").value("BASIC"));
+        mockMvc.perform(get("/api/subscriptions/business/{businessId}", business.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.plan").value("BASIC"));
+        assertTrue(statistics.getQueryCacheHitCount() > 0, "second lookup should hit the query cache");
+
+        SubscriptionDto update = new SubscriptionDto(null, business.getId(), SubscriptionPlan.PRO,
+                SubscriptionStatus.ACTIVE, LocalDate.now(), null, 30, 49.0, true, null, "upgraded", null, null);
+        mockMvc.perform(put("/api/subscriptions/{id}", subscription.getId())
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/subscriptions/business/{businessId}", business.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.plan").value("PRO"))
+                .andExpect(jsonPath("$.monthlyPrice").value(49.0));
+        mockMvc.perform(get("/api/subscriptions").with(user(platformAdmin)))
+                .andExpect(jsonPath("$[?(@.id == '" + subscription.getId() + "')].plan").value(contains("PRO")));
+    }
+
+    @Test
+    @DisplayName("User business memberships reflect controller updates")
+    void userMembershipUpdateIsVisibleAfterCachedRead() throws Exception {
+        Business first = businessRepository.save(newBusiness("Cache Membership One"));
+        Business second = businessRepository.save(newBusiness("Cache Membership Two"));
+        User staff = userRepository.save(new User("cache-staff@test.com", "secret", "cache-staff@test.com",
+                first, UserRole.BUSINESS_STAFF));
+
+        assertEquals(Set.of(first.getId()), userBusinessIds(staff.getId()));
+        assertEquals(Set.of(first.getId()), userBusinessIds(staff.getId()));
+        assertTrue(statistics.getCacheRegionStatistics("user.businesses").getHitCount() > 0,
+                "membership collection should be served from the user.businesses region");
+
+        CreateUserRequest update = new CreateUserRequest("cache-staff@test.com", "secret1",
+                "cache-staff@test.com", UserRole.BUSINESS_STAFF, List.of(second.getId()));
+        mockMvc.perform(put("/api/users/{id}", staff.getId())
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        assertEquals(Set.of(second.getId()), userBusinessIds(staff.getId()));
+        mockMvc.perform(get("/api/users/{id}", staff.getId()).with(user(platformAdmin)))
+                .andExpect(jsonPath("$.businessIds.length()").value(1))
+                .andExpect(jsonPath("$.businessIds[0]").value(second.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Customer business memberships reflect controller updates")
+    void customerMembershipUpdateIsVisibleAfterCachedRead() throws Exception {
+        Business first = businessRepository.save(newBusiness("Cache Customer Home"));
+        Customer customer = new Customer("+15557770001", "Cached Customer", null);
+        customer.addBusiness(first);
+        customer = customerRepository.save(customer);
+        UUID customerId = customer.getId();
+
+        assertEquals(Set.of(first.getId()), customerBusinessIds(customerId));
+        assertEquals(Set.of(first.getId()), customerBusinessIds(customerId));
+        assertTrue(statistics.getCacheRegionStatistics("customer.businesses").getHitCount() > 0,
+                "membership collection should be served from the customer.businesses region");
+
+        CustomUserDetailsService.CustomUserPrincipal cafeOwner = principal("demo2-owner@cafe.com");
+        CustomerDto request = new CustomerDto(null, "+15557770001", "Cached Customer", null, null, null);
+        mockMvc.perform(post("/api/customers/find-or-create")
+                .with(user(cafeOwner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        Set<UUID> expected = new java.util.HashSet<>(cafeOwner.getBusinessIds());
+        expected.add(first.getId());
+        assertEquals(expected, customerBusinessIds(customerId));
+    }
+
+    private Set<UUID> userBusinessIds(UUID userId) {
+        return transactionTemplate.execute(status -> userRepository.findById(userId)
+                .orElseThrow()
+                .getBusinesses().stream()
+                .map(Business::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private Set<UUID> customerBusinessIds(UUID customerId) {
+        return transactionTemplate.execute(status -> customerRepository.findById(customerId)
+                .orElseThrow()
+                .getBusinesses().stream()
+                .map(Business::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    private CustomUserDetailsService.CustomUserPrincipal principal(String username) {
+        return new CustomUserDetailsService.CustomUserPrincipal(
+                userRepository.findByUsernameAndIsActiveTrueWithBusiness(username).orElseThrow());
+    }
+
+    private Business newBusiness(String name) {
+        return new Business(name, BusinessType.RESTAURANT, "1 Cache St", "+15550000001",
+                "bistro@cache.test", 30, 45);
+    }
+}
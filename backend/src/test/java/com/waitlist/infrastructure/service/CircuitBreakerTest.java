@@ -0,0 +1,94 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000_000L);
+    private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new CircuitBreaker.Settings(10, 4, 0.5, OPEN), now::get, transitions::add);
+
+    @Test
+    @DisplayName("Should open once the failure rate over the window reaches the threshold")
+    void shouldOpenOnFailureRate() {
+        call(true);
+        call(true);
+        call(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "not enough calls to judge yet");
+
+        call(false);
+        call(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "two failures out of five");
+
+        call(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state(), "three failures out of six");
+        assertFalse(breaker.isAvailable());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should let a single probe through after the open period and close when it succeeds")
+    void shouldCloseAfterSuccessfulProbe() {
+        trip();
+        now.addAndGet(OPEN.toNanos());
+
+        assertTrue(breaker.isAvailable());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire(), "only one probe at a time");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN,
+                CircuitBreaker.State.CLOSED), transitions);
+
+        call(false);
+        call(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "starts over with a fresh window");
+    }
+
+    @Test
+    @DisplayName("Should reopen when the probe fails and free the probe when it never ran")
+    void shouldReopenAfterFailedProbe() {
+        trip();
+        now.addAndGet(OPEN.toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.release();
+        assertTrue(breaker.tryAcquire(), "released probe can be taken again");
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        now.addAndGet(OPEN.toNanos() - 1);
+        assertFalse(breaker.tryAcquire(), "open for a full period again");
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void call(boolean succeeds) {
+        assertTrue(breaker.tryAcquire());
+        if (succeeds) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.waitlist.infrastructure.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpSmsProviderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> retryAfter = new AtomicReference<>();
+    private final AtomicReference<JsonNode> received = new AtomicReference<>();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
+    private HttpServer stub;
+    private HttpSmsProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/messages", exchange -> {
+            received.set(objectMapper.readTree(exchange.getRequestBody()));
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            if (retryAfter.get() != null) {
+                exchange.getResponseHeaders().add("Retry-After", retryAfter.get());
+            }
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        stub.start();
+        URI url = URI.create("http://localhost:" + stub.getAddress().getPort() + "/messages");
+        provider = new HttpSmsProvider("stub", url, "+15550001111", "secret", Duration.ofSeconds(2), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should post the message as JSON with the bearer token")
+    void shouldPostMessage() {
+        assertEquals(SmsDispatcher.Attempt.sent(), provider.send("+15559998888", "Su mesa esta lista"));
+
+        assertEquals("+15550001111", received.get().get("from").asText());
+        assertEquals("+15559998888", received.get().get("to").asText());
+        assertEquals("Su mesa esta lista", received.get().get("body").asText());
+        assertEquals("Bearer secret", authorization.get());
+    }
+
+    @Test
+    @DisplayName("Should map 429 with Retry-After to rate limited and other errors to failed")
+    void shouldMapErrorStatuses() {
+        status.set(429);
+        retryAfter.set("7");
+        assertEquals(SmsDispatcher.Attempt.rateLimited(Duration.ofSeconds(7)), provider.send("+15559998888", "Hola"));
+
+        status.set(503);
+        retryAfter.set(null);
+        assertEquals(SmsDispatcher.Attempt.failed(), provider.send("+15559998888", "Hola"));
+
+        stub.stop(0);
+        assertEquals(SmsDispatcher.Attempt.failed(), provider.send("+15559998888", "Hola"), "unreachable gateway");
+    }
+}
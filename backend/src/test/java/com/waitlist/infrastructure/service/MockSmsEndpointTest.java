@@ -0,0 +1,183 @@
+package com.waitlist.infrastructure.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:smsmock;DB_CLOSE_DELAY=-1",
+        "management.endpoint.smsmock.enabled=true"
+})
+@DisplayName("Mock SMS fault injection")
+class MockSmsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MockSmsService mockSmsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void resetFaults() {
+        mockSmsService.reset();
+    }
+
+    @Test
+    @DisplayName("Should record delivered messages per phone number")
+    void shouldRecordDeliveredMessages() throws Exception {
+        Business business = fixtures.newBusiness();
+        Customer customer = fixtures.newCustomer(business);
+
+        JsonNode response = join(business, customer);
+
+        assertTrue(response.get("smsNotificationQueued").asBoolean());
+        List<SentSmsLog.SentSms> sent = awaitMessages(customer.getPhone());
+        assertEquals(1, sent.size());
+        assertEquals("sendWaitlistNotification", sent.get(0).type());
+        assertTrue(sent.get(0).delivered());
+        assertTrue(sent.get(0).message().contains(business.getName()));
+    }
+
+    @Test
+    @DisplayName("Should inject errors and outages through the actuator endpoint and reset them")
+    void shouldInjectFaultsThroughEndpoint() throws Exception {
+        CustomUserDetailsService.CustomUserPrincipal admin = fixtures.platformAdmin();
+        Business business = fixtures.newBusiness();
+        Customer failing = fixtures.newCustomer(business);
+        Customer duringOutage = fixtures.newCustomer(business);
+
+        mockMvc.perform(post("/actuator/smsmock")
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("errorRate", 1.0))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.settings.errorRate").value(1.0));
+        assertFalse(mockSmsService.sendSms(failing.getPhone(), "direct"), "a failed send outside a transaction");
+        assertTrue(join(business, failing).get("smsNotificationQueued").asBoolean(),
+                "the waitlist entry is still created when the provider fails");
+        awaitFailedSends("sendWaitlistNotification");
+
+        mockMvc.perform(get("/actuator/smsmock")
+                        .param("phoneNumber", failing.getPhone())
+                        .with(user(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(2))
+                .andExpect(jsonPath("$.messages[0].outcome").value("FAILED"))
+                .andExpect(jsonPath("$.messages[1].outcome").value("FAILED"));
+
+        mockMvc.perform(post("/actuator/smsmock")
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("outageFor", "PT1M", "outageLatency", "PT0.05S"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.outages.length()").value(1));
+        join(business, duringOutage);
+        SentSmsLog.SentSms outage = awaitMessages(duringOutage.getPhone()).get(0);
+        assertEquals(MockSmsFaults.Outcome.OUTAGE, outage.outcome());
+        assertTrue(outage.latencyMillis() >= 50, "outage waits like a provider timeout");
+
+        mockMvc.perform(post("/actuator/smsmock")
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("errorRate", 2.0))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/actuator/smsmock")
+                        .with(user(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.settings.errorRate").value(0.0))
+                .andExpect(jsonPath("$.outages.length()").value(0))
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    @DisplayName("Should refuse the actuator endpoint to anyone but platform admins")
+    void shouldRequirePlatformAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/smsmock"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/smsmock")
+                        .with(user(fixtures.newUser(UserRole.BUSINESS_OWNER, fixtures.newBusiness())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("errorRate", 1.0))))
+                .andExpect(status().isForbidden());
+    }
+
+    private List<SentSmsLog.SentSms> awaitMessages(String phone) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            List<SentSmsLog.SentSms> sent = mockSmsService.getSentMessages().to(phone);
+            if (!sent.isEmpty()) {
+                return sent;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "no message to " + phone);
+            Thread.sleep(20);
+        }
+    }
+
+    private void awaitFailedSends(String type) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            Timer failed = meterRegistry.find("sms.send").tags("type", type, "outcome", "failed").timer();
+            if (failed != null && failed.count() > 0) {
+                return;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "no failed " + type + " recorded");
+            Thread.sleep(20);
+        }
+    }
+
+    private JsonNode join(Business business, Customer customer) throws Exception {
+        CustomUserDetailsService.CustomUserPrincipal owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+        String body = mockMvc.perform(post("/api/waitlist")
+                        .with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AddCustomerToWaitlistRequest(customer.getId(), 2))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
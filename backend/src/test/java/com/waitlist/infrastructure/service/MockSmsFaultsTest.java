@@ -0,0 +1,98 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MockSmsFaultsTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T19:30:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should sample fixed, uniform and long-tail latencies within their parameters")
+    void shouldSampleLatencies() {
+        Duration base = Duration.ofMillis(200);
+        Duration max = Duration.ofSeconds(3);
+        MockSmsFaults faults = new MockSmsFaults(settings(MockSmsFaults.LatencyDistribution.NONE, 0, 0), CLOCK);
+
+        assertEquals(Duration.ZERO, faults.sampleLatency(settings(MockSmsFaults.LatencyDistribution.NONE, 0, 0)));
+        assertEquals(base, faults.sampleLatency(settings(MockSmsFaults.LatencyDistribution.FIXED, 0, 0)));
+
+        MockSmsFaults.Settings uniform = settings(MockSmsFaults.LatencyDistribution.UNIFORM, 0, 0);
+        for (int i = 0; i < 1_000; i++) {
+            Duration latency = faults.sampleLatency(uniform);
+            assertTrue(latency.compareTo(base) >= 0 && latency.compareTo(max) <= 0, latency.toString());
+        }
+
+        MockSmsFaults.Settings longTail = settings(MockSmsFaults.LatencyDistribution.LONG_TAIL, 0, 0);
+        long[] millis = new long[10_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = faults.sampleLatency(longTail).toMillis();
+        }
+        Arrays.sort(millis);
+        assertEquals(200, millis[millis.length / 2], 30, "median is the base latency");
+        assertEquals(3_000, millis[millis.length * 99 / 100], 600, "p99 is the max latency");
+    }
+
+    @Test
+    @DisplayName("Should rate limit beyond the per-second cap and fail at the error rate")
+    void shouldRateLimitAndFail() {
+        MockSmsFaults limited = new MockSmsFaults(settings(MockSmsFaults.LatencyDistribution.NONE, 0, 2), CLOCK);
+        assertEquals(MockSmsFaults.Outcome.DELIVERED, limited.attempt());
+        assertEquals(MockSmsFaults.Outcome.DELIVERED, limited.attempt());
+        assertEquals(MockSmsFaults.Outcome.RATE_LIMITED, limited.attempt());
+
+        MockSmsFaults failing = new MockSmsFaults(settings(MockSmsFaults.LatencyDistribution.NONE, 1, 0), CLOCK);
+        assertEquals(MockSmsFaults.Outcome.FAILED, failing.attempt());
+    }
+
+    @Test
+    @DisplayName("Should parse scripted outages as offsets or instants and fail sends inside them")
+    void shouldApplyOutages() {
+        List<MockSmsFaults.Outage> outages = MockSmsFaults.parseOutages(
+                "PT10M/PT2M, 2026-10-17T19:29:00Z/PT5M", NOW);
+        assertEquals(new MockSmsFaults.Outage(NOW.plusSeconds(600), NOW.plusSeconds(720)), outages.get(0));
+        assertEquals(new MockSmsFaults.Outage(NOW.minusSeconds(60), NOW.plusSeconds(240)), outages.get(1));
+        assertThrows(IllegalArgumentException.class, () -> MockSmsFaults.parseOutages("PT10M", NOW));
+
+        MockSmsFaults faults = new MockSmsFaults(settings(MockSmsFaults.LatencyDistribution.NONE, 0, 0), CLOCK);
+        faults.scheduleOutages(outages.subList(0, 1));
+        assertEquals(MockSmsFaults.Outcome.DELIVERED, faults.attempt());
+        faults.scheduleOutages(outages.subList(1, 2));
+        assertEquals(MockSmsFaults.Outcome.OUTAGE, faults.attempt());
+    }
+
+    @Test
+    @DisplayName("Should keep the newest messages when the log wraps around")
+    void shouldWrapSentLog() {
+        SentSmsLog log = new SentSmsLog(3);
+        for (int i = 1; i <= 5; i++) {
+            log.add(NOW, "+1555000000" + i, "sendSms", "message " + i, MockSmsFaults.Outcome.DELIVERED, 0, null);
+        }
+
+        assertEquals(5, log.total());
+        assertEquals(List.of(5L, 4L, 3L), log.recent(10).stream().map(SentSmsLog.SentSms::sequence).toList());
+        assertEquals(List.of(), log.to("+15550000001"), "oldest message was overwritten");
+        assertEquals("message 4", log.to("+15550000004").get(0).message());
+
+        log.clear();
+        assertEquals(List.of(), log.recent(10));
+    }
+
+    private static MockSmsFaults.Settings settings(MockSmsFaults.LatencyDistribution distribution, double errorRate,
+            int rateLimitPerSecond) {
+        return new MockSmsFaults.Settings(distribution, Duration.ofMillis(200), Duration.ofSeconds(3), errorRate,
+                rateLimitPerSecond, Duration.ZERO);
+    }
+}
@@ -0,0 +1,71 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonthlyPartitionsTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2026, 10);
+
+    @Test
+    @DisplayName("Should name partitions by table and month and parse them back")
+    void shouldRoundTripPartitionNames() {
+        assertEquals("reservations_p2026_10", MonthlyPartitions.partitionName("reservations", OCTOBER));
+        assertEquals(Optional.of(OCTOBER), MonthlyPartitions.monthOf("reservations", "reservations_p2026_10"));
+        assertEquals(Optional.empty(), MonthlyPartitions.monthOf("reservations", "reservations_legacy"));
+        assertEquals(Optional.empty(), MonthlyPartitions.monthOf("reservations", "waitlist_entries_history_p2026_10"));
+    }
+
+    @Test
+    @DisplayName("Should parse the upper bound of date and timestamp partitions")
+    void shouldParseUpperBound() {
+        assertEquals(Optional.of(LocalDate.of(2026, 11, 1)),
+                MonthlyPartitions.upperBound("FOR VALUES FROM (MINVALUE) TO ('2026-11-01')"));
+        assertEquals(Optional.of(LocalDate.of(2027, 1, 1)),
+                MonthlyPartitions.upperBound("FOR VALUES FROM ('2026-12-01 00:00:00') TO ('2027-01-01 00:00:00')"));
+        assertEquals(Optional.empty(), MonthlyPartitions.upperBound("DEFAULT"));
+    }
+
+    @Test
+    @DisplayName("Should create partitions from the current month when nothing is covered")
+    void shouldCreateFromCurrentMonth() {
+        assertEquals(List.of(OCTOBER, OCTOBER.plusMonths(1), OCTOBER.plusMonths(2)),
+                MonthlyPartitions.monthsToCreate(OCTOBER, 2, Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should only create months after the existing upper bound")
+    void shouldSkipCoveredMonths() {
+        assertEquals(List.of(YearMonth.of(2027, 1), YearMonth.of(2027, 2)),
+                MonthlyPartitions.monthsToCreate(OCTOBER, 4, Optional.of(LocalDate.of(2027, 1, 1))));
+        assertEquals(List.of(),
+                MonthlyPartitions.monthsToCreate(OCTOBER, 2, Optional.of(LocalDate.of(2027, 6, 1))));
+        assertEquals(List.of(OCTOBER),
+                MonthlyPartitions.monthsToCreate(OCTOBER, 0, Optional.of(LocalDate.of(2026, 3, 1))));
+    }
+
+    @Test
+    @DisplayName("Should expire only months older than the retention window")
+    void shouldExpireOutsideRetention() {
+        assertTrue(MonthlyPartitions.isExpired(YearMonth.of(2025, 9), OCTOBER, 12));
+        assertFalse(MonthlyPartitions.isExpired(YearMonth.of(2025, 10), OCTOBER, 12));
+        assertFalse(MonthlyPartitions.isExpired(YearMonth.of(2000, 1), OCTOBER, 0));
+    }
+
+    @Test
+    @DisplayName("Should create a partition bounded by the first days of consecutive months")
+    void shouldBuildCreateStatement() {
+        assertEquals("CREATE TABLE IF NOT EXISTS reservations_p2026_12 PARTITION OF reservations " +
+                        "FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')",
+                MonthlyPartitions.createSql("reservations", YearMonth.of(2026, 12)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatingQueueTest {
+
+    private final SeatingQueue<String> queue = new SeatingQueue<>();
+
+    @Test
+    @DisplayName("Should return the lowest ranked party that fits the size range")
+    void shouldReturnFirstPartyThatFits() {
+        queue.add("six", 6, 10);
+        queue.add("two", 2, 20);
+        queue.add("four", 4, 30);
+        queue.add("other-two", 2, 5);
+
+        assertEquals("other-two", queue.first(1, 8).key());
+        assertEquals("six", queue.first(3, 8).key());
+        assertEquals("four", queue.first(3, 4).key());
+        assertEquals("other-two", queue.first(2, 2).key());
+        assertNull(queue.first(1, 1));
+        assertNull(queue.first(7, 8));
+    }
+
+    @Test
+    @DisplayName("Should break rank ties by key")
+    void shouldBreakTiesByKey() {
+        queue.add("b", 2, 10);
+        queue.add("a", 3, 10);
+
+        assertEquals("a", queue.first(1, 4).key());
+    }
+
+    @Test
+    @DisplayName("Should move a party when added again and forget it when removed")
+    void shouldMoveAndRemove() {
+        queue.add("first", 2, 10);
+        queue.add("second", 2, 20);
+        queue.add("first", 5, 30);
+
+        assertEquals("second", queue.first(1, 2).key());
+        assertEquals("first", queue.first(3, 6).key());
+        assertTrue(queue.remove("second"));
+        assertFalse(queue.remove("second"));
+        assertNull(queue.first(1, 2));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    @DisplayName("Should grow for parties larger than any seen before")
+    void shouldGrowForLargeParties() {
+        queue.add("small", 3, 20);
+        queue.add("banquet", 40, 10);
+
+        assertEquals("banquet", queue.first(1, 100).key());
+        assertEquals("small", queue.first(1, 39).key());
+        assertEquals(40, queue.first(40, 40).size());
+    }
+}
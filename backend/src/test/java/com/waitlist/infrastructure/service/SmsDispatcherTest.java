@@ -0,0 +1,236 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.support.TestFixtures;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@DisplayName("SMS dispatcher")
+class SmsDispatcherTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SmsDispatcher dispatcher;
+
+    @Autowired
+    private MockSmsService mockSmsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void resetDispatcher() {
+        dispatcher.reset();
+        mockSmsService.reset();
+    }
+
+    @Test
+    @DisplayName("Should pace a burst of sends to the per-number rate")
+    void shouldPaceBurstToPerNumberRate() throws Exception {
+        dispatcher.configure(settings(1_000, 20, 1, 10, Duration.ofSeconds(5), 3, Duration.ofSeconds(1)));
+
+        long started = System.nanoTime();
+        List<Boolean> results = sendConcurrently(6);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertEquals(List.of(true, true, true, true, true, true), results);
+        assertTrue(elapsed.toMillis() >= 240, "5 sends after the first wait 50 ms each, took " + elapsed);
+        assertEquals(6, mockSmsService.getSentMessages().total());
+    }
+
+    @Test
+    @DisplayName("Should retry after the provider answers 429 instead of dropping the message")
+    void shouldRetryRateLimitedSends() {
+        dispatcher.configure(settings(1_000, 1_000, 100, 10, Duration.ofSeconds(5), 10, Duration.ofMillis(200)));
+        mockSmsService.getFaults().setSettings(faults(Duration.ZERO, 1));
+        double retriesBefore = count("sms.dispatch.retries", null);
+
+        assertTrue(mockSmsService.sendSms(TestFixtures.newPhone(), "first"));
+        assertTrue(mockSmsService.sendSms(TestFixtures.newPhone(), "second"));
+
+        List<SentSmsLog.SentSms> attempts = mockSmsService.getSentMessages().recent(100);
+        assertTrue(attempts.stream().anyMatch(sent -> sent.outcome() == MockSmsFaults.Outcome.RATE_LIMITED),
+                "the mock throttled the second send at least once");
+        assertEquals(2, attempts.stream().filter(SentSmsLog.SentSms::delivered).count());
+        assertTrue(count("sms.dispatch.retries", null) > retriesBefore);
+    }
+
+    @Test
+    @DisplayName("Should reject sends beyond the queue capacity without reaching the provider")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        dispatcher.configure(settings(1_000, 4, 1, 2, Duration.ofSeconds(1), 3, Duration.ofSeconds(1)));
+        mockSmsService.getFaults().setSettings(faults(Duration.ofMillis(500), 0));
+        double queueFullBefore = count("sms.dispatch.rejected", "queue_full");
+
+        List<Boolean> results = sendConcurrently(5);
+
+        long sent = results.stream().filter(Boolean::booleanValue).count();
+        double queueFull = count("sms.dispatch.rejected", "queue_full") - queueFullBefore;
+        assertTrue(queueFull >= 1, "sends beyond the queue capacity are rejected");
+        assertEquals(5, sent + queueFull);
+        assertEquals(sent, mockSmsService.getSentMessages().total(), "rejected sends never reach the provider");
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the wait for a token would exceed the limit")
+    void shouldTimeOutLongWaits() {
+        dispatcher.configure(settings(1_000, 1, 1, 10, Duration.ofMillis(300), 3, Duration.ofSeconds(1)));
+        double timeoutBefore = count("sms.dispatch.rejected", "timeout");
+
+        assertTrue(mockSmsService.sendSms(TestFixtures.newPhone(), "first"));
+        long started = System.nanoTime();
+        assertFalse(mockSmsService.sendSms(TestFixtures.newPhone(), "second"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 300, "does not sleep before giving up");
+        assertEquals(1, count("sms.dispatch.rejected", "timeout") - timeoutBefore);
+        assertEquals(1, mockSmsService.getSentMessages().total());
+    }
+
+    @Test
+    @DisplayName("Should send from a transaction only after it commits, without holding it open while saturated")
+    void shouldSendAfterCommitWithoutHoldingTransaction() throws Exception {
+        dispatcher.configure(settings(1_000, 4, 1, 10, Duration.ofSeconds(5), 3, Duration.ofSeconds(1)));
+        assertTrue(mockSmsService.sendSms(TestFixtures.newPhone(), "uses up the burst"));
+        List<String> phones = List.of(TestFixtures.newPhone(), TestFixtures.newPhone(), TestFixtures.newPhone());
+
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String phone : phones) {
+                assertTrue(mockSmsService.sendTableReadyNotification(phone, "Bistro", "+15550000000"));
+            }
+            assertEquals(1, mockSmsService.getSentMessages().total(), "nothing is sent before the commit");
+        });
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(elapsed.toMillis() < 200, "three paced sends take 750 ms, the transaction took " + elapsed);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (mockSmsService.getSentMessages().total() < 4) {
+            assertTrue(System.currentTimeMillis() < deadline, "sent after the commit");
+            Thread.sleep(20);
+        }
+        for (String phone : phones) {
+            assertEquals(1, mockSmsService.getSentMessages().to(phone).size());
+        }
+
+        String rolledBack = TestFixtures.newPhone();
+        transactionTemplate.executeWithoutResult(status -> {
+            mockSmsService.sendSms(rolledBack, "never sent");
+            status.setRollbackOnly();
+        });
+        Thread.sleep(300);
+        assertTrue(mockSmsService.getSentMessages().to(rolledBack).isEmpty(), "rolled back, so never sent");
+    }
+
+    @Test
+    @DisplayName("Should send another business's table-ready message ahead of a chain's broadcast")
+    void shouldNotStarveOtherTenants() throws Exception {
+        dispatcher.configure(settings(1_000, 20, 1, 100, Duration.ofSeconds(10), 3, Duration.ofSeconds(1)));
+        UUID chain = fixtures.newBusiness().getId();
+        UUID bistro = fixtures.newBusiness().getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(21);
+        try {
+            List<Future<Boolean>> broadcast = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String phone = TestFixtures.newPhone();
+                broadcast.add(executor.submit(
+                        () -> SmsTenant.callAs(chain, () -> mockSmsService.sendSms(phone, "2x1 hoy"))));
+            }
+            while (mockSmsService.getSentMessages().total() < 2) {
+                Thread.sleep(10);
+            }
+            String bistroPhone = TestFixtures.newPhone();
+            Future<Boolean> tableReady = executor.submit(() -> SmsTenant.callAs(bistro,
+                    () -> mockSmsService.sendTableReadyNotification(bistroPhone, "Bistro", "+15550000000")));
+
+            assertTrue(tableReady.get());
+            for (Future<Boolean> sent : broadcast) {
+                assertTrue(sent.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long sentBeforeTableReady = mockSmsService.getSentMessages().find(sent -> true, 100).stream()
+                .dropWhile(sent -> !sent.type().equals("sendTableReadyNotification"))
+                .count() - 1;
+        assertTrue(sentBeforeTableReady <= 4,
+                "the table-ready message waited behind " + sentBeforeTableReady + " broadcast messages");
+        assertNotNull(meterRegistry.find("sms.dispatch.wait")
+                .tags("business", bistro.toString(), "priority", "URGENT").timer(), "per-tenant wait timer");
+        assertNotNull(meterRegistry.find("sms.dispatch.wait")
+                .tags("business", chain.toString(), "priority", "BULK").timer());
+    }
+
+    private List<Boolean> sendConcurrently(int sends) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(sends);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < sends; i++) {
+                String phone = TestFixtures.newPhone();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockSmsService.sendSms(phone, "Mesa lista");
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double count(String name, String reason) {
+        Search search = reason == null ? meterRegistry.find(name) : meterRegistry.find(name).tag("reason", reason);
+        return search.counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static SmsDispatcher.Settings settings(double globalRate, double perNumberRate, int perNumberBurst,
+            int queueCapacity, Duration maxWait, int maxAttempts, Duration retryAfter) {
+        return new SmsDispatcher.Settings(true, globalRate, 1_000, perNumberRate, perNumberBurst, queueCapacity,
+                maxWait, maxAttempts, retryAfter);
+    }
+
+    private static MockSmsFaults.Settings faults(Duration latency, int rateLimitPerSecond) {
+        return new MockSmsFaults.Settings(MockSmsFaults.LatencyDistribution.FIXED, latency, latency, 0,
+                rateLimitPerSecond, Duration.ZERO);
+    }
+}
@@ -0,0 +1,164 @@
+package com.waitlist.infrastructure.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmsRouterTest {
+
+    private static final String PHONE = "+15551234567";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // Provider latencies advance this clock instead of taking real time, except where noted
+    private final AtomicLong now = new AtomicLong(1_000_000_000_000L);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should try each provider once, then prefer the one with the lowest latency")
+    void shouldPreferFastestProvider() {
+        FakeProvider slow = new FakeProvider("slow", 30, SmsDispatcher.Outcome.SENT);
+        FakeProvider fast = new FakeProvider("fast", 0, SmsDispatcher.Outcome.SENT);
+        SmsRouter router = router(List.of(slow, fast), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(router.send(PHONE, "Hola", SmsPriority.BULK));
+        }
+
+        assertEquals(1, slow.calls.get());
+        assertEquals(3, fast.calls.get());
+        assertEquals(3, count("sms.routing.sends", "provider", "fast", "role", "primary", "outcome", "sent"));
+    }
+
+    @Test
+    @DisplayName("Should fail over to the next provider and stop calling one whose circuit opened")
+    void shouldFailOverAndOpenCircuit() {
+        FakeProvider broken = new FakeProvider("broken", 1, SmsDispatcher.Outcome.FAILED);
+        FakeProvider backup = new FakeProvider("backup", 5, SmsDispatcher.Outcome.SENT);
+        SmsRouter router = router(List.of(broken, backup), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(router.send(PHONE, "Hola", SmsPriority.TRANSACTIONAL));
+        }
+
+        assertEquals(2, broken.calls.get(), "circuit opened after two failures in a row");
+        assertEquals(3, backup.calls.get());
+        assertEquals(2, count("sms.routing.failovers", "from", "broken", "to", "backup"));
+        assertEquals(1, count("sms.routing.sends", "provider", "backup", "role", "primary", "outcome", "sent"));
+        assertEquals(CircuitBreaker.State.OPEN.ordinal(),
+                meterRegistry.get("sms.routing.circuit.state").tag("provider", "broken").gauge().value());
+        assertEquals(0, score("broken"), "failed calls are not counted as latency");
+        assertEquals(5, score("backup"));
+    }
+
+    @Test
+    @DisplayName("Should hedge an urgent send through the next provider when the first is slow")
+    void shouldHedgeSlowUrgentSends() {
+        // The hedge delay is a real timeout, so the slow provider really blocks
+        FakeProvider slow = new FakeProvider("slow", 500, SmsDispatcher.Outcome.SENT).blocking();
+        FakeProvider fast = new FakeProvider("fast", 0, SmsDispatcher.Outcome.SENT);
+        SmsRouter router = router(List.of(slow, fast), Duration.ofMillis(50));
+
+        long started = System.nanoTime();
+        assertTrue(router.send(PHONE, "Su mesa esta lista", SmsPriority.URGENT));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMillis < 400, "answered by the hedge after " + elapsedMillis + " ms");
+        assertEquals(1, fast.calls.get());
+        assertEquals(1, count("sms.routing.hedges", "winner", "hedge"));
+    }
+
+    @Test
+    @DisplayName("Should not hedge bulk sends")
+    void shouldNotHedgeBulkSends() {
+        FakeProvider slow = new FakeProvider("slow", 200, SmsDispatcher.Outcome.SENT).blocking();
+        FakeProvider fast = new FakeProvider("fast", 0, SmsDispatcher.Outcome.SENT);
+        SmsRouter router = router(List.of(slow, fast), Duration.ofMillis(50));
+
+        assertTrue(router.send(PHONE, "2x1 hoy", SmsPriority.BULK));
+
+        assertEquals(1, slow.calls.get());
+        assertEquals(0, fast.calls.get());
+        assertNull(meterRegistry.find("sms.routing.hedges").counter());
+    }
+
+    private SmsRouter router(List<SmsProvider> providers, Duration hedgeDelay) {
+        SmsRouter.Settings settings = new SmsRouter.Settings(
+                new CircuitBreaker.Settings(10, 2, 0.5, Duration.ofMinutes(1)), 0.5, true, hedgeDelay);
+        SmsRouter.Pacer unpaced = (fromNumber, priority, call) ->
+                call.send().outcome() == SmsDispatcher.Outcome.SENT;
+        return new SmsRouter(providers, settings, unpaced, executor, meterRegistry, now::get);
+    }
+
+    private double score(String provider) {
+        return meterRegistry.get("sms.routing.latency.score").tag("provider", provider).gauge().value();
+    }
+
+    private double count(String name, String... tags) {
+        Counter counter = meterRegistry.find(name).tags(tags).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private final class FakeProvider implements SmsProvider {
+
+        private final String name;
+        private final long latencyMillis;
+        private final SmsDispatcher.Outcome outcome;
+        private final AtomicInteger calls = new AtomicInteger();
+        private boolean blocking;
+
+        private FakeProvider(String name, long latencyMillis, SmsDispatcher.Outcome outcome) {
+            this.name = name;
+            this.latencyMillis = latencyMillis;
+            this.outcome = outcome;
+        }
+
+        private FakeProvider blocking() {
+            blocking = true;
+            return this;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String fromNumber() {
+            return "+1555000" + name.length();
+        }
+
+        @Override
+        public SmsDispatcher.Attempt send(String phoneNumber, String message) {
+            calls.incrementAndGet();
+            if (blocking) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+            return new SmsDispatcher.Attempt(outcome, null);
+        }
+    }
+}
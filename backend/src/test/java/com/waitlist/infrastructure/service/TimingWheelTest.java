@@ -0,0 +1,78 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000;
+    private static final long TICK = 100;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(Duration.ofMillis(TICK), 8, START);
+
+    @Test
+    @DisplayName("Should fire each key once, not before its deadline, earliest first")
+    void shouldFireAtDeadline() {
+        wheel.schedule("late", START + 350);
+        wheel.schedule("early", START + 250);
+
+        assertEquals(List.of(), wheel.advance(START + 200));
+        assertEquals(List.of(), wheel.advance(START + 299), "rounded up to the next tick");
+        assertEquals(List.of("early"), wheel.advance(START + 300));
+        assertEquals(List.of("late"), wheel.advance(START + 400));
+        assertEquals(List.of(), wheel.advance(START + 500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should keep deadlines several revolutions away in their slot until due")
+    void shouldWaitOutLongDeadlines() {
+        wheel.schedule("far", START + 20 * TICK);
+
+        for (long at = START + TICK; at < START + 20 * TICK; at += TICK) {
+            assertEquals(List.of(), wheel.advance(at));
+        }
+        assertEquals(List.of("far"), wheel.advance(START + 20 * TICK));
+    }
+
+    @Test
+    @DisplayName("Should fire everything overdue after a pause longer than a revolution")
+    void shouldCatchUpAfterPause() {
+        wheel.schedule("a", START + 2 * TICK);
+        wheel.schedule("b", START + 7 * TICK);
+        wheel.schedule("c", START + 30 * TICK);
+
+        assertEquals(List.of("a", "b"), wheel.advance(START + 25 * TICK));
+        assertEquals(List.of("c"), wheel.advance(START + 30 * TICK));
+    }
+
+    @Test
+    @DisplayName("Should replace a key's deadline when rescheduled and drop it when cancelled")
+    void shouldRescheduleAndCancel() {
+        wheel.schedule("moved", START + TICK);
+        wheel.schedule("moved", START + 5 * TICK);
+        wheel.schedule("cancelled", START + TICK);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertEquals(List.of(), wheel.advance(START + 4 * TICK));
+        assertTrue(wheel.contains("moved"));
+        assertEquals(List.of("moved"), wheel.advance(START + 5 * TICK));
+    }
+
+    @Test
+    @DisplayName("Should fire a deadline already past on the next advance")
+    void shouldFirePastDeadlineNext() {
+        wheel.advance(START + 10 * TICK);
+        wheel.schedule("overdue", START);
+
+        assertEquals(List.of("overdue"), wheel.advance(START + 11 * TICK));
+    }
+}
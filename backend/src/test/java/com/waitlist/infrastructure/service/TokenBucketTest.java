@@ -0,0 +1,80 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long INTERVAL = SECOND / 10;
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    @DisplayName("Should hand out the burst immediately, then one token per interval in order")
+    void shouldPaceAfterBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertEquals(3, bucket.available());
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.available());
+        assertEquals(-1, bucket.reserve(INTERVAL - 1), "too long a wait reserves nothing");
+        assertEquals(INTERVAL, bucket.reserve(SECOND));
+        assertEquals(2 * INTERVAL, bucket.reserve(SECOND));
+
+        now.addAndGet(SECOND);
+        assertEquals(3, bucket.available(), "refills only up to the burst");
+    }
+
+    @Test
+    @DisplayName("Should hand out nothing while paused after a 429")
+    void shouldPauseUntilRetryAfter() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        bucket.pauseUntil(now.get() + 2 * SECOND);
+
+        assertEquals(0, bucket.available());
+        assertEquals(-1, bucket.reserve(SECOND));
+        now.addAndGet(2 * SECOND);
+        assertEquals(1, bucket.available(), "restarts with one token, not a full burst");
+        now.addAndGet(SECOND);
+        assertEquals(5, bucket.available());
+    }
+
+    @Test
+    @DisplayName("Should give concurrent callers distinct slots without locking")
+    void shouldReserveDistinctSlotsConcurrently() throws Exception {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        Set<Long> waits = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    waits.add(bucket.reserve(Long.MAX_VALUE));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4_000, waits.size());
+        for (long slot = 0; slot < 4_000; slot++) {
+            assertTrue(waits.contains(slot * INTERVAL), "slot " + slot);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.waitlist.infrastructure.service;
 
 import com.waitlist.domain.service.SmsService;
+import com.waitlist.infrastructure.monitoring.SmsSegmentMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +19,12 @@ class TwilioSmsServiceTest {
     @Mock
     private SmsService smsService;
 
+    @Mock
+    private SmsSegmentMetrics segmentMetrics;
+
+    @Mock
+    private SmsDispatcher dispatcher;
+
     @InjectMocks
     private TwilioSmsService twilioSmsService;
 
@@ -0,0 +1,141 @@
+package com.waitlist.infrastructure.service;
+
+import com.waitlist.application.dto.WaitlistHistoryEntry;
+import com.waitlist.application.service.WaitlistStatsService;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@DisplayName("Waitlist archive service")
+class WaitlistArchiveServiceTest {
+
+    private static final Duration AGE = Duration.ofHours(12);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private WaitlistArchiveService archiveService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private WaitlistStatsService waitlistStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Business business;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        // Leave nothing from other tests old enough to be archived
+        archiveService.archiveFinishedEntries(AGE, 1_000);
+        business = fixtures.newBusiness();
+        customer = fixtures.newCustomer(business);
+    }
+
+    @Test
+    @DisplayName("Should move only old finished entries, in batches")
+    void shouldArchiveOldFinishedEntries() {
+        UUID oldSeated = entry(WaitlistStatus.SEATED, 1, 2);
+        UUID oldCancelled = entry(WaitlistStatus.CANCELLED, 2, 2);
+        UUID oldSeatedToo = entry(WaitlistStatus.SEATED, 3, 2);
+        UUID recentSeated = entry(WaitlistStatus.SEATED, 4, 0);
+        UUID oldWaiting = entry(WaitlistStatus.WAITING, 5, 2);
+
+        int archived = archiveService.archiveFinishedEntries(AGE, 2);
+
+        assertEquals(3, archived);
+        assertEquals(List.of(recentSeated, oldWaiting).stream().sorted().toList(),
+                liveIds().stream().sorted().toList());
+        assertEquals(List.of(oldSeated, oldCancelled, oldSeatedToo).stream().sorted().toList(),
+                historyIds().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should keep customer history readable through the union view")
+    void shouldKeepCustomerHistory() {
+        UUID archivedId = entry(WaitlistStatus.SEATED, 1, 2);
+        UUID liveId = entry(WaitlistStatus.WAITING, 2, 0);
+
+        archiveService.archiveFinishedEntries(AGE, 10);
+
+        List<WaitlistHistoryEntry> history = waitlistEntryRepository.findHistoryByCustomerId(customer.getId());
+        assertEquals(2, history.size());
+        assertTrue(history.stream().anyMatch(e -> e.getId().equals(archivedId)
+                && e.getStatus() == WaitlistStatus.SEATED));
+        assertTrue(history.stream().anyMatch(e -> e.getId().equals(liveId)));
+        assertTrue(waitlistEntryRepository.findById(archivedId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep entries finished today in the waitlist stats after they are archived")
+    void shouldKeepTodaysStatsAfterArchiving() {
+        waitlistStatsService.getStats(business.getId());
+        UUID seated = entry(WaitlistStatus.SEATED, 1, 0);
+        jdbcTemplate.update("UPDATE waitlist_entries SET seated_at = updated_at WHERE id = ?", seated);
+        entry(WaitlistStatus.CANCELLED, 2, 0);
+        entry(WaitlistStatus.WAITING, 3, 0);
+
+        archiveService.archiveFinishedEntries(Duration.ofSeconds(30), 10);
+        assertTrue(historyIds().contains(seated));
+        waitlistStatsService.resync();
+
+        WaitlistStatsService.WaitlistStatsSnapshot stats = waitlistStatsService.getStats(business.getId());
+        assertEquals(1, stats.waiting());
+        assertEquals(1, stats.seatedToday());
+        assertEquals(1, stats.cancelledToday());
+    }
+
+    @Test
+    @DisplayName("Should be a no-op when nothing is old enough")
+    void shouldDoNothingWithoutCandidates() {
+        entry(WaitlistStatus.CANCELLED, 1, 0);
+
+        assertEquals(0, archiveService.archiveFinishedEntries(AGE, 10));
+    }
+
+    private UUID entry(WaitlistStatus status, int position, int daysAgo) {
+        WaitlistEntry entry = waitlistEntryRepository.save(new WaitlistEntry(business, customer, 2, position));
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(daysAgo).minusMinutes(1));
+        jdbcTemplate.update("UPDATE waitlist_entries SET status = ?, updated_at = ? WHERE id = ?",
+                status.name(), updatedAt, entry.getId());
+        return entry.getId();
+    }
+
+    private List<UUID> liveIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM waitlist_entries WHERE business_id = ?",
+                UUID.class, business.getId());
+    }
+
+    private List<UUID> historyIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM waitlist_entries_history WHERE business_id = ?",
+                UUID.class, business.getId());
+    }
+}
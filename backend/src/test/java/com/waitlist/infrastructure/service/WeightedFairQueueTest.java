@@ -0,0 +1,80 @@
+package com.waitlist.infrastructure.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedFairQueueTest {
+
+    private final WeightedFairQueue queue = new WeightedFairQueue();
+
+    @Test
+    @DisplayName("Should serve backlogged tenants in proportion to their weights")
+    void shouldServeByWeight() throws Exception {
+        List<WeightedFairQueue.Ticket> basic = enqueue("basic", 1, 5, SmsPriority.BULK);
+        List<WeightedFairQueue.Ticket> enterprise = enqueue("enterprise", 4, 8, SmsPriority.BULK);
+
+        assertServedInOrder(
+                enterprise.get(0), enterprise.get(1), enterprise.get(2), basic.get(0),
+                enterprise.get(3), enterprise.get(4), enterprise.get(5), enterprise.get(6), basic.get(1),
+                enterprise.get(7), basic.get(2), basic.get(3), basic.get(4));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("Should serve urgent messages before any queued bulk traffic")
+    void shouldServeUrgentFirst() throws Exception {
+        List<WeightedFairQueue.Ticket> broadcast = enqueue("chain", 4, 3, SmsPriority.BULK);
+        WeightedFairQueue.Ticket confirmation = queue.enqueue("bistro", 1, SmsPriority.TRANSACTIONAL);
+        WeightedFairQueue.Ticket tableReady = queue.enqueue("bistro", 1, SmsPriority.URGENT);
+
+        assertServedInOrder(tableReady, confirmation, broadcast.get(0), broadcast.get(1), broadcast.get(2));
+    }
+
+    @Test
+    @DisplayName("Should start a newly active tenant level with the others instead of with saved-up credit")
+    void shouldNotBankIdleCredit() throws Exception {
+        List<WeightedFairQueue.Ticket> busy = enqueue("busy", 1, 4, SmsPriority.BULK);
+        assertServedInOrder(busy.get(0), busy.get(1));
+
+        List<WeightedFairQueue.Ticket> late = enqueue("late", 1, 3, SmsPriority.BULK);
+
+        // Alternates from here on, rather than late sending a catch-up burst
+        assertServedInOrder(late.get(0), busy.get(2), late.get(1), busy.get(3), late.get(2));
+    }
+
+    @Test
+    @DisplayName("Should give up on a ticket that is not served by its deadline")
+    void shouldTimeOutWaitingTickets() throws Exception {
+        WeightedFairQueue.Ticket first = queue.enqueue("a", 1, SmsPriority.BULK);
+        WeightedFairQueue.Ticket second = queue.enqueue("b", 1, SmsPriority.BULK);
+
+        assertFalse(queue.awaitTurn(second, System.nanoTime() + 1_000_000, () -> 0, () -> { }));
+        assertFalse(queue.awaitTurn(first, System.nanoTime() + 1_000_000, () -> 5_000_000, () -> { }),
+                "the first ticket gives up at once when its token comes after the deadline");
+        assertEquals(0, queue.size());
+    }
+
+    private List<WeightedFairQueue.Ticket> enqueue(String tenant, double weight, int count, SmsPriority priority) {
+        List<WeightedFairQueue.Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tickets.add(queue.enqueue(tenant, weight, priority));
+        }
+        return tickets;
+    }
+
+    // A ticket is only served when it is first in line, so an immediate
+    // deadline fails for any ticket served out of the expected order
+    private void assertServedInOrder(WeightedFairQueue.Ticket... expected) throws Exception {
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(queue.awaitTurn(expected[i], System.nanoTime(), () -> 0, () -> { }),
+                    "ticket " + i + " for " + expected[i].tenant());
+        }
+    }
+}
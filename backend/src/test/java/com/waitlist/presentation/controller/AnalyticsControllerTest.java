@@ -0,0 +1,176 @@
+package com.waitlist.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.ActivityRollupService;
+import com.waitlist.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@DisplayName("Analytics rollups")
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ActivityRollupService activityRollupService;
+
+    private Business business;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        business = fixtures.newBusiness();
+        owner = fixtures.newUser(UserRole.BUSINESS_OWNER, business);
+        today = LocalDate.now();
+
+        // Seated after being notified
+        WaitlistEntry seated = waitlistEntryRepository.save(new WaitlistEntry(business, fixtures.newCustomer(business), 4, 1));
+        mockMvc.perform(put("/api/waitlist/{id}/notify", seated.getId()).with(user(owner))).andExpect(status().isOk());
+        mockMvc.perform(put("/api/waitlist/{id}/seat", seated.getId()).with(user(owner))).andExpect(status().isOk());
+
+        // Notified but never showed up
+        WaitlistEntry noShow = waitlistEntryRepository.save(new WaitlistEntry(business, fixtures.newCustomer(business), 2, 2));
+        mockMvc.perform(put("/api/waitlist/{id}/notify", noShow.getId()).with(user(owner))).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/waitlist/{id}", noShow.getId()).with(user(owner)))
+                .andExpect(status().isNoContent());
+
+        // Confirmed and completed reservation in the current hour
+        Reservation reservation = reservationRepository.save(new Reservation(business, fixtures.newCustomer(business), today,
+                LocalTime.of(LocalDateTime.now().getHour(), 0), 6, null));
+        mockMvc.perform(put("/api/reservations/{id}/confirm", reservation.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/reservations/{id}/complete", reservation.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should roll up state transitions as they happen")
+    void shouldRollUpTransitions() throws Exception {
+        JsonNode analytics = analytics();
+        JsonNode totals = analytics.get("totals");
+
+        assertEquals(2, totals.get("waitlistJoined").asLong());
+        assertEquals(2, totals.get("waitlistNotified").asLong());
+        assertEquals(1, totals.get("waitlistSeated").asLong());
+        assertEquals(1, totals.get("waitlistCancelled").asLong());
+        assertEquals(1, totals.get("waitlistNoShows").asLong());
+        assertEquals(1, totals.get("reservationsConfirmed").asLong());
+        assertEquals(1, totals.get("reservationsCompleted").asLong());
+        assertEquals(4 + 6, totals.get("covers").asLong());
+        assertEquals(0.5, analytics.get("noShowRate").asDouble());
+        assertEquals(0.5, analytics.get("cancelRate").asDouble());
+        assertEquals(LocalDateTime.now().getHour(), analytics.get("peakHours").get(0).get("hour").asInt());
+        assertEquals(10, analytics.get("peakHours").get(0).get("covers").asLong());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same rollups from raw data when backfilled")
+    void shouldBackfillFromRawData() throws Exception {
+        JsonNode live = analytics().get("totals");
+
+        mockMvc.perform(post("/api/analytics/backfill")
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .with(user(fixtures.platformAdmin())))
+                .andExpect(status().isOk());
+
+        JsonNode rebuilt = analytics().get("totals");
+        for (String metric : new String[] {"waitlistJoined", "waitlistNotified", "waitlistSeated",
+                "waitlistCancelled", "waitlistNoShows", "seatedCovers", "reservationsConfirmed",
+                "reservationsCompleted", "reservationsCancelled", "reservationCovers"}) {
+            assertEquals(live.get(metric).asLong(), rebuilt.get(metric).asLong(), metric);
+        }
+        // Live increments use the entity clock, the rebuild whole database seconds
+        assertTrue(Math.abs(live.get("totalWaitSeconds").asLong() - rebuilt.get("totalWaitSeconds").asLong()) <= 1);
+    }
+
+    @Test
+    @DisplayName("Should keep counting a reservation confirmed and then cancelled, live and after a backfill")
+    void shouldCountConfirmationsThatWereLaterCancelled() throws Exception {
+        Reservation cancelled = reservationRepository.save(new Reservation(business, fixtures.newCustomer(business),
+                today, LocalTime.of(LocalDateTime.now().getHour(), 0), 2, null));
+        mockMvc.perform(put("/api/reservations/{id}/confirm", cancelled.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/reservations/{id}/cancel", cancelled.getId()).with(user(owner)))
+                .andExpect(status().isOk());
+
+        JsonNode live = analytics().get("totals");
+        assertEquals(2, live.get("reservationsConfirmed").asLong());
+        assertEquals(1, live.get("reservationsCancelled").asLong());
+
+        mockMvc.perform(post("/api/analytics/backfill")
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .with(user(fixtures.platformAdmin())))
+                .andExpect(status().isOk());
+
+        JsonNode rebuilt = analytics().get("totals");
+        assertEquals(2, rebuilt.get("reservationsConfirmed").asLong());
+        assertEquals(1, rebuilt.get("reservationsCancelled").asLong());
+    }
+
+    @Test
+    @DisplayName("Should reject users outside the business")
+    void shouldRejectOtherBusinesses() throws Exception {
+        mockMvc.perform(get("/api/analytics/business/{id}", business.getId())
+                        .with(user(fixtures.newUser(UserRole.BUSINESS_OWNER, fixtures.newBusiness()))))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode analytics() throws Exception {
+        activityRollupService.flush();
+        String body = mockMvc.perform(get("/api/analytics/business/{id}", business.getId())
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,122 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.CustomerDto;
+import com.waitlist.support.AbstractQueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.waitlist.support.SqlCounts.selects;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("CustomerController query counts")
+class CustomerControllerQueryCountTest extends AbstractQueryCountTest {
+
+    private static final int CUSTOMERS = 3;
+
+    private Business business;
+    private List<Customer> customers;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+        customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers.add(newCustomer(business));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/customers as business owner")
+    void getAllCustomersAsOwner() throws Exception {
+        perform(selects(1), get("/api/customers").with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CUSTOMERS));
+    }
+
+    @Test
+    @DisplayName("GET /api/customers as platform admin")
+    void getAllCustomersAsPlatformAdmin() throws Exception {
+        perform(selects(1), get("/api/customers").with(user(platformAdmin())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/customers/{id}")
+    void getCustomerById() throws Exception {
+        perform(selects(1), get("/api/customers/{id}", customers.get(0).getId()).with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/customers/phone/{phone}")
+    void getCustomerByPhone() throws Exception {
+        perform(selects(1), get("/api/customers/phone/{phone}", customers.get(0).getPhone()).with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/customers/search")
+    void searchCustomers() throws Exception {
+        perform(selects(1), get("/api/customers/search")
+                .param("searchTerm", customers.get(0).getName())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/customers")
+    void createCustomer() throws Exception {
+        CustomerDto request = new CustomerDto(null, newPhone(), "New Customer", null, null, null);
+
+        perform(selects(1).inserts(2), post("/api/customers")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PUT /api/customers/{id}")
+    void updateCustomer() throws Exception {
+        Customer customer = customers.get(0);
+        CustomerDto request = new CustomerDto(null, customer.getPhone(), "Renamed Customer", null, null, null);
+
+        perform(selects(2).updates(1), put("/api/customers/{id}", customer.getId())
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed Customer"));
+    }
+
+    @Test
+    @DisplayName("POST /api/customers/find-or-create for an existing customer")
+    void findOrCreateExistingCustomer() throws Exception {
+        Customer customer = newCustomer();
+        CustomerDto request = new CustomerDto(null, customer.getPhone(), customer.getName(), null, null, null);
+
+        // phone lookup, memberships, business
+        perform(selects(3).inserts(1), post("/api/customers/find-or-create")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,249 @@
+package com.waitlist.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.waitlist.application.service.BroadcastService;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.BroadcastRequest;
+import com.waitlist.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("NotificationController broadcasts")
+class NotificationControllerBroadcastTest extends AbstractIntegrationTest {
+
+    private static final String MESSAGE = "Running 20 minutes late, sorry!";
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private BroadcastService broadcastService;
+
+    private Business business;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+    }
+
+    @Test
+    @DisplayName("Should report progress until every message is sent")
+    void shouldBroadcastToWaitlist() throws Exception {
+        Customer couple = queue(2, 1);
+        Customer family = queue(4, 2);
+        Customer group = queue(6, 3);
+        WaitlistEntry seated = waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 4, 4));
+        seated.setStatus(WaitlistStatus.SEATED);
+        waitlistEntryRepository.save(seated);
+
+        BroadcastRequest request = new BroadcastRequest(business.getId(), BroadcastService.Audience.WAITLIST, MESSAGE);
+        request.setMinPartySize(3);
+        String response = mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.total").value(2))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode progress = awaitFinished(objectMapper.readTree(response).get("jobId").asText());
+        assertEquals("COMPLETED", progress.get("status").asText());
+        assertEquals(2, progress.get("sent").asInt());
+        assertEquals(0, progress.get("failed").asInt());
+        assertEquals(1, mockSmsService.getSentMessages().to(family.getPhone()).size());
+        assertEquals(1, mockSmsService.getSentMessages().to(group.getPhone()).size());
+        assertTrue(mockSmsService.getSentMessages().to(couple.getPhone()).isEmpty());
+        assertEquals(MESSAGE, mockSmsService.getSentMessages().to(group.getPhone()).get(0).message());
+    }
+
+    @Test
+    @DisplayName("Should text today's upcoming reservations within the time window")
+    void shouldBroadcastToTodaysReservations() throws Exception {
+        Customer lunch = book(LocalDate.now(), LocalTime.of(12, 0));
+        Customer dinner = book(LocalDate.now(), LocalTime.of(20, 0));
+        Customer tomorrow = book(LocalDate.now().plusDays(1), LocalTime.of(20, 0));
+        Reservation cancelled = reservationRepository.save(new Reservation(business, newCustomer(business),
+                LocalDate.now(), LocalTime.of(20, 30), 2, null));
+        cancelled.cancel();
+        reservationRepository.save(cancelled);
+
+        BroadcastRequest request = new BroadcastRequest(business.getId(),
+                BroadcastService.Audience.RESERVATIONS_TODAY, MESSAGE);
+        request.setFromTime(LocalTime.of(18, 0));
+        String response = mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.total").value(1))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode progress = awaitFinished(objectMapper.readTree(response).get("jobId").asText());
+        assertEquals(1, progress.get("sent").asInt());
+        assertEquals(1, mockSmsService.getSentMessages().to(dinner.getPhone()).size());
+        for (Customer skipped : List.of(lunch, tomorrow, cancelled.getCustomer())) {
+            assertTrue(mockSmsService.getSentMessages().to(skipped.getPhone()).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not let staff of another business broadcast or see the job")
+    void shouldRejectOtherBusinesses() throws Exception {
+        queue(2, 1);
+        CustomUserDetailsService.CustomUserPrincipal outsider = newUser(UserRole.BUSINESS_OWNER, newBusiness());
+        BroadcastRequest request = new BroadcastRequest(business.getId(), BroadcastService.Audience.WAITLIST, MESSAGE);
+
+        mockMvc.perform(post("/api/notifications/broadcast").with(user(outsider))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isForbidden());
+
+        String response = mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/notifications/broadcast/{id}", objectMapper.readTree(response).get("jobId").asText())
+                        .with(user(outsider)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should ask the client to retry later while the broadcast backlog is full")
+    void shouldRefuseWhenBacklogIsFull() throws Exception {
+        Customer customer = queue(2, 1);
+        BroadcastRequest request = new BroadcastRequest(business.getId(), BroadcastService.Audience.WAITLIST, MESSAGE);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(broadcastService, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger blocked = new AtomicInteger();
+        Runnable blocker = () -> {
+            blocked.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            // Fill until every thread is held by a blocker and the queue is at capacity, so nothing drains it
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (blocked.get() < executor.getMaximumPoolSize() || executor.getQueue().remainingCapacity() > 0) {
+                assertTrue(System.currentTimeMillis() < deadline, "broadcast pool never saturated");
+                try {
+                    executor.execute(blocker);
+                } catch (RejectedExecutionException full) {
+                    // Earlier work still holds a thread; wait for it to pick up a blocker
+                    Thread.sleep(10);
+                }
+            }
+
+            mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            release.countDown();
+        }
+
+        String response = mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        awaitFinished(objectMapper.readTree(response).get("jobId").asText());
+        assertEquals(1, mockSmsService.getSentMessages().to(customer.getPhone()).size());
+    }
+
+    @Test
+    @DisplayName("Should refuse to message customers who already left the waitlist")
+    void shouldRejectInactiveWaitlistStatus() throws Exception {
+        BroadcastRequest request = new BroadcastRequest(business.getId(), BroadcastService.Audience.WAITLIST, MESSAGE);
+        request.setWaitlistStatus(WaitlistStatus.SEATED);
+
+        mockMvc.perform(post("/api/notifications/broadcast").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should send a direct SMS only on behalf of a business the sender belongs to")
+    void shouldSendSmsForOwnBusinessOnly() throws Exception {
+        Customer customer = newCustomer(business);
+        NotificationController.SmsRequest request = new NotificationController.SmsRequest(customer.getId(), MESSAGE);
+        request.setBusinessId(newBusiness().getId());
+
+        mockMvc.perform(post("/api/notifications/sms").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isForbidden());
+        assertTrue(mockSmsService.getSentMessages().to(customer.getPhone()).isEmpty());
+
+        request.setBusinessId(business.getId());
+        mockMvc.perform(post("/api/notifications/sms").with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk());
+        assertEquals(1, mockSmsService.getSentMessages().to(customer.getPhone()).size());
+    }
+
+    private Customer queue(int partySize, int position) {
+        Customer customer = newCustomer(business);
+        waitlistEntryRepository.save(new WaitlistEntry(business, customer, partySize, position));
+        return customer;
+    }
+
+    private Customer book(LocalDate date, LocalTime time) {
+        Customer customer = newCustomer(business);
+        reservationRepository.save(new Reservation(business, customer, date, time, 2, null));
+        return customer;
+    }
+
+    private JsonNode awaitFinished(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String body = mockMvc.perform(get("/api/notifications/broadcast/{id}", jobId).with(user(owner)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode progress = objectMapper.readTree(body);
+            if (!progress.get("status").asText().equals("RUNNING")) {
+                return progress;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "broadcast still running: " + body);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.waitlist.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.repository.UserRepository;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.JwtUtil;
+import com.waitlist.presentation.dto.CustomerDto;
+import com.waitlist.presentation.dto.LoginRequest;
+import com.waitlist.support.RequestBudgets;
+import com.waitlist.support.RequestProfile;
+import com.waitlist.support.TestFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails when an endpoint allocates noticeably more per request than its
+ * budget in {@code request-budgets.properties}, or takes longer when run
+ * with {@code -Dbudget.check-time=true}. Catches regressions that keep the
+ * query count but load more rows, like reloading a whole table to find one
+ * entity. See {@link RequestBudgets} for margins and re-recording.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:budgets;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.waitlist=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+@DisplayName("Request allocation and latency budgets")
+class RequestBudgetTest {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 30;
+    private static final int PARTIES = 10;
+
+    private static final RequestBudgets budgets = new RequestBudgets();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Business business;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        business = fixtures.newBusiness();
+        bearer = "Bearer " + jwtUtil.generateToken(fixtures.newUser(UserRole.BUSINESS_OWNER, business).getUsername());
+    }
+
+    @AfterAll
+    static void writeRecorded() {
+        budgets.writeRecorded();
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist")
+    void listWaitlist() throws Exception {
+        for (int i = 0; i < PARTIES; i++) {
+            waitlistEntryRepository.save(new WaitlistEntry(business, fixtures.newCustomer(business), 2, i + 1));
+        }
+
+        check("waitlist.list", WARMUP, ITERATIONS, i -> get("/api/waitlist"), status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/waitlist")
+    void addToWaitlist() throws Exception {
+        List<Customer> customers = customers(WARMUP + ITERATIONS);
+
+        check("waitlist.add", WARMUP, ITERATIONS, i -> post("/api/waitlist")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AddCustomerToWaitlistRequest(customers.get(i).getId(), 2))),
+                status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PUT /api/waitlist/{id}/seat")
+    void seat() throws Exception {
+        List<WaitlistEntry> entries = new ArrayList<>();
+        for (Customer customer : customers(WARMUP + ITERATIONS)) {
+            WaitlistEntry entry = new WaitlistEntry(business, customer, 2, entries.size() + 1);
+            entry.notifyCustomer();
+            entries.add(waitlistEntryRepository.save(entry));
+        }
+
+        check("waitlist.seat", WARMUP, ITERATIONS,
+                i -> put("/api/waitlist/{id}/seat", entries.get(i).getId()), status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /public/waitlist/{businessId}")
+    void publicWaitlistInfo() throws Exception {
+        for (int i = 0; i < PARTIES; i++) {
+            waitlistEntryRepository.save(new WaitlistEntry(business, fixtures.newCustomer(business), 2, i + 1));
+        }
+
+        RequestProfile profile = RequestProfile.measure(WARMUP, ITERATIONS, i ->
+                mockMvc.perform(get("/public/waitlist/{businessId}", business.getId()))
+                        .andExpect(status().isOk()));
+        budgets.check("public.waitlist", profile);
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations")
+    void listReservations() throws Exception {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        for (int i = 0; i < PARTIES; i++) {
+            reservationRepository.save(new Reservation(business, fixtures.newCustomer(business), tomorrow,
+                    LocalTime.of(18, 0).plusMinutes(15L * i), 2, null));
+        }
+
+        check("reservations.list", WARMUP, ITERATIONS, i -> get("/api/reservations"), status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/customers")
+    void createCustomer() throws Exception {
+        check("customers.create", WARMUP, ITERATIONS, i -> post("/api/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CustomerDto(null, TestFixtures.newPhone(), "Budget Customer", null, null, null))),
+                status().isCreated());
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/login")
+    void login() throws Exception {
+        String username = "budget-" + TestFixtures.nextId() + "@test.com";
+        User user = new User(username, passwordEncoder.encode("secret1"), username, UserRole.BUSINESS_OWNER);
+        user.addBusiness(business);
+        userRepository.save(user);
+        String body = objectMapper.writeValueAsString(new LoginRequest(username, "secret1"));
+
+        // BCrypt dominates, so fewer iterations are enough for a stable median
+        RequestProfile profile = RequestProfile.measure(3, 9, i ->
+                mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                        .andExpect(status().isOk()));
+        budgets.check("auth.login", profile);
+    }
+
+    private void check(String endpoint, int warmup, int iterations, RequestFactory request, ResultMatcher expected)
+            throws Exception {
+        RequestProfile profile = RequestProfile.measure(warmup, iterations, i ->
+                mockMvc.perform(request.build(i).header("Authorization", bearer)).andExpect(expected));
+        budgets.check(endpoint, profile);
+    }
+
+    private List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            customers.add(fixtures.newCustomer(business));
+        }
+        return customers;
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        MockHttpServletRequestBuilder build(int iteration) throws Exception;
+    }
+}
@@ -0,0 +1,148 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.Reservation;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.repository.ReservationRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.ReservationDto;
+import com.waitlist.support.AbstractQueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.waitlist.support.SqlCounts.selects;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ReservationController query counts")
+class ReservationControllerQueryCountTest extends AbstractQueryCountTest {
+
+    private static final int RESERVATIONS = 3;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Business business;
+    private Customer customer;
+    private List<Reservation> reservations;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+        customer = newCustomer(business);
+        reservations = new ArrayList<>();
+        for (int i = 0; i < RESERVATIONS; i++) {
+            reservations.add(reservationRepository.save(new Reservation(business, customer, DATE,
+                    LocalTime.of(18 + i, 0), 2, null)));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations as business owner")
+    void getAllReservationsAsOwner() throws Exception {
+        perform(selects(1), get("/api/reservations").with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATIONS));
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations as platform admin")
+    void getAllReservationsAsPlatformAdmin() throws Exception {
+        perform(selects(1), get("/api/reservations").with(user(platformAdmin())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations/{id}")
+    void getReservationById() throws Exception {
+        perform(selects(1), get("/api/reservations/{id}", reservations.get(0).getId()).with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations/business/{id}")
+    void getReservationsByBusiness() throws Exception {
+        perform(selects(1), get("/api/reservations/business/{id}", business.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATIONS));
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations/business/{id}?date=")
+    void getReservationsByBusinessAndDate() throws Exception {
+        perform(selects(1), get("/api/reservations/business/{id}", business.getId())
+                .param("date", DATE.toString())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATIONS));
+    }
+
+    @Test
+    @DisplayName("GET /api/reservations/customer/{id}")
+    void getReservationsByCustomer() throws Exception {
+        perform(selects(1), get("/api/reservations/customer/{id}", customer.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATIONS));
+    }
+
+    @Test
+    @DisplayName("POST /api/reservations")
+    void createReservation() throws Exception {
+        ReservationDto request = new ReservationDto(null, business.getId(), customer.getId(), DATE,
+                LocalTime.of(12, 0), 4, null, "window", null, null);
+
+        // business, customer, conflict check, reload
+        perform(selects(4).inserts(1), post("/api/reservations")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PUT /api/reservations/{id}/confirm")
+    void confirmReservation() throws Exception {
+        perform(selects(1).updates(1), put("/api/reservations/{id}/confirm", reservations.get(0).getId())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/reservations/{id}/cancel")
+    void cancelReservation() throws Exception {
+        perform(selects(3).updates(1), put("/api/reservations/{id}/cancel", reservations.get(0).getId())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/reservations/{id}/complete")
+    void completeReservation() throws Exception {
+        Reservation reservation = reservations.get(0);
+        reservation.confirm();
+        reservationRepository.save(reservation);
+
+        perform(selects(1).updates(1), put("/api/reservations/{id}/complete", reservation.getId())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.service.SmsTenant;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.SmsDeliveryStatus;
+import com.waitlist.infrastructure.service.SmsStatusService;
+import com.waitlist.support.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("SmsStatusWebhookController")
+class SmsStatusWebhookControllerTest extends AbstractIntegrationTest {
+
+    private static final String AUTH_TOKEN = "test-auth-token";
+    private static final String CALLBACK_URL = "http://localhost/api/webhooks/sms/twilio/status";
+
+    @Autowired
+    private SmsStatusService smsStatusService;
+
+    @Test
+    @DisplayName("Should reject callbacks whose signature does not match")
+    void shouldRejectInvalidSignature() throws Exception {
+        Map<String, String> params = Map.of("MessageSid", newSid(), "MessageStatus", "delivered");
+
+        mockMvc.perform(callback(params).header("X-Twilio-Signature", sign(CALLBACK_URL, Map.of())))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/webhooks/sms/twilio/status")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("MessageSid", params.get("MessageSid"))
+                        .param("MessageStatus", "delivered"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should keep the final status of callbacks that arrive out of order")
+    void shouldKeepFinalStatusOutOfOrder() throws Exception {
+        String sid = newSid();
+
+        mockMvc.perform(signedCallback(sid, "delivered")).andExpect(status().isNoContent());
+        mockMvc.perform(signedCallback(sid, "sent")).andExpect(status().isNoContent());
+        mockMvc.perform(signedCallback(sid, "queued")).andExpect(status().isNoContent());
+        smsStatusService.flush();
+
+        mockMvc.perform(get("/api/notifications/status/{id}", sid).with(user(platformAdmin())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DELIVERED"))
+                .andExpect(jsonPath("$.provider").value("twilio"));
+    }
+
+    @Test
+    @DisplayName("Should report a business's delivery stats from its tracked sends and their callbacks")
+    void shouldReportBusinessStats() throws Exception {
+        Business business = newBusiness();
+        CustomUserDetailsService.CustomUserPrincipal owner = newUser(UserRole.BUSINESS_OWNER, business);
+        String delivered = sendAs(business);
+        String undelivered = sendAs(business);
+        String pending = sendAs(business);
+        smsStatusService.flush();
+
+        mockMvc.perform(signedCallback(delivered, "delivered")).andExpect(status().isNoContent());
+        mockMvc.perform(signedCallback(Map.of("MessageSid", undelivered,
+                "MessageStatus", "undelivered", "ErrorCode", "30003"))).andExpect(status().isNoContent());
+        smsStatusService.flush();
+
+        SmsStatusService.MessageStatus message = smsStatusService.findMessage(undelivered).orElseThrow();
+        assertEquals(SmsDeliveryStatus.UNDELIVERED, message.status());
+        assertEquals("30003", message.errorCode());
+        assertEquals(business.getId(), message.businessId());
+        mockMvc.perform(get("/api/notifications/status/{id}", pending).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        mockMvc.perform(get("/api/notifications/stats/business/{id}", business.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.pending").value(1))
+                .andExpect(jsonPath("$.delivered").value(1))
+                .andExpect(jsonPath("$.undelivered").value(1))
+                .andExpect(jsonPath("$.deliveryRate").value(0.5));
+
+        CustomUserDetailsService.CustomUserPrincipal outsider = newUser(UserRole.BUSINESS_OWNER, newBusiness());
+        mockMvc.perform(get("/api/notifications/stats/business/{id}", business.getId()).with(user(outsider)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/notifications/status/{id}", delivered).with(user(outsider)))
+                .andExpect(status().isNotFound());
+    }
+
+    private String sendAs(Business business) {
+        String phone = newPhone();
+        assertTrue(SmsTenant.callAs(business.getId(), () -> mockSmsService.sendSms(phone, "Your table is ready")));
+        String sid = mockSmsService.getSentMessages().to(phone).get(0).messageSid();
+        assertNotNull(sid);
+        return sid;
+    }
+
+    private MockHttpServletRequestBuilder signedCallback(String sid, String messageStatus) throws Exception {
+        return signedCallback(Map.of("MessageSid", sid, "MessageStatus", messageStatus));
+    }
+
+    private MockHttpServletRequestBuilder signedCallback(Map<String, String> params) throws Exception {
+        return callback(params).header("X-Twilio-Signature", sign(CALLBACK_URL, params));
+    }
+
+    private MockHttpServletRequestBuilder callback(Map<String, String> params) {
+        MockHttpServletRequestBuilder request = post("/api/webhooks/sms/twilio/status")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED);
+        params.forEach(request::param);
+        return request;
+    }
+
+    // Twilio's scheme: HMAC-SHA1 of the URL followed by each POST parameter name and value, sorted by name
+    private static String sign(String url, Map<String, String> params) throws Exception {
+        StringBuilder data = new StringBuilder(url);
+        new TreeMap<>(params).forEach((name, value) -> data.append(name).append(value));
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(AUTH_TOKEN.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(data.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String newSid() {
+        return "SM" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
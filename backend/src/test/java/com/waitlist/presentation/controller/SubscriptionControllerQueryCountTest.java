@@ -0,0 +1,138 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Subscription;
+import com.waitlist.domain.entity.SubscriptionPlan;
+import com.waitlist.domain.entity.SubscriptionStatus;
+import com.waitlist.infrastructure.repository.SubscriptionRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.SubscriptionDto;
+import com.waitlist.support.AbstractQueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+
+import static com.waitlist.support.SqlCounts.selects;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("SubscriptionController query counts")
+class SubscriptionControllerQueryCountTest extends AbstractQueryCountTest {
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    private Business business;
+    private Subscription subscription;
+    private CustomUserDetailsService.CustomUserPrincipal platformAdmin;
+
+    @BeforeEach
+    void setUp() {
+        platformAdmin = platformAdmin();
+        business = newBusiness();
+        subscription = subscriptionRepository.save(new Subscription(business, SubscriptionPlan.BASIC,
+                SubscriptionStatus.TRIAL, LocalDate.now(), null, 30, 19.0));
+    }
+
+    @Test
+    @DisplayName("GET /api/subscriptions")
+    void getAllSubscriptions() throws Exception {
+        perform(selects(1), get("/api/subscriptions").with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/subscriptions/{id}")
+    void getSubscriptionById() throws Exception {
+        perform(selects(1), get("/api/subscriptions/{id}", subscription.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.businessName").value(business.getName()));
+    }
+
+    @Test
+    @DisplayName("GET /api/subscriptions/business/{id}")
+    void getSubscriptionByBusinessId() throws Exception {
+        perform(selects(1), get("/api/subscriptions/business/{id}", business.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/subscriptions/status/{status}")
+    void getSubscriptionsByStatus() throws Exception {
+        perform(selects(1), get("/api/subscriptions/status/{status}", SubscriptionStatus.TRIAL)
+                .with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/subscriptions")
+    void createSubscription() throws Exception {
+        Business unsubscribed = newBusiness();
+
+        perform(selects(2).inserts(1), post("/api/subscriptions")
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request(unsubscribed, SubscriptionPlan.PRO))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("PUT /api/subscriptions/{id}")
+    void updateSubscription() throws Exception {
+        perform(selects(2).updates(1), put("/api/subscriptions/{id}", subscription.getId())
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request(business, SubscriptionPlan.PRO))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plan").value("PRO"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/subscriptions/{id}/activate")
+    void activateSubscription() throws Exception {
+        perform(selects(2).updates(1), put("/api/subscriptions/{id}/activate", subscription.getId())
+                .with(user(platformAdmin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/subscriptions/{id}/cancel")
+    void cancelSubscription() throws Exception {
+        perform(selects(2).updates(1), put("/api/subscriptions/{id}/cancel", subscription.getId())
+                .with(user(platformAdmin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/subscriptions/{id}/suspend")
+    void suspendSubscription() throws Exception {
+        perform(selects(2).updates(1), put("/api/subscriptions/{id}/suspend", subscription.getId())
+                .with(user(platformAdmin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUSPENDED"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/subscriptions/{id}")
+    void deleteSubscription() throws Exception {
+        perform(selects(2).deletes(1), delete("/api/subscriptions/{id}", subscription.getId())
+                .with(user(platformAdmin)))
+                .andExpect(status().isNoContent());
+    }
+
+    private SubscriptionDto request(Business business, SubscriptionPlan plan) {
+        return new SubscriptionDto(null, business.getId(), plan, SubscriptionStatus.ACTIVE, LocalDate.now(),
+                null, 30, 49.0, true, null, null, null, null);
+    }
+}
@@ -0,0 +1,154 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.presentation.dto.CreateUserRequest;
+import com.waitlist.support.AbstractQueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.waitlist.support.SqlCounts.selects;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("UserController query counts")
+class UserControllerQueryCountTest extends AbstractQueryCountTest {
+
+    private static final int OWNED_BUSINESSES = 3;
+
+    private List<Business> businesses;
+    private User staff;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+    private CustomUserDetailsService.CustomUserPrincipal platformAdmin;
+
+    @BeforeEach
+    void setUp() {
+        businesses = new ArrayList<>();
+        for (int i = 0; i < OWNED_BUSINESSES; i++) {
+            businesses.add(newBusiness());
+        }
+        owner = newUser(UserRole.BUSINESS_OWNER, businesses.toArray(new Business[0]));
+
+        // Two staff members, each in a different business, so the old per-business loop would differ
+        for (int i = 0; i < 2; i++) {
+            staff = newUser(UserRole.BUSINESS_STAFF, businesses.get(i)).getUser();
+        }
+
+        platformAdmin = platformAdmin();
+    }
+
+    @Test
+    @DisplayName("Business owner staff list is a single query regardless of owned businesses")
+    void getAllUsersAsOwner() throws Exception {
+        perform(selects(1), get("/api/users").with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Platform admin user list is a single query")
+    void getAllUsersAsPlatformAdmin() throws Exception {
+        perform(selects(1), get("/api/users").with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("User by ID loads businesses with the user")
+    void getUserById() throws Exception {
+        perform(selects(1), get("/api/users/{id}", staff.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Users by business loads businesses with the users")
+    void getUsersByBusiness() throws Exception {
+        perform(selects(1), get("/api/users/business/{id}", businesses.get(0).getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Creating staff counts and validates businesses with set-based queries")
+    void createUser() throws Exception {
+        String email = "new-staff-" + nextId() + "@test.com";
+        CreateUserRequest request = new CreateUserRequest(email, "secret1", email, UserRole.BUSINESS_STAFF,
+                businesses.stream().map(Business::getId).toList());
+
+        // staff count, username check, email check, businesses, reload;
+        // user insert plus one join-table insert per business
+        perform(selects(5).inserts(1 + OWNED_BUSINESSES), post("/api/users")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Staff limit counts a member once for each owned business they work at")
+    void createUserOverStaffLimit() throws Exception {
+        User shared = userRepository.findByIdWithBusinesses(staff.getId()).orElseThrow();
+        shared.addBusiness(businesses.get(0));
+        userRepository.save(shared);
+        String email = "new-staff-" + nextId() + "@test.com";
+        CreateUserRequest request = new CreateUserRequest(email, "secret1", email, UserRole.BUSINESS_STAFF,
+                List.of(businesses.get(2).getId()));
+
+        // Two staff members, three business links: the staff count alone refuses the request
+        perform(selects(1), post("/api/users")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Updating a user loads its businesses and the new businesses in one query each")
+    void updateUser() throws Exception {
+        CreateUserRequest request = new CreateUserRequest(staff.getEmail(), "secret1", staff.getEmail(),
+                UserRole.BUSINESS_STAFF, businesses.stream().map(Business::getId).toList());
+
+        // user with businesses, businesses; one join-table insert per business the user was not already in
+        perform(selects(2).updates(1).inserts(OWNED_BUSINESSES - 1), put("/api/users/{id}", staff.getId())
+                .with(user(platformAdmin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deactivating a user loads it, then saves it outside a transaction")
+    void deactivateUser() throws Exception {
+        // findById, then the merge in save re-reads the detached user
+        perform(selects(2).updates(1), put("/api/users/{id}/deactivate", staff.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Activating a user loads it, then saves it outside a transaction")
+    void activateUser() throws Exception {
+        staff.deactivate();
+        userRepository.save(staff);
+
+        perform(selects(2).updates(1), put("/api/users/{id}/activate", staff.getId()).with(user(platformAdmin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deleting a user checks it exists, loads it and removes its business links")
+    void deleteUser() throws Exception {
+        // existsById, the load in deleteById; join-table rows, then the user
+        perform(selects(2).deletes(2), delete("/api/users/{id}", staff.getId()).with(user(platformAdmin)))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -0,0 +1,148 @@
+package com.waitlist.presentation.controller;
+
+import com.waitlist.application.dto.AddCustomerToWaitlistRequest;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.domain.entity.WaitlistEntry;
+import com.waitlist.domain.entity.WaitlistStatus;
+import com.waitlist.infrastructure.repository.WaitlistEntryRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.support.AbstractQueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.waitlist.support.SqlCounts.selects;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("WaitlistController query counts")
+class WaitlistControllerQueryCountTest extends AbstractQueryCountTest {
+
+    private static final int ENTRIES = 3;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    private Business business;
+    private List<WaitlistEntry> entries;
+    private CustomUserDetailsService.CustomUserPrincipal owner;
+
+    @BeforeEach
+    void setUp() {
+        business = newBusiness();
+        owner = newUser(UserRole.BUSINESS_OWNER, business);
+        entries = new ArrayList<>();
+        for (int i = 1; i <= ENTRIES; i++) {
+            entries.add(waitlistEntryRepository.save(new WaitlistEntry(business, newCustomer(business), 2, i)));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist")
+    void listWaitlistEntries() throws Exception {
+        perform(selects(1), get("/api/waitlist").with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ENTRIES));
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist/business/{id} as business owner")
+    void getWaitlistByBusinessAsOwner() throws Exception {
+        perform(selects(2), get("/api/waitlist/business/{id}", business.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ENTRIES));
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist/business/{id} as platform admin")
+    void getWaitlistByBusinessAsPlatformAdmin() throws Exception {
+        perform(selects(2), get("/api/waitlist/business/{id}", business.getId()).with(user(platformAdmin())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ENTRIES));
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist/business/{id}/stats")
+    void getWaitlistStats() throws Exception {
+        // One aggregate query loads the counters, later reads are served from memory
+        perform(selects(1), get("/api/waitlist/business/{id}/stats", business.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.waitingCount").value(ENTRIES))
+                .andExpect(jsonPath("$.coversWaiting").value(2 * ENTRIES))
+                .andExpect(jsonPath("$.partySizeDistribution['1-2']").value(ENTRIES));
+        perform(selects(0), get("/api/waitlist/business/{id}/stats", business.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.waitingCount").value(ENTRIES));
+    }
+
+    @Test
+    @DisplayName("GET /api/waitlist/{id}")
+    void getWaitlistEntryById() throws Exception {
+        perform(selects(1), get("/api/waitlist/{id}", entries.get(0).getId()).with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/waitlist")
+    void addToWaitlist() throws Exception {
+        Customer customer = newCustomer(business);
+
+        // business, customer, active entry check, max position
+        perform(selects(4).inserts(1), post("/api/waitlist")
+                .with(user(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new AddCustomerToWaitlistRequest(customer.getId(), 2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.position").value(ENTRIES + 1));
+    }
+
+    @Test
+    @DisplayName("PUT /api/waitlist/{id}/notify")
+    void notifyCustomer() throws Exception {
+        perform(selects(2).updates(1), put("/api/waitlist/{id}/notify", entries.get(0).getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("NOTIFIED"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/waitlist/{id}/seat")
+    void seatCustomer() throws Exception {
+        WaitlistEntry entry = entries.get(0);
+        entry.notifyCustomer();
+        waitlistEntryRepository.save(entry);
+
+        perform(selects(2).updates(2), put("/api/waitlist/{id}/seat", entry.getId()).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SEATED"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/waitlist/{id}/status")
+    void updateStatus() throws Exception {
+        perform(selects(1).updates(2), patch("/api/waitlist/{id}/status", entries.get(0).getId())
+                .param("status", WaitlistStatus.CANCELLED.name())
+                .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/waitlist/{id}")
+    void removeFromWaitlist() throws Exception {
+        perform(selects(1).updates(2), delete("/api/waitlist/{id}", entries.get(0).getId()).with(user(owner)))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -92,7 +92,7 @@ class WaitlistControllerTest {
                 .andExpect(jsonPath("$.position").value(1))
                 .andExpect(jsonPath("$.estimatedWaitTime").value(60))
                 .andExpect(jsonPath("$.status").value("WAITING"))
-                .andExpect(jsonPath("$.smsNotificationSent").value(true));
+                .andExpect(jsonPath("$.smsNotificationQueued").value(true));
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.waitlist.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import com.waitlist.infrastructure.service.MockSmsService;
+import com.waitlist.infrastructure.service.SentSmsLog;
+import com.waitlist.infrastructure.service.SmsDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Base class for behaviour tests against the full application context with
+ * MockMvc and the mock SMS provider. The dispatcher and the provider's log
+ * are reset around every test; use {@link AbstractQueryCountTest} instead
+ * when the test asserts the SQL a request issues.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+public abstract class AbstractIntegrationTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    @Autowired
+    protected MockSmsService mockSmsService;
+
+    @Autowired
+    protected SmsDispatcher dispatcher;
+
+    @BeforeEach
+    @AfterEach
+    void resetSms() {
+        dispatcher.reset();
+        mockSmsService.reset();
+    }
+
+    /**
+     * Waits up to ten seconds for a message to {@code phone}, for sends made
+     * in the background, and returns the newest.
+     */
+    protected SentSmsLog.SentSms awaitMessage(String phone) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            List<SentSmsLog.SentSms> sent = mockSmsService.getSentMessages().to(phone);
+            if (!sent.isEmpty()) {
+                return sent.get(0);
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "no message to " + phone);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Waits up to ten seconds until {@code count} messages went to {@code phone}.
+     */
+    protected void awaitMessages(String phone, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (mockSmsService.getSentMessages().to(phone).size() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "fewer than " + count + " messages to " + phone);
+            Thread.sleep(20);
+        }
+    }
+
+    protected String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    protected Business newBusiness() {
+        return fixtures.newBusiness();
+    }
+
+    protected Customer newCustomer(Business... businesses) {
+        return fixtures.newCustomer(businesses);
+    }
+
+    protected CustomUserDetailsService.CustomUserPrincipal newUser(UserRole role, Business... businesses) {
+        return fixtures.newUser(role, businesses);
+    }
+
+    protected CustomUserDetailsService.CustomUserPrincipal platformAdmin() {
+        return fixtures.platformAdmin();
+    }
+
+    protected static String newPhone() {
+        return TestFixtures.newPhone();
+    }
+}
@@ -0,0 +1,87 @@
+package com.waitlist.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.repository.BusinessRepository;
+import com.waitlist.infrastructure.repository.CustomerRepository;
+import com.waitlist.infrastructure.repository.UserRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Base class for per-endpoint SQL statement baselines. Fixtures are created
+ * through the repositories before the request under test, and
+ * {@link #perform(SqlCounts, RequestBuilder)} asserts the statements issued
+ * by the request alone.
+ */
+@QueryCountTest
+@Import(TestFixtures.class)
+public abstract class AbstractQueryCountTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected BusinessRepository businessRepository;
+
+    @Autowired
+    protected CustomerRepository customerRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    protected ResultActions perform(SqlCounts expected, RequestBuilder request) throws Exception {
+        SqlStatementRecorder.reset();
+        ResultActions result = mockMvc.perform(request);
+        SqlCounts actual = SqlStatementRecorder.counts();
+        assertEquals(expected, actual, () -> "SQL statements issued:\n  "
+                + String.join("\n  ", SqlStatementRecorder.statements()));
+        return result;
+    }
+
+    protected String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    protected Business newBusiness() {
+        return fixtures.newBusiness();
+    }
+
+    protected Customer newCustomer(Business... businesses) {
+        return fixtures.newCustomer(businesses);
+    }
+
+    protected CustomUserDetailsService.CustomUserPrincipal newUser(UserRole role, Business... businesses) {
+        return fixtures.newUser(role, businesses);
+    }
+
+    protected CustomUserDetailsService.CustomUserPrincipal platformAdmin() {
+        return fixtures.platformAdmin();
+    }
+
+    protected CustomUserDetailsService.CustomUserPrincipal principal(String username) {
+        return fixtures.principal(username);
+    }
+
+    protected static String newPhone() {
+        return TestFixtures.newPhone();
+    }
+
+    protected static int nextId() {
+        return TestFixtures.nextId();
+    }
+}
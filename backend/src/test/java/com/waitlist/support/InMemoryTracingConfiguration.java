@@ -0,0 +1,19 @@
+package com.waitlist.support;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Collects finished spans in memory instead of exporting them over OTLP.
+ * Spans reach the exporter through the batch processor, so tests flush the
+ * {@code SdkTracerProvider} before reading them.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class InMemoryTracingConfiguration {
+
+    @Bean
+    public InMemorySpanExporter inMemorySpanExporter() {
+        return InMemorySpanExporter.create();
+    }
+}
@@ -0,0 +1,36 @@
+package com.waitlist.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Full application context with MockMvc and {@link SqlStatementRecorder}
+ * installed. All query-count tests share the same properties, and therefore
+ * the same cached context and in-memory database, so fixtures must use
+ * unique names and phone numbers.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.waitlist.support.SqlStatementRecorder",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.waitlist=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+public @interface QueryCountTest {
+}
@@ -0,0 +1,103 @@
+package com.waitlist.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Per-endpoint allocation and latency budgets from
+ * {@code request-budgets.properties}. Each endpoint has a {@code .bytes}
+ * and a {@code .millis} entry holding the median recorded for one request.
+ *
+ * Allocation is checked on every run. Wall time depends on the machine the
+ * budgets were recorded on, so it is only checked when asked for, e.g. on a
+ * dedicated runner. Settings are system properties:
+ * <ul>
+ *   <li>{@code budget.allocation-margin} (default 0.25)</li>
+ *   <li>{@code budget.check-time=true} also enforces the {@code .millis} budgets</li>
+ *   <li>{@code budget.time-margin} (default 1.0)</li>
+ *   <li>{@code budget.record=true} writes the measurements to
+ *       {@code target/request-budgets.properties} instead of asserting</li>
+ * </ul>
+ */
+public final class RequestBudgets {
+
+    private static final String RESOURCE = "/request-budgets.properties";
+    private static final Path RECORDED = Path.of("target", "request-budgets.properties");
+
+    private final Properties budgets = new Properties();
+    private final Properties recorded = new Properties();
+    private final double allocationMargin = Double.parseDouble(System.getProperty("budget.allocation-margin", "0.25"));
+    private final boolean checkTime = Boolean.getBoolean("budget.check-time");
+    private final double timeMargin = Double.parseDouble(System.getProperty("budget.time-margin", "1.0"));
+    private final boolean record = Boolean.getBoolean("budget.record");
+
+    public RequestBudgets() {
+        try (InputStream in = RequestBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void check(String endpoint, RequestProfile profile) {
+        if (record) {
+            recorded.setProperty(endpoint + ".bytes", Long.toString(profile.medianBytes()));
+            recorded.setProperty(endpoint + ".millis", Long.toString(Math.max(1, profile.medianMillisCeil())));
+            return;
+        }
+
+        String bytes = budgets.getProperty(endpoint + ".bytes");
+        String millis = budgets.getProperty(endpoint + ".millis");
+        if (bytes == null || millis == null) {
+            fail("No budget for " + endpoint + " (measured " + profile + "); "
+                    + "run with -Dbudget.record=true and copy " + RECORDED + " into src/test/resources");
+        }
+
+        long allowedBytes = (long) (Long.parseLong(bytes) * (1 + allocationMargin));
+        assertTrue(profile.medianBytes() <= allowedBytes, () -> endpoint + " allocated "
+                + profile.medianBytes() + " bytes per request, budget " + bytes
+                + " (+" + Math.round(allocationMargin * 100) + "%)");
+
+        if (!checkTime) {
+            return;
+        }
+        double allowedMillis = Long.parseLong(millis) * (1 + timeMargin);
+        assertTrue(profile.medianMillis() <= allowedMillis, () -> endpoint + " took "
+                + profile.medianMillis() + " ms per request, budget " + millis
+                + " ms (+" + Math.round(timeMargin * 100) + "%)");
+    }
+
+    /**
+     * Writes the measurements of this run, merged over the current budgets,
+     * when recording.
+     */
+    public void writeRecorded() {
+        if (!record) {
+            return;
+        }
+        TreeMap<Object, Object> merged = new TreeMap<>(budgets);
+        merged.putAll(recorded);
+        try {
+            Files.createDirectories(RECORDED.getParent());
+            try (Writer writer = Files.newBufferedWriter(RECORDED)) {
+                writer.write("# Median bytes allocated and wall milliseconds per request, see RequestBudgetTest\n");
+                for (var entry : merged.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.waitlist.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Median bytes allocated and wall time of a request, measured on the calling
+ * thread. MockMvc runs the whole filter chain, controller, Hibernate flush
+ * and JSON serialization on that thread, so the allocation counter covers
+ * the request end to end.
+ */
+public record RequestProfile(long medianBytes, long medianNanos) {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @FunctionalInterface
+    public interface Request {
+        void perform(int iteration) throws Exception;
+    }
+
+    /**
+     * Runs {@code warmup} unmeasured requests to settle the JIT and caches,
+     * then takes the median of {@code iterations} measured ones.
+     */
+    public static RequestProfile measure(int warmup, int iterations, Request request) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            request.perform(i);
+        }
+
+        long[] bytes = new long[iterations];
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            request.perform(warmup + i);
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+        return new RequestProfile(median(bytes), median(nanos));
+    }
+
+    public double medianMillis() {
+        return medianNanos / 1_000_000.0;
+    }
+
+    public long medianMillisCeil() {
+        return (long) Math.ceil(medianMillis());
+    }
+
+    @Override
+    public String toString() {
+        return medianBytes + " bytes, " + String.format("%.2f", medianMillis()) + " ms";
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
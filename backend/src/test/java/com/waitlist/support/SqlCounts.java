@@ -0,0 +1,32 @@
+package com.waitlist.support;
+
+/**
+ * Number of SQL statements of each kind issued during a single request.
+ */
+public record SqlCounts(long select, long insert, long update, long delete) {
+
+    public static SqlCounts selects(long select) {
+        return new SqlCounts(select, 0, 0, 0);
+    }
+
+    public SqlCounts inserts(long count) {
+        return new SqlCounts(select, count, update, delete);
+    }
+
+    public SqlCounts updates(long count) {
+        return new SqlCounts(select, insert, count, delete);
+    }
+
+    public SqlCounts deletes(long count) {
+        return new SqlCounts(select, insert, update, count);
+    }
+
+    public long total() {
+        return select + insert + update + delete;
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete;
+    }
+}
@@ -0,0 +1,57 @@
+package com.waitlist.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Hibernate {@link StatementInspector} that records every SQL statement
+ * prepared on the current thread. MockMvc dispatches requests on the test
+ * thread, so a test can {@link #reset()} before a call and read back exactly
+ * the statements that call issued.
+ *
+ * Registered through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}
+ * by {@link QueryCountTest}.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return Collections.unmodifiableList(new ArrayList<>(STATEMENTS.get()));
+    }
+
+    public static SqlCounts counts() {
+        long select = 0;
+        long insert = 0;
+        long update = 0;
+        long delete = 0;
+        for (String sql : STATEMENTS.get()) {
+            String verb = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (verb.startsWith("select") || verb.startsWith("with")) {
+                select++;
+            } else if (verb.startsWith("insert") || verb.startsWith("merge")) {
+                insert++;
+            } else if (verb.startsWith("update")) {
+                update++;
+            } else if (verb.startsWith("delete")) {
+                delete++;
+            }
+        }
+        return new SqlCounts(select, insert, update, delete);
+    }
+}
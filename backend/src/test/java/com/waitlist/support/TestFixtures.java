@@ -0,0 +1,76 @@
+package com.waitlist.support;
+
+import com.waitlist.domain.entity.Business;
+import com.waitlist.domain.entity.BusinessType;
+import com.waitlist.domain.entity.Customer;
+import com.waitlist.domain.entity.User;
+import com.waitlist.domain.entity.UserRole;
+import com.waitlist.infrastructure.repository.BusinessRepository;
+import com.waitlist.infrastructure.repository.CustomerRepository;
+import com.waitlist.infrastructure.repository.UserRepository;
+import com.waitlist.infrastructure.security.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Saves businesses, customers and users for integration tests. Names and
+ * phone numbers are unique, so tests sharing a cached context and in-memory
+ * database don't collide. Add to a test with
+ * {@code @Import(TestFixtures.class)}.
+ */
+@TestComponent
+public class TestFixtures {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger((int) (System.nanoTime() % 1_000_000));
+
+    @Autowired
+    private BusinessRepository businessRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public Business newBusiness() {
+        return businessRepository.save(new Business("Test Business " + nextId(), BusinessType.RESTAURANT,
+                "1 Main St", "+15550000000", "qc@test.com", 20, 30));
+    }
+
+    public Customer newCustomer(Business... businesses) {
+        Customer customer = new Customer(newPhone(), "Customer " + nextId(), null);
+        for (Business business : businesses) {
+            customer.addBusiness(business);
+        }
+        return customerRepository.save(customer);
+    }
+
+    public CustomUserDetailsService.CustomUserPrincipal newUser(UserRole role, Business... businesses) {
+        String username = role.name().toLowerCase() + "-" + nextId() + "@test.com";
+        User user = new User(username, "secret", username, role);
+        for (Business business : businesses) {
+            user.addBusiness(business);
+        }
+        userRepository.save(user);
+        return principal(username);
+    }
+
+    public CustomUserDetailsService.CustomUserPrincipal platformAdmin() {
+        return principal("platform@waitlist.com");
+    }
+
+    public CustomUserDetailsService.CustomUserPrincipal principal(String username) {
+        return new CustomUserDetailsService.CustomUserPrincipal(
+                userRepository.findByUsernameAndIsActiveTrueWithBusiness(username).orElseThrow());
+    }
+
+    public static String newPhone() {
+        return String.format("+1555%07d", SEQUENCE.incrementAndGet() % 10_000_000);
+    }
+
+    public static int nextId() {
+        return SEQUENCE.incrementAndGet();
+    }
+}